@@ -10,12 +10,28 @@ package com.amazon.dataprepper.model;
  */
 public class CheckpointState {
     private final int numRecordsToBeChecked;
+    private final long numBytesToBeChecked;
 
     public CheckpointState(final int numRecordsToBeChecked) {
+        this(numRecordsToBeChecked, 0);
+    }
+
+    /**
+     * @param numRecordsToBeChecked the number of records to be checked
+     * @param numBytesToBeChecked the estimated size in bytes of those records, as accounted for by a buffer whose
+     *                            capacity is bounded in bytes
+     * @since 2.0
+     */
+    public CheckpointState(final int numRecordsToBeChecked, final long numBytesToBeChecked) {
         this.numRecordsToBeChecked = numRecordsToBeChecked;
+        this.numBytesToBeChecked = numBytesToBeChecked;
     }
 
     public int getNumRecordsToBeChecked() {
         return numRecordsToBeChecked;
     }
+
+    public long getNumBytesToBeChecked() {
+        return numBytesToBeChecked;
+    }
 }
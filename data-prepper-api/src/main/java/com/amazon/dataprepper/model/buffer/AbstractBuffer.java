@@ -28,6 +28,8 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
     private final Counter recordsReadCounter;
     private final AtomicLong recordsInFlight;
     private final AtomicLong recordsInBuffer;
+    private final AtomicLong bytesInFlight;
+    private final AtomicLong bytesInBuffer;
     private final Counter recordsProcessedCounter;
     private final Counter writeTimeoutCounter;
     private final Timer writeTimer;
@@ -48,6 +50,8 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         this.recordsReadCounter = pluginMetrics.counter(MetricNames.RECORDS_READ);
         this.recordsInFlight = pluginMetrics.gauge(MetricNames.RECORDS_INFLIGHT, new AtomicLong());
         this.recordsInBuffer = pluginMetrics.gauge(MetricNames.RECORDS_IN_BUFFER, new AtomicLong());
+        this.bytesInFlight = pluginMetrics.gauge(MetricNames.BYTES_INFLIGHT, new AtomicLong());
+        this.bytesInBuffer = pluginMetrics.gauge(MetricNames.BYTES_IN_BUFFER, new AtomicLong());
         this.recordsProcessedCounter = pluginMetrics.counter(MetricNames.RECORDS_PROCESSED, pipelineName);
         this.writeTimeoutCounter = pluginMetrics.counter(MetricNames.WRITE_TIMEOUTS);
         this.writeTimer = pluginMetrics.timer(MetricNames.WRITE_TIME_ELAPSED);
@@ -57,7 +61,8 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
 
     /**
      * Records metrics for ingress, time elapsed, and timeouts, while calling the doWrite method
-     * to perform the actual write
+     * to perform the actual write. The record is marked with the time of the write, see
+     * {@link Record#getTimeWrittenNanos()}.
      *
      * @param record          the Record to add
      * @param timeoutInMillis how long to wait before giving up
@@ -68,9 +73,11 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         long startTime = System.nanoTime();
 
         try {
+            record.setTimeWrittenNanos(startTime);
             doWrite(record, timeoutInMillis);
             recordsWrittenCounter.increment();
             recordsInBuffer.incrementAndGet();
+            bytesInBuffer.addAndGet(getSizeInBytes(record));
         } catch (TimeoutException e) {
             writeTimeoutCounter.increment();
             throw e;
@@ -81,7 +88,8 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
 
     /**
      * Records metrics for ingress, time elapsed, and timeouts, while calling the doWriteAll method
-     * to perform the actual write
+     * to perform the actual write. The records are marked with the time of the write, see
+     * {@link Record#getTimeWrittenNanos()}.
      *
      * @param records          the collection of Record to add
      * @param timeoutInMillis how long to wait before giving up
@@ -93,9 +101,13 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
 
         try {
             final int size = records.size();
+            for (final T record : records) {
+                record.setTimeWrittenNanos(startTime);
+            }
             doWriteAll(records, timeoutInMillis);
             recordsWrittenCounter.increment(size);
             recordsInBuffer.addAndGet(size);
+            bytesInBuffer.addAndGet(getTotalSizeInBytes(records));
         } catch (Exception e) {
             if (e instanceof TimeoutException) {
                 writeTimeoutCounter.increment();
@@ -119,6 +131,8 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         recordsReadCounter.increment(readResult.getKey().size() * 1.0);
         recordsInFlight.addAndGet(readResult.getValue().getNumRecordsToBeChecked());
         recordsInBuffer.addAndGet(-1 * readResult.getValue().getNumRecordsToBeChecked());
+        bytesInFlight.addAndGet(readResult.getValue().getNumBytesToBeChecked());
+        bytesInBuffer.addAndGet(-1 * readResult.getValue().getNumBytesToBeChecked());
         return readResult;
     }
 
@@ -127,6 +141,7 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         checkpointTimer.record(() -> doCheckpoint(checkpointState));
         final int numRecordsToBeChecked = checkpointState.getNumRecordsToBeChecked();
         recordsInFlight.addAndGet(-numRecordsToBeChecked);
+        bytesInFlight.addAndGet(-checkpointState.getNumBytesToBeChecked());
         recordsProcessedCounter.increment(numRecordsToBeChecked);
     }
 
@@ -134,6 +149,28 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         return recordsInFlight.intValue();
     }
 
+    /**
+     * Returns the size in bytes which this buffer accounts for the given record. Buffers whose capacity is bounded
+     * in bytes override this, typically with {@link Record#getEstimatedSizeInBytes()}, and report the same sizes
+     * through {@link CheckpointState#getNumBytesToBeChecked()} on read. The estimate of a record is computed lazily,
+     * so the default of zero keeps record-count bounded buffers from paying for it.
+     *
+     * @param record the record written to the buffer
+     * @return the size of the record in bytes
+     * @since 2.0
+     */
+    protected long getSizeInBytes(final T record) {
+        return 0;
+    }
+
+    private long getTotalSizeInBytes(final Collection<T> records) {
+        long size = 0;
+        for (final T record : records) {
+            size += getSizeInBytes(record);
+        }
+        return size;
+    }
+
     /**
      * This method should implement the logic for writing to the buffer
      *
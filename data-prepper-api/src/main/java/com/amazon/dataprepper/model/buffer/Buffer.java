@@ -53,4 +53,16 @@ public interface Buffer<T extends Record<?>> {
     void checkpoint(CheckpointState checkpointState);
 
     boolean isEmpty();
+
+    /**
+     * Reports how full the buffer is, so that writers may stop accepting data before a write would block. Records
+     * read but not yet checkpointed count as occupying the buffer when they hold on to its capacity. Buffers which
+     * cannot tell how full they are return 0.
+     *
+     * @return the fraction of the capacity of the buffer in use, between 0 and 1
+     * @see BufferBackpressure
+     */
+    default double getFillRatio() {
+        return 0.0;
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.buffer;
+
+import java.util.Objects;
+
+/**
+ * Tells a source when to reject data rather than write it to a {@link Buffer}, based on
+ * {@link Buffer#getFillRatio()}. Once the fill ratio reaches the high water mark the buffer is considered overloaded,
+ * and it remains so until the fill ratio drops to the low water mark. The gap between the two marks keeps sources from
+ * switching between rejecting and accepting on every request while the buffer is close to full.
+ */
+public class BufferBackpressure {
+    private static final BufferBackpressure DISABLED = new BufferBackpressure();
+
+    private final Buffer<?> buffer;
+    private final double highWaterMark;
+    private final double lowWaterMark;
+    private volatile boolean overloaded;
+
+    /**
+     * @param buffer        the buffer the source writes to
+     * @param highWaterMark fill ratio, between 0 and 1, at which the buffer becomes overloaded
+     * @param lowWaterMark  fill ratio, between 0 and highWaterMark, at which the buffer stops being overloaded
+     * @throws IllegalArgumentException if the water marks are not in range
+     */
+    public BufferBackpressure(final Buffer<?> buffer, final double highWaterMark, final double lowWaterMark) {
+        this.buffer = Objects.requireNonNull(buffer);
+        if (highWaterMark <= 0 || highWaterMark > 1) {
+            throw new IllegalArgumentException("highWaterMark must be greater than 0 and at most 1");
+        }
+        if (lowWaterMark < 0 || lowWaterMark > highWaterMark) {
+            throw new IllegalArgumentException("lowWaterMark must be between 0 and highWaterMark");
+        }
+        this.highWaterMark = highWaterMark;
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    private BufferBackpressure() {
+        this.buffer = null;
+        this.highWaterMark = 1.0;
+        this.lowWaterMark = 1.0;
+    }
+
+    /**
+     * @return a BufferBackpressure which never reports the buffer as overloaded, so that sources only stop writing
+     * once a write times out
+     */
+    public static BufferBackpressure disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @return true if the source should reject data instead of writing it to the buffer
+     */
+    public boolean isOverloaded() {
+        if (buffer == null) {
+            return false;
+        }
+        final double fillRatio = buffer.getFillRatio();
+        if (overloaded) {
+            if (fillRatio <= lowWaterMark) {
+                overloaded = false;
+            }
+        } else if (fillRatio >= highWaterMark) {
+            overloaded = true;
+        }
+        return overloaded;
+    }
+}
@@ -8,6 +8,7 @@ package com.amazon.dataprepper.model.configuration;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,11 +52,31 @@ public class PipelineModel {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private final Integer readBatchDelay;
 
+    @JsonProperty("min_workers")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer minWorkers;
+
+    @JsonProperty("max_in_flight_sink_batches")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer maxInFlightSinkBatches;
+
+    @JsonProperty("parallel_processing")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean parallelProcessing;
+
+    @JsonProperty("direct_execution")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean directExecution;
+
+    @JsonProperty("key_affinity")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean keyAffinity;
+
     /**
      * @since 2.0
      * @param source Deserialized source plugin configuration
      * @param processors Deserialized processors plugin configuration, nullable
-     * @param sinks Deserialized sinks plugin configuration
+     * @param sinks Deserialized sinks plugin configuration, each deserialized as a {@link SinkModel}
      * @param workers Deserialized workers plugin configuration, nullable
      * @param delay Deserialized delay plugin configuration, nullable
      */
@@ -65,7 +86,7 @@ public class PipelineModel {
             @JsonProperty("buffer") final PluginModel buffer,
             @JsonProperty("processor") final List<PluginModel> processors,
             @JsonProperty("router") final List<ConditionalRoute> routes,
-            @JsonProperty("sink") final List<PluginModel> sinks,
+            @JsonProperty("sink") @JsonDeserialize(contentAs = SinkModel.class) final List<PluginModel> sinks,
             @JsonProperty("workers") final Integer workers,
             @JsonProperty("delay") final Integer delay) {
         checkArgument(Objects.nonNull(source), "Source must not be null");
@@ -107,4 +128,44 @@ public class PipelineModel {
     public Integer getReadBatchDelay() {
         return readBatchDelay;
     }
+
+    /**
+     * @since 2.0
+     * @return the number of workers the pipeline starts with, growing up to the workers as the load requires, nullable
+     */
+    public Integer getMinWorkers() {
+        return minWorkers;
+    }
+
+    /**
+     * @since 2.0
+     * @return the max number of batches each worker may have in flight to the sinks, nullable
+     */
+    public Integer getMaxInFlightSinkBatches() {
+        return maxInFlightSinkBatches;
+    }
+
+    /**
+     * @since 2.0
+     * @return whether the thread-safe per-record processors may split each batch across threads, nullable
+     */
+    public Boolean getParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * @since 2.0
+     * @return whether the source threads run the processors and sinks instead of writing to a buffer, nullable
+     */
+    public Boolean getDirectExecution() {
+        return directExecution;
+    }
+
+    /**
+     * @since 2.0
+     * @return whether the events of each identification key are always processed by the same worker, nullable
+     */
+    public Boolean getKeyAffinity() {
+        return keyAffinity;
+    }
 }
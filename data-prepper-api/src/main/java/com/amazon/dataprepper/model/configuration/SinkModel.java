@@ -28,7 +28,12 @@ import java.util.Map;
 public class SinkModel extends PluginModel {
 
     SinkModel(final String pluginName, final List<String> routes, final Map<String, Object> pluginSettings) {
-        this(pluginName, new SinkInternalJsonModel(routes, pluginSettings));
+        this(pluginName, routes, null, null, pluginSettings);
+    }
+
+    SinkModel(final String pluginName, final List<String> routes, final Integer workers, final Integer queueSize,
+              final Map<String, Object> pluginSettings) {
+        this(pluginName, new SinkInternalJsonModel(routes, workers, queueSize, pluginSettings));
     }
 
     private SinkModel(final String pluginName, final SinkInternalJsonModel sinkInnerModel) {
@@ -45,26 +50,61 @@ public class SinkModel extends PluginModel {
         return this.<SinkInternalJsonModel>getInternalJsonModel().routes;
     }
 
+    /**
+     * Gets the number of threads which deliver batches to this Sink.
+     *
+     * @return The number of workers, or null if not configured
+     * @since 2.0
+     */
+    public Integer getWorkers() {
+        return this.<SinkInternalJsonModel>getInternalJsonModel().workers;
+    }
+
+    /**
+     * Gets the maximum number of batches which may wait for a worker of this Sink.
+     *
+     * @return The queue size, or null if not configured
+     * @since 2.0
+     */
+    public Integer getQueueSize() {
+        return this.<SinkInternalJsonModel>getInternalJsonModel().queueSize;
+    }
+
     private static class SinkInternalJsonModel extends InternalJsonModel {
         @JsonInclude(JsonInclude.Include.NON_EMPTY)
         @JsonProperty("routes")
         private final List<String> routes;
 
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @JsonProperty("workers")
+        private final Integer workers;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @JsonProperty("queue_size")
+        private final Integer queueSize;
+
         @JsonCreator
-        private SinkInternalJsonModel(@JsonProperty("routes") final List<String> routes) {
+        private SinkInternalJsonModel(@JsonProperty("routes") final List<String> routes,
+                                      @JsonProperty("workers") final Integer workers,
+                                      @JsonProperty("queue_size") final Integer queueSize) {
             super();
             this.routes = routes != null ? routes : new ArrayList<>();
+            this.workers = workers;
+            this.queueSize = queueSize;
         }
 
-        private SinkInternalJsonModel(final List<String> routes, final Map<String, Object> pluginSettings) {
+        private SinkInternalJsonModel(final List<String> routes, final Integer workers, final Integer queueSize,
+                                      final Map<String, Object> pluginSettings) {
             super(pluginSettings);
             this.routes = routes != null ? routes : new ArrayList<>();
+            this.workers = workers;
+            this.queueSize = queueSize;
         }
     }
 
     static class SinkModelDeserializer extends AbstractPluginModelDeserializer<SinkModel, SinkInternalJsonModel> {
         SinkModelDeserializer() {
-            super(SinkModel.class, SinkInternalJsonModel.class, SinkModel::new, () -> new SinkInternalJsonModel(null));
+            super(SinkModel.class, SinkInternalJsonModel.class, SinkModel::new, () -> new SinkInternalJsonModel(null, null, null));
         }
     }
 }
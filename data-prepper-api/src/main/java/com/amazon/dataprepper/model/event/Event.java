@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.model.event;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +31,17 @@ public interface Event {
      */
     void put(String key, Object value);
 
+    /**
+     * Adds or updates the key with a given value in the Event
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 2.0
+     */
+    default void put(EventKey key, Object value) {
+        put(key.getKey(), value);
+    }
+
     /**
      * Retrieves the given key from the Event
      *
@@ -40,6 +52,85 @@ public interface Event {
      */
     <T> T get(String key, Class<T> clazz);
 
+    /**
+     * Retrieves the given key from the Event
+     *
+     * @param key the value to retrieve from
+     * @param clazz the return type of the value
+     * @return T a clazz object from the key
+     * @since 2.0
+     */
+    default <T> T get(EventKey key, Class<T> clazz) {
+        return get(key.getKey(), clazz);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a String
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key is not present
+     * @since 2.0
+     */
+    default String getString(EventKey key) {
+        return get(key, String.class);
+    }
+
+    /**
+     * Retrieves the given key from the Event as an Integer
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key is not present
+     * @since 2.0
+     */
+    default Integer getInteger(EventKey key) {
+        return get(key, Integer.class);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Long
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key is not present
+     * @since 2.0
+     */
+    default Long getLong(EventKey key) {
+        return get(key, Long.class);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Double
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key is not present
+     * @since 2.0
+     */
+    default Double getDouble(EventKey key) {
+        return get(key, Double.class);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Boolean
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key is not present
+     * @since 2.0
+     */
+    default Boolean getBoolean(EventKey key) {
+        return get(key, Boolean.class);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Map
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key is not present
+     * @since 2.0
+     */
+    @SuppressWarnings("unchecked")
+    default Map<String, Object> getMap(EventKey key) {
+        return get(key, Map.class);
+    }
+
     /**
      * Retrieves the given key from the Event as a List
      *
@@ -50,6 +141,18 @@ public interface Event {
      */
     <T> List<T> getList(String key, Class<T> clazz);
 
+    /**
+     * Retrieves the given key from the Event as a List
+     *
+     * @param key the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @return {@literal List<T>} a list of clazz elements
+     * @since 2.0
+     */
+    default <T> List<T> getList(EventKey key, Class<T> clazz) {
+        return getList(key.getKey(), clazz);
+    }
+
     /**
      * Deletes the given key from the Event
      * @param key the field to be deleted
@@ -57,6 +160,15 @@ public interface Event {
      */
     void delete(String key);
 
+    /**
+     * Deletes the given key from the Event
+     * @param key the field to be deleted
+     * @since 2.0
+     */
+    default void delete(EventKey key) {
+        delete(key.getKey());
+    }
+
     /**
      * Generates a serialized Json string of the entire Event
      * @return Json string of the event
@@ -64,6 +176,27 @@ public interface Event {
      */
     String toJsonString();
 
+    /**
+     * Generates the serialized Json of the entire Event, encoded in UTF-8. Sinks which write bytes should prefer it to
+     * {@link #toJsonString()}, as implementations may keep the serialized form of an event.
+     * @return UTF-8 Json of the event, which must not be modified
+     * @since 2.0
+     */
+    default byte[] toJsonBytes() {
+        return toJsonString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Estimates the size of the serialized Json of the event, for buffers, batches and requests which are bounded in
+     * bytes. Implementations should compute the estimate lazily, on the first call, and then keep it up to date as the
+     * event is modified, so that it is cheaper than serializing the event.
+     * @return the approximate size of the serialized event in bytes
+     * @since 2.0
+     */
+    default long getEstimatedSizeInBytes() {
+        return toJsonBytes().length;
+    }
+
     /**
      * Retrieves the EventMetadata
      * @return EventMetadata for the event
@@ -79,6 +212,16 @@ public interface Event {
      */
     boolean containsKey(String key);
 
+    /**
+     * Checks if the key exists.
+     * @param key
+     * @return returns true if the key exists, otherwise false
+     * @since 2.0
+     */
+    default boolean containsKey(EventKey key) {
+        return containsKey(key.getKey());
+    }
+
     /**
      * Checks if the value stored for the key is list
      * @param key
@@ -87,6 +230,16 @@ public interface Event {
      */
     boolean isValueAList(String key);
 
+    /**
+     * Checks if the value stored for the key is list
+     * @param key
+     * @return returns true if the key is a list, otherwise false
+     * @since 2.0
+     */
+    default boolean isValueAList(EventKey key) {
+        return isValueAList(key.getKey());
+    }
+
     /**
      * @return a Map representation of the Event
      * @since 1.3
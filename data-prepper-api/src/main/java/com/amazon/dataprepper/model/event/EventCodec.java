@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import java.io.IOException;
+
+/**
+ * Encodes an {@link Event}, together with its {@link EventMetadata}, to bytes which the event can be restored from, for
+ * instance in another Data Prepper node or after it was written to disk.
+ *
+ * @since 2.0
+ */
+public interface EventCodec {
+
+    /**
+     * Encodes the event and its metadata.
+     *
+     * @param event the event
+     * @return the encoded event
+     * @throws IOException if the event cannot be encoded
+     * @since 2.0
+     */
+    byte[] encode(Event event) throws IOException;
+
+    /**
+     * Restores an event encoded by {@link #encode(Event)}.
+     *
+     * @param bytes the encoded event
+     * @return the event
+     * @throws IOException if the bytes are not an encoded event
+     * @since 2.0
+     */
+    Event decode(byte[] bytes) throws IOException;
+}
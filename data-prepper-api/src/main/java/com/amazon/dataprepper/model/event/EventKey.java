@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable, validated key of an {@link Event}. Validating a key and parsing it into its path happens once, when
+ * the EventKey is created, instead of on every access. Processors should create the EventKeys of the keys they are
+ * configured with once, at construction, and use them with the EventKey overloads of the {@link Event} methods.
+ * <p>
+ * EventKeys follow the same rules as the String keys of {@link Event}: "fizz/buzz" and "/fizz/buzz" designate the same
+ * nested key.
+ *
+ * @since 2.0
+ */
+public final class EventKey {
+    static final int MAX_KEY_LENGTH = 2048;
+
+    private static final String SEPARATOR = "/";
+
+    private final String key;
+    private final String trimmedKey;
+    private final String[] path;
+    // Lazily compiled, as only some of the operations use them. JsonPointer is immutable, so a race only compiles twice.
+    private JsonPointer jsonPointer;
+    private JsonPointer parentJsonPointer;
+
+    private EventKey(final String key) {
+        this.key = key;
+        this.trimmedKey = trimKey(key);
+        this.path = trimmedKey.split(SEPARATOR);
+    }
+
+    /**
+     * Creates an EventKey, validating the key.
+     *
+     * @param key the key, which may designate a nested key, e.g. "fizz/buzz"
+     * @return the EventKey
+     * @throws NullPointerException     if the key is null
+     * @throws IllegalArgumentException if the key is not a valid key
+     * @since 2.0
+     */
+    public static EventKey of(final String key) {
+        checkKey(key);
+        return new EventKey(key);
+    }
+
+    /**
+     * @return the key this EventKey was created from
+     * @since 2.0
+     */
+    public String getKey() {
+        return key;
+    }
+
+    String getTrimmedKey() {
+        return trimmedKey;
+    }
+
+    /**
+     * @return the keys of the nested objects leading to the value, followed by the key of the value
+     */
+    String[] getPath() {
+        return path;
+    }
+
+    JsonPointer getJsonPointer() {
+        JsonPointer pointer = jsonPointer;
+        if (pointer == null) {
+            pointer = JsonPointer.compile(SEPARATOR + trimmedKey);
+            jsonPointer = pointer;
+        }
+        return pointer;
+    }
+
+    /**
+     * @return the pointer to the object holding the value, or null if the value is at the root of the event
+     */
+    JsonPointer getParentJsonPointer() {
+        final int index = trimmedKey.lastIndexOf(SEPARATOR);
+        if (index == -1) {
+            return null;
+        }
+        JsonPointer pointer = parentJsonPointer;
+        if (pointer == null) {
+            pointer = JsonPointer.compile(SEPARATOR + trimmedKey.substring(0, index));
+            parentJsonPointer = pointer;
+        }
+        return pointer;
+    }
+
+    /**
+     * @return the key of the value within the object holding it
+     */
+    String getLeafKey() {
+        return trimmedKey.substring(trimmedKey.lastIndexOf(SEPARATOR) + 1);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return trimmedKey.equals(((EventKey) other).trimmedKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return trimmedKey.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+
+    private static void checkKey(final String key) {
+        checkNotNull(key, "key cannot be null");
+        checkArgument(!key.isEmpty(), "key cannot be an empty string");
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("key cannot be longer than " + MAX_KEY_LENGTH + " characters");
+        }
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
+        }
+    }
+
+    private static String trimKey(final String key) {
+
+        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
+        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
+    }
+
+    private static boolean isValidKey(final String key) {
+        char previous = ' ';
+        char next = ' ';
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+
+            if (i < key.length() - 1) {
+                next = key.charAt(i + 1);
+            }
+
+            if ((i == 0 || i == key.length() - 1 || previous == '/' || next == '/') && (c == '_' || c == '.' || c == '-')) {
+                return false;
+            }
+
+            if (!(c >= 48 && c <= 57
+                    || c >= 65 && c <= 90
+                    || c >= 97 && c <= 122
+                    || c == '.'
+                    || c == '-'
+                    || c == '_'
+                    || c == '@'
+                    || c == '/')) {
+
+                return false;
+            }
+            previous = c;
+        }
+        return true;
+    }
+}
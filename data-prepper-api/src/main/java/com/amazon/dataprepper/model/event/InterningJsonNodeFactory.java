@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * A {@link JsonNodeFactory} which interns the text nodes of short strings, so that events share one node for each
+ * value repeated across them, such as service names, hostnames, span kinds or status codes. The nodes are kept in a
+ * cache bounded in entries, which evicts the least recently used values first. Values already interned are looked up
+ * without locking, so only the first occurrence of a value locks a segment of the cache.
+ * <p>
+ * Text nodes are immutable and events replace nodes rather than modifying them, so events can share them. Interning
+ * applies to the events built by {@link JacksonEvent} and decoded by {@link JacksonEventCodec}, and is disabled until
+ * it is enabled with {@link #enable(int, int)}.
+ *
+ * @since 2.0
+ */
+public class InterningJsonNodeFactory extends JsonNodeFactory {
+    private static final InterningJsonNodeFactory INSTANCE = new InterningJsonNodeFactory();
+
+    private static volatile TextNodeCache textNodeCache;
+
+    private InterningJsonNodeFactory() {
+    }
+
+    /**
+     * @return the factory of the mappers of events
+     * @since 2.0
+     */
+    public static InterningJsonNodeFactory getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Enables interning, replacing the values interned so far.
+     *
+     * @param maximumSize the maximum number of values interned
+     * @param maximumLength the maximum length of the strings interned
+     * @throws IllegalArgumentException if maximumSize or maximumLength is not positive
+     * @since 2.0
+     */
+    public static void enable(final int maximumSize, final int maximumLength) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive.");
+        }
+        if (maximumLength <= 0) {
+            throw new IllegalArgumentException("maximumLength must be positive.");
+        }
+        textNodeCache = new TextNodeCache(maximumSize, maximumLength);
+    }
+
+    /**
+     * Disables interning and releases the values interned so far.
+     *
+     * @since 2.0
+     */
+    public static void disable() {
+        textNodeCache = null;
+    }
+
+    @Override
+    public TextNode textNode(final String text) {
+        final TextNodeCache cache = textNodeCache;
+        if (cache == null || text == null || text.length() > cache.maximumLength) {
+            return super.textNode(text);
+        }
+        final TextNode textNode = cache.textNodes.getIfPresent(text);
+        return textNode != null ? textNode : cache.textNodes.getUnchecked(text);
+    }
+
+    private static class TextNodeCache {
+        private final LoadingCache<String, TextNode> textNodes;
+        private final int maximumLength;
+
+        private TextNodeCache(final int maximumSize, final int maximumLength) {
+            this.textNodes = CacheBuilder.newBuilder()
+                    .maximumSize(maximumSize)
+                    .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+                    .build(CacheLoader.from(TextNode::valueOf));
+            this.maximumLength = maximumLength;
+        }
+    }
+}
@@ -12,23 +12,27 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.base.Utf8;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -44,6 +48,16 @@ import static com.google.common.base.Preconditions.checkNotNull;
  *             "buzz": 42
  *         }
  *     }
+ * <p>
+ * An event can be copied with {@link #copy()} without copying its tree. The event and its copy share the tree until
+ * one of them is modified, which then copies only the objects and arrays on the path to the modified key.
+ * <p>
+ * The size estimate of {@link #getEstimatedSizeInBytes()} is taken from the Json the event was created from, or from a
+ * walk of the tree on the first call, and is then updated by each {@link #put(EventKey, Object)} and
+ * {@link #delete(EventKey)} with the size of the values they add and remove.
+ * <p>
+ * The trees of events are created with the {@link InterningJsonNodeFactory}, so that events can share their short
+ * string values once interning is enabled.
  *
  * @since 1.2
  */
@@ -51,18 +65,50 @@ public class JacksonEvent implements Event {
 
     private static final Logger LOG = LoggerFactory.getLogger(JacksonEvent.class);
 
-    private static final String SEPARATOR = "/";
-
     private static final ObjectMapper mapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule());
+            .registerModule(new JavaTimeModule())
+            .setNodeFactory(InterningJsonNodeFactory.getInstance());
 
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
 
+    private static final ObjectReader MAP_READER = mapper.readerFor(MAP_TYPE_REFERENCE);
+
     private final EventMetadata eventMetadata;
 
-    private final JsonNode jsonNode;
+    /**
+     * The tree of the event, or null until it is first accessed for events created from JSON bytes or deferred data.
+     * Volatile and built under the lock of the event, as the sinks of a pipeline may access the same event
+     * concurrently.
+     */
+    private volatile JsonNode jsonNode;
+
+    /**
+     * The serialized form of the event, kept until the event is modified, as an event is often serialized by more
+     * than one sink. An event created from JSON bytes starts with them, and only parses its tree from them on the
+     * first access. Volatile, as the sinks of a pipeline may serialize the same event concurrently.
+     */
+    private volatile byte[] jsonBytes;
+
+    private volatile String jsonString;
+
+    /**
+     * The data the tree is built from on the first access, for events whose builder owns its data. Guarded by the
+     * lock of the event.
+     */
+    private Object deferredData;
 
-    static final int MAX_KEY_LENGTH = 2048;
+    /**
+     * The objects and arrays of the tree which this event copied for its own modifications since it shared its tree
+     * with a copy, or null if the tree is not shared. A node outside of this set is copied before it is modified.
+     */
+    private Set<JsonNode> ownedNodes;
+
+    /**
+     * The estimated length of the Json of the event, or -1 until it is first needed.
+     */
+    private volatile long estimatedSizeInBytes = -1;
+
+    static final int MAX_KEY_LENGTH = EventKey.MAX_KEY_LENGTH;
 
     static final String MESSAGE_KEY = "message";
 
@@ -80,7 +126,36 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        if (builder.jsonNode != null) {
+            this.jsonNode = builder.jsonNode;
+        } else if (builder.jsonBytes != null) {
+            this.jsonBytes = builder.jsonBytes;
+            this.estimatedSizeInBytes = builder.jsonBytes.length;
+        } else if (builder.deferredData != null) {
+            this.deferredData = builder.deferredData;
+        } else {
+            this.jsonNode = getInitialJsonNode(builder.data);
+        }
+    }
+
+    /**
+     * Creates a copy of an event for {@link #copy()}, which shares the tree of the event.
+     * @param event the event to copy
+     * @since 2.0
+     */
+    protected JacksonEvent(final JacksonEvent event) {
+        this.eventMetadata = event.eventMetadata;
+        // An event with neither a tree nor JSON bytes has deferred data, which the copy cannot share
+        final byte[] eventJsonBytes = event.jsonBytes;
+        final JsonNode eventJsonNode = event.jsonNode;
+        this.jsonNode = eventJsonNode == null && eventJsonBytes == null ? event.getJsonNode() : eventJsonNode;
+        this.jsonBytes = eventJsonBytes;
+        this.jsonString = event.jsonString;
+        this.estimatedSizeInBytes = event.estimatedSizeInBytes;
+        if (jsonNode != null) {
+            event.ownedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+            this.ownedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
     }
 
     public static Event fromMessage(String message) {
@@ -105,9 +180,93 @@ public class JacksonEvent implements Event {
     }
 
     protected JsonNode getJsonNode() {
+        final JsonNode node = jsonNode;
+        return node != null ? node : buildJsonNode();
+    }
+
+    private synchronized JsonNode buildJsonNode() {
+        // Another thread may have built the tree while this one waited for the lock
+        if (jsonNode == null) {
+            if (deferredData != null) {
+                jsonNode = mapper.valueToTree(deferredData);
+                deferredData = null;
+            } else {
+                try {
+                    jsonNode = mapper.readTree(jsonBytes);
+                } catch (final IOException e) {
+                    throw new IllegalArgumentException("Unable to convert data into an event", e);
+                }
+            }
+        }
         return jsonNode;
     }
 
+    /**
+     * Returns the tree for a modification, discarding the serialized form of the event.
+     */
+    private JsonNode getJsonNodeForUpdate() {
+        final JsonNode node = getNodeForUpdate(getJsonNode());
+        jsonNode = node;
+        jsonBytes = null;
+        jsonString = null;
+        return node;
+    }
+
+    /**
+     * Returns the node itself if this event may modify it, or otherwise a shallow copy of it owned by this event.
+     */
+    private JsonNode getNodeForUpdate(final JsonNode node) {
+        if (ownedNodes == null || !node.isContainerNode() || ownedNodes.contains(node)) {
+            return node;
+        }
+        final JsonNode copy = node.isArray()
+                ? mapper.createArrayNode().addAll((ArrayNode) node)
+                : mapper.createObjectNode().setAll((ObjectNode) node);
+        ownedNodes.add(copy);
+        return copy;
+    }
+
+    /**
+     * Returns the child of a node this event may modify for a modification of the child, or null if it is missing.
+     */
+    private JsonNode getChildForUpdate(final JsonNode node, final String key) {
+        final boolean isIndex = node.isArray() && StringUtils.isNumeric(key);
+        final JsonNode child = isIndex ? node.get(Integer.parseInt(key)) : node.get(key);
+        if (child == null) {
+            return null;
+        }
+        final JsonNode childForUpdate = getNodeForUpdate(child);
+        if (childForUpdate != child) {
+            if (isIndex) {
+                ((ArrayNode) node).set(Integer.parseInt(key), childForUpdate);
+            } else {
+                ((ObjectNode) node).set(key, childForUpdate);
+            }
+        }
+        return childForUpdate;
+    }
+
+    /**
+     * Copies the event. The copy shares the tree of this event until either of them is modified, which then copies the
+     * objects and arrays on the path to the modified key, so both events can be modified independently. The metadata
+     * is immutable and shared.
+     * @return a copy of the event, of the same class as this event
+     * @since 2.0
+     */
+    public JacksonEvent copy() {
+        return new JacksonEvent(this);
+    }
+
+    /**
+     * Returns the tree to serialize the event from. Subclasses which serialize a different form of the event than
+     * their tree override it.
+     * @return the tree to serialize
+     * @since 2.0
+     */
+    protected JsonNode getJsonNodeToSerialize() {
+        return getJsonNode();
+    }
+
     /**
      * Adds or updates the key with a given value in the Event.
      * @param key where the value will be set
@@ -116,39 +275,69 @@ public class JacksonEvent implements Event {
      */
     @Override
     public void put(final String key, final Object value) {
+        put(EventKey.of(key), value);
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final LinkedList<String> keys = new LinkedList<>(Arrays.asList(trimmedKey.split(SEPARATOR)));
+    /**
+     * Adds or updates the key with a given value in the Event.
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 2.0
+     */
+    @Override
+    public void put(final EventKey key, final Object value) {
+        checkNotNull(key, "key cannot be null");
 
-        JsonNode parentNode = jsonNode;
+        final String[] path = key.getPath();
 
-        while (!keys.isEmpty()) {
-            if (keys.size() == 1) {
-                setNode(parentNode, keys.removeFirst(), value);
-            } else {
-                final String childKey = keys.removeFirst();
-                if (!childKey.isEmpty()) {
-                    parentNode = getOrCreateNode(parentNode, childKey);
-                }
+        JsonNode parentNode = getJsonNodeForUpdate();
+        for (int i = 0; i < path.length - 1; i++) {
+            if (!path[i].isEmpty()) {
+                parentNode = getOrCreateNode(parentNode, path[i]);
             }
         }
+        setNode(parentNode, path[path.length - 1], value);
     }
 
     private void setNode(final JsonNode parentNode, final String leafKey, final Object value) {
-        final JsonNode valueNode = mapper.valueToTree(value);
+        final JsonNode valueNode = toJsonNode(value);
+        final JsonNode previousNode;
         if (StringUtils.isNumeric(leafKey)) {
-            ((ArrayNode) parentNode).set(Integer.parseInt(leafKey), valueNode);
+            previousNode = ((ArrayNode) parentNode).set(Integer.parseInt(leafKey), valueNode);
         } else {
-            ((ObjectNode) parentNode).set(leafKey, valueNode);
+            previousNode = ((ObjectNode) parentNode).replace(leafKey, valueNode);
         }
+        updateEstimatedSize(parentNode, leafKey, previousNode, valueNode);
+    }
+
+    /**
+     * Creates the nodes of strings, numbers and booleans directly, as converting them with the mapper sets up a
+     * serialization for a single value.
+     */
+    private static JsonNode toJsonNode(final Object value) {
+        final JsonNodeFactory nodeFactory = mapper.getNodeFactory();
+        if (value == null) {
+            return nodeFactory.nullNode();
+        } else if (value instanceof String) {
+            return nodeFactory.textNode((String) value);
+        } else if (value instanceof Integer) {
+            return nodeFactory.numberNode((Integer) value);
+        } else if (value instanceof Long) {
+            return nodeFactory.numberNode((Long) value);
+        } else if (value instanceof Double) {
+            return nodeFactory.numberNode((Double) value);
+        } else if (value instanceof Boolean) {
+            return nodeFactory.booleanNode((Boolean) value);
+        }
+        return mapper.valueToTree(value);
     }
 
     private JsonNode getOrCreateNode(final JsonNode node, final String key) {
-        JsonNode childNode = node.get(key);
+        JsonNode childNode = getChildForUpdate(node, key);
         if (childNode == null) {
             childNode = mapper.createObjectNode();
             ((ObjectNode) node).set(key, childNode);
+            updateEstimatedSize(node, key, null, childNode);
         }
         return childNode;
     }
@@ -163,20 +352,138 @@ public class JacksonEvent implements Event {
      */
     @Override
     public <T> T get(final String key, final Class<T> clazz) {
+        return get(EventKey.of(key), clazz);
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+    /**
+     * Retrieves the value of type clazz from the key.
+     * @param key the value to retrieve from
+     * @param clazz the return type of the value
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to the provided clazz
+     * @since 2.0
+     */
+    @Override
+    public <T> T get(final EventKey key, final Class<T> clazz) {
+        final JsonNode node = getNode(key);
         if (node.isMissingNode()) {
             return null;
         }
 
-        return mapNodeToObject(key, node, clazz);
+        return mapNodeToObject(key.getKey(), node, clazz);
+    }
+
+    /**
+     * Retrieves the value of the key as a String. Text values are read from the event directly rather than mapped.
+     * @param key the value to retrieve from
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to a String
+     * @since 2.0
+     */
+    @Override
+    public String getString(final EventKey key) {
+        final JsonNode node = getNode(key);
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        return mapNodeToObjectOrNull(key, node, String.class);
+    }
+
+    /**
+     * Retrieves the value of the key as an Integer. Integral values are read from the event directly rather than mapped.
+     * @param key the value to retrieve from
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to an Integer
+     * @since 2.0
+     */
+    @Override
+    public Integer getInteger(final EventKey key) {
+        final JsonNode node = getNode(key);
+        if (node.isIntegralNumber() && node.canConvertToInt()) {
+            return node.intValue();
+        }
+        return mapNodeToObjectOrNull(key, node, Integer.class);
+    }
+
+    /**
+     * Retrieves the value of the key as a Long. Integral values are read from the event directly rather than mapped.
+     * @param key the value to retrieve from
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to a Long
+     * @since 2.0
+     */
+    @Override
+    public Long getLong(final EventKey key) {
+        final JsonNode node = getNode(key);
+        if (node.isIntegralNumber() && node.canConvertToLong()) {
+            return node.longValue();
+        }
+        return mapNodeToObjectOrNull(key, node, Long.class);
+    }
+
+    /**
+     * Retrieves the value of the key as a Double. Numeric values are read from the event directly rather than mapped.
+     * @param key the value to retrieve from
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to a Double
+     * @since 2.0
+     */
+    @Override
+    public Double getDouble(final EventKey key) {
+        final JsonNode node = getNode(key);
+        if (node.isNumber()) {
+            return node.doubleValue();
+        }
+        return mapNodeToObjectOrNull(key, node, Double.class);
+    }
+
+    /**
+     * Retrieves the value of the key as a Boolean. Boolean values are read from the event directly rather than mapped.
+     * @param key the value to retrieve from
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to a Boolean
+     * @since 2.0
+     */
+    @Override
+    public Boolean getBoolean(final EventKey key) {
+        final JsonNode node = getNode(key);
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        return mapNodeToObjectOrNull(key, node, Boolean.class);
+    }
+
+    /**
+     * Retrieves the value of the key as a Map, using a reader created once for the type.
+     * @param key the value to retrieve from
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to a Map
+     * @since 2.0
+     */
+    @Override
+    public Map<String, Object> getMap(final EventKey key) {
+        final JsonNode node = getNode(key);
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        try {
+            return MAP_READER.readValue(node);
+        } catch (final IOException e) {
+            LOG.error("Unable to map {} to {}", key, Map.class, e);
+            throw new RuntimeException(String.format("Unable to map %s to %s", key, Map.class), e);
+        }
+    }
+
+    private <T> T mapNodeToObjectOrNull(final EventKey key, final JsonNode node, final Class<T> clazz) {
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        return mapNodeToObject(key.getKey(), node, clazz);
     }
 
-    private JsonNode getNode(final String key) {
-        final JsonPointer jsonPointer = toJsonPointer(key);
-        return jsonNode.at(jsonPointer);
+    private JsonNode getNode(final EventKey key) {
+        checkNotNull(key, "key cannot be null");
+        return getJsonNode().at(key.getJsonPointer());
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
@@ -198,15 +505,25 @@ public class JacksonEvent implements Event {
      */
     @Override
     public <T> List<T> getList(final String key, final Class<T> clazz) {
+        return getList(EventKey.of(key), clazz);
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+    /**
+     * Retrieves the given key from the Event as a List
+     * @param key the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @return a List of clazz
+     * @throws RuntimeException if it is unable to map the elements in the list to the provided clazz
+     * @since 2.0
+     */
+    @Override
+    public <T> List<T> getList(final EventKey key, final Class<T> clazz) {
+        final JsonNode node = getNode(key);
         if (node.isMissingNode()) {
             return null;
         }
 
-        return mapNodeToList(key, node, clazz);
+        return mapNodeToList(key.getKey(), node, clazz);
     }
 
     private <T> List<T> mapNodeToList(final String key, final JsonNode node, final Class<T> clazz) {
@@ -219,11 +536,6 @@ public class JacksonEvent implements Event {
         }
     }
 
-    private JsonPointer toJsonPointer(final String key) {
-        String jsonPointerExpression = SEPARATOR + key;
-        return JsonPointer.compile(jsonPointerExpression);
-    }
-
     /**
      * Deletes the key from the event.
      *
@@ -231,108 +543,183 @@ public class JacksonEvent implements Event {
      */
     @Override
     public void delete(final String key) {
+        delete(EventKey.of(key));
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
-        final int index = trimmedKey.lastIndexOf(SEPARATOR);
-
-        JsonNode baseNode = jsonNode;
-        String leafKey = trimmedKey;
-
-        if (index != -1) {
-            final JsonPointer jsonPointer = toJsonPointer(trimmedKey.substring(0, index));
-            baseNode = jsonNode.at(jsonPointer);
-            leafKey = trimmedKey.substring(index + 1);
+    /**
+     * Deletes the key from the event.
+     *
+     * @param key the field to be deleted
+     * @since 2.0
+     */
+    @Override
+    public void delete(final EventKey key) {
+        checkNotNull(key, "key cannot be null");
+        final JsonPointer parentJsonPointer = key.getParentJsonPointer();
+        final JsonNode rootNode = getJsonNodeForUpdate();
+        final JsonNode baseNode;
+        if (ownedNodes != null) {
+            baseNode = getParentNodeForUpdate(rootNode, key.getPath());
+        } else {
+            baseNode = parentJsonPointer == null ? rootNode : rootNode.at(parentJsonPointer);
         }
 
         if (!baseNode.isMissingNode()) {
-            ((ObjectNode) baseNode).remove(leafKey);
+            final JsonNode removedNode = ((ObjectNode) baseNode).remove(key.getLeafKey());
+            if (removedNode != null) {
+                updateEstimatedSize(baseNode, key.getLeafKey(), removedNode, null);
+            }
         }
     }
 
+    /**
+     * Returns an estimate of the length of the Json of the event. It is computed on the first call, from the JSON
+     * bytes of the event if it has them and from its tree otherwise, and then kept up to date as the event is modified.
+     * It counts the UTF-8 bytes of strings and keys without escaping them, so it is exact for events without escaped
+     * characters.
+     * @return the approximate size of the serialized event in bytes
+     * @since 2.0
+     */
     @Override
-    public String toJsonString() {
-        return jsonNode.toString();
+    public long getEstimatedSizeInBytes() {
+        long size = estimatedSizeInBytes;
+        if (size < 0) {
+            final byte[] bytes = jsonBytes;
+            size = bytes != null ? bytes.length : estimateSizeInBytes(getJsonNode());
+            estimatedSizeInBytes = size;
+        }
+        return size;
     }
 
-    @Override
-    public EventMetadata getMetadata() {
-        return eventMetadata;
+    /**
+     * Updates the size estimate, if it has been computed, for a value of the parent node replaced, added or removed
+     * under the key.
+     */
+    private void updateEstimatedSize(final JsonNode parentNode, final String key, final JsonNode previousNode, final JsonNode node) {
+        final long size = estimatedSizeInBytes;
+        if (size < 0) {
+            return;
+        }
+        long delta = (node == null ? 0 : estimateSizeInBytes(node)) - (previousNode == null ? 0 : estimateSizeInBytes(previousNode));
+        if (parentNode.isObject() && (previousNode == null) != (node == null)) {
+            final boolean hasOtherFields = parentNode.size() > (node == null ? 0 : 1);
+            final long fieldSize = utf8Length(key) + 3 + (hasOtherFields ? 1 : 0);
+            delta += node == null ? -fieldSize : fieldSize;
+        }
+        estimatedSizeInBytes = size + delta;
     }
 
-    @Override
-    public boolean containsKey(final String key) {
-
-        final String trimmedKey = checkAndTrimKey(key);
+    /**
+     * Estimates the length of the Json of a node from its keys and values, without serializing it.
+     */
+    private static long estimateSizeInBytes(final JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                long objectSize = 2 + Math.max(node.size() - 1, 0);
+                for (final Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                    final Map.Entry<String, JsonNode> field = fields.next();
+                    objectSize += utf8Length(field.getKey()) + 3 + estimateSizeInBytes(field.getValue());
+                }
+                return objectSize;
+            case ARRAY:
+                long arraySize = 2 + Math.max(node.size() - 1, 0);
+                for (final JsonNode element : node) {
+                    arraySize += estimateSizeInBytes(element);
+                }
+                return arraySize;
+            case STRING:
+                return utf8Length(node.textValue()) + 2;
+            case NUMBER:
+            case BOOLEAN:
+            case NULL:
+                return node.asText().length();
+            default:
+                return node.toString().length();
+        }
+    }
 
-        final JsonNode node = getNode(trimmedKey);
+    /**
+     * Returns the length of a string encoded as UTF-8, or an upper bound of it for a string with unpaired surrogates.
+     */
+    private static long utf8Length(final String string) {
+        try {
+            return Utf8.encodedLength(string);
+        } catch (final IllegalArgumentException e) {
+            return 3L * string.length();
+        }
+    }
 
-        return !node.isMissingNode();
+    private JsonNode getParentNodeForUpdate(final JsonNode rootNode, final String[] path) {
+        JsonNode node = rootNode;
+        for (int i = 0; i < path.length - 1; i++) {
+            node = getChildForUpdate(node, path[i]);
+            if (node == null) {
+                return MissingNode.getInstance();
+            }
+        }
+        return node;
     }
 
     @Override
-    public boolean isValueAList(final String key) {
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
-
-        return node.isArray();
+    public String toJsonString() {
+        String string = jsonString;
+        if (string == null) {
+            string = new String(toJsonBytes(), StandardCharsets.UTF_8);
+            jsonString = string;
+        }
+        return string;
     }
 
+    /**
+     * Returns the serialized form of the event, which is kept until the event is modified.
+     * @return UTF-8 Json of the event, which must not be modified
+     * @since 2.0
+     */
     @Override
-    public Map<String, Object> toMap() {
-        return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
+    public byte[] toJsonBytes() {
+        byte[] bytes = jsonBytes;
+        if (bytes == null) {
+            try {
+                bytes = mapper.writeValueAsBytes(getJsonNodeToSerialize());
+            } catch (final JsonProcessingException e) {
+                throw new RuntimeException("Unable to serialize the event", e);
+            }
+            jsonBytes = bytes;
+            if (estimatedSizeInBytes < 0) {
+                estimatedSizeInBytes = bytes.length;
+            }
+        }
+        return bytes;
     }
 
-    private String checkAndTrimKey(final String key) {
-        checkKey(key);
-        return trimKey(key);
+    @Override
+    public EventMetadata getMetadata() {
+        return eventMetadata;
     }
 
-    private void checkKey(final String key) {
-        checkNotNull(key, "key cannot be null");
-        checkArgument(!key.isEmpty(), "key cannot be an empty string");
-        if (key.length() > MAX_KEY_LENGTH) {
-            throw new IllegalArgumentException("key cannot be longer than " + MAX_KEY_LENGTH + " characters");
-        }
-        if (!isValidKey(key)) {
-            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
-        }
+    @Override
+    public boolean containsKey(final String key) {
+        return containsKey(EventKey.of(key));
     }
 
-    private String trimKey(final String key) {
-
-        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
-        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
+    @Override
+    public boolean containsKey(final EventKey key) {
+        return !getNode(key).isMissingNode();
     }
 
-    private boolean isValidKey(final String key) {
-        char previous = ' ';
-        char next = ' ';
-        for (int i = 0; i < key.length(); i++) {
-            char c = key.charAt(i);
-
-            if (i < key.length() - 1) {
-                next = key.charAt(i + 1);
-            }
-
-            if ((i == 0 || i == key.length() - 1 || previous == '/' || next == '/') && (c == '_' || c == '.' || c == '-')) {
-                return false;
-            }
+    @Override
+    public boolean isValueAList(final String key) {
+        return isValueAList(EventKey.of(key));
+    }
 
-            if (!(c >= 48 && c <= 57
-                    || c >= 65 && c <= 90
-                    || c >= 97 && c <= 122
-                    || c == '.'
-                    || c == '-'
-                    || c == '_'
-                    || c == '@'
-                    || c == '/')) {
+    @Override
+    public boolean isValueAList(final EventKey key) {
+        return getNode(key).isArray();
+    }
 
-                return false;
-            }
-            previous = c;
-        }
-        return true;
+    @Override
+    public Map<String, Object> toMap() {
+        return mapper.convertValue(getJsonNode(), MAP_TYPE_REFERENCE);
     }
 
     /**
@@ -356,6 +743,9 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         private Object data;
+        private byte[] jsonBytes;
+        private JsonNode jsonNode;
+        private Object deferredData;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -409,6 +799,60 @@ public class JacksonEvent implements Event {
          */
         public Builder<T> withData(final Object data) {
             this.data = data;
+            this.jsonBytes = null;
+            this.jsonNode = null;
+            this.deferredData = null;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event to an object which is only converted to a tree when the event is first accessed
+         * through its tree. Subclasses which read their own fields without the tree use it to skip the conversion.
+         * @param data the data, which must not be modified afterwards
+         * @since 2.0
+         */
+        protected Builder<T> withDeferredData(final Object data) {
+            this.deferredData = checkNotNull(data, "data cannot be null");
+            this.data = null;
+            this.jsonBytes = null;
+            this.jsonNode = null;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event to a tree which the event takes ownership of, rather than copying it.
+         * @param jsonNode the tree, which must not be used by the caller afterwards
+         */
+        Builder<T> withJsonNode(final JsonNode jsonNode) {
+            this.jsonNode = jsonNode;
+            this.data = null;
+            this.jsonBytes = null;
+            this.deferredData = null;
+            return this;
+        }
+
+        /**
+         * Returns whether the data of the event was set to a tree read back by a {@link JacksonEventCodec}. Subclasses
+         * build such events from the tree as it is, without validating it or setting default values.
+         * @return true if the data was set to a tree
+         * @since 2.0
+         */
+        protected boolean hasJsonNode() {
+            return jsonNode != null;
+        }
+
+        /**
+         * Sets the data of the event to a JSON object encoded in UTF-8. The event keeps the bytes and only parses them
+         * when it is first accessed, and {@link JacksonEvent#toJsonString()} returns them as they are until the event
+         * is modified. Invalid JSON is therefore only reported on the first access.
+         * @param jsonBytes the JSON object
+         * @since 2.0
+         */
+        public Builder<T> withJsonBytes(final byte[] jsonBytes) {
+            this.jsonBytes = checkNotNull(jsonBytes, "jsonBytes cannot be null");
+            this.data = null;
+            this.jsonNode = null;
+            this.deferredData = null;
             return this;
         }
 
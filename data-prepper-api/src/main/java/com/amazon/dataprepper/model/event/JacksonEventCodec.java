@@ -0,0 +1,210 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.amazon.dataprepper.model.log.JacksonLog;
+import com.amazon.dataprepper.model.metric.JacksonGauge;
+import com.amazon.dataprepper.model.metric.JacksonHistogram;
+import com.amazon.dataprepper.model.metric.JacksonSum;
+import com.amazon.dataprepper.model.metric.JacksonSummary;
+import com.amazon.dataprepper.model.metric.Metric;
+import com.amazon.dataprepper.model.trace.JacksonSpan;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * An {@link EventCodec} which encodes events with a Jackson data format. Besides JSON, it supports the binary Smile
+ * and CBOR formats, which are smaller and faster to write and read than JSON.
+ * <p>
+ * An event is encoded as an array of its event type, the seconds and nanoseconds of its time received, its attributes
+ * and its data. The tree of a {@link JacksonEvent} is written as it is, and the tree read back is taken over by the
+ * decoded {@link JacksonEvent} without being copied. Its text nodes are created with the
+ * {@link InterningJsonNodeFactory}. Events are decoded to the class their event type is built with, so that spans,
+ * logs and each kind of metric are restored as a {@link JacksonSpan}, a {@link JacksonLog} and the matching
+ * {@link com.amazon.dataprepper.model.metric.JacksonMetric}.
+ *
+ * @since 2.0
+ */
+public class JacksonEventCodec implements EventCodec {
+    private static final String METRIC_KIND_KEY = "kind";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
+
+    private static final JacksonEventCodec JSON = new JacksonEventCodec(new JsonFactory(), "application/json");
+    private static final JacksonEventCodec SMILE = new JacksonEventCodec(new SmileFactory(), "application/x-jackson-smile");
+    private static final JacksonEventCodec CBOR = new JacksonEventCodec(new CBORFactory(), "application/cbor");
+
+    private final ObjectMapper objectMapper;
+    private final String mediaType;
+
+    private JacksonEventCodec(final JsonFactory jsonFactory, final String mediaType) {
+        this.objectMapper = new ObjectMapper(jsonFactory)
+                .registerModule(new JavaTimeModule())
+                .setNodeFactory(InterningJsonNodeFactory.getInstance());
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * @return a codec encoding events as JSON
+     * @since 2.0
+     */
+    public static JacksonEventCodec json() {
+        return JSON;
+    }
+
+    /**
+     * @return a codec encoding events as Smile
+     * @since 2.0
+     */
+    public static JacksonEventCodec smile() {
+        return SMILE;
+    }
+
+    /**
+     * @return a codec encoding events as CBOR
+     * @since 2.0
+     */
+    public static JacksonEventCodec cbor() {
+        return CBOR;
+    }
+
+    /**
+     * @return the factory of the generators and parsers of the data format, for documents embedding encoded events
+     * with {@link #encode(Event, JsonGenerator)} and {@link #decode(JsonParser)}
+     * @since 2.0
+     */
+    public JsonFactory getJsonFactory() {
+        return objectMapper.getFactory();
+    }
+
+    /**
+     * @return the media type of the data format
+     * @since 2.0
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public byte[] encode(final Event event) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final JsonGenerator generator = getJsonFactory().createGenerator(outputStream)) {
+            encode(event, generator);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public Event decode(final byte[] bytes) throws IOException {
+        try (final JsonParser parser = getJsonFactory().createParser(bytes)) {
+            parser.nextToken();
+            return decode(parser);
+        }
+    }
+
+    /**
+     * Writes the event as the next value of a generator created by {@link #getJsonFactory()}.
+     *
+     * @param event the event
+     * @param generator the generator
+     * @throws IOException if the event cannot be written
+     * @since 2.0
+     */
+    public void encode(final Event event, final JsonGenerator generator) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        final Instant timeReceived = eventMetadata.getTimeReceived();
+
+        generator.writeStartArray();
+        generator.writeString(eventMetadata.getEventType());
+        generator.writeNumber(timeReceived.getEpochSecond());
+        generator.writeNumber(timeReceived.getNano());
+        objectMapper.writeValue(generator, eventMetadata.getAttributes());
+        if (event instanceof JacksonEvent) {
+            objectMapper.writeTree(generator, ((JacksonEvent) event).getJsonNode());
+        } else {
+            objectMapper.writeValue(generator, event.toMap());
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Reads an event written by {@link #encode(Event, JsonGenerator)} from a parser created by
+     * {@link #getJsonFactory()}, which must be positioned on the start of the event.
+     *
+     * @param parser the parser
+     * @return the event, after which the parser is positioned on the end of the event
+     * @throws IOException if the parser is not positioned on an encoded event
+     * @since 2.0
+     */
+    public Event decode(final JsonParser parser) throws IOException {
+        expectToken(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        expectToken(parser, parser.nextToken(), JsonToken.VALUE_STRING);
+        final String eventType = parser.getText();
+        expectToken(parser, parser.nextToken(), JsonToken.VALUE_NUMBER_INT);
+        final long epochSecond = parser.getLongValue();
+        expectToken(parser, parser.nextToken(), JsonToken.VALUE_NUMBER_INT);
+        final int nanos = parser.getIntValue();
+        parser.nextToken();
+        final Map<String, Object> attributes = objectMapper.readValue(parser, MAP_TYPE_REFERENCE);
+        parser.nextToken();
+        final JsonNode data = objectMapper.readTree(parser);
+        expectToken(parser, parser.nextToken(), JsonToken.END_ARRAY);
+
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(eventType)
+                .withTimeReceived(Instant.ofEpochSecond(epochSecond, nanos))
+                .withAttributes(attributes)
+                .build();
+        return builderFor(eventType, data)
+                .withEventMetadata(eventMetadata)
+                .withJsonNode(data)
+                .build();
+    }
+
+    private static JacksonEvent.Builder<?> builderFor(final String eventType, final JsonNode data) {
+        if (EventType.TRACE.toString().equals(eventType)) {
+            return JacksonSpan.builder();
+        }
+        if (EventType.LOG.toString().equals(eventType)) {
+            return JacksonLog.builder();
+        }
+        if (EventType.METRIC.toString().equals(eventType)) {
+            final String kind = data.path(METRIC_KIND_KEY).asText();
+            if (Metric.KIND.GAUGE.toString().equals(kind)) {
+                return JacksonGauge.builder();
+            }
+            if (Metric.KIND.SUM.toString().equals(kind)) {
+                return JacksonSum.builder();
+            }
+            if (Metric.KIND.HISTOGRAM.toString().equals(kind)) {
+                return JacksonHistogram.builder();
+            }
+            if (Metric.KIND.SUMMARY.toString().equals(kind)) {
+                return JacksonSummary.builder();
+            }
+        }
+        return JacksonEvent.builder();
+    }
+
+    private static void expectToken(final JsonParser parser, final JsonToken actual, final JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " in an encoded event but found " + actual);
+        }
+    }
+}
@@ -21,6 +21,15 @@ public class JacksonLog extends JacksonEvent implements Log {
         checkArgument(this.getMetadata().getEventType().equals("LOG"), "eventType must be of type Log");
     }
 
+    /**
+     * Creates a copy of a log for {@link #copy()}, which shares the tree of the log.
+     * @param log the log to copy
+     * @since 2.0
+     */
+    protected JacksonLog(final JacksonLog log) {
+        super(log);
+    }
+
     /**
      * Constructs an empty builder.
      * @return a builder
@@ -30,6 +39,11 @@ public class JacksonLog extends JacksonEvent implements Log {
         return new Builder();
     }
 
+    @Override
+    public JacksonLog copy() {
+        return new JacksonLog(this);
+    }
+
     /**
      * Builder for creating {@link JacksonLog}.
      * @since 1.2
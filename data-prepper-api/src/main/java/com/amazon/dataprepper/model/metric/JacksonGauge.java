@@ -34,6 +34,15 @@ public class JacksonGauge extends JacksonMetric implements Gauge {
         checkArgument(this.getMetadata().getEventType().equals(EventType.METRIC.toString()), "eventType must be of type Metric");
     }
 
+    /**
+     * Creates a copy of a gauge for {@link #copy()}, which shares the tree of the gauge.
+     * @param gauge the gauge to copy
+     * @since 2.0
+     */
+    protected JacksonGauge(final JacksonGauge gauge) {
+        super(gauge);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -43,6 +52,11 @@ public class JacksonGauge extends JacksonMetric implements Gauge {
         return this.get(VALUE_KEY, Double.class);
     }
 
+    @Override
+    public JacksonGauge copy() {
+        return new JacksonGauge(this);
+    }
+
     /**
      * Builder for creating {@link JacksonGauge}
      *
@@ -73,6 +87,9 @@ public class JacksonGauge extends JacksonMetric implements Gauge {
          * @since 1.4
          */
         public JacksonGauge build() {
+            if (hasJsonNode()) {
+                return new JacksonGauge(this);
+            }
             this.withEventKind(Metric.KIND.GAUGE.toString());
             this.withData(data);
             this.withEventType(EventType.METRIC.toString());
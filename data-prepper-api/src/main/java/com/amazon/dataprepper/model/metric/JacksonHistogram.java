@@ -40,6 +40,15 @@ public class JacksonHistogram extends JacksonMetric implements Histogram {
         checkArgument(this.getMetadata().getEventType().equals(EventType.METRIC.toString()), "eventType must be of type Metric");
     }
 
+    /**
+     * Creates a copy of a histogram for {@link #copy()}, which shares the tree of the histogram.
+     * @param histogram the histogram to copy
+     * @since 2.0
+     */
+    protected JacksonHistogram(final JacksonHistogram histogram) {
+        super(histogram);
+    }
+
     public static JacksonHistogram.Builder builder() {
         return new JacksonHistogram.Builder();
     }
@@ -74,6 +83,11 @@ public class JacksonHistogram extends JacksonMetric implements Histogram {
         return this.getList(BUCKETS_KEY, DefaultBucket.class);
     }
 
+    @Override
+    public JacksonHistogram copy() {
+        return new JacksonHistogram(this);
+    }
+
     /**
      * Builder for creating JacksonHistogram
      *
@@ -158,6 +172,9 @@ public class JacksonHistogram extends JacksonMetric implements Histogram {
          * @since 1.4
          */
         public JacksonHistogram build() {
+            if (hasJsonNode()) {
+                return new JacksonHistogram(this);
+            }
             this.withData(data);
             this.withEventKind(KIND.HISTOGRAM.toString());
             this.withEventType(EventType.METRIC.toString());
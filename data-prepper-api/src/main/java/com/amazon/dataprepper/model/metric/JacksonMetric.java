@@ -33,8 +33,17 @@ public abstract class JacksonMetric extends JacksonEvent implements Metric {
         super(builder);
     }
 
+    /**
+     * Creates a copy of a metric for {@link #copy()}, which shares the tree of the metric.
+     * @param metric the metric to copy
+     * @since 2.0
+     */
+    protected JacksonMetric(final JacksonMetric metric) {
+        super(metric);
+    }
+
     @Override
-    public String toJsonString() {
+    protected JsonNode getJsonNodeToSerialize() {
         final ObjectNode attributesNode = (ObjectNode) getJsonNode().get(ATTRIBUTES_KEY);
         final ObjectNode flattenedJsonNode = getJsonNode().deepCopy();
         if (attributesNode != null) {
@@ -47,7 +56,7 @@ public abstract class JacksonMetric extends JacksonEvent implements Metric {
                 }
             }
         }
-        return flattenedJsonNode.toString();
+        return flattenedJsonNode;
     }
 
     @Override
@@ -35,6 +35,15 @@ public class JacksonSum extends JacksonMetric implements Sum {
         checkArgument(this.getMetadata().getEventType().equals(EventType.METRIC.toString()), "eventType must be of type Metric");
     }
 
+    /**
+     * Creates a copy of a sum for {@link #copy()}, which shares the tree of the sum.
+     * @param sum the sum to copy
+     * @since 2.0
+     */
+    protected JacksonSum(final JacksonSum sum) {
+        super(sum);
+    }
+
     public static JacksonSum.Builder builder() {
         return new JacksonSum.Builder();
     }
@@ -54,6 +63,11 @@ public class JacksonSum extends JacksonMetric implements Sum {
         return this.get(IS_MONOTONIC_KEY, Boolean.class);
     }
 
+    @Override
+    public JacksonSum copy() {
+        return new JacksonSum(this);
+    }
+
     /**
      * Builder for creating {@link JacksonSum}
      *
@@ -107,6 +121,9 @@ public class JacksonSum extends JacksonMetric implements Sum {
          * @since 1.4
          */
         public JacksonSum build() {
+            if (hasJsonNode()) {
+                return new JacksonSum(this);
+            }
             this.withData(data);
             this.withEventType(EventType.METRIC.toString());
             this.withEventKind(Metric.KIND.SUM.toString());
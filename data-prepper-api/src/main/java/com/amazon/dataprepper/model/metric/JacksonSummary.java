@@ -37,6 +37,15 @@ public class JacksonSummary extends JacksonMetric implements Summary {
         checkArgument(this.getMetadata().getEventType().equals(EventType.METRIC.toString()), "eventType must be of type Metric");
     }
 
+    /**
+     * Creates a copy of a summary for {@link #copy()}, which shares the tree of the summary.
+     * @param summary the summary to copy
+     * @since 2.0
+     */
+    protected JacksonSummary(final JacksonSummary summary) {
+        super(summary);
+    }
+
     public static JacksonSummary.Builder builder() {
         return new JacksonSummary.Builder();
     }
@@ -61,6 +70,11 @@ public class JacksonSummary extends JacksonMetric implements Summary {
         return this.get(SUM_KEY, Double.class);
     }
 
+    @Override
+    public JacksonSummary copy() {
+        return new JacksonSummary(this);
+    }
+
     /**
      * Builder for creating JacksonSummary
      *
@@ -123,6 +137,9 @@ public class JacksonSummary extends JacksonMetric implements Summary {
          * @since 1.4
          */
         public JacksonSummary build() {
+            if (hasJsonNode()) {
+                return new JacksonSummary(this);
+            }
             this.withData(data);
             this.withEventKind(KIND.SUMMARY.toString());
             this.withEventType(EventType.METRIC.toString());
@@ -13,6 +13,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @since 1.2
@@ -56,6 +57,15 @@ public abstract class AbstractProcessor<InputRecord extends Record<?>, OutputRec
         return result;
     }
 
+    /**
+     * Records the metrics of records processed outside of {@link #execute(Collection)}.
+     */
+    void recordExecution(final int recordsIn, final int recordsOut, final long elapsedNanos) {
+        recordsInCounter.increment(recordsIn);
+        timeElapsedTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        recordsOutCounter.increment(recordsOut);
+    }
+
     /**
      * @since 1.2
      * This function should implement the processing logic of the processor
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.processor;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @since 2.0
+ * Abstract implementation of the {@link RecordProcessor} interface. Extensions implement
+ * {@link #processRecord(Record)}, and this class implements {@link #doExecute(Collection)} on top of it, so that the
+ * processor records the same metrics whether or not it is fused with other RecordProcessors.
+ */
+public abstract class AbstractRecordProcessor<T extends Record<?>> extends AbstractProcessor<T, T> implements RecordProcessor<T> {
+
+    public AbstractRecordProcessor(final PluginSetting pluginSetting) {
+        super(pluginSetting);
+    }
+
+    protected AbstractRecordProcessor(final PluginMetrics pluginMetrics) {
+        super(pluginMetrics);
+    }
+
+    /**
+     * @since 2.0
+     * Processes each record with {@link #processRecord(Record)}. The input collection is returned as long as every
+     * record is returned unchanged, otherwise a new collection of the processed records is returned.
+     *
+     * @param records Input records
+     * @return Processed records
+     */
+    @Override
+    public Collection<T> doExecute(final Collection<T> records) {
+        final List<T> processedRecords = new ArrayList<>(records.size());
+        boolean unchanged = true;
+        for (final T record : records) {
+            final T processedRecord = processRecord(record);
+            if (processedRecord != record) {
+                unchanged = false;
+            }
+            if (processedRecord != null) {
+                processedRecords.add(processedRecord);
+            }
+        }
+        return unchanged ? records : processedRecords;
+    }
+
+    @Override
+    public void recordBatchMetrics(final int recordsIn, final int recordsOut, final long elapsedNanos) {
+        recordExecution(recordsIn, recordsOut, elapsedNanos);
+    }
+}
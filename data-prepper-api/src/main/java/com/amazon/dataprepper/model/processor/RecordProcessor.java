@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.processor;
+
+import com.amazon.dataprepper.model.record.Record;
+
+import java.util.Collection;
+
+/**
+ * @since 2.0
+ * A {@link Processor} which processes each record on its own, keeping no state across records or batches. Data Prepper
+ * may fuse consecutive RecordProcessors of a pipeline into a single pass over each batch, which hands every record to
+ * each of them in turn by calling {@link #processRecord(Record)} instead of {@link #execute(Collection)}.
+ */
+public interface RecordProcessor<T extends Record<?>> extends Processor<T, T> {
+
+    /**
+     * @since 2.0
+     * Processes a single record, which could potentially be modified.
+     *
+     * @param record Input record
+     * @return the processed record, or null if the record is dropped
+     */
+    T processRecord(T record);
+
+    /**
+     * @since 2.0
+     * Reports the records this processor handled through {@link #processRecord(Record)} during one fused pass over a
+     * batch, so that it can record the same metrics as it does from {@link #execute(Collection)}.
+     *
+     * @param recordsIn number of records passed to this processor
+     * @param recordsOut number of records this processor did not drop
+     * @param elapsedNanos time spent in this processor, in nanoseconds
+     */
+    void recordBatchMetrics(int recordsIn, int recordsOut, long elapsedNanos);
+}
@@ -5,6 +5,10 @@
 
 package com.amazon.dataprepper.model.record;
 
+import com.amazon.dataprepper.model.event.Event;
+
+import java.nio.charset.StandardCharsets;
+
 /**
  * Data Prepper record - represents the fundamental data unit of TI, the idea is to encapsulate different
  * types of data we will be supporting in TI.
@@ -14,8 +18,18 @@ package com.amazon.dataprepper.model.record;
  */
 @Deprecated
 public class Record<T> {
+    /**
+     * The value of {@link #getTimeWrittenNanos()} for a record which has not been written to a buffer.
+     *
+     * @since 2.0
+     */
+    public static final long NOT_WRITTEN = Long.MIN_VALUE;
+
     private final T data;
     private final RecordMetadata metadata;
+    private volatile long estimatedSizeInBytes = -1;
+    // Buffers hand records to their readers through synchronized queues, which publish the field
+    private long timeWrittenNanos = NOT_WRITTEN;
 
     public Record(final T data) {
         this.data = data;
@@ -34,4 +48,57 @@ public class Record<T> {
     public RecordMetadata getMetadata() {
         return metadata;
     }
+
+    /**
+     * Returns an estimate of the size of the data in bytes. The estimate is computed lazily, on the first call, and
+     * then carried with the record, so a buffer which accounts for it on write releases the same amount on checkpoint
+     * even if the data is modified in between. Data other than events and byte arrays is estimated from the UTF-8
+     * length of its string representation.
+     *
+     * @return the estimated size of the data in bytes
+     * @since 2.0
+     */
+    public long getEstimatedSizeInBytes() {
+        long size = estimatedSizeInBytes;
+        if (size < 0) {
+            size = estimateSizeInBytes(data);
+            estimatedSizeInBytes = size;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the time at which the record was last written to a buffer, as a value of {@link System#nanoTime()}, so
+     * that the time it spent in the buffer can be measured when it is read. Records which a buffer serializes, and
+     * reads back as new records, have not been written.
+     *
+     * @return the time at which the record was written to a buffer, or {@link #NOT_WRITTEN}
+     * @since 2.0
+     */
+    public long getTimeWrittenNanos() {
+        return timeWrittenNanos;
+    }
+
+    /**
+     * Sets the time at which the record is written to a buffer, which buffers set before handing the record over.
+     *
+     * @param timeWrittenNanos a value of {@link System#nanoTime()}
+     * @since 2.0
+     */
+    public void setTimeWrittenNanos(final long timeWrittenNanos) {
+        this.timeWrittenNanos = timeWrittenNanos;
+    }
+
+    private static long estimateSizeInBytes(final Object data) {
+        if (data == null) {
+            return 0;
+        }
+        if (data instanceof byte[]) {
+            return ((byte[]) data).length;
+        }
+        if (data instanceof Event) {
+            return ((Event) data).getEstimatedSizeInBytes();
+        }
+        return data.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
 }
@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.model.trace;
 
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.event.EventType;
 import com.amazon.dataprepper.model.event.JacksonEvent;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -23,6 +24,10 @@ import static com.google.common.base.Preconditions.checkState;
 
 /**
  * A Jackson implementation for {@link Span}. This class extends the {@link JacksonEvent}.
+ * <p>
+ * The identifying fields of a span, which trace processors read many times, are also kept in typed fields and read
+ * without the tree. The tree is only built from the builder's values when the span is first accessed as an event, so
+ * the values given to the builder must not be modified once the span is built.
  *
  * @since 1.2
  */
@@ -47,65 +52,101 @@ public class JacksonSpan extends JacksonEvent implements Span {
     private static final String DURATION_IN_NANOS_KEY = "durationInNanos";
     private static final String TRACE_GROUP_FIELDS_KEY = "traceGroupFields";
 
+    private static final EventKey TRACE_ID_EVENT_KEY = EventKey.of(TRACE_ID_KEY);
+    private static final EventKey SPAN_ID_EVENT_KEY = EventKey.of(SPAN_ID_KEY);
+    private static final EventKey TRACE_STATE_EVENT_KEY = EventKey.of(TRACE_STATE_KEY);
+    private static final EventKey PARENT_SPAN_ID_EVENT_KEY = EventKey.of(PARENT_SPAN_ID_KEY);
+    private static final EventKey NAME_EVENT_KEY = EventKey.of(NAME_KEY);
+    private static final EventKey KIND_EVENT_KEY = EventKey.of(KIND_KEY);
+    private static final EventKey START_TIME_EVENT_KEY = EventKey.of(START_TIME_KEY);
+    private static final EventKey END_TIME_EVENT_KEY = EventKey.of(END_TIME_KEY);
+    private static final EventKey TRACE_GROUP_EVENT_KEY = EventKey.of(TRACE_GROUP_KEY);
+    private static final EventKey SERVICE_NAME_EVENT_KEY = EventKey.of(SERVICE_NAME_KEY);
+    private static final EventKey ATTRIBUTES_EVENT_KEY = EventKey.of(ATTRIBUTES_KEY);
+    private static final EventKey DROPPED_ATTRIBUTES_COUNT_EVENT_KEY = EventKey.of(DROPPED_ATTRIBUTES_COUNT_KEY);
+    private static final EventKey DROPPED_EVENTS_COUNT_EVENT_KEY = EventKey.of(DROPPED_EVENTS_COUNT_KEY);
+    private static final EventKey DROPPED_LINKS_COUNT_EVENT_KEY = EventKey.of(DROPPED_LINKS_COUNT_KEY);
+    private static final EventKey DURATION_IN_NANOS_EVENT_KEY = EventKey.of(DURATION_IN_NANOS_KEY);
+
     private static final List<String> REQUIRED_KEYS = Arrays.asList(TRACE_GROUP_KEY);
     private static final List<String>
             REQUIRED_NON_EMPTY_KEYS = Arrays.asList(TRACE_ID_KEY, SPAN_ID_KEY, NAME_KEY, KIND_KEY, START_TIME_KEY, END_TIME_KEY);
     private static final List<String> REQUIRED_NON_NULL_KEYS = Arrays.asList(DURATION_IN_NANOS_KEY, TRACE_GROUP_FIELDS_KEY);
 
+    /**
+     * The typed fields, which are discarded when the span is modified and read back from the tree on the next access.
+     */
+    private volatile SpanFields spanFields;
+
     protected JacksonSpan(final Builder builder) {
         super(builder);
 
         checkArgument(this.getMetadata().getEventType().equals("TRACE"), "eventType must be of type Trace");
+        this.spanFields = SpanFields.fromData(builder.data);
+    }
+
+    protected JacksonSpan(final JacksonSpan span) {
+        super(span);
+        this.spanFields = span.spanFields;
+    }
+
+    private SpanFields getSpanFields() {
+        SpanFields fields = spanFields;
+        if (fields == null) {
+            fields = SpanFields.fromSpan(this);
+            spanFields = fields;
+        }
+        return fields;
     }
 
     @Override
     public String getTraceId() {
-        return this.get(TRACE_ID_KEY, String.class);
+        return getSpanFields().traceId;
     }
 
     @Override
     public String getSpanId() {
-        return this.get(SPAN_ID_KEY, String.class);
+        return getSpanFields().spanId;
     }
 
     @Override
     public String getTraceState() {
-        return this.get(TRACE_STATE_KEY, String.class);
+        return getSpanFields().traceState;
     }
 
     @Override
     public String getParentSpanId() {
-        return this.get(PARENT_SPAN_ID_KEY, String.class);
+        return getSpanFields().parentSpanId;
     }
 
     @Override
     public String getName() {
-        return this.get(NAME_KEY, String.class);
+        return getSpanFields().name;
     }
 
     @Override
     public String getKind() {
-        return this.get(KIND_KEY, String.class);
+        return getSpanFields().kind;
     }
 
     @Override
     public String getStartTime() {
-        return this.get(START_TIME_KEY, String.class);
+        return getSpanFields().startTime;
     }
 
     @Override
     public String getEndTime() {
-        return this.get(END_TIME_KEY, String.class);
+        return getSpanFields().endTime;
     }
 
     @Override
     public Map<String, Object> getAttributes() {
-        return this.get(ATTRIBUTES_KEY, Map.class);
+        return this.getMap(ATTRIBUTES_EVENT_KEY);
     }
 
     @Override
     public Integer getDroppedAttributesCount() {
-        return this.get(DROPPED_ATTRIBUTES_COUNT_KEY, Integer.class);
+        return this.getInteger(DROPPED_ATTRIBUTES_COUNT_EVENT_KEY);
     }
 
     @Override
@@ -115,7 +156,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
 
     @Override
     public Integer getDroppedEventsCount() {
-        return this.get(DROPPED_EVENTS_COUNT_KEY, Integer.class);
+        return this.getInteger(DROPPED_EVENTS_COUNT_EVENT_KEY);
     }
 
     @Override
@@ -125,17 +166,17 @@ public class JacksonSpan extends JacksonEvent implements Span {
 
     @Override
     public Integer getDroppedLinksCount() {
-        return this.get(DROPPED_LINKS_COUNT_KEY, Integer.class);
+        return this.getInteger(DROPPED_LINKS_COUNT_EVENT_KEY);
     }
 
     @Override
     public String getTraceGroup() {
-        return this.get(TRACE_GROUP_KEY, String.class);
+        return getSpanFields().traceGroup;
     }
 
     @Override
     public Long getDurationInNanos() {
-        return this.get(DURATION_IN_NANOS_KEY, Long.class);
+        return getSpanFields().durationInNanos;
     }
 
     @Override
@@ -145,12 +186,29 @@ public class JacksonSpan extends JacksonEvent implements Span {
 
     @Override
     public String getServiceName() {
-        return this.get(SERVICE_NAME_KEY, String.class);
+        return getSpanFields().serviceName;
+    }
+
+    @Override
+    public JacksonSpan copy() {
+        return new JacksonSpan(this);
+    }
+
+    @Override
+    public void put(final EventKey key, final Object value) {
+        super.put(key, value);
+        spanFields = null;
+    }
+
+    @Override
+    public void delete(final EventKey key) {
+        super.delete(key);
+        spanFields = null;
     }
 
     @Override
     public void setTraceGroup(final String traceGroup) {
-        this.put(TRACE_GROUP_KEY, traceGroup);
+        this.put(TRACE_GROUP_EVENT_KEY, traceGroup);
     }
 
     @Override
@@ -163,7 +221,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
     }
 
     @Override
-    public String toJsonString() {
+    protected JsonNode getJsonNodeToSerialize() {
         final ObjectNode attributesNode = (ObjectNode) getJsonNode().get("attributes");
         final ObjectNode flattenedJsonNode = getJsonNode().deepCopy();
         if (attributesNode != null) {
@@ -176,7 +234,67 @@ public class JacksonSpan extends JacksonEvent implements Span {
                 }
             }
         }
-        return flattenedJsonNode.toString();
+        return flattenedJsonNode;
+    }
+
+    private static class SpanFields {
+        private final String traceId;
+        private final String spanId;
+        private final String traceState;
+        private final String parentSpanId;
+        private final String name;
+        private final String kind;
+        private final String startTime;
+        private final String endTime;
+        private final String traceGroup;
+        private final String serviceName;
+        private final Long durationInNanos;
+
+        private SpanFields(final String traceId, final String spanId, final String traceState, final String parentSpanId,
+                           final String name, final String kind, final String startTime, final String endTime,
+                           final String traceGroup, final String serviceName, final Long durationInNanos) {
+            this.traceId = traceId;
+            this.spanId = spanId;
+            this.traceState = traceState;
+            this.parentSpanId = parentSpanId;
+            this.name = name;
+            this.kind = kind;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.traceGroup = traceGroup;
+            this.serviceName = serviceName;
+            this.durationInNanos = durationInNanos;
+        }
+
+        private static SpanFields fromData(final Map<String, Object> data) {
+            return new SpanFields(
+                    (String) data.get(TRACE_ID_KEY),
+                    (String) data.get(SPAN_ID_KEY),
+                    (String) data.get(TRACE_STATE_KEY),
+                    (String) data.get(PARENT_SPAN_ID_KEY),
+                    (String) data.get(NAME_KEY),
+                    (String) data.get(KIND_KEY),
+                    (String) data.get(START_TIME_KEY),
+                    (String) data.get(END_TIME_KEY),
+                    (String) data.get(TRACE_GROUP_KEY),
+                    (String) data.get(SERVICE_NAME_KEY),
+                    (Long) data.get(DURATION_IN_NANOS_KEY));
+        }
+
+        private static SpanFields fromSpan(final JacksonSpan span) {
+            return new SpanFields(
+                    span.getString(TRACE_ID_EVENT_KEY),
+                    span.getString(SPAN_ID_EVENT_KEY),
+                    span.getString(TRACE_STATE_EVENT_KEY),
+                    span.getString(PARENT_SPAN_ID_EVENT_KEY),
+                    span.getString(NAME_EVENT_KEY),
+                    span.getString(KIND_EVENT_KEY),
+                    span.getString(START_TIME_EVENT_KEY),
+                    span.getString(END_TIME_EVENT_KEY),
+                    span.getString(TRACE_GROUP_EVENT_KEY),
+                    span.getString(SERVICE_NAME_EVENT_KEY),
+                    span.getLong(DURATION_IN_NANOS_EVENT_KEY));
+        }
     }
 
     /**
@@ -382,9 +500,14 @@ public class JacksonSpan extends JacksonEvent implements Span {
          * @since 1.2
          */
         public JacksonSpan build() {
+            if (hasJsonNode()) {
+                final JacksonSpan span = new JacksonSpan(this);
+                span.spanFields = null;
+                return span;
+            }
             validateParameters();
             checkAndSetDefaultValues();
-            this.withData(data);
+            this.withDeferredData(new HashMap<>(data));
             this.withEventType(EventType.TRACE.toString());
             return new JacksonSpan(this);
         }
@@ -95,6 +95,32 @@ public class AbstractBufferTest {
                         0.25));
     }
 
+    @Test
+    public void testWriteMarksTheRecordWithTheTimeWritten() throws TimeoutException {
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferImpl(testPluginSetting);
+        final Record<String> record = new Record<>(UUID.randomUUID().toString());
+        final long before = System.nanoTime();
+
+        abstractBuffer.write(record, 1000);
+
+        Assert.assertTrue(record.getTimeWrittenNanos() - before >= 0);
+        Assert.assertTrue(System.nanoTime() - record.getTimeWrittenNanos() >= 0);
+    }
+
+    @Test
+    public void testWriteAllMarksTheRecordsWithTheTimeWritten() throws Exception {
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferImpl(testPluginSetting);
+        final List<Record<String>> testRecords = Arrays.asList(
+                new Record<>(UUID.randomUUID().toString()), new Record<>(UUID.randomUUID().toString()));
+        final long before = System.nanoTime();
+
+        abstractBuffer.writeAll(testRecords, 1000);
+
+        final long timeWrittenNanos = testRecords.get(0).getTimeWrittenNanos();
+        Assert.assertTrue(timeWrittenNanos - before >= 0);
+        Assert.assertEquals(timeWrittenNanos, testRecords.get(1).getTimeWrittenNanos());
+    }
+
     @Test
     public void testReadMetrics() throws Exception {
         // Given
@@ -229,6 +255,13 @@ public class AbstractBufferTest {
         Assert.assertThrows(NullPointerException.class, () -> abstractBuffer.writeAll(testRecords, 1000));
     }
 
+    @Test
+    public void testDefaultFillRatioIsZero() {
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferImpl(testPluginSetting);
+
+        Assert.assertEquals(0.0, abstractBuffer.getFillRatio(), 0.0);
+    }
+
     public static class AbstractBufferImpl extends AbstractBuffer<Record<String>> {
         private final Queue<Record<String>> queue;
         public AbstractBufferImpl(PluginSetting pluginSetting) {
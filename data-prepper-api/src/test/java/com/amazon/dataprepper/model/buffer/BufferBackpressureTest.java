@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.buffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BufferBackpressureTest {
+    private static final double HIGH_WATER_MARK = 0.9;
+    private static final double LOW_WATER_MARK = 0.5;
+
+    @Mock
+    private Buffer<?> buffer;
+
+    private BufferBackpressure createObjectUnderTest() {
+        return new BufferBackpressure(buffer, HIGH_WATER_MARK, LOW_WATER_MARK);
+    }
+
+    @Test
+    void isOverloaded_is_false_below_the_high_water_mark() {
+        when(buffer.getFillRatio()).thenReturn(0.89);
+
+        assertThat(createObjectUnderTest().isOverloaded(), equalTo(false));
+    }
+
+    @Test
+    void isOverloaded_is_true_from_the_high_water_mark_until_the_low_water_mark() {
+        when(buffer.getFillRatio()).thenReturn(0.9, 0.7, 0.51, 0.5, 0.7);
+        final BufferBackpressure objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.isOverloaded(), equalTo(true));
+        assertThat(objectUnderTest.isOverloaded(), equalTo(true));
+        assertThat(objectUnderTest.isOverloaded(), equalTo(true));
+        assertThat(objectUnderTest.isOverloaded(), equalTo(false));
+        assertThat(objectUnderTest.isOverloaded(), equalTo(false));
+    }
+
+    @Test
+    void disabled_is_never_overloaded() {
+        assertThat(BufferBackpressure.disabled().isOverloaded(), equalTo(false));
+    }
+
+    @Test
+    void constructor_throws_without_a_buffer() {
+        assertThrows(NullPointerException.class, () -> new BufferBackpressure(null, HIGH_WATER_MARK, LOW_WATER_MARK));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0.0, 0.0", "1.1, 0.5", "0.9, -0.1", "0.5, 0.9"})
+    void constructor_throws_if_the_water_marks_are_out_of_range(final double highWaterMark, final double lowWaterMark) {
+        assertThrows(IllegalArgumentException.class, () -> new BufferBackpressure(buffer, highWaterMark, lowWaterMark));
+    }
+}
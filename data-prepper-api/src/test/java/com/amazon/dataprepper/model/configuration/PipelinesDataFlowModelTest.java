@@ -19,7 +19,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasKey;
 
@@ -27,6 +29,11 @@ class PipelinesDataFlowModelTest {
 
     private static final String RESOURCE_PATH = "/pipelines_data_flow_serialized.yaml";
     private static final String RESOURCE_PATH_WITH_ROUTE = "/pipelines_data_flow_route.yaml";
+    private static final String RESOURCE_PATH_WITH_MAX_IN_FLIGHT_SINK_BATCHES = "/pipelines_data_flow_max_in_flight_sink_batches.yaml";
+    private static final String RESOURCE_PATH_WITH_PARALLEL_PROCESSING = "/pipelines_data_flow_parallel_processing.yaml";
+    private static final String RESOURCE_PATH_WITH_MIN_WORKERS = "/pipelines_data_flow_min_workers.yaml";
+    private static final String RESOURCE_PATH_WITH_DIRECT_EXECUTION = "/pipelines_data_flow_direct_execution.yaml";
+    private static final String RESOURCE_PATH_WITH_KEY_AFFINITY = "/pipelines_data_flow_key_affinity.yaml";
     private ObjectMapper objectMapper;
 
     @BeforeEach
@@ -109,9 +116,81 @@ class PipelinesDataFlowModelTest {
         assertThat(pipelineModel.getSinks().size(), equalTo(1));
         assertThat(pipelineModel.getSinks().get(0), notNullValue());
         assertThat(pipelineModel.getSinks().get(0).getPluginName(), equalTo("testSink"));
+        assertThat(pipelineModel.getSinks().get(0), instanceOf(SinkModel.class));
 
         assertThat(pipelineModel.getRoutes(), notNullValue());
         assertThat(pipelineModel.getRoutes().size(), equalTo(0));
+        assertThat(pipelineModel.getMaxInFlightSinkBatches(), nullValue());
+        assertThat(pipelineModel.getParallelProcessing(), nullValue());
+        assertThat(pipelineModel.getMinWorkers(), nullValue());
+        assertThat(pipelineModel.getDirectExecution(), nullValue());
+        assertThat(pipelineModel.getKeyAffinity(), nullValue());
+    }
+
+    @Test
+    void deserialize_PipelinesDataFlowModel_with_max_in_flight_sink_batches() throws IOException {
+
+        final InputStream inputStream = this.getClass().getResourceAsStream(RESOURCE_PATH_WITH_MAX_IN_FLIGHT_SINK_BATCHES);
+
+        final PipelinesDataFlowModel actualModel = objectMapper.readValue(inputStream, PipelinesDataFlowModel.class);
+
+        final PipelineModel pipelineModel = actualModel.getPipelines().get("test-pipeline");
+
+        assertThat(pipelineModel, notNullValue());
+        assertThat(pipelineModel.getMaxInFlightSinkBatches(), equalTo(4));
+    }
+
+    @Test
+    void deserialize_PipelinesDataFlowModel_with_parallel_processing() throws IOException {
+
+        final InputStream inputStream = this.getClass().getResourceAsStream(RESOURCE_PATH_WITH_PARALLEL_PROCESSING);
+
+        final PipelinesDataFlowModel actualModel = objectMapper.readValue(inputStream, PipelinesDataFlowModel.class);
+
+        final PipelineModel pipelineModel = actualModel.getPipelines().get("test-pipeline");
+
+        assertThat(pipelineModel, notNullValue());
+        assertThat(pipelineModel.getParallelProcessing(), equalTo(true));
+    }
+
+    @Test
+    void deserialize_PipelinesDataFlowModel_with_min_workers() throws IOException {
+
+        final InputStream inputStream = this.getClass().getResourceAsStream(RESOURCE_PATH_WITH_MIN_WORKERS);
+
+        final PipelinesDataFlowModel actualModel = objectMapper.readValue(inputStream, PipelinesDataFlowModel.class);
+
+        final PipelineModel pipelineModel = actualModel.getPipelines().get("test-pipeline");
+
+        assertThat(pipelineModel, notNullValue());
+        assertThat(pipelineModel.getWorkers(), equalTo(8));
+        assertThat(pipelineModel.getMinWorkers(), equalTo(2));
+    }
+
+    @Test
+    void deserialize_PipelinesDataFlowModel_with_direct_execution() throws IOException {
+
+        final InputStream inputStream = this.getClass().getResourceAsStream(RESOURCE_PATH_WITH_DIRECT_EXECUTION);
+
+        final PipelinesDataFlowModel actualModel = objectMapper.readValue(inputStream, PipelinesDataFlowModel.class);
+
+        final PipelineModel pipelineModel = actualModel.getPipelines().get("test-pipeline");
+
+        assertThat(pipelineModel, notNullValue());
+        assertThat(pipelineModel.getDirectExecution(), equalTo(true));
+    }
+
+    @Test
+    void deserialize_PipelinesDataFlowModel_with_key_affinity() throws IOException {
+
+        final InputStream inputStream = this.getClass().getResourceAsStream(RESOURCE_PATH_WITH_KEY_AFFINITY);
+
+        final PipelinesDataFlowModel actualModel = objectMapper.readValue(inputStream, PipelinesDataFlowModel.class);
+
+        final PipelineModel pipelineModel = actualModel.getPipelines().get("test-pipeline");
+
+        assertThat(pipelineModel, notNullValue());
+        assertThat(pipelineModel.getKeyAffinity(), equalTo(true));
     }
 
     @Test
@@ -17,12 +17,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasKey;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -62,6 +64,37 @@ class SinkModelTest {
                 () -> assertThat(sinkModel.getRoutes(), hasItem("routeA")),
                 () -> assertThat(sinkModel.getRoutes(), hasItem("routeB"))
         );
+        assertThat(sinkModel.getWorkers(), nullValue());
+        assertThat(sinkModel.getQueueSize(), nullValue());
+    }
+
+    @Test
+    void deserialize_with_workers_and_queue_size() throws IOException {
+        final InputStream inputStream = this.getClass().getResourceAsStream("sink_plugin_with_workers.yaml");
+
+        final SinkModel sinkModel = objectMapper.readValue(inputStream, SinkModel.class);
+
+        assertAll(
+                () -> assertThat(sinkModel.getPluginName(), equalTo("customSinkPlugin")),
+                () -> assertThat(sinkModel.getRoutes(), equalTo(Collections.singletonList("routeA"))),
+                () -> assertThat(sinkModel.getWorkers(), equalTo(2)),
+                () -> assertThat(sinkModel.getQueueSize(), equalTo(8)),
+                () -> assertThat(sinkModel.getPluginSettings().size(), equalTo(1)),
+                () -> assertThat(sinkModel.getPluginSettings(), hasKey("key1"))
+        );
+    }
+
+    @Test
+    void serialize_with_workers_and_queue_size() throws IOException {
+        final Map<String, Object> pluginSettings = new LinkedHashMap<>();
+        pluginSettings.put("key1", "value1");
+        final SinkModel sinkModel = new SinkModel("customSinkPlugin", Collections.singletonList("routeA"), 2, 8, pluginSettings);
+
+        final String actualJson = objectMapper.writeValueAsString(sinkModel);
+
+        final String expectedJson = createStringFromInputStream(this.getClass().getResourceAsStream("sink_plugin_with_workers.yaml"));
+
+        assertThat("---\n" + actualJson, equalTo(expectedJson));
     }
 
     @Test
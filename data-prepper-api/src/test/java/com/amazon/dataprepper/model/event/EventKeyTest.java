@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventKeyTest {
+
+    @Test
+    void of_parses_a_nested_key() {
+        final EventKey eventKey = EventKey.of("/fizz/buzz");
+
+        assertThat(eventKey.getKey(), equalTo("/fizz/buzz"));
+        assertThat(eventKey.toString(), equalTo("/fizz/buzz"));
+        assertThat(eventKey.getTrimmedKey(), equalTo("fizz/buzz"));
+        assertThat(eventKey.getPath(), equalTo(new String[]{"fizz", "buzz"}));
+        assertThat(eventKey.getJsonPointer().toString(), equalTo("/fizz/buzz"));
+        assertThat(eventKey.getParentJsonPointer().toString(), equalTo("/fizz"));
+        assertThat(eventKey.getLeafKey(), equalTo("buzz"));
+    }
+
+    @Test
+    void of_parses_a_top_level_key() {
+        final EventKey eventKey = EventKey.of("foo");
+
+        assertThat(eventKey.getPath(), equalTo(new String[]{"foo"}));
+        assertThat(eventKey.getParentJsonPointer(), nullValue());
+        assertThat(eventKey.getLeafKey(), equalTo("foo"));
+    }
+
+    @Test
+    void json_pointers_are_compiled_once() {
+        final EventKey eventKey = EventKey.of("fizz/buzz");
+
+        assertThat(eventKey.getJsonPointer(), sameInstance(eventKey.getJsonPointer()));
+        assertThat(eventKey.getParentJsonPointer(), sameInstance(eventKey.getParentJsonPointer()));
+    }
+
+    @Test
+    void keys_with_and_without_a_leading_separator_are_equal() {
+        final EventKey eventKey = EventKey.of("fizz/buzz");
+
+        assertThat(eventKey, equalTo(EventKey.of("/fizz/buzz")));
+        assertThat(eventKey.hashCode(), equalTo(EventKey.of("/fizz/buzz").hashCode()));
+        assertThat(eventKey, equalTo(eventKey));
+        assertThat(eventKey, not(equalTo(EventKey.of("fizz"))));
+        assertThat(eventKey.equals(null), is(false));
+        assertThat(eventKey.equals("fizz/buzz"), is(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "withSpecialChars*$%", "-withPrefixDash", "withDashSuffix-", "withDashPrefix/-nestedKey",
+            "_withUnderscorePrefix", "with,Comma"})
+    void of_throws_for_invalid_keys(final String invalidKey) {
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(invalidKey));
+    }
+
+    @Test
+    void of_throws_for_keys_longer_than_the_max_length() {
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(RandomStringUtils.randomAlphabetic(EventKey.MAX_KEY_LENGTH + 1)));
+    }
+
+    @Test
+    void of_throws_for_null_keys() {
+        assertThrows(NullPointerException.class, () -> EventKey.of(null));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class EventTest {
+    private static final String KEY = "fizz/buzz";
+
+    private Event event;
+    private EventKey eventKey;
+
+    @BeforeEach
+    void setUp() {
+        event = mock(Event.class, CALLS_REAL_METHODS);
+        eventKey = EventKey.of(KEY);
+    }
+
+    @Test
+    void eventKey_methods_default_to_the_String_key_methods() {
+        doNothing().when(event).put(KEY, "value");
+        doReturn("value").when(event).get(KEY, String.class);
+        doReturn(List.of("value")).when(event).getList(KEY, String.class);
+        doNothing().when(event).delete(KEY);
+        doReturn(true).when(event).containsKey(KEY);
+        doReturn(true).when(event).isValueAList(KEY);
+
+        event.put(eventKey, "value");
+        assertThat(event.get(eventKey, String.class), equalTo("value"));
+        assertThat(event.getList(eventKey, String.class), equalTo(List.of("value")));
+        event.delete(eventKey);
+        assertThat(event.containsKey(eventKey), equalTo(true));
+        assertThat(event.isValueAList(eventKey), equalTo(true));
+
+        verify(event).put(KEY, "value");
+        verify(event).delete(KEY);
+    }
+
+    @Test
+    void typed_getters_default_to_get() {
+        final Map<String, Object> map = Collections.singletonMap("fizz", "buzz");
+        doReturn("value").when(event).get(KEY, String.class);
+        doReturn(1).when(event).get(KEY, Integer.class);
+        doReturn(2L).when(event).get(KEY, Long.class);
+        doReturn(1.5).when(event).get(KEY, Double.class);
+        doReturn(true).when(event).get(KEY, Boolean.class);
+        doReturn(map).when(event).get(KEY, Map.class);
+
+        assertThat(event.getString(eventKey), equalTo("value"));
+        assertThat(event.getInteger(eventKey), equalTo(1));
+        assertThat(event.getLong(eventKey), equalTo(2L));
+        assertThat(event.getDouble(eventKey), equalTo(1.5));
+        assertThat(event.getBoolean(eventKey), equalTo(true));
+        assertThat(event.getMap(eventKey), equalTo(map));
+    }
+
+    @Test
+    void toJsonBytes_defaults_to_toJsonString() {
+        doReturn("{\"foo\":\"bar\"}").when(event).toJsonString();
+
+        assertThat(event.toJsonBytes(), equalTo("{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void getEstimatedSizeInBytes_defaults_to_the_length_of_toJsonBytes() {
+        doReturn("{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8)).when(event).toJsonBytes();
+
+        assertThat(event.getEstimatedSizeInBytes(), equalTo(13L));
+    }
+}
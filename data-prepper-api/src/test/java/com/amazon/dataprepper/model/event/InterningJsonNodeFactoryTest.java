@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InterningJsonNodeFactoryTest {
+    private static final String SERVICE_NAME = "frontend";
+
+    @AfterEach
+    void tearDown() {
+        InterningJsonNodeFactory.disable();
+    }
+
+    private static JacksonEvent createEvent(final Object serviceName) {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("serviceName", serviceName))
+                .build();
+    }
+
+    private static JsonNode getServiceNameNode(final JacksonEvent event) {
+        return event.getJsonNode().get("serviceName");
+    }
+
+    @Test
+    void events_do_not_share_values_when_interning_is_disabled() {
+        final JacksonEvent event = createEvent(new String(SERVICE_NAME));
+        final JacksonEvent otherEvent = createEvent(new String(SERVICE_NAME));
+
+        assertThat(getServiceNameNode(event), equalTo(getServiceNameNode(otherEvent)));
+        assertThat(getServiceNameNode(event), not(sameInstance(getServiceNameNode(otherEvent))));
+    }
+
+    @Test
+    void events_share_short_values_when_interning_is_enabled() throws IOException {
+        InterningJsonNodeFactory.enable(100, 16);
+
+        final JacksonEvent event = createEvent(new String(SERVICE_NAME));
+        final JacksonEvent eventFromJson = JacksonEvent.builder()
+                .withEventType("event")
+                .withJsonBytes("{\"serviceName\":\"frontend\"}".getBytes(StandardCharsets.UTF_8))
+                .build();
+        final JacksonEvent eventWithPut = createEvent("other");
+        eventWithPut.put("serviceName", new String(SERVICE_NAME));
+        final JacksonEvent decodedEvent = (JacksonEvent) JacksonEventCodec.smile().decode(JacksonEventCodec.smile().encode(event));
+
+        assertThat(getServiceNameNode(eventFromJson), sameInstance(getServiceNameNode(event)));
+        assertThat(getServiceNameNode(eventWithPut), sameInstance(getServiceNameNode(event)));
+        assertThat(getServiceNameNode(decodedEvent), sameInstance(getServiceNameNode(event)));
+        assertThat(eventWithPut.get("serviceName", String.class), equalTo(SERVICE_NAME));
+    }
+
+    @Test
+    void events_do_not_share_values_longer_than_the_maximum_length() {
+        InterningJsonNodeFactory.enable(100, SERVICE_NAME.length() - 1);
+
+        final JacksonEvent event = createEvent(new String(SERVICE_NAME));
+        final JacksonEvent otherEvent = createEvent(new String(SERVICE_NAME));
+
+        assertThat(getServiceNameNode(event), not(sameInstance(getServiceNameNode(otherEvent))));
+    }
+
+    @Test
+    void least_recently_used_values_are_evicted() {
+        InterningJsonNodeFactory.enable(10, 64);
+
+        final JacksonEvent event = createEvent(new String(SERVICE_NAME));
+        for (int i = 0; i < 1000; i++) {
+            createEvent(UUID.randomUUID().toString());
+        }
+        final JacksonEvent otherEvent = createEvent(new String(SERVICE_NAME));
+
+        assertThat(getServiceNameNode(event), not(sameInstance(getServiceNameNode(otherEvent))));
+    }
+
+    @Test
+    void disable_stops_interning() {
+        InterningJsonNodeFactory.enable(100, 16);
+        final JacksonEvent event = createEvent(new String(SERVICE_NAME));
+
+        InterningJsonNodeFactory.disable();
+        final JacksonEvent otherEvent = createEvent(new String(SERVICE_NAME));
+
+        assertThat(getServiceNameNode(event), not(sameInstance(getServiceNameNode(otherEvent))));
+    }
+
+    @Test
+    void textNode_with_null_returns_null() {
+        InterningJsonNodeFactory.enable(100, 16);
+
+        assertThat(InterningJsonNodeFactory.getInstance().textNode(null), nullValue());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 16", "-1, 16", "100, 0", "100, -1"})
+    void enable_with_a_non_positive_argument_throws(final int maximumSize, final int maximumLength) {
+        assertThrows(IllegalArgumentException.class, () -> InterningJsonNodeFactory.enable(maximumSize, maximumLength));
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.amazon.dataprepper.model.log.JacksonLog;
+import com.amazon.dataprepper.model.metric.JacksonGauge;
+import com.amazon.dataprepper.model.metric.JacksonHistogram;
+import com.amazon.dataprepper.model.metric.JacksonSum;
+import com.amazon.dataprepper.model.metric.JacksonSummary;
+import com.amazon.dataprepper.model.trace.DefaultTraceGroupFields;
+import com.amazon.dataprepper.model.trace.JacksonSpan;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JacksonEventCodecTest {
+    private static final Instant TIME_RECEIVED = Instant.ofEpochSecond(1_660_000_000L, 123_456_789);
+
+    private static Stream<Arguments> codecs() {
+        return Stream.of(
+                Arguments.of(JacksonEventCodec.json(), "application/json"),
+                Arguments.of(JacksonEventCodec.smile(), "application/x-jackson-smile"),
+                Arguments.of(JacksonEventCodec.cbor(), "application/cbor"));
+    }
+
+    private static Map<String, Object> createData() {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("message", UUID.randomUUID().toString());
+        data.put("count", 42);
+        data.put("ratio", 0.5);
+        data.put("enabled", true);
+        data.put("missing", null);
+        data.put("tags", Arrays.asList("a", "b"));
+        data.put("nested", Collections.singletonMap("key", Long.MAX_VALUE));
+        return data;
+    }
+
+    private static JacksonEvent createEvent(final Map<String, Object> data) {
+        return JacksonEvent.builder()
+                .withEventType("LOG")
+                .withTimeReceived(TIME_RECEIVED)
+                .withEventMetadataAttributes(Collections.singletonMap("attribute", "value"))
+                .withData(data)
+                .build();
+    }
+
+    private static void assertEventEquals(final Event actual, final Event expected) {
+        assertThat(actual, instanceOf(JacksonEvent.class));
+        assertThat(actual.getMetadata().getEventType(), equalTo(expected.getMetadata().getEventType()));
+        assertThat(actual.getMetadata().getTimeReceived(), equalTo(expected.getMetadata().getTimeReceived()));
+        assertThat(actual.getMetadata().getAttributes(), equalTo(expected.getMetadata().getAttributes()));
+        assertThat(actual.toMap(), equalTo(expected.toMap()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void decode_restores_the_encoded_event(final JacksonEventCodec objectUnderTest, final String mediaType) throws IOException {
+        final JacksonEvent event = createEvent(createData());
+
+        final Event decodedEvent = objectUnderTest.decode(objectUnderTest.encode(event));
+
+        assertEventEquals(decodedEvent, event);
+        assertThat(objectUnderTest.getMediaType(), equalTo(mediaType));
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void decoded_event_can_be_modified(final JacksonEventCodec objectUnderTest, final String mediaType) throws IOException {
+        final Event decodedEvent = objectUnderTest.decode(objectUnderTest.encode(createEvent(createData())));
+
+        decodedEvent.put("nested/other", "value");
+        decodedEvent.delete("message");
+
+        assertThat(decodedEvent.get("nested/other", String.class), equalTo("value"));
+        assertThat(decodedEvent.containsKey("message"), is(false));
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void encode_with_an_Event_which_is_not_a_JacksonEvent_encodes_its_map(final JacksonEventCodec objectUnderTest, final String mediaType) throws IOException {
+        final JacksonEvent jacksonEvent = createEvent(createData());
+        final Event event = mock(Event.class);
+        when(event.getMetadata()).thenReturn(jacksonEvent.getMetadata());
+        when(event.toMap()).thenReturn(jacksonEvent.toMap());
+
+        assertEventEquals(objectUnderTest.decode(objectUnderTest.encode(event)), jacksonEvent);
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void decode_restores_events_embedded_in_a_document(final JacksonEventCodec objectUnderTest, final String mediaType) throws IOException {
+        final List<JacksonEvent> events = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            events.add(createEvent(createData()));
+        }
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final JsonGenerator generator = objectUnderTest.getJsonFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+            for (final Event event : events) {
+                objectUnderTest.encode(event, generator);
+            }
+            generator.writeEndArray();
+        }
+
+        final List<Event> decodedEvents = new ArrayList<>();
+        try (final JsonParser parser = objectUnderTest.getJsonFactory().createParser(outputStream.toByteArray())) {
+            parser.nextToken();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                decodedEvents.add(objectUnderTest.decode(parser));
+            }
+        }
+
+        assertThat(decodedEvents.size(), equalTo(events.size()));
+        for (int i = 0; i < events.size(); i++) {
+            assertEventEquals(decodedEvents.get(i), events.get(i));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void decode_with_bytes_which_are_not_an_encoded_event_throws(final JacksonEventCodec objectUnderTest, final String mediaType) throws IOException {
+        final List<byte[]> invalidEvents = Arrays.asList(
+                new byte[0],
+                encodeValue(objectUnderTest, Collections.singletonMap("message", "value")),
+                encodeValue(objectUnderTest, Arrays.asList(1, 2)),
+                encodeValue(objectUnderTest, Arrays.asList("LOG", "not a number")),
+                encodeValue(objectUnderTest, Arrays.asList("LOG", 1, "not a number")),
+                encodeValue(objectUnderTest, Arrays.asList("LOG", 1, 2, Collections.emptyMap(), Collections.emptyMap(), "extra")));
+
+        for (final byte[] invalidEvent : invalidEvents) {
+            assertThrows(IOException.class, () -> objectUnderTest.decode(invalidEvent));
+        }
+    }
+
+    @Test
+    void binary_codecs_encode_events_smaller_than_json() throws IOException {
+        final JacksonEvent event = createEvent(createData());
+
+        final int jsonSize = JacksonEventCodec.json().encode(event).length;
+
+        assertThat(JacksonEventCodec.smile().encode(event).length, lessThan(jsonSize));
+        assertThat(JacksonEventCodec.cbor().encode(event).length, lessThan(jsonSize));
+    }
+
+    @Test
+    void json_codec_encodes_an_array() throws IOException {
+        final JacksonEvent event = createEvent(Collections.singletonMap("message", "value"));
+
+        final String json = new String(JacksonEventCodec.json().encode(event), StandardCharsets.UTF_8);
+
+        assertThat(json, equalTo("[\"LOG\",1660000000,123456789,{\"attribute\":\"value\"},{\"message\":\"value\"}]"));
+    }
+
+    private static Stream<Arguments> typedEvents() {
+        final Map<String, Object> attributes = Collections.singletonMap("service.name", "frontend");
+        return Stream.of(
+                Arguments.of(JacksonSpan.builder()
+                        .withTraceId("trace-id")
+                        .withSpanId("span-id")
+                        .withName("span")
+                        .withKind("SPAN_KIND_SERVER")
+                        .withStartTime("2022-08-08T00:00:00Z")
+                        .withEndTime("2022-08-08T00:00:01Z")
+                        .withTraceGroup("group")
+                        .withDurationInNanos(1_000_000_000L)
+                        .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                        .withAttributes(attributes)
+                        .build(), JacksonSpan.class),
+                Arguments.of(JacksonLog.builder().withData(attributes).build(), JacksonLog.class),
+                Arguments.of(JacksonGauge.builder()
+                        .withName("gauge")
+                        .withTime("2022-08-08T00:00:00Z")
+                        .withValue(1.0)
+                        .withAttributes(attributes)
+                        .build(), JacksonGauge.class),
+                Arguments.of(JacksonSum.builder()
+                        .withName("sum")
+                        .withTime("2022-08-08T00:00:00Z")
+                        .withValue(1.0)
+                        .withIsMonotonic(true)
+                        .withAttributes(attributes)
+                        .build(), JacksonSum.class),
+                Arguments.of(JacksonHistogram.builder()
+                        .withName("histogram")
+                        .withTime("2022-08-08T00:00:00Z")
+                        .withSum(1.0)
+                        .withAttributes(attributes)
+                        .build(), JacksonHistogram.class),
+                Arguments.of(JacksonSummary.builder()
+                        .withName("summary")
+                        .withTime("2022-08-08T00:00:00Z")
+                        .withAttributes(attributes)
+                        .build(), JacksonSummary.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("typedEvents")
+    void decode_restores_the_class_of_typed_events(final JacksonEvent event, final Class<?> expectedClass) throws IOException {
+        for (final JacksonEventCodec objectUnderTest : Arrays.asList(JacksonEventCodec.json(), JacksonEventCodec.smile(), JacksonEventCodec.cbor())) {
+            final Event decodedEvent = objectUnderTest.decode(objectUnderTest.encode(event));
+
+            assertThat(decodedEvent, instanceOf(expectedClass));
+            assertThat(decodedEvent.getMetadata().getEventType(), equalTo(event.getMetadata().getEventType()));
+            assertThat(decodedEvent.toJsonString(), equalTo(event.toJsonString()));
+        }
+    }
+
+    @Test
+    void decoded_span_reads_its_fields_from_the_tree() throws IOException {
+        final JacksonSpan span = (JacksonSpan) typedEvents().findFirst().get().get()[0];
+
+        final JacksonSpan decodedSpan = (JacksonSpan) JacksonEventCodec.smile().decode(JacksonEventCodec.smile().encode(span));
+
+        assertThat(decodedSpan.getTraceId(), equalTo(span.getTraceId()));
+        assertThat(decodedSpan.getSpanId(), equalTo(span.getSpanId()));
+        assertThat(decodedSpan.getDurationInNanos(), equalTo(span.getDurationInNanos()));
+        assertThat(decodedSpan.getAttributes(), equalTo(span.getAttributes()));
+    }
+
+    @Test
+    void decode_of_a_metric_of_an_unknown_kind_returns_a_JacksonEvent() throws IOException {
+        final JacksonEvent event = JacksonEvent.builder()
+                .withEventType("METRIC")
+                .withData(Collections.singletonMap("kind", "UNKNOWN"))
+                .build();
+
+        final Event decodedEvent = JacksonEventCodec.smile().decode(JacksonEventCodec.smile().encode(event));
+
+        assertThat(decodedEvent.getClass(), equalTo(JacksonEvent.class));
+        assertThat(decodedEvent.toMap(), equalTo(event.toMap()));
+    }
+
+    private static byte[] encodeValue(final JacksonEventCodec codec, final Object value) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final JsonGenerator generator = codec.getJsonFactory().createGenerator(outputStream)) {
+            generator.writeObject(value);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -5,12 +5,15 @@
 
 package com.amazon.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.POJONode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -18,12 +21,19 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
@@ -301,6 +311,445 @@ public class JacksonEventTest {
         assertThrows(expectedThrowable, () -> event.delete(key));
     }
 
+    @Test
+    public void testPutAndGet_withEventKey() {
+        final EventKey eventKey = EventKey.of("/fizz/buzz");
+        final UUID value = UUID.randomUUID();
+
+        event.put(eventKey, value);
+
+        assertThat(event.get(eventKey, UUID.class), is(equalTo(value)));
+        assertThat(event.get("fizz/buzz", UUID.class), is(equalTo(value)));
+        assertThat(event.containsKey(eventKey), is(true));
+        assertThat(event.isValueAList(eventKey), is(false));
+    }
+
+    @Test
+    public void testGetList_withEventKey() {
+        final EventKey eventKey = EventKey.of("list");
+
+        assertThat(event.getList(eventKey, String.class), is(nullValue()));
+
+        event.put(eventKey, Arrays.asList("a", "b"));
+
+        assertThat(event.getList(eventKey, String.class), is(equalTo(Arrays.asList("a", "b"))));
+        assertThat(event.isValueAList(eventKey), is(true));
+    }
+
+    @Test
+    public void testGet_withEventKey_missing() {
+        assertThat(event.get(EventKey.of("missing"), String.class), is(nullValue()));
+        assertThat(event.containsKey(EventKey.of("missing")), is(false));
+    }
+
+    @Test
+    public void testDelete_withEventKey() {
+        final EventKey nestedKey = EventKey.of("foo/bar");
+        final EventKey topLevelKey = EventKey.of("fizz");
+        event.put(nestedKey, "value");
+        event.put(topLevelKey, "value");
+
+        event.delete(nestedKey);
+        event.delete(topLevelKey);
+        event.delete(EventKey.of("missing/key"));
+
+        assertThat(event.containsKey(nestedKey), is(false));
+        assertThat(event.containsKey(topLevelKey), is(false));
+        assertThat(event.containsKey("foo"), is(true));
+    }
+
+    @Test
+    public void testTypedGetters_readValuesOfTheirType() {
+        final Map<String, Object> map = Collections.singletonMap("fizz", "buzz");
+        event.put("string", "value");
+        event.put("integer", 42);
+        event.put("long", Long.MAX_VALUE);
+        event.put("double", 1.5);
+        event.put("boolean", true);
+        event.put("map", map);
+
+        assertThat(event.getString(EventKey.of("string")), is(equalTo("value")));
+        assertThat(event.getInteger(EventKey.of("integer")), is(equalTo(42)));
+        assertThat(event.getLong(EventKey.of("long")), is(equalTo(Long.MAX_VALUE)));
+        assertThat(event.getLong(EventKey.of("integer")), is(equalTo(42L)));
+        assertThat(event.getDouble(EventKey.of("double")), is(equalTo(1.5)));
+        assertThat(event.getDouble(EventKey.of("integer")), is(equalTo(42.0)));
+        assertThat(event.getBoolean(EventKey.of("boolean")), is(true));
+        assertThat(event.getMap(EventKey.of("map")), is(equalTo(map)));
+        assertThat(event.toJsonString(),
+                is(equalTo("{\"string\":\"value\",\"integer\":42,\"long\":" + Long.MAX_VALUE + ",\"double\":1.5,\"boolean\":true,\"map\":{\"fizz\":\"buzz\"}}")));
+    }
+
+    @Test
+    public void testTypedGetters_mapValuesOfOtherTypes() {
+        event.put("integer", 42);
+        event.put("integerString", "42");
+        event.put("doubleString", "1.5");
+        event.put("booleanString", "true");
+
+        assertThat(event.getString(EventKey.of("integer")), is(equalTo("42")));
+        assertThat(event.getInteger(EventKey.of("integerString")), is(equalTo(42)));
+        assertThat(event.getLong(EventKey.of("integerString")), is(equalTo(42L)));
+        assertThat(event.getDouble(EventKey.of("doubleString")), is(equalTo(1.5)));
+        assertThat(event.getBoolean(EventKey.of("booleanString")), is(true));
+    }
+
+    @Test
+    public void testTypedGetters_withMissingOrNullValue_returnNull() {
+        event.put("null", null);
+
+        for (final String key : Arrays.asList("missing", "null")) {
+            final EventKey eventKey = EventKey.of(key);
+            assertThat(event.getString(eventKey), is(nullValue()));
+            assertThat(event.getInteger(eventKey), is(nullValue()));
+            assertThat(event.getLong(eventKey), is(nullValue()));
+            assertThat(event.getDouble(eventKey), is(nullValue()));
+            assertThat(event.getBoolean(eventKey), is(nullValue()));
+            assertThat(event.getMap(eventKey), is(nullValue()));
+        }
+        assertThat(event.containsKey("null"), is(true));
+    }
+
+    @Test
+    public void testTypedGetters_withUnmappableValue_throwsRuntimeException() {
+        event.put("long", Long.MAX_VALUE);
+        event.put("string", "value");
+
+        assertThrows(RuntimeException.class, () -> event.getInteger(EventKey.of("long")));
+        assertThrows(RuntimeException.class, () -> event.getMap(EventKey.of("string")));
+    }
+
+    @Test
+    public void testBuild_withJsonBytes_returnsTheBytesUntilModified() {
+        final String json = "{ \"foo\": \"bar\", \"fizz\": { \"buzz\": 42 } }";
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonBytes(json.getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        assertThat(event.toJsonString(), is(equalTo(json)));
+        assertThat(event.get("fizz/buzz", Integer.class), is(equalTo(42)));
+        assertThat(event.toMap(), is(equalTo(Map.of("foo", "bar", "fizz", Map.of("buzz", 42)))));
+        assertThat(event.toJsonString(), is(equalTo(json)));
+
+        event.put("foo", "baz");
+
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":\"baz\",\"fizz\":{\"buzz\":42}}")));
+    }
+
+    @Test
+    public void testGetJsonNode_withJsonBytes_fromConcurrentThreads_buildsOneTree() throws Exception {
+        final int threads = 8;
+        final JacksonEvent jsonBytesEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonBytes("{\"foo\": \"bar\"}".getBytes(StandardCharsets.UTF_8))
+                .build();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<JsonNode>> futures = IntStream.range(0, threads)
+                    .mapToObj(i -> executorService.submit(() -> {
+                        startLatch.await();
+                        return jsonBytesEvent.getJsonNode();
+                    }))
+                    .collect(Collectors.toList());
+            startLatch.countDown();
+
+            final JsonNode jsonNode = jsonBytesEvent.getJsonNode();
+            for (final Future<JsonNode> future : futures) {
+                assertThat(future.get(), is(sameInstance(jsonNode)));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDelete_withJsonBytes_modifiesTheEvent() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonBytes("{\"foo\": \"bar\"}".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        event.delete("foo");
+
+        assertThat(event.toJsonString(), is(equalTo("{}")));
+    }
+
+    @Test
+    public void testBuild_withInvalidJsonBytes_throwsOnFirstAccess() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonBytes("{\"foo\"".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> event.get("foo", String.class));
+    }
+
+    @Test
+    public void testBuild_withDataAfterJsonBytes_usesTheData() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonBytes("{\"foo\": \"bar\"}".getBytes(StandardCharsets.UTF_8))
+                .withData(Collections.singletonMap("fizz", "buzz"))
+                .build();
+
+        assertThat(event.toJsonString(), is(equalTo("{\"fizz\":\"buzz\"}")));
+    }
+
+    @Test
+    public void testToJsonBytes_isCachedUntilModified() {
+        event.put("foo", "bar");
+
+        final byte[] jsonBytes = event.toJsonBytes();
+        final String jsonString = event.toJsonString();
+
+        assertThat(new String(jsonBytes, StandardCharsets.UTF_8), is(equalTo("{\"foo\":\"bar\"}")));
+        assertThat(jsonString, is(equalTo("{\"foo\":\"bar\"}")));
+        assertThat(event.toJsonBytes(), is(sameInstance(jsonBytes)));
+        assertThat(event.toJsonString(), is(sameInstance(jsonString)));
+
+        event.get("foo", String.class);
+        assertThat(event.toJsonBytes(), is(sameInstance(jsonBytes)));
+
+        event.put("fizz", "buzz");
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":\"bar\",\"fizz\":\"buzz\"}")));
+
+        final byte[] modifiedJsonBytes = event.toJsonBytes();
+        event.delete("fizz");
+        assertThat(event.toJsonBytes(), is(not(sameInstance(modifiedJsonBytes))));
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":\"bar\"}")));
+    }
+
+    @Test
+    public void testCopy_isModifiedIndependently() {
+        event.put("foo", "bar");
+        event.put("fizz/buzz", 42);
+        event.put("fizz/bang", "boom");
+        final JacksonEvent original = (JacksonEvent) event;
+
+        final JacksonEvent copy = original.copy();
+        copy.put("fizz/buzz", 43);
+        copy.delete("fizz/bang");
+        copy.put("new", "value");
+
+        assertThat(original.toMap(), is(equalTo(Map.of("foo", "bar", "fizz", Map.of("buzz", 42, "bang", "boom")))));
+        assertThat(copy.toMap(), is(equalTo(Map.of("foo", "bar", "fizz", Map.of("buzz", 43), "new", "value"))));
+
+        original.delete("foo");
+
+        assertThat(original.toMap(), is(equalTo(Map.of("fizz", Map.of("buzz", 42, "bang", "boom")))));
+        assertThat(copy.get("foo", String.class), is(equalTo("bar")));
+        assertThat(copy.getMetadata(), is(sameInstance(original.getMetadata())));
+    }
+
+    @Test
+    public void testCopy_copiesOnlyThePathToTheModifiedKey() {
+        event.put("fizz/buzz", 42);
+        event.put("foo/bar", "baz");
+        final JacksonEvent original = (JacksonEvent) event;
+
+        final JacksonEvent copy = original.copy();
+        assertThat(copy.getJsonNode(), is(sameInstance(original.getJsonNode())));
+
+        copy.put("fizz/buzz", 43);
+        final JsonNode copiedFizz = copy.getJsonNode().get("fizz");
+        copy.put("fizz/bang", "boom");
+
+        assertThat(copy.getJsonNode(), is(not(sameInstance(original.getJsonNode()))));
+        assertThat(copiedFizz, is(not(sameInstance(original.getJsonNode().get("fizz")))));
+        assertThat(copy.getJsonNode().get("fizz"), is(sameInstance(copiedFizz)));
+        assertThat(copy.getJsonNode().get("foo"), is(sameInstance(original.getJsonNode().get("foo"))));
+    }
+
+    @Test
+    public void testCopy_withArrays_isModifiedIndependently() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("list", Arrays.asList(Map.of("x", 1, "y", 2), Map.of("x", 3))))
+                .build();
+        final JacksonEvent original = (JacksonEvent) event;
+
+        final JacksonEvent copy = original.copy();
+        copy.put("list/0/x", 10);
+        copy.delete("list/1/x");
+
+        assertThat(original.toMap(), is(equalTo(Map.of("list", Arrays.asList(Map.of("x", 1, "y", 2), Map.of("x", 3))))));
+        assertThat(copy.toMap(), is(equalTo(Map.of("list", Arrays.asList(Map.of("x", 10, "y", 2), Map.of())))));
+    }
+
+    @Test
+    public void testCopy_deleteOfAMissingKey_doesNothing() {
+        event.put("foo", "bar");
+
+        final JacksonEvent copy = ((JacksonEvent) event).copy();
+        copy.delete("fizz/buzz");
+
+        assertThat(copy.toMap(), is(equalTo(Map.of("foo", "bar"))));
+    }
+
+    @Test
+    public void testCopy_sharesTheSerializedFormUntilModified() {
+        event.put("foo", "bar");
+        final byte[] jsonBytes = event.toJsonBytes();
+
+        final JacksonEvent copy = ((JacksonEvent) event).copy();
+
+        assertThat(copy.toJsonBytes(), is(sameInstance(jsonBytes)));
+
+        copy.put("foo", "baz");
+
+        assertThat(copy.toJsonString(), is(equalTo("{\"foo\":\"baz\"}")));
+        assertThat(event.toJsonBytes(), is(sameInstance(jsonBytes)));
+    }
+
+    @Test
+    public void testCopy_withJsonBytes_isModifiedIndependently() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonBytes("{\"foo\": {\"bar\": 1}}".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        final JacksonEvent copy = ((JacksonEvent) event).copy();
+        copy.put("foo/bar", 2);
+
+        assertThat(event.get("foo/bar", Integer.class), is(equalTo(1)));
+        assertThat(copy.get("foo/bar", Integer.class), is(equalTo(2)));
+    }
+
+    @Test
+    public void testCopy_ofACopy_isModifiedIndependently() {
+        event.put("foo/bar", 1);
+        final JacksonEvent original = (JacksonEvent) event;
+
+        final JacksonEvent firstCopy = original.copy();
+        firstCopy.put("foo/bar", 2);
+        final JacksonEvent secondCopy = firstCopy.copy();
+        secondCopy.put("foo/bar", 3);
+        firstCopy.put("foo/baz", 4);
+
+        assertThat(original.toMap(), is(equalTo(Map.of("foo", Map.of("bar", 1)))));
+        assertThat(firstCopy.toMap(), is(equalTo(Map.of("foo", Map.of("bar", 2, "baz", 4)))));
+        assertThat(secondCopy.toMap(), is(equalTo(Map.of("foo", Map.of("bar", 3)))));
+    }
+
+    @Test
+    public void testGetEstimatedSizeInBytes_isUpdatedWithEachModification() {
+        event.put("foo", "bar");
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonBytes().length)));
+
+        event.put("fizz/buzz/bang", 42);
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonBytes().length)));
+
+        event.put("foo", Arrays.asList(1.5, true, null, "value"));
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonBytes().length)));
+
+        event.put("foo/3", Map.of("key", "a longer value"));
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonBytes().length)));
+
+        event.put("bytes", new byte[] {1, 2, 3, 4, 5});
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonBytes().length)));
+
+        event.delete("fizz/buzz/bang");
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonBytes().length)));
+
+        event.delete("fizz/buzz/missing");
+        event.delete("foo");
+        event.delete("bytes");
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonBytes().length)));
+
+        event.delete("fizz");
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo(2L)));
+    }
+
+    @Test
+    public void testGetEstimatedSizeInBytes_withNonAsciiCharacters_countsTheirUtf8Bytes() {
+        event.put("a", "x");
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonBytes().length)));
+
+        event.put("b", "\u65e5\u672c\u8a9e\u65e5\u672c\u8a9e");
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo(34L)));
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonBytes().length)));
+
+        event.delete("b");
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonBytes().length)));
+    }
+
+    @Test
+    public void testGetEstimatedSizeInBytes_withNonAsciiKeys_countsTheirUtf8Bytes() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Collections.singletonMap("\u00e9t\u00e9", "\u65e5\u672c"))
+                .build();
+
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonBytes().length)));
+    }
+
+    @Test
+    public void testGetEstimatedSizeInBytes_withUnpairedSurrogate_isAnUpperBound() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Collections.singletonMap("k", "\uD800"))
+                .build();
+
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo(11L)));
+    }
+
+    @Test
+    public void testGetEstimatedSizeInBytes_withJsonBytes_isTheirLength() {
+        final byte[] jsonBytes = "{ \"foo\": \"bar\" }".getBytes(StandardCharsets.UTF_8);
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonBytes(jsonBytes)
+                .build();
+
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) jsonBytes.length)));
+
+        event.put("fizz", "buzz");
+
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) jsonBytes.length + "\"fizz\":\"buzz\",".length())));
+    }
+
+    @Test
+    public void testGetEstimatedSizeInBytes_afterToJsonBytes_isTheirLength() {
+        event.put("foo", "\u00e9t\u00e9");
+
+        final byte[] jsonBytes = event.toJsonBytes();
+
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo((long) jsonBytes.length)));
+    }
+
+    @Test
+    public void testGetEstimatedSizeInBytes_ofACopy_isUpdatedIndependently() {
+        event.put("foo", "bar");
+        final long estimatedSizeInBytes = event.getEstimatedSizeInBytes();
+
+        final JacksonEvent copy = ((JacksonEvent) event).copy();
+        copy.put("fizz", "buzz");
+
+        assertThat(event.getEstimatedSizeInBytes(), is(equalTo(estimatedSizeInBytes)));
+        assertThat(copy.getEstimatedSizeInBytes(), is(equalTo((long) copy.toJsonBytes().length)));
+    }
+
+    @Test
+    public void testToJsonBytes_withUnserializableTree_throwsRuntimeException() {
+        event = new JacksonEvent(JacksonEvent.builder().withEventType(eventType)) {
+            @Override
+            protected JsonNode getJsonNodeToSerialize() {
+                return new POJONode(new Object());
+            }
+        };
+
+        assertThrows(RuntimeException.class, () -> event.toJsonBytes());
+    }
+
+    @Test
+    public void testEventKey_withNullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> event.put((EventKey) null, UUID.randomUUID()));
+        assertThrows(NullPointerException.class, () -> event.get((EventKey) null, String.class));
+        assertThrows(NullPointerException.class, () -> event.delete((EventKey) null));
+    }
+
     @Test
     public void testToString_withEmptyData() {
         final String result = event.toJsonString();
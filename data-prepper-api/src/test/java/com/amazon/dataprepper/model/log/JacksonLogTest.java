@@ -10,10 +10,13 @@ import com.amazon.dataprepper.model.event.EventMetadata;
 import com.amazon.dataprepper.model.event.JacksonEvent;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JacksonLogTest {
@@ -49,4 +52,19 @@ public class JacksonLogTest {
         assertThat(logBuilder, is(notNullValue()));
         assertThrows(IllegalArgumentException.class, logBuilder::build);
     }
+
+    @Test
+    public void testCopy_returnsAnIndependentLog() {
+        final JacksonLog log = JacksonLog.builder()
+                .withData(Map.of("message", "value"))
+                .getThis()
+                .build();
+
+        final JacksonLog copy = log.copy();
+        copy.put("message", "copyValue");
+
+        assertThat(copy.get("message", String.class), is(equalTo("copyValue")));
+        assertThat(copy.getMetadata(), is(sameInstance(log.getMetadata())));
+        assertThat(log.get("message", String.class), is(equalTo("value")));
+    }
 }
@@ -20,6 +20,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class JacksonGaugeTest {
@@ -139,4 +140,15 @@ class JacksonGaugeTest {
         final String result = gauge.toJsonString();
         assertThat(result, CoreMatchers.is(CoreMatchers.equalTo(String.format("{\"unit\":\"unit\",\"kind\":\"GAUGE\",\"name\":\"name\",\"description\":\"description\",\"startTime\":\"%s\",\"time\":\"%s\",\"serviceName\":\"service\",\"value\":1.0,\"foo\":\"bar\",\"testObject\":{\"field1\":\"%s\"},\"list\":[1,4,5],\"key1\":%s,\"key2\":\"%s\"}", TEST_START_TIME, TEST_TIME, value, TEST_TIME_KEY1, TEST_KEY2))));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCopy_returnsAnIndependentGauge() {
+        final JacksonGauge copy = gauge.copy();
+        copy.put("name", "copyName");
+
+        assertThat(copy.getName(), is(equalTo("copyName")));
+        assertThat(copy.getValue(), is(equalTo(TEST_VALUE)));
+        assertThat(copy.getMetadata(), is(sameInstance(gauge.getMetadata())));
+        assertThat(gauge.getName(), is(equalTo(TEST_NAME)));
+    }
+}
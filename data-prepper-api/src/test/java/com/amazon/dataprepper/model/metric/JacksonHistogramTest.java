@@ -20,6 +20,7 @@ import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class JacksonHistogramTest {
@@ -170,4 +171,15 @@ class JacksonHistogramTest {
         histogram.toJsonString();
         assertThat(histogram.getAttributes(),is(anEmptyMap()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCopy_returnsAnIndependentHistogram() {
+        final JacksonHistogram copy = histogram.copy();
+        copy.put("name", "copyName");
+
+        assertThat(copy.getName(), is(equalTo("copyName")));
+        assertThat(copy.getCount(), is(equalTo(TEST_COUNT)));
+        assertThat(copy.getMetadata(), is(sameInstance(histogram.getMetadata())));
+        assertThat(histogram.getName(), is(equalTo(TEST_NAME)));
+    }
+}
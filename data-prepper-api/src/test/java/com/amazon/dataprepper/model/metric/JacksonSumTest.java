@@ -17,6 +17,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JacksonSumTest {
@@ -143,4 +144,15 @@ public class JacksonSumTest {
         builder.withTime("");
         assertThrows(IllegalArgumentException.class, builder::build);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCopy_returnsAnIndependentSum() {
+        final JacksonSum copy = sum.copy();
+        copy.put("name", "copyName");
+
+        assertThat(copy.getName(), is(equalTo("copyName")));
+        assertThat(copy.getValue(), is(equalTo(TEST_VALUE)));
+        assertThat(copy.getMetadata(), is(sameInstance(sum.getMetadata())));
+        assertThat(sum.getName(), is(equalTo(TEST_NAME)));
+    }
+}
@@ -20,6 +20,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JacksonSummaryTest {
@@ -149,4 +150,15 @@ public class JacksonSummaryTest {
         builder.withTime("");
         assertThrows(IllegalArgumentException.class, builder::build);
     }
+
+    @Test
+    public void testCopy_returnsAnIndependentSummary() {
+        final JacksonSummary copy = summary.copy();
+        copy.put("name", "copyName");
+
+        assertThat(copy.getName(), is(equalTo("copyName")));
+        assertThat(copy.getCount(), is(equalTo(TEST_COUNT)));
+        assertThat(copy.getMetadata(), is(sameInstance(summary.getMetadata())));
+        assertThat(summary.getName(), is(equalTo(TEST_NAME)));
+    }
 }
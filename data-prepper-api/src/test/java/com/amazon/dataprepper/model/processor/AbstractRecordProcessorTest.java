@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.processor;
+
+import com.amazon.dataprepper.metrics.MetricNames;
+import com.amazon.dataprepper.metrics.MetricsTestUtil;
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.record.Record;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Statistic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AbstractRecordProcessorTest {
+    private static final String PROCESSOR_NAME = "testProcessor";
+    private static final String PIPELINE_NAME = "testPipeline";
+
+    @BeforeEach
+    void setUp() {
+        MetricsTestUtil.initMetrics();
+    }
+
+    @Test
+    void execute_returns_the_input_records_if_no_record_is_replaced_or_dropped() {
+        final List<Record<String>> records = Arrays.asList(new Record<>("Value1"), new Record<>("Value2"));
+        final RecordProcessorImpl processor = new RecordProcessorImpl(PluginMetrics.fromNames(PROCESSOR_NAME, PIPELINE_NAME));
+
+        final Collection<Record<String>> processedRecords = processor.execute(records);
+
+        assertThat(processedRecords, sameInstance(records));
+        assertThat(getMeasurement(MetricNames.RECORDS_IN, Statistic.COUNT), equalTo(2.0));
+        assertThat(getMeasurement(MetricNames.RECORDS_OUT, Statistic.COUNT), equalTo(2.0));
+    }
+
+    @Test
+    void execute_returns_the_processed_records_without_dropped_records() {
+        final Record<String> replacedRecord = new Record<>("replace");
+        final Record<String> keptRecord = new Record<>("Value1");
+        final PluginSetting pluginSetting = new PluginSetting(PROCESSOR_NAME, Collections.emptyMap());
+        pluginSetting.setPipelineName(PIPELINE_NAME);
+        final RecordProcessorImpl processor = new RecordProcessorImpl(pluginSetting);
+
+        final Collection<Record<String>> processedRecords = processor.execute(
+                Arrays.asList(new Record<>("drop"), replacedRecord, keptRecord));
+
+        assertThat(processedRecords.size(), equalTo(2));
+        assertThat(processedRecords.iterator().next().getData(), equalTo("replaced"));
+        assertThat(getMeasurement(MetricNames.RECORDS_IN, Statistic.COUNT), equalTo(3.0));
+        assertThat(getMeasurement(MetricNames.RECORDS_OUT, Statistic.COUNT), equalTo(2.0));
+    }
+
+    @Test
+    void recordBatchMetrics_records_the_processor_metrics() {
+        final RecordProcessorImpl processor = new RecordProcessorImpl(PluginMetrics.fromNames(PROCESSOR_NAME, PIPELINE_NAME));
+
+        processor.recordBatchMetrics(5, 4, TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertThat(getMeasurement(MetricNames.RECORDS_IN, Statistic.COUNT), equalTo(5.0));
+        assertThat(getMeasurement(MetricNames.RECORDS_OUT, Statistic.COUNT), equalTo(4.0));
+        assertThat(getMeasurement(MetricNames.TIME_ELAPSED, Statistic.COUNT), equalTo(1.0));
+        assertThat(getMeasurement(MetricNames.TIME_ELAPSED, Statistic.TOTAL_TIME), equalTo(0.1));
+    }
+
+    private static double getMeasurement(final String metricName, final Statistic statistic) {
+        final List<Measurement> measurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PROCESSOR_NAME).add(metricName).toString());
+        return MetricsTestUtil.getMeasurementFromList(measurements, statistic).getValue();
+    }
+
+    public static class RecordProcessorImpl extends AbstractRecordProcessor<Record<String>> {
+        public RecordProcessorImpl(final PluginSetting pluginSetting) {
+            super(pluginSetting);
+        }
+
+        public RecordProcessorImpl(final PluginMetrics pluginMetrics) {
+            super(pluginMetrics);
+        }
+
+        @Override
+        public Record<String> processRecord(final Record<String> record) {
+            if ("drop".equals(record.getData())) {
+                return null;
+            }
+            if ("replace".equals(record.getData())) {
+                return new Record<>("replaced");
+            }
+            return record;
+        }
+
+        @Override
+        public void prepareForShutdown() {
+        }
+
+        @Override
+        public boolean isReadyForShutdown() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -5,6 +5,8 @@
 
 package com.amazon.dataprepper.model.record;
 
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
 import org.junit.Test;
 
 import java.util.HashMap;
@@ -72,6 +74,39 @@ public class RecordTests {
         assertThat(actualMetadataObjectMap, is(equalTo(metadataObjectMap)));
     }
 
+    @Test
+    public void testEstimatedSizeInBytes() {
+        assertThat(new Record<>(TEST_DATA).getEstimatedSizeInBytes(), is(equalTo((long) TEST_DATA.length())));
+        assertThat(new Record<>("\u00e9t\u00e9").getEstimatedSizeInBytes(), is(equalTo(5L)));
+        assertThat(new Record<>(new byte[10]).getEstimatedSizeInBytes(), is(equalTo(10L)));
+        assertThat(new Record<>(null).getEstimatedSizeInBytes(), is(equalTo(0L)));
+
+        final Event event = JacksonEvent.fromMessage(TEST_DATA);
+        assertThat(new Record<>(event).getEstimatedSizeInBytes(), is(equalTo((long) event.toJsonString().length())));
+    }
+
+    @Test
+    public void testEstimatedSizeInBytesIsCarriedWithTheRecord() {
+        final Event event = JacksonEvent.fromMessage(TEST_DATA);
+        final Record<Event> record = new Record<>(event);
+        final long estimatedSizeInBytes = record.getEstimatedSizeInBytes();
+
+        event.put("additional", TEST_RECORD_TYPE);
+
+        assertThat(record.getEstimatedSizeInBytes(), is(equalTo(estimatedSizeInBytes)));
+    }
+
+    @Test
+    public void testTimeWrittenNanos() {
+        final Record<String> record = new Record<>(TEST_DATA);
+        assertThat(record.getTimeWrittenNanos(), is(equalTo(Record.NOT_WRITTEN)));
+
+        final long timeWrittenNanos = System.nanoTime();
+        record.setTimeWrittenNanos(timeWrittenNanos);
+
+        assertThat(record.getTimeWrittenNanos(), is(equalTo(timeWrittenNanos)));
+    }
+
     @Test(expected = RuntimeException.class)
     public void testRecordMetadataWithoutRecordType() {
         final RecordMetadata recordMetadata = RecordMetadata.of(new HashMap<>());
@@ -26,6 +26,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JacksonSpanTest {
@@ -237,6 +238,50 @@ public class JacksonSpanTest {
         assertThat(traceGroupFields, is(equalTo(testTraceGroupFields)));
     }
 
+    @Test
+    public void testPutAndGetTypedFields() {
+        final String traceId = UUID.randomUUID().toString();
+        jacksonSpan.put("traceId", traceId);
+        jacksonSpan.put("durationInNanos", 100);
+
+        assertThat(jacksonSpan.getTraceId(), is(equalTo(traceId)));
+        assertThat(jacksonSpan.getDurationInNanos(), is(equalTo(100L)));
+        assertThat(jacksonSpan.getSpanId(), is(equalTo(TEST_SPAN_ID)));
+        assertThat(jacksonSpan.getServiceName(), is(equalTo(TEST_SERVICE_NAME)));
+    }
+
+    @Test
+    public void testDeleteAndGetTypedFields() {
+        jacksonSpan.delete("parentSpanId");
+
+        assertThat(jacksonSpan.getParentSpanId(), is(nullValue()));
+        assertThat(jacksonSpan.getTraceState(), is(equalTo(TEST_TRACE_STATE)));
+        assertThat(jacksonSpan.getName(), is(equalTo(TEST_NAME)));
+    }
+
+    @Test
+    public void testBuilder_reusedBuilder_doesNotModifyBuiltSpan() {
+        builder.withTraceId(UUID.randomUUID().toString())
+                .withAttributes(ImmutableMap.of("key3", "value"))
+                .build();
+
+        assertThat(jacksonSpan.getTraceId(), is(equalTo(TEST_TRACE_ID)));
+        assertThat(jacksonSpan.get("traceId", String.class), is(equalTo(TEST_TRACE_ID)));
+        assertThat(jacksonSpan.getAttributes(), is(equalTo(TEST_ATTRIBUTES)));
+    }
+
+    @Test
+    public void testCopy_returnsAnIndependentSpan() {
+        final JacksonSpan copy = jacksonSpan.copy();
+        copy.setTraceGroup("copyTraceGroup");
+
+        assertThat(copy.getTraceGroup(), is(equalTo("copyTraceGroup")));
+        assertThat(copy.getSpanId(), is(equalTo(TEST_SPAN_ID)));
+        assertThat(copy.getAttributes(), is(equalTo(TEST_ATTRIBUTES)));
+        assertThat(jacksonSpan.getTraceGroup(), is(equalTo(TEST_TRACE_GROUP)));
+        assertThat(jacksonSpan.toJsonString(), is(equalTo(builder.build().toJsonString())));
+    }
+
     @Test
     public void testToJsonStringAllParameters() throws JsonProcessingException {
         final String jsonResult = jacksonSpan.toJsonString();
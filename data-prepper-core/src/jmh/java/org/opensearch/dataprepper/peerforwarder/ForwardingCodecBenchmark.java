@@ -0,0 +1,161 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.amazon.dataprepper.model.event.DefaultEventMetadata;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.event.JacksonEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.opensearch.dataprepper.peerforwarder.model.BinaryWireEvents;
+import org.opensearch.dataprepper.peerforwarder.model.WireEvent;
+import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of writing and reading a batch of forwarded events as {@link WireEvents}, the JSON format of the
+ * {@link org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient}, with {@link BinaryWireEvents} written
+ * by the JSON, Smile and CBOR {@link ForwardingCodec}s. The events are log events created with a fixed seed, so that
+ * runs are comparable. The size of an encoded batch is printed when the benchmark of each format starts.
+ * <p>
+ * Run with {@code ./gradlew :data-prepper-core:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ForwardingCodecBenchmark {
+    private static final String WIRE_EVENTS = "wireEvents";
+    private static final String PLUGIN_ID = "aggregate";
+    private static final String PIPELINE_NAME = "log-pipeline";
+    private static final String[] LOG_LEVELS = {"DEBUG", "INFO", "WARN", "ERROR"};
+    private static final String[] HTTP_METHODS = {"GET", "POST", "PUT", "DELETE"};
+
+    @Param({"100"})
+    private int batchSize;
+
+    @Param({WIRE_EVENTS, "json", "smile", "cbor"})
+    private String format;
+
+    // The same configuration as the peerForwarderObjectMapper bean of PeerForwarderAppConfig
+    private final ObjectMapper objectMapper = new ObjectMapper(new YAMLFactory()).registerModule(new JavaTimeModule());
+
+    private JacksonEventCodec eventCodec;
+    private List<Event> events;
+    private byte[] encodedBatch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        eventCodec = WIRE_EVENTS.equals(format) ? null : ForwardingCodec.getByName(format).getEventCodec();
+        events = createEvents(batchSize);
+        encodedBatch = encode();
+        System.out.printf("Batch of %d events encoded as %s: %d bytes%n", batchSize, format, encodedBatch.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (eventCodec == null) {
+            return encodeWireEvents();
+        }
+        return new BinaryWireEvents(events, PLUGIN_ID, PIPELINE_NAME).encode(eventCodec);
+    }
+
+    @Benchmark
+    public List<Event> decode() throws IOException {
+        if (eventCodec == null) {
+            return decodeWireEvents();
+        }
+        return BinaryWireEvents.decode(eventCodec, encodedBatch).getEvents();
+    }
+
+    private byte[] encodeWireEvents() throws IOException {
+        final List<WireEvent> wireEventList = new ArrayList<>(events.size());
+        for (final Event event : events) {
+            wireEventList.add(new WireEvent(
+                    event.getMetadata().getEventType(),
+                    event.getMetadata().getTimeReceived(),
+                    event.getMetadata().getAttributes(),
+                    event.toJsonString()));
+        }
+        final WireEvents wireEvents = new WireEvents(wireEventList, PLUGIN_ID, PIPELINE_NAME);
+        return objectMapper.writeValueAsString(wireEvents).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<Event> decodeWireEvents() throws IOException {
+        final WireEvents wireEvents = objectMapper.readValue(
+                new String(encodedBatch, StandardCharsets.UTF_8), WireEvents.class);
+        final List<Event> decodedEvents = new ArrayList<>(wireEvents.getEvents().size());
+        for (final WireEvent wireEvent : wireEvents.getEvents()) {
+            decodedEvents.add(JacksonEvent.builder()
+                    .withEventMetadata(DefaultEventMetadata.builder()
+                            .withEventType(wireEvent.getEventType())
+                            .withTimeReceived(wireEvent.getEventTimeReceived())
+                            .withAttributes(wireEvent.getEventAttributes())
+                            .build())
+                    .withData(wireEvent.getEventData())
+                    .build());
+        }
+        return decodedEvents;
+    }
+
+    private static List<Event> createEvents(final int count) {
+        final Random random = new Random(42);
+        final Instant timeReceived = Instant.ofEpochSecond(1_660_000_000L);
+        final List<Event> createdEvents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Map<String, Object> request = new HashMap<>();
+            request.put("method", HTTP_METHODS[random.nextInt(HTTP_METHODS.length)]);
+            request.put("path", "/api/v1/orders/" + random.nextInt(100_000));
+            request.put("status", 200 + random.nextInt(4) * 100);
+            request.put("bytes", random.nextInt(50_000));
+
+            final Map<String, Object> data = new HashMap<>();
+            data.put("timestamp", timeReceived.plusMillis(i).toString());
+            data.put("level", LOG_LEVELS[random.nextInt(LOG_LEVELS.length)]);
+            data.put("host", "host-" + random.nextInt(16) + ".example.com");
+            data.put("clientip", "10.0." + random.nextInt(256) + "." + random.nextInt(256));
+            data.put("message", "Handled request " + random.nextLong() + " in " + random.nextInt(1000) + " ms");
+            data.put("latency", random.nextDouble());
+            data.put("request", request);
+            data.put("tags", Arrays.asList("web", "orders"));
+
+            createdEvents.add(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withTimeReceived(timeReceived.plusMillis(i))
+                    .withEventMetadataAttributes(Collections.singletonMap("source", "http"))
+                    .withData(data)
+                    .build());
+        }
+        return createdEvents;
+    }
+}
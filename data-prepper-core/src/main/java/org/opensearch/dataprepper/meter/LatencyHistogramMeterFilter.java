@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.meter;
+
+import com.amazon.dataprepper.metrics.MetricNames;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Publishes the event latency timers of the pipelines as percentile histograms, along with their 50th, 90th and 99th
+ * percentiles. These are the time since the events were received and the time they spent in the buffer, both taken
+ * when they are read from the buffer, and their end-to-end latency. The time elapsed in each processor and sink is
+ * only published the same way when enabled, since a histogram for each of them multiplies the number of series
+ * published. Other timers keep the configuration of their registry.
+ */
+public class LatencyHistogramMeterFilter implements MeterFilter {
+    static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+    static final List<String> LATENCY_TIMER_SUFFIXES = Collections.unmodifiableList(Arrays.asList(
+            ".timeSinceReceived",
+            ".bufferDwellTime",
+            ".endToEndLatency"));
+    // Processors and sinks share the name of this timer
+    static final String TIME_ELAPSED_SUFFIX = "." + MetricNames.TIME_ELAPSED;
+
+    private final boolean timeElapsedHistograms;
+
+    public LatencyHistogramMeterFilter() {
+        this(false);
+    }
+
+    /**
+     * @param timeElapsedHistograms whether to also publish the time elapsed in each processor and sink
+     */
+    public LatencyHistogramMeterFilter(final boolean timeElapsedHistograms) {
+        this.timeElapsedHistograms = timeElapsedHistograms;
+    }
+
+    @Override
+    public DistributionStatisticConfig configure(final Meter.Id id, final DistributionStatisticConfig config) {
+        if (id.getType() != Meter.Type.TIMER || !isHistogramTimer(id.getName())) {
+            return config;
+        }
+        return DistributionStatisticConfig.builder()
+                .percentilesHistogram(true)
+                .percentiles(PERCENTILES)
+                .build()
+                .merge(config);
+    }
+
+    private boolean isHistogramTimer(final String name) {
+        return LATENCY_TIMER_SUFFIXES.stream().anyMatch(name::endsWith)
+                || (timeElapsedHistograms && name.endsWith(TIME_ELAPSED_SUFFIX));
+    }
+}
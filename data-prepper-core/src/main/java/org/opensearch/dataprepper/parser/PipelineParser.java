@@ -17,12 +17,16 @@ import com.amazon.dataprepper.model.source.Source;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.parser.model.PipelineConfiguration;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.peerforwarder.PeerForwardingProcessorDecorator;
+import org.opensearch.dataprepper.pipeline.KeyAffinityProcessorDecorator;
 import org.opensearch.dataprepper.pipeline.Pipeline;
 import org.opensearch.dataprepper.pipeline.PipelineConnector;
+import org.opensearch.dataprepper.pipeline.PipelineSettings;
+import org.opensearch.dataprepper.pipeline.router.Router;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,15 +61,18 @@ public class PipelineParser {
     private final Map<String, PipelineConnector> sourceConnectorMap = new HashMap<>(); //TODO Remove this and rely only on pipelineMap
     private final PluginFactory pluginFactory;
     private final PeerForwarderProvider peerForwarderProvider;
+    private final ExpressionEvaluator<Boolean> expressionEvaluator;
 
     public PipelineParser(final String pipelineConfigurationFileLocation,
                           final PluginFactory pluginFactory,
                           final PeerForwarderProvider peerForwarderProvider,
-                          final DataPrepperConfiguration dataPrepperConfiguration) {
+                          final DataPrepperConfiguration dataPrepperConfiguration,
+                          final ExpressionEvaluator<Boolean> expressionEvaluator) {
         this.pipelineConfigurationFileLocation = pipelineConfigurationFileLocation;
         this.pluginFactory = Objects.requireNonNull(pluginFactory);
         this.peerForwarderProvider = Objects.requireNonNull(peerForwarderProvider);
         this.dataPrepperConfiguration = Objects.requireNonNull(dataPrepperConfiguration);
+        this.expressionEvaluator = Objects.requireNonNull(expressionEvaluator);
     }
 
     /**
@@ -148,39 +155,47 @@ public class PipelineParser {
             final Source source = pipelineSource.orElseGet(() ->
                     pluginFactory.loadPlugin(Source.class, sourceSetting));
 
-            LOG.info("Building buffer for the pipeline [{}]", pipelineName);
-            final Buffer buffer = pluginFactory.loadPlugin(Buffer.class, pipelineConfiguration.getBufferPluginSetting());
+            final Buffer buffer;
+            if (pipelineConfiguration.isDirectExecution()) {
+                buffer = null;
+            } else {
+                LOG.info("Building buffer for the pipeline [{}]", pipelineName);
+                buffer = pluginFactory.loadPlugin(Buffer.class, pipelineConfiguration.getBufferPluginSetting());
+            }
 
             LOG.info("Building processors for the pipeline [{}]", pipelineName);
             final int processorThreads = pipelineConfiguration.getWorkers();
 
+            final boolean keyAffinity = pipelineConfiguration.isKeyAffinity();
             final List<List<IdentifiedComponent<Processor>>> processorSets = pipelineConfiguration.getProcessorPluginSettings().stream()
-                    .map(this::newProcessor)
+                    .map(pluginSetting -> newProcessor(pluginSetting, keyAffinity))
                     .collect(Collectors.toList());
 
             final List<List<Processor>> decoratedProcessorSets = processorSets.stream()
-                    .map(processorComponentList -> processorComponentList.stream()
-                            .map(processorComponent -> {
-                                if (processorComponent.getComponent() instanceof RequiresPeerForwarding) {
-                                    return new PeerForwardingProcessorDecorator(
-                                            processorComponent.getComponent(), peerForwarderProvider, pipelineName, processorComponent.getName()
-                                    );
-                                }
-                                return processorComponent.getComponent();
-                            })
-                            .collect(Collectors.toList())
-                        ).collect(Collectors.toList());
-
-
-            final int readBatchDelay = pipelineConfiguration.getReadBatchDelay();
+                    .map(processorComponentList -> decorateProcessors(processorComponentList, pipelineName, keyAffinity))
+                    .collect(Collectors.toList());
 
             LOG.info("Building sinks for the pipeline [{}]", pipelineName);
             final List<Sink> sinks = pipelineConfiguration.getSinkPluginSettings().stream()
                     .map(this::buildSinkOrConnector)
                     .collect(Collectors.toList());
 
-            final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, decoratedProcessorSets, sinks, processorThreads, readBatchDelay,
-                    dataPrepperConfiguration.getProcessorShutdownTimeout(), dataPrepperConfiguration.getSinkShutdownTimeout());
+            final Router router = new Router(pipelineConfiguration.getRoutes(), pipelineConfiguration.getSinkRoutes(), expressionEvaluator);
+
+            final PipelineSettings pipelineSettings = PipelineSettings.builder()
+                    .withProcessorThreads(processorThreads)
+                    .withMinProcessorThreads(pipelineConfiguration.getMinWorkers())
+                    .withReadBatchTimeoutInMillis(pipelineConfiguration.getReadBatchDelay())
+                    .withMaxInFlightSinkBatches(pipelineConfiguration.getMaxInFlightSinkBatches())
+                    .withSinkExecutorSettings(pipelineConfiguration.getSinkExecutorSettings())
+                    .withLatencySampleRate(dataPrepperConfiguration.getLatencySampleRate())
+                    .withParallelProcessing(pipelineConfiguration.isParallelProcessing())
+                    .withDirectExecution(pipelineConfiguration.isDirectExecution())
+                    .withProcessorShutdownTimeout(dataPrepperConfiguration.getProcessorShutdownTimeout())
+                    .withSinkShutdownTimeout(dataPrepperConfiguration.getSinkShutdownTimeout())
+                    .build();
+            final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, decoratedProcessorSets, sinks, router,
+                    pipelineSettings);
             pipelineMap.put(pipelineName, pipeline);
         } catch (Exception ex) {
             //If pipeline construction errors out, we will skip that pipeline and proceed
@@ -191,11 +206,12 @@ public class PipelineParser {
 
     }
 
-    private List<IdentifiedComponent<Processor>> newProcessor(final PluginSetting pluginSetting) {
+    private List<IdentifiedComponent<Processor>> newProcessor(final PluginSetting pluginSetting, final boolean keyAffinity) {
         final List<Processor> processors = pluginFactory.loadPlugins(
                 Processor.class,
                 pluginSetting,
-                actualClass -> actualClass.isAnnotationPresent(SingleThread.class) ?
+                actualClass -> actualClass.isAnnotationPresent(SingleThread.class) ||
+                        (keyAffinity && RequiresPeerForwarding.class.isAssignableFrom(actualClass)) ?
                         pluginSetting.getNumberOfProcessWorkers() :
                         1);
 
@@ -204,6 +220,26 @@ public class PipelineParser {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Decorates the instances of processors which require peer forwarding. With key affinity, the instances of such a
+     * processor are confined to a worker each, and are decorated to only receive the events of the keys of their worker.
+     */
+    private List<Processor> decorateProcessors(final List<IdentifiedComponent<Processor>> processorComponentList,
+                                               final String pipelineName,
+                                               final boolean keyAffinity) {
+        List<Processor> processors = processorComponentList.stream()
+                .map(IdentifiedComponent::getComponent)
+                .collect(Collectors.toList());
+        if (!(processors.get(0) instanceof RequiresPeerForwarding)) {
+            return processors;
+        }
+        if (keyAffinity && processors.size() > 1) {
+            processors = KeyAffinityProcessorDecorator.decorateProcessors(processors);
+        }
+        return PeerForwardingProcessorDecorator.decorateProcessors(
+                processors, peerForwarderProvider, pipelineName, processorComponentList.get(0).getName());
+    }
+
     private Optional<Source> getSourceIfPipelineType(
             final String sourcePipelineName,
             final PluginSetting pluginSetting,
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.parser.config;
 
 import com.amazon.dataprepper.model.configuration.PluginModel;
+import com.amazon.dataprepper.model.event.InterningJsonNodeFactory;
 import org.opensearch.dataprepper.parser.DataPrepperDurationDeserializer;
 import org.opensearch.dataprepper.parser.model.DataPrepperConfiguration;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -66,4 +67,20 @@ public class DataPrepperAppConfiguration {
     public PluginModel authentication(final DataPrepperConfiguration dataPrepperConfiguration) {
         return dataPrepperConfiguration.getAuthentication();
     }
+
+    /**
+     * Enables the interning of short string values if configured, once and before any pipeline creates events, so
+     * that events share them.
+     */
+    @Bean
+    public InterningJsonNodeFactory interningJsonNodeFactory(final DataPrepperConfiguration dataPrepperConfiguration) {
+        final int valueInterningCacheSize = dataPrepperConfiguration.getValueInterningCacheSize();
+        if (valueInterningCacheSize > 0) {
+            final int valueInterningMaxLength = dataPrepperConfiguration.getValueInterningMaxLength();
+            LOG.info("Interning event values of up to {} characters in a cache of {} values",
+                    valueInterningMaxLength, valueInterningCacheSize);
+            InterningJsonNodeFactory.enable(valueInterningCacheSize, valueInterningMaxLength);
+        }
+        return InterningJsonNodeFactory.getInstance();
+    }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.parser.config;
 
 import org.opensearch.dataprepper.meter.EMFLoggingMeterRegistry;
+import org.opensearch.dataprepper.meter.LatencyHistogramMeterFilter;
 import org.opensearch.dataprepper.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.parser.model.MetricRegistryType;
 import org.opensearch.dataprepper.pipeline.server.CloudWatchMeterRegistryProvider;
@@ -80,7 +81,8 @@ public class MetricsConfig {
         return new JvmThreadMetrics();
     }
 
-    private void configureMetricRegistry(final Map<String, String> metricTags, final MeterRegistry meterRegistry) {
+    private void configureMetricRegistry(final DataPrepperConfiguration dataPrepperConfiguration, final MeterRegistry meterRegistry) {
+        final Map<String, String> metricTags = dataPrepperConfiguration.getMetricTags();
         final Map<String, String> metricTagsWithServiceName = new HashMap<>(metricTags);
         metricTagsWithServiceName.putIfAbsent(SERVICE_NAME, getServiceNameForMetrics());
         meterRegistry.config()
@@ -88,6 +90,7 @@ public class MetricsConfig {
                         metricTagsWithServiceName.entrySet().stream().map(e -> Tag.of(e.getKey(), e.getValue()))
                                 .collect(Collectors.toList())
                 );
+        meterRegistry.config().meterFilter(new LatencyHistogramMeterFilter(dataPrepperConfiguration.isTimeElapsedHistograms()));
 
     }
 
@@ -95,7 +98,7 @@ public class MetricsConfig {
     public PrometheusMeterRegistry prometheusMeterRegistry(final DataPrepperConfiguration dataPrepperConfiguration) {
         if (dataPrepperConfiguration.getMetricRegistryTypes().contains(MetricRegistryType.Prometheus)) {
             final PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
-            configureMetricRegistry(dataPrepperConfiguration.getMetricTags(), meterRegistry);
+            configureMetricRegistry(dataPrepperConfiguration, meterRegistry);
 
             return meterRegistry;
         }
@@ -129,7 +132,7 @@ public class MetricsConfig {
 
             try {
                 final CloudWatchMeterRegistry meterRegistry = cloudWatchMeterRegistryProvider.getCloudWatchMeterRegistry();
-                configureMetricRegistry(dataPrepperConfiguration.getMetricTags(), meterRegistry);
+                configureMetricRegistry(dataPrepperConfiguration, meterRegistry);
 
                 return meterRegistry;
             } catch (final SdkClientException e) {
@@ -146,7 +149,7 @@ public class MetricsConfig {
     public EMFLoggingMeterRegistry emfLoggingMeterRegistry(final DataPrepperConfiguration dataPrepperConfiguration) {
         if (dataPrepperConfiguration.getMetricRegistryTypes().contains(MetricRegistryType.EmbeddedMetricsFormat)) {
             final EMFLoggingMeterRegistry meterRegistry = new EMFLoggingMeterRegistry();
-            configureMetricRegistry(dataPrepperConfiguration.getMetricTags(), meterRegistry);
+            configureMetricRegistry(dataPrepperConfiguration, meterRegistry);
             return meterRegistry;
         } else {
             return null;
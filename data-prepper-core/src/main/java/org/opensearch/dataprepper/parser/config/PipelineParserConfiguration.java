@@ -6,25 +6,30 @@
 package org.opensearch.dataprepper.parser.config;
 
 import com.amazon.dataprepper.model.plugin.PluginFactory;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.parser.PipelineParser;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 
 @Configuration
 public class PipelineParserConfiguration {
 
     @Bean
+    @DependsOn("interningJsonNodeFactory")
     public PipelineParser pipelineParser(
             final DataPrepperArgs dataPrepperArgs,
             final PluginFactory pluginFactory,
             final PeerForwarderProvider peerForwarderProvider,
-            final DataPrepperConfiguration dataPrepperConfiguration
+            final DataPrepperConfiguration dataPrepperConfiguration,
+            final ExpressionEvaluator<Boolean> expressionEvaluator
             ) {
         return new PipelineParser(dataPrepperArgs.getPipelineConfigFileLocation(),
                 pluginFactory,
                 peerForwarderProvider,
-                dataPrepperConfiguration);
+                dataPrepperConfiguration,
+                expressionEvaluator);
     }
 }
@@ -23,6 +23,8 @@ import java.util.Map;
  */
 public class DataPrepperConfiguration {
     static final Duration DEFAULT_SHUTDOWN_DURATION = Duration.ofSeconds(10L);
+    static final double DEFAULT_LATENCY_SAMPLE_RATE = 0.1;
+    static final int DEFAULT_VALUE_INTERNING_MAX_LENGTH = 64;
 
     static final int MAX_TAGS_NUMBER = 3;
     private static final List<MetricRegistryType> DEFAULT_METRIC_REGISTRY_TYPE = Collections.singletonList(MetricRegistryType.Prometheus);
@@ -37,6 +39,10 @@ public class DataPrepperConfiguration {
     private PeerForwarderConfiguration peerForwarderConfiguration;
     private Duration processorShutdownTimeout;
     private Duration sinkShutdownTimeout;
+    private double latencySampleRate = DEFAULT_LATENCY_SAMPLE_RATE;
+    private int valueInterningCacheSize;
+    private int valueInterningMaxLength = DEFAULT_VALUE_INTERNING_MAX_LENGTH;
+    private boolean timeElapsedHistograms;
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper(new YAMLFactory());
 
@@ -57,7 +63,11 @@ public class DataPrepperConfiguration {
             @JsonProperty("metricTags") final Map<String, String> metricTags,
             @JsonProperty("peer_forwarder") final PeerForwarderConfiguration peerForwarderConfiguration,
             @JsonProperty("processorShutdownTimeout") final Duration processorShutdownTimeout,
-            @JsonProperty("sinkShutdownTimeout") final Duration sinkShutdownTimeout
+            @JsonProperty("sinkShutdownTimeout") final Duration sinkShutdownTimeout,
+            @JsonProperty("latencySampleRate") final Double latencySampleRate,
+            @JsonProperty("valueInterningCacheSize") final Integer valueInterningCacheSize,
+            @JsonProperty("valueInterningMaxLength") final Integer valueInterningMaxLength,
+            @JsonProperty("timeElapsedHistograms") final Boolean timeElapsedHistograms
             ) {
         this.authentication = authentication;
         setSsl(ssl);
@@ -78,6 +88,23 @@ public class DataPrepperConfiguration {
         if (this.sinkShutdownTimeout.isNegative()) {
             throw new IllegalArgumentException("sinkShutdownTimeout must be non-negative.");
         }
+
+        this.latencySampleRate = latencySampleRate != null ? latencySampleRate : DEFAULT_LATENCY_SAMPLE_RATE;
+        if (this.latencySampleRate < 0 || this.latencySampleRate > 1) {
+            throw new IllegalArgumentException("latencySampleRate must be between 0 and 1.");
+        }
+
+        this.valueInterningCacheSize = valueInterningCacheSize != null ? valueInterningCacheSize : 0;
+        if (this.valueInterningCacheSize < 0) {
+            throw new IllegalArgumentException("valueInterningCacheSize must be non-negative.");
+        }
+
+        this.valueInterningMaxLength = valueInterningMaxLength != null ? valueInterningMaxLength : DEFAULT_VALUE_INTERNING_MAX_LENGTH;
+        if (this.valueInterningMaxLength <= 0) {
+            throw new IllegalArgumentException("valueInterningMaxLength must be positive.");
+        }
+
+        this.timeElapsedHistograms = timeElapsedHistograms != null && timeElapsedHistograms;
     }
 
     public int getServerPort() {
@@ -152,4 +179,32 @@ public class DataPrepperConfiguration {
     public Duration getSinkShutdownTimeout() {
         return sinkShutdownTimeout;
     }
+
+    /**
+     * @return fraction of the events whose time since received, buffer dwell time and end-to-end latency are recorded
+     */
+    public double getLatencySampleRate() {
+        return latencySampleRate;
+    }
+
+    /**
+     * @return maximum number of distinct string values which events share, or 0 if events do not share values
+     */
+    public int getValueInterningCacheSize() {
+        return valueInterningCacheSize;
+    }
+
+    /**
+     * @return maximum length of the string values which events share
+     */
+    public int getValueInterningMaxLength() {
+        return valueInterningMaxLength;
+    }
+
+    /**
+     * @return whether the time elapsed in each processor and sink is published with percentiles and as a histogram
+     */
+    public boolean isTimeElapsedHistograms() {
+        return timeElapsedHistograms;
+    }
 }
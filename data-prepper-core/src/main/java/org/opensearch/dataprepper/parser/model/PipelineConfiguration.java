@@ -5,29 +5,50 @@
 
 package org.opensearch.dataprepper.parser.model;
 
+import com.amazon.dataprepper.model.configuration.ConditionalRoute;
 import com.amazon.dataprepper.model.configuration.PipelineModel;
 import com.amazon.dataprepper.model.configuration.PluginModel;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.configuration.SinkModel;
+import org.opensearch.dataprepper.pipeline.SinkExecutorSettings;
 import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class PipelineConfiguration {
     private static final String WORKERS_COMPONENT = "workers";
+    private static final String MIN_WORKERS_COMPONENT = "min_workers";
     private static final String DELAY_COMPONENT = "delay";
+    private static final String MAX_IN_FLIGHT_SINK_BATCHES_COMPONENT = "max_in_flight_sink_batches";
+    private static final String SINK_WORKERS_COMPONENT = "sink workers";
+    private static final String SINK_QUEUE_SIZE_COMPONENT = "sink queue_size";
     private static final int DEFAULT_READ_BATCH_DELAY = 3_000;
     private static final int DEFAULT_WORKERS = 1;
+    private static final int DEFAULT_MAX_IN_FLIGHT_SINK_BATCHES = 1;
+    private static final boolean DEFAULT_PARALLEL_PROCESSING = false;
+    private static final boolean DEFAULT_DIRECT_EXECUTION = false;
+    private static final boolean DEFAULT_KEY_AFFINITY = false;
 
     private final PluginSetting sourcePluginSetting;
     private final PluginSetting bufferPluginSetting;
     private final List<PluginSetting> processorPluginSettings;
     private final List<PluginSetting> sinkPluginSettings;
     private final Integer workers;
+    private final Integer minWorkers;
     private final Integer readBatchDelay;
+    private final Integer maxInFlightSinkBatches;
+    private final boolean parallelProcessing;
+    private final boolean directExecution;
+    private final boolean keyAffinity;
+    private final List<SinkExecutorSettings> sinkExecutorSettings;
+    private final List<ConditionalRoute> routes;
+    private final List<Collection<String>> sinkRoutes;
 
     public PipelineConfiguration(final PipelineModel pipelineModel) {
         this.sourcePluginSetting = getSourceFromPluginModel(pipelineModel.getSource());
@@ -35,7 +56,16 @@ public class PipelineConfiguration {
         this.processorPluginSettings = getProcessorsFromPluginModel(pipelineModel.getProcessors());
         this.sinkPluginSettings = getSinksFromPluginModel(pipelineModel.getSinks());
         this.workers = getWorkersFromPipelineModel(pipelineModel);
+        this.minWorkers = getMinWorkersFromPipelineModel(pipelineModel);
         this.readBatchDelay = getReadBatchDelayFromPipelineModel(pipelineModel);
+        this.maxInFlightSinkBatches = getMaxInFlightSinkBatchesFromPipelineModel(pipelineModel);
+        this.parallelProcessing = pipelineModel.getParallelProcessing() == null
+                ? DEFAULT_PARALLEL_PROCESSING : pipelineModel.getParallelProcessing();
+        this.directExecution = getDirectExecutionFromPipelineModel(pipelineModel);
+        this.keyAffinity = getKeyAffinityFromPipelineModel(pipelineModel);
+        this.sinkExecutorSettings = getSinkExecutorSettingsFromPluginModel(pipelineModel.getSinks());
+        this.routes = getRoutesFromPipelineModel(pipelineModel);
+        this.sinkRoutes = getSinkRoutesFromPluginModel(pipelineModel.getSinks());
     }
 
     public PluginSetting getSourcePluginSetting() {
@@ -58,10 +88,57 @@ public class PipelineConfiguration {
         return workers;
     }
 
+    /**
+     * @return the number of workers the pipeline starts with. Equal to {@link #getWorkers()} unless the number of
+     * workers scales with the load.
+     */
+    public Integer getMinWorkers() {
+        return minWorkers;
+    }
+
     public Integer getReadBatchDelay() {
         return readBatchDelay;
     }
 
+    public Integer getMaxInFlightSinkBatches() {
+        return maxInFlightSinkBatches;
+    }
+
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * @return whether the source threads run the processors and sinks of the pipeline instead of writing to its buffer
+     */
+    public boolean isDirectExecution() {
+        return directExecution;
+    }
+
+    /**
+     * @return whether the events of each identification key of a processor requiring peer forwarding are always
+     * processed by the same worker
+     */
+    public boolean isKeyAffinity() {
+        return keyAffinity;
+    }
+
+    public List<SinkExecutorSettings> getSinkExecutorSettings() {
+        return sinkExecutorSettings;
+    }
+
+    public List<ConditionalRoute> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * @return the names of the routes of each sink, in the same order as {@link #getSinkPluginSettings()}. A sink
+     * without routes receives every event.
+     */
+    public List<Collection<String>> getSinkRoutes() {
+        return sinkRoutes;
+    }
+
     public void updateCommonPipelineConfiguration(final String pipelineName) {
         updatePluginSetting(sourcePluginSetting, pipelineName);
         updatePluginSetting(bufferPluginSetting, pipelineName);
@@ -122,12 +199,99 @@ public class PipelineConfiguration {
         return configuredWorkers == null ? DEFAULT_WORKERS : configuredWorkers;
     }
 
+    private Integer getMinWorkersFromPipelineModel(final PipelineModel pipelineModel) {
+        final Integer configuredMinWorkers = pipelineModel.getMinWorkers();
+        validateConfiguration(configuredMinWorkers, MIN_WORKERS_COMPONENT);
+        if (configuredMinWorkers != null && configuredMinWorkers > workers) {
+            throw new IllegalArgumentException(String.format("Invalid configuration, %s cannot be greater than %s",
+                    MIN_WORKERS_COMPONENT, WORKERS_COMPONENT));
+        }
+        return configuredMinWorkers == null ? workers : configuredMinWorkers;
+    }
+
     private Integer getReadBatchDelayFromPipelineModel(final PipelineModel pipelineModel) {
         final Integer configuredDelay = pipelineModel.getReadBatchDelay();
         validateConfiguration(configuredDelay, DELAY_COMPONENT);
         return configuredDelay == null ? DEFAULT_READ_BATCH_DELAY : configuredDelay;
     }
 
+    private Integer getMaxInFlightSinkBatchesFromPipelineModel(final PipelineModel pipelineModel) {
+        final Integer configuredMaxInFlightSinkBatches = pipelineModel.getMaxInFlightSinkBatches();
+        validateConfiguration(configuredMaxInFlightSinkBatches, MAX_IN_FLIGHT_SINK_BATCHES_COMPONENT);
+        return configuredMaxInFlightSinkBatches == null ? DEFAULT_MAX_IN_FLIGHT_SINK_BATCHES : configuredMaxInFlightSinkBatches;
+    }
+
+    private boolean getDirectExecutionFromPipelineModel(final PipelineModel pipelineModel) {
+        final Boolean configuredDirectExecution = pipelineModel.getDirectExecution();
+        if (configuredDirectExecution == null || !configuredDirectExecution) {
+            return DEFAULT_DIRECT_EXECUTION;
+        }
+        if (pipelineModel.getBuffer() != null) {
+            throw new IllegalArgumentException("Invalid configuration, buffer cannot be configured with direct_execution");
+        }
+        if (!minWorkers.equals(workers)) {
+            throw new IllegalArgumentException("Invalid configuration, min_workers cannot be configured with direct_execution");
+        }
+        return true;
+    }
+
+    private boolean getKeyAffinityFromPipelineModel(final PipelineModel pipelineModel) {
+        final Boolean configuredKeyAffinity = pipelineModel.getKeyAffinity();
+        if (configuredKeyAffinity == null || !configuredKeyAffinity) {
+            return DEFAULT_KEY_AFFINITY;
+        }
+        if (!minWorkers.equals(workers)) {
+            throw new IllegalArgumentException("Invalid configuration, min_workers cannot be configured with key_affinity");
+        }
+        if (directExecution) {
+            throw new IllegalArgumentException("Invalid configuration, key_affinity cannot be configured with direct_execution");
+        }
+        return true;
+    }
+
+    /**
+     * Sinks default to as many threads as the pipeline has workers, and to a queue which holds every batch the workers
+     * may have in flight. Either may be overridden per sink with the workers and queue_size sink properties.
+     */
+    private List<SinkExecutorSettings> getSinkExecutorSettingsFromPluginModel(final List<PluginModel> sinkConfigurations) {
+        return sinkConfigurations.stream().map(sinkConfiguration -> {
+            Integer configuredWorkers = null;
+            Integer configuredQueueSize = null;
+            if (sinkConfiguration instanceof SinkModel) {
+                configuredWorkers = ((SinkModel) sinkConfiguration).getWorkers();
+                configuredQueueSize = ((SinkModel) sinkConfiguration).getQueueSize();
+            }
+            validateConfiguration(configuredWorkers, SINK_WORKERS_COMPONENT);
+            validateConfiguration(configuredQueueSize, SINK_QUEUE_SIZE_COMPONENT);
+            return new SinkExecutorSettings(sinkConfiguration.getPluginName(),
+                    configuredWorkers == null ? workers : configuredWorkers,
+                    configuredQueueSize == null ? workers * maxInFlightSinkBatches : configuredQueueSize);
+        }).collect(Collectors.toList());
+    }
+
+    private List<ConditionalRoute> getRoutesFromPipelineModel(final PipelineModel pipelineModel) {
+        final List<ConditionalRoute> configuredRoutes = pipelineModel.getRoutes();
+        return configuredRoutes == null ? Collections.emptyList() : configuredRoutes;
+    }
+
+    private List<Collection<String>> getSinkRoutesFromPluginModel(final List<PluginModel> sinkConfigurations) {
+        final Set<String> routeNames = routes.stream().map(ConditionalRoute::getName).collect(Collectors.toSet());
+        return sinkConfigurations.stream().map(sinkConfiguration -> {
+            if (!(sinkConfiguration instanceof SinkModel) || ((SinkModel) sinkConfiguration).getRoutes() == null) {
+                return Collections.<String>emptyList();
+            }
+            final Collection<String> configuredRoutes = ((SinkModel) sinkConfiguration).getRoutes();
+            for (final String configuredRoute : configuredRoutes) {
+                if (!routeNames.contains(configuredRoute)) {
+                    throw new IllegalArgumentException(String.format(
+                            "Invalid configuration, sink %s refers to route %s which is not defined in the pipeline",
+                            sinkConfiguration.getPluginName(), configuredRoute));
+                }
+            }
+            return configuredRoutes;
+        }).collect(Collectors.toList());
+    }
+
     private void validateConfiguration(final Integer configuration, final String component) {
         if (configuration != null && configuration <= 0) {
             throw new IllegalArgumentException(String.format("Invalid configuration, %s cannot be %s",
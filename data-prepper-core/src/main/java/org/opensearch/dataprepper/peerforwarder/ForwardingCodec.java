@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.amazon.dataprepper.model.event.JacksonEventCodec;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The format of the events forwarded to peers. JSON is the format understood by every version of Data Prepper, while
+ * Smile and CBOR are binary formats which are smaller and cheaper to write and read.
+ *
+ * @since 2.0
+ */
+public enum ForwardingCodec {
+    JSON("json", JacksonEventCodec.json()),
+    SMILE("smile", JacksonEventCodec.smile()),
+    CBOR("cbor", JacksonEventCodec.cbor());
+
+    private static final Map<String, ForwardingCodec> STRING_NAME_TO_ENUM_MAP = new HashMap<>();
+    private static final Map<String, ForwardingCodec> MEDIA_TYPE_TO_ENUM_MAP = new HashMap<>();
+
+    private final String name;
+    private final JacksonEventCodec eventCodec;
+
+    static {
+        Arrays.stream(ForwardingCodec.values())
+                .forEach(enumValue -> {
+                    STRING_NAME_TO_ENUM_MAP.put(enumValue.name, enumValue);
+                    MEDIA_TYPE_TO_ENUM_MAP.put(enumValue.eventCodec.getMediaType(), enumValue);
+                });
+    }
+
+    ForwardingCodec(final String name, final JacksonEventCodec eventCodec) {
+        this.name = name;
+        this.eventCodec = eventCodec;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public JacksonEventCodec getEventCodec() {
+        return eventCodec;
+    }
+
+    static ForwardingCodec getByName(final String name) {
+        return Optional.ofNullable(STRING_NAME_TO_ENUM_MAP.get(name))
+                .orElseThrow(() -> new IllegalArgumentException("Unrecognized ForwardingCodec: " + name));
+    }
+
+    /**
+     * Finds the codec of a forwarding request.
+     *
+     * @param mediaType the media type of the request, without parameters
+     * @return the codec of the media type, or empty if the media type is missing or is not the one of a codec
+     */
+    public static Optional<ForwardingCodec> getByMediaType(final String mediaType) {
+        return Optional.ofNullable(mediaType)
+                .map(MEDIA_TYPE_TO_ENUM_MAP::get);
+    }
+}
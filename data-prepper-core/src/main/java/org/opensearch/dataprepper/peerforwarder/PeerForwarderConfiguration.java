@@ -48,6 +48,8 @@ public class PeerForwarderConfiguration {
     private Integer clientThreadCount = 200;
     private Integer batchSize = 48;
     private Integer bufferSize = 512;
+    private Integer bufferSizeInBytes;
+    private ForwardingCodec codec = ForwardingCodec.JSON;
     private boolean sslCertAndKeyFileInS3 = false;
 
     public PeerForwarderConfiguration() {}
@@ -77,7 +79,9 @@ public class PeerForwarderConfiguration {
             @JsonProperty("static_endpoints") final List<String> staticEndpoints,
             @JsonProperty("client_thread_count") final Integer clientThreadCount,
             @JsonProperty("batch_size") final Integer batchSize,
-            @JsonProperty("buffer_size") final Integer bufferSize
+            @JsonProperty("buffer_size") final Integer bufferSize,
+            @JsonProperty("buffer_size_bytes") final Integer bufferSizeInBytes,
+            @JsonProperty("codec") final String codec
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -103,6 +107,8 @@ public class PeerForwarderConfiguration {
         setClientThreadCount(clientThreadCount);
         setBatchSize(batchSize);
         setBufferSize(bufferSize);
+        setBufferSizeInBytes(bufferSizeInBytes);
+        setCodec(codec);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
     }
@@ -195,6 +201,18 @@ public class PeerForwarderConfiguration {
         return bufferSize;
     }
 
+    /**
+     * @return the capacity in bytes of each peer forwarder receive buffer, or null if the buffers are bounded by
+     * {@link #getBufferSize()} records
+     */
+    public Integer getBufferSizeInBytes() {
+        return bufferSizeInBytes;
+    }
+
+    public ForwardingCodec getCodec() {
+        return codec;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -406,6 +424,21 @@ public class PeerForwarderConfiguration {
         }
     }
 
+    private void setBufferSizeInBytes(final Integer bufferSizeInBytes) {
+        if (bufferSizeInBytes != null) {
+            if (bufferSizeInBytes <= 0) {
+                throw new IllegalArgumentException("Buffer size in bytes must be a positive integer.");
+            }
+            this.bufferSizeInBytes = bufferSizeInBytes;
+        }
+    }
+
+    private void setCodec(final String codec) {
+        if (codec != null) {
+            this.codec = ForwardingCodec.getByName(codec);
+        }
+    }
+
     private void checkForCertAndKeyFileInS3() {
         if (ssl && !useAcmCertificateForSsl && sslCertificateFile.toLowerCase().startsWith(S3_PREFIX) &&
                     sslKeyFile.toLowerCase().startsWith(S3_PREFIX)) {
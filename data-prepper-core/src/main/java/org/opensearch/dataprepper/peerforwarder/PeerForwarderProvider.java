@@ -52,8 +52,10 @@ public class PeerForwarderProvider {
     }
 
     private PeerForwarderReceiveBuffer<Record<Event>> createBufferPerPipelineProcessor(final String pipelineName, final String pluginId) {
-        final PeerForwarderReceiveBuffer<Record<Event>> peerForwarderReceiveBuffer = new
-                PeerForwarderReceiveBuffer<>(peerForwarderConfiguration.getBufferSize(), peerForwarderConfiguration.getBatchSize());
+        final Integer bufferSizeInBytes = peerForwarderConfiguration.getBufferSizeInBytes();
+        final PeerForwarderReceiveBuffer<Record<Event>> peerForwarderReceiveBuffer = bufferSizeInBytes != null
+                ? PeerForwarderReceiveBuffer.boundedInBytes(bufferSizeInBytes, peerForwarderConfiguration.getBatchSize(), pipelineName, pluginId)
+                : new PeerForwarderReceiveBuffer<>(peerForwarderConfiguration.getBufferSize(), peerForwarderConfiguration.getBatchSize(), pipelineName, pluginId);
 
         final Map<String, PeerForwarderReceiveBuffer<Record<Event>>> pluginsBufferMap =
                 pipelinePeerForwarderReceiveBufferMap.computeIfAbsent(pipelineName, k -> new HashMap<>());
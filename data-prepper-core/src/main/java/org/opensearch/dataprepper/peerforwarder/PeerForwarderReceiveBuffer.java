@@ -6,7 +6,7 @@
 package org.opensearch.dataprepper.peerforwarder;
 
 import com.amazon.dataprepper.model.CheckpointState;
-import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.AbstractBuffer;
 import com.amazon.dataprepper.model.buffer.SizeOverflowException;
 import com.amazon.dataprepper.model.record.Record;
 import com.google.common.base.Stopwatch;
@@ -27,30 +27,56 @@ import static java.lang.String.format;
 
 /**
  * Buffer created for each stateful processor which implements {@link com.amazon.dataprepper.model.peerforwarder.RequiresPeerForwarding}
- * interface.
+ * interface. The buffer is bounded either by a number of records or, if created with
+ * {@link #boundedInBytes(int, int, String, String)}, by the estimated size in bytes of its records.
  *
  * @since 2.0
  */
-public class PeerForwarderReceiveBuffer<T extends Record<?>> implements Buffer<T> {
+public class PeerForwarderReceiveBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     private static final Logger LOG = LoggerFactory.getLogger(PeerForwarderReceiveBuffer.class);
+    private static final String BUFFER_NAME_SUFFIX = "PeerForwarderReceiveBuffer";
 
     private final int bufferSize;
+    private final boolean boundedInBytes;
     private final int batchSize;
     private final Semaphore capacitySemaphore;
     private final LinkedBlockingQueue<T> blockingQueue;
-    private int recordsInFlight = 0;
 
-    public PeerForwarderReceiveBuffer(final int bufferSize, final int batchSize) {
+    public PeerForwarderReceiveBuffer(final int bufferSize, final int batchSize, final String pipelineName, final String pluginId) {
+        this(bufferSize, false, batchSize, pipelineName, pluginId);
+    }
+
+    private PeerForwarderReceiveBuffer(final int bufferSize, final boolean boundedInBytes, final int batchSize,
+                                       final String pipelineName, final String pluginId) {
+        super(pluginId + BUFFER_NAME_SUFFIX, pipelineName);
         this.bufferSize = bufferSize;
+        this.boundedInBytes = boundedInBytes;
         this.batchSize = batchSize;
-        this.blockingQueue = new LinkedBlockingQueue<>(bufferSize);
+        this.blockingQueue = boundedInBytes ? new LinkedBlockingQueue<>() : new LinkedBlockingQueue<>(bufferSize);
         this.capacitySemaphore = new Semaphore(bufferSize);
     }
 
+    /**
+     * Creates a buffer whose capacity is given in bytes rather than in records.
+     *
+     * @param bufferSizeInBytes the capacity of the buffer in bytes
+     * @param batchSize         the max number of records returned on read
+     * @param pipelineName      the name of the pipeline of the processor
+     * @param pluginId          the id of the processor
+     * @param <T>               the type of records in the buffer
+     * @return a byte-bounded buffer
+     */
+    public static <T extends Record<?>> PeerForwarderReceiveBuffer<T> boundedInBytes(final int bufferSizeInBytes,
+                                                                                    final int batchSize,
+                                                                                    final String pipelineName,
+                                                                                    final String pluginId) {
+        return new PeerForwarderReceiveBuffer<>(bufferSizeInBytes, true, batchSize, pipelineName, pluginId);
+    }
+
     @Override
-    public void write(final T record, final int timeoutInMillis) throws TimeoutException {
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
         try {
-            final boolean permitAcquired = capacitySemaphore.tryAcquire(timeoutInMillis, TimeUnit.MILLISECONDS);
+            final boolean permitAcquired = capacitySemaphore.tryAcquire(getPermits(record), timeoutInMillis, TimeUnit.MILLISECONDS);
             if (!permitAcquired) {
                 throw new TimeoutException("Peer forwarder buffer is full, timed out waiting for a slot");
             }
@@ -62,13 +88,16 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> implements Buffer<T
     }
 
     @Override
-    public void writeAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
         final int size = records.size();
-        if (size > bufferSize) {
-            throw new SizeOverflowException(format("Peer forwarder buffer capacity too small for the size of records: %d", size));
+        final long permits = getPermits(records);
+        if (permits > bufferSize) {
+            throw new SizeOverflowException(boundedInBytes
+                    ? format("Peer forwarder buffer capacity too small for the size of records: %d bytes", permits)
+                    : format("Peer forwarder buffer capacity too small for the size of records: %d", size));
         }
         try {
-            final boolean permitAcquired = capacitySemaphore.tryAcquire(size, timeoutInMillis, TimeUnit.MILLISECONDS);
+            final boolean permitAcquired = capacitySemaphore.tryAcquire((int) permits, timeoutInMillis, TimeUnit.MILLISECONDS);
             if (!permitAcquired) {
                 throw new TimeoutException(
                         format("Peer forwarder buffer does not have enough capacity left for the size of records: %d, " +
@@ -85,7 +114,7 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> implements Buffer<T
     }
 
     @Override
-    public Map.Entry<Collection<T>, CheckpointState> read(final int timeoutInMillis) {
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
         final List<T> records = new ArrayList<>();
         final Stopwatch stopwatch = Stopwatch.createStarted();
         try {
@@ -102,20 +131,46 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> implements Buffer<T
             LOG.info("Peer forwarder buffer - Interrupt received while reading from buffer");
             throw new RuntimeException(ex);
         }
-        final CheckpointState checkpointState = new CheckpointState(records.size());
-        recordsInFlight += checkpointState.getNumRecordsToBeChecked();
+        final CheckpointState checkpointState = boundedInBytes
+                ? new CheckpointState(records.size(), getPermits(records))
+                : new CheckpointState(records.size());
         return new AbstractMap.SimpleEntry<>(records, checkpointState);
     }
 
     @Override
-    public void checkpoint(final CheckpointState checkpointState) {
-        final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
-        capacitySemaphore.release(numCheckedRecords);
-        recordsInFlight -= checkpointState.getNumRecordsToBeChecked();
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        if (boundedInBytes) {
+            capacitySemaphore.release((int) checkpointState.getNumBytesToBeChecked());
+        } else {
+            capacitySemaphore.release(checkpointState.getNumRecordsToBeChecked());
+        }
     }
 
     @Override
     public boolean isEmpty() {
-        return blockingQueue.isEmpty() && recordsInFlight == 0;
+        return blockingQueue.isEmpty() && getRecordsInFlight() == 0;
+    }
+
+    @Override
+    protected long getSizeInBytes(final T record) {
+        return boundedInBytes ? getPermits(record) : 0;
+    }
+
+    private int getPermits(final T record) {
+        if (!boundedInBytes) {
+            return 1;
+        }
+        return (int) Math.min(record.getEstimatedSizeInBytes(), bufferSize);
+    }
+
+    private long getPermits(final Collection<T> records) {
+        if (!boundedInBytes) {
+            return records.size();
+        }
+        long permits = 0;
+        for (final T record : records) {
+            permits += getPermits(record);
+        }
+        return permits;
     }
 }
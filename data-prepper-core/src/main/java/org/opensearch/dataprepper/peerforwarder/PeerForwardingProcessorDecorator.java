@@ -15,30 +15,65 @@ import org.opensearch.dataprepper.peerforwarder.exception.UnsupportedPeerForward
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class PeerForwardingProcessorDecorator implements Processor<Record<Event>, Record<Event>> {
     private final Processor innerProcessor;
     private final PeerForwarder peerForwarder;
-    private final String pluginId;
-    private final Set<String> identificationKeys;
 
     public PeerForwardingProcessorDecorator(final Processor innerProcessor,
                                             final PeerForwarderProvider peerForwarderProvider,
                                             final String pipelineName,
                                             final String pluginId) {
+        this(innerProcessor, peerForwarderProvider.register(pipelineName, pluginId, getIdentificationKeys(innerProcessor, pluginId)));
+    }
+
+    private PeerForwardingProcessorDecorator(final Processor innerProcessor, final PeerForwarder peerForwarder) {
         this.innerProcessor = innerProcessor;
-        this.pluginId = pluginId;
+        this.peerForwarder = peerForwarder;
+    }
 
-        if (innerProcessor instanceof RequiresPeerForwarding) {
-            identificationKeys = new HashSet<> (((RequiresPeerForwarding) innerProcessor).getIdentificationKeys());
+    /**
+     * Decorates the instances of a processor, one per process worker when the processor keeps per-worker state, with
+     * a single peer forwarder shared between them.
+     *
+     * @param processors the instances of a processor
+     * @param peerForwarderProvider the provider to register the peer forwarder with
+     * @param pipelineName the name of the pipeline of the processor
+     * @param pluginId the id of the processor plugin
+     * @return the decorated instances, in the same order
+     */
+    public static List<Processor> decorateProcessors(final List<Processor> processors,
+                                                     final PeerForwarderProvider peerForwarderProvider,
+                                                     final String pipelineName,
+                                                     final String pluginId) {
+        final Set<String> identificationKeys = getIdentificationKeys(processors.get(0), pluginId);
+        final PeerForwarder peerForwarder = peerForwarderProvider.register(pipelineName, pluginId, identificationKeys);
+        return processors.stream()
+                .map(processor -> new PeerForwardingProcessorDecorator(processor, peerForwarder))
+                .collect(Collectors.toList());
+    }
+
+    private static Set<String> getIdentificationKeys(final Processor processor, final String pluginId) {
+        final Set<String> identificationKeys;
+        if (processor instanceof RequiresPeerForwarding) {
+            identificationKeys = new HashSet<> (((RequiresPeerForwarding) processor).getIdentificationKeys());
         } else {
             throw new UnsupportedPeerForwarderPluginException("Peer Forwarding is only supported for plugins which implement RequiresPeerForwarding interface.");
         }
         if (identificationKeys.isEmpty()) {
             throw new EmptyPeerForwarderPluginIdentificationKeysException("Peer Forwarder Plugin: %s cannot have empty identification keys." + pluginId);
         }
-        this.peerForwarder = peerForwarderProvider.register(pipelineName, pluginId, identificationKeys);
+        return identificationKeys;
+    }
+
+    /**
+     * @return the decorated instance of the processor, such as the KeyAffinityProcessorDecorator of a process worker
+     */
+    public Processor getInnerProcessor() {
+        return innerProcessor;
     }
 
     @Override
@@ -12,14 +12,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.client.UnprocessedRequestException;
 import com.linecorp.armeria.client.WebClient;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.MediaType;
+import org.opensearch.dataprepper.peerforwarder.ForwardingCodec;
 import org.opensearch.dataprepper.peerforwarder.PeerClientPool;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderClientFactory;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.peerforwarder.model.BinaryWireEvents;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvent;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -36,6 +43,7 @@ public class PeerForwarderClient {
     private final PeerForwarderConfiguration peerForwarderConfiguration;
     private final PeerForwarderClientFactory peerForwarderClientFactory;
     private final ObjectMapper objectMapper;
+    private final ForwardingCodec forwardingCodec;
     private ExecutorService executorService;
     private PeerClientPool peerClientPool;
 
@@ -45,6 +53,7 @@ public class PeerForwarderClient {
         this.peerForwarderConfiguration = peerForwarderConfiguration;
         this.peerForwarderClientFactory = peerForwarderClientFactory;
         this.objectMapper = objectMapper;
+        this.forwardingCodec = peerForwarderConfiguration.getCodec();
         executorService = Executors.newFixedThreadPool(peerForwarderConfiguration.getClientThreadCount());
     }
 
@@ -58,13 +67,24 @@ public class PeerForwarderClient {
 
         final WebClient client = peerClientPool.getClient(ipAddress);
 
-        final String serializedJsonString = getSerializedJsonString(records, pluginId, pipelineName);
+        final HttpRequest httpRequest = getHttpRequest(records, pluginId, pipelineName);
 
         final CompletableFuture<AggregatedHttpResponse> aggregatedHttpResponseCompletableFuture =
-                processHttpRequest(client, serializedJsonString);
+                processHttpRequest(client, httpRequest);
         return getAggregatedHttpResponse(aggregatedHttpResponseCompletableFuture);
     }
 
+    private HttpRequest getHttpRequest(final Collection<Record<Event>> records, final String pluginId, final String pipelineName) {
+        if (forwardingCodec == ForwardingCodec.JSON) {
+            final String serializedJsonString = getSerializedJsonString(records, pluginId, pipelineName);
+            return HttpRequest.of(HttpMethod.POST, DEFAULT_PEER_FORWARDING_URI, MediaType.JSON_UTF_8, serializedJsonString);
+        }
+
+        final byte[] serializedBytes = getSerializedBytes(records, pluginId, pipelineName);
+        return HttpRequest.of(HttpMethod.POST, DEFAULT_PEER_FORWARDING_URI,
+                MediaType.parse(forwardingCodec.getEventCodec().getMediaType()), serializedBytes);
+    }
+
     private String getSerializedJsonString(final Collection<Record<Event>> records, final String pluginId, final String pipelineName) {
         final List<WireEvent> wireEventList = getWireEventList(records);
         final WireEvents wireEvents = new WireEvents(wireEventList, pluginId, pipelineName);
@@ -76,6 +96,20 @@ public class PeerForwarderClient {
         }
     }
 
+    private byte[] getSerializedBytes(final Collection<Record<Event>> records, final String pluginId, final String pipelineName) {
+        final List<Event> events = new ArrayList<>(records.size());
+        for (final Record<Event> record : records) {
+            events.add(record.getData());
+        }
+        final BinaryWireEvents binaryWireEvents = new BinaryWireEvents(events, pluginId, pipelineName);
+
+        try {
+            return binaryWireEvents.encode(forwardingCodec.getEventCodec());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private List<WireEvent> getWireEventList(final Collection<Record<Event>> records) {
         final List<WireEvent> wireEventList = new ArrayList<>();
 
@@ -95,10 +129,10 @@ public class PeerForwarderClient {
         );
     }
 
-    private CompletableFuture<AggregatedHttpResponse> processHttpRequest(final WebClient client, final String content) {
+    private CompletableFuture<AggregatedHttpResponse> processHttpRequest(final WebClient client, final HttpRequest httpRequest) {
         return CompletableFuture.supplyAsync(() ->
         {
-            final CompletableFuture<AggregatedHttpResponse> aggregate = client.post(DEFAULT_PEER_FORWARDING_URI, content).aggregate();
+            final CompletableFuture<AggregatedHttpResponse> aggregate = client.execute(httpRequest).aggregate();
             return aggregate.join();
         }, executorService);
     }
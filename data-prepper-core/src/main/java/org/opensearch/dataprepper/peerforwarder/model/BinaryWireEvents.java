@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.model;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEventCodec;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.opensearch.dataprepper.peerforwarder.PeerForwarder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A batch of events and their destination plugin ID used by {@link PeerForwarder} with a binary
+ * {@link JacksonEventCodec}. Unlike {@link WireEvents}, the events are written by the codec within the batch rather
+ * than as JSON strings, so they are written and read once. A batch is encoded as an array of the destination plugin
+ * ID, the destination pipeline name and the array of events.
+ *
+ * @since 2.0
+ */
+public class BinaryWireEvents {
+    private final List<Event> events;
+    private final String destinationPluginId;
+    private final String destinationPipelineName;
+
+    public BinaryWireEvents(final List<Event> events, final String destinationPluginId, final String destinationPipelineName) {
+        this.events = events;
+        this.destinationPluginId = destinationPluginId;
+        this.destinationPipelineName = destinationPipelineName;
+    }
+
+    public List<Event> getEvents() {
+        return events;
+    }
+
+    public String getDestinationPluginId() {
+        return destinationPluginId;
+    }
+
+    public String getDestinationPipelineName() {
+        return destinationPipelineName;
+    }
+
+    public byte[] encode(final JacksonEventCodec eventCodec) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final JsonGenerator generator = eventCodec.getJsonFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+            generator.writeString(destinationPluginId);
+            generator.writeString(destinationPipelineName);
+            generator.writeStartArray();
+            for (final Event event : events) {
+                eventCodec.encode(event, generator);
+            }
+            generator.writeEndArray();
+            generator.writeEndArray();
+        }
+        return outputStream.toByteArray();
+    }
+
+    public static BinaryWireEvents decode(final JacksonEventCodec eventCodec, final byte[] bytes) throws IOException {
+        try (final JsonParser parser = eventCodec.getJsonFactory().createParser(bytes)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            expectToken(parser, parser.nextToken(), JsonToken.VALUE_STRING);
+            final String destinationPluginId = parser.getText();
+            expectToken(parser, parser.nextToken(), JsonToken.VALUE_STRING);
+            final String destinationPipelineName = parser.getText();
+            expectToken(parser, parser.nextToken(), JsonToken.START_ARRAY);
+
+            final List<Event> events = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                events.add(eventCodec.decode(parser));
+            }
+            expectToken(parser, parser.nextToken(), JsonToken.END_ARRAY);
+
+            return new BinaryWireEvents(events, destinationPluginId, destinationPipelineName);
+        }
+    }
+
+    private static void expectToken(final JsonParser parser, final JsonToken actual, final JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " in forwarded events but found " + actual);
+        }
+    }
+}
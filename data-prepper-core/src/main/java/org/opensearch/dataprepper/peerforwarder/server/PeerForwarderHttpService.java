@@ -15,17 +15,23 @@ import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.server.annotation.Post;
+import org.opensearch.dataprepper.peerforwarder.ForwardingCodec;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderReceiveBuffer;
+import org.opensearch.dataprepper.peerforwarder.model.BinaryWireEvents;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvent;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -57,6 +63,18 @@ public class PeerForwarderHttpService {
     }
 
     private HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) {
+        final Optional<ForwardingCodec> forwardingCodec = getForwardingCodec(aggregatedHttpRequest.contentType());
+        if (forwardingCodec.isEmpty()) {
+            final String message = String.format("Unsupported content type [%s] of the request. Needs to be one of %s",
+                    aggregatedHttpRequest.contentType(), Arrays.stream(ForwardingCodec.values())
+                            .map(codec -> codec.getEventCodec().getMediaType())
+                            .collect(Collectors.joining(", ")));
+            LOG.error(message);
+            return HttpResponse.of(HttpStatus.UNSUPPORTED_MEDIA_TYPE, MediaType.ANY_TYPE, message);
+        }
+        if (forwardingCodec.get() != ForwardingCodec.JSON) {
+            return processBinaryRequest(aggregatedHttpRequest, forwardingCodec.get());
+        }
 
         WireEvents wireEvents;
         final HttpData content = aggregatedHttpRequest.content();
@@ -79,8 +97,47 @@ public class PeerForwarderHttpService {
         return HttpResponse.of(HttpStatus.OK);
     }
 
+    private HttpResponse processBinaryRequest(final AggregatedHttpRequest aggregatedHttpRequest, final ForwardingCodec forwardingCodec) {
+        final BinaryWireEvents binaryWireEvents;
+        try {
+            binaryWireEvents = BinaryWireEvents.decode(forwardingCodec.getEventCodec(), aggregatedHttpRequest.content().array());
+        } catch (IOException e) {
+            final String message = String.format("Failed to write the request content due to bad request data format. Needs to be %s",
+                    forwardingCodec.getEventCodec().getMediaType());
+            LOG.error(message, e);
+            return responseHandler.handleException(e, message);
+        }
+
+        try {
+            writeEventsToBuffer(binaryWireEvents);
+        } catch (Exception e) {
+            final String message = String.format("Failed to write %d events for pipeline [%s] due to:",
+                    binaryWireEvents.getEvents().size(), binaryWireEvents.getDestinationPipelineName());
+            LOG.error(message, e);
+            return responseHandler.handleException(e, message);
+        }
+
+        return HttpResponse.of(HttpStatus.OK);
+    }
+
+    private static Optional<ForwardingCodec> getForwardingCodec(final MediaType contentType) {
+        return ForwardingCodec.getByMediaType(contentType == null ? null : contentType.withoutParameters().toString());
+    }
+
+    private void writeEventsToBuffer(final BinaryWireEvents binaryWireEvents) throws Exception {
+        final PeerForwarderReceiveBuffer<Record<Event>> recordPeerForwarderReceiveBuffer =
+                getPeerForwarderBuffer(binaryWireEvents.getDestinationPluginId(), binaryWireEvents.getDestinationPipelineName());
+
+        final Collection<Record<Event>> records = binaryWireEvents.getEvents().stream()
+                .map(Record::new)
+                .collect(Collectors.toList());
+
+        recordPeerForwarderReceiveBuffer.writeAll(records, peerForwarderConfiguration.getRequestTimeout());
+    }
+
     private void writeEventsToBuffer(final WireEvents wireEvents) throws Exception {
-        final PeerForwarderReceiveBuffer<Record<Event>> recordPeerForwarderReceiveBuffer = getPeerForwarderBuffer(wireEvents);
+        final PeerForwarderReceiveBuffer<Record<Event>> recordPeerForwarderReceiveBuffer =
+                getPeerForwarderBuffer(wireEvents.getDestinationPluginId(), wireEvents.getDestinationPipelineName());
 
         if (wireEvents.getEvents() != null) {
             final Collection<Record<Event>> jacksonEvents = wireEvents.getEvents().stream()
@@ -91,10 +148,8 @@ public class PeerForwarderHttpService {
         }
     }
 
-    private PeerForwarderReceiveBuffer<Record<Event>> getPeerForwarderBuffer(final WireEvents wireEvents) {
-        final String destinationPluginId = wireEvents.getDestinationPluginId();
-        final String destinationPipelineName = wireEvents.getDestinationPipelineName();
-
+    private PeerForwarderReceiveBuffer<Record<Event>> getPeerForwarderBuffer(final String destinationPluginId,
+                                                                              final String destinationPipelineName) {
         final Map<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap =
                 peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap();
 
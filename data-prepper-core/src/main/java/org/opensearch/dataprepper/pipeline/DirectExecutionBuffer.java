@@ -0,0 +1,228 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.AbstractBuffer;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.pipeline.common.PipelineThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+
+/**
+ * The {@link Buffer} given to the source of a {@link Pipeline} in direct execution mode. Nothing is queued: a write runs
+ * the processors and the sinks of the pipeline on the thread of the source, and returns once the sinks have returned.
+ * A processor or sink failure is thrown to the source.
+ * <p>
+ * Each concurrent write takes one of the processor chains of the pipeline, one per worker, so at most as many writes
+ * as there are workers run at once and the processor instances confined to a worker are used by one thread at a time.
+ * A write which cannot take a chain within its timeout fails with a {@link TimeoutException}. Chains which are idle
+ * are periodically executed with an empty batch, as {@link ProcessWorker}s do, so that stateful processors can
+ * complete their windows.
+ * <p>
+ * The buffer metrics of {@link AbstractBuffer} are reported under the name DirectExecutionBuffer. The records of each
+ * write are counted as written and then as processed once the write returns, so nothing is ever counted as in the
+ * buffer or in flight, and no record is counted as read.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+class DirectExecutionBuffer extends AbstractBuffer<Record<?>> {
+    private static final Logger LOG = LoggerFactory.getLogger(DirectExecutionBuffer.class);
+    static final String BUFFER_NAME = "DirectExecutionBuffer";
+
+    private final Pipeline pipeline;
+    private final int chainCount;
+    private final BlockingQueue<List<Processor>> idleProcessorChains;
+    private final ScheduledExecutorService idleExecutorService;
+    private final AtomicInteger executedRecords;
+
+    /**
+     * @param pipeline        pipeline whose sinks receive the processed records
+     * @param processorChains the processors to apply to each batch, one chain per worker
+     */
+    DirectExecutionBuffer(final Pipeline pipeline, final List<List<Processor>> processorChains) {
+        super(BUFFER_NAME, pipeline.getName());
+        this.pipeline = pipeline;
+        this.chainCount = processorChains.size();
+        this.idleProcessorChains = new ArrayBlockingQueue<>(chainCount, false, processorChains);
+        this.idleExecutorService = Executors.newSingleThreadScheduledExecutor(
+                new PipelineThreadFactory(format("%s-direct-execution-idle", pipeline.getName())));
+        this.executedRecords = new AtomicInteger();
+    }
+
+    /**
+     * Starts executing the idle processor chains with an empty batch every read batch timeout of the pipeline.
+     */
+    void start() {
+        final long intervalInMillis = pipeline.getReadBatchTimeoutInMillis();
+        idleExecutorService.scheduleWithFixedDelay(this::executeIdleProcessorChains, intervalInMillis, intervalInMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void write(final Record<?> record, final int timeoutInMillis) throws TimeoutException {
+        super.write(record, timeoutInMillis);
+        checkpointExecutedRecords();
+    }
+
+    @Override
+    public void writeAll(final Collection<Record<?>> records, final int timeoutInMillis) throws Exception {
+        super.writeAll(records, timeoutInMillis);
+        checkpointExecutedRecords();
+    }
+
+    @Override
+    public void doWrite(final Record<?> record, final int timeoutInMillis) throws TimeoutException {
+        execute(Collections.singletonList(record), timeoutInMillis);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<Record<?>> records, final int timeoutInMillis) throws TimeoutException {
+        execute(records, timeoutInMillis);
+    }
+
+    /**
+     * Records are never queued, so there is nothing to read. The checkpoint state covers the records executed since
+     * the last read, which leave the buffer once it is checkpointed.
+     */
+    @Override
+    public Map.Entry<Collection<Record<?>>, CheckpointState> doRead(final int timeoutInMillis) {
+        return new AbstractMap.SimpleEntry<>(Collections.emptyList(), new CheckpointState(executedRecords.getAndSet(0)));
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    /**
+     * @return the fraction of the processor chains in use by writes
+     */
+    @Override
+    public double getFillRatio() {
+        return (double) (chainCount - idleProcessorChains.size()) / chainCount;
+    }
+
+    /**
+     * Stops the periodic execution of the idle chains, waits for the writes in progress and then executes every chain
+     * with empty batches until its processors are ready for shut down.
+     *
+     * @param timeout max time to wait for the writes in progress and the processors
+     * @return true if every processor became ready for shut down within the timeout
+     */
+    boolean shutdown(final Duration timeout) {
+        idleExecutorService.shutdownNow();
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        final List<List<Processor>> processorChains = new ArrayList<>(chainCount);
+        try {
+            while (processorChains.size() < chainCount) {
+                final List<Processor> processorChain = idleProcessorChains.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (processorChain == null) {
+                    LOG.warn("Pipeline [{}] - Direct writes did not complete in time", pipeline.getName());
+                    return false;
+                }
+                processorChains.add(processorChain);
+            }
+            for (final List<Processor> processorChain : processorChains) {
+                while (!isReadyForShutdown(processorChain)) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        LOG.warn("Pipeline [{}] - Processors were not ready for shutdown in time", pipeline.getName());
+                        return false;
+                    }
+                    process(processorChain, Collections.emptyList());
+                    Thread.sleep(Math.max(0, Math.min(pipeline.getReadBatchTimeoutInMillis(),
+                            TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()))));
+                }
+            }
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            idleProcessorChains.addAll(processorChains);
+        }
+    }
+
+    private void execute(final Collection<Record<?>> records, final int timeoutInMillis) throws TimeoutException {
+        final List<Processor> processorChain;
+        try {
+            processorChain = idleProcessorChains.poll(timeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting for a processor chain");
+        }
+        if (processorChain == null) {
+            throw new TimeoutException(format("Pipeline [%s] - no worker became available within %d ms",
+                    pipeline.getName(), timeoutInMillis));
+        }
+        try {
+            process(processorChain, records);
+            executedRecords.addAndGet(records.size());
+        } finally {
+            idleProcessorChains.add(processorChain);
+        }
+    }
+
+    /**
+     * Moves the records executed by the writes which returned out of the buffer metrics, through a read and a
+     * checkpoint of them.
+     */
+    private void checkpointExecutedRecords() {
+        checkpoint(read(0).getValue());
+    }
+
+    private void executeIdleProcessorChains() {
+        for (int i = 0; i < chainCount; i++) {
+            final List<Processor> processorChain = idleProcessorChains.poll();
+            if (processorChain == null) {
+                return;
+            }
+            try {
+                process(processorChain, Collections.emptyList());
+            } catch (final Exception e) {
+                LOG.error("Pipeline [{}] - Encountered exception executing idle processors", pipeline.getName(), e);
+            } finally {
+                idleProcessorChains.add(processorChain);
+            }
+        }
+    }
+
+    private void process(final List<Processor> processorChain, final Collection<Record<?>> records) {
+        Collection processedRecords = records;
+        for (final Processor processor : processorChain) {
+            processedRecords = processor.execute(processedRecords);
+        }
+        if (!processedRecords.isEmpty()) {
+            pipeline.publishToSinksInline(processedRecords);
+        }
+    }
+
+    private static boolean isReadyForShutdown(final List<Processor> processorChain) {
+        return processorChain.stream().allMatch(Processor::isReadyForShutdown);
+    }
+}
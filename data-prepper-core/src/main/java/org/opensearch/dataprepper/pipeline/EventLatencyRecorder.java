@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventMetadata;
+import com.amazon.dataprepper.model.record.Record;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the time elapsed since {@link EventMetadata#getTimeReceived()}, or since {@link Record#getTimeWrittenNanos()},
+ * for a sample of the events of a batch. The current time is read once per batch, so the overhead is a random draw per
+ * event and a timer update per sampled event.
+ */
+@SuppressWarnings({"rawtypes"})
+class EventLatencyRecorder {
+    static final String TIME_SINCE_RECEIVED = "timeSinceReceived";
+    static final String END_TO_END_LATENCY = "endToEndLatency";
+    static final String BUFFER_DWELL_TIME = "bufferDwellTime";
+    static final String LATENCY_METRICS_NAME = "latency";
+
+    private static final EventLatencyRecorder DISABLED = new EventLatencyRecorder(null, 0);
+
+    private final Timer timer;
+    private final double sampleRate;
+
+    EventLatencyRecorder(final Timer timer, final double sampleRate) {
+        this.timer = timer;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Creates a recorder for the timer with the given name, or a recorder which records nothing if sampleRate is 0.
+     *
+     * @param pluginMetrics metrics in which to register the timer
+     * @param metricName    name of the timer
+     * @param sampleRate    fraction of the events to record, between 0 and 1
+     * @return the recorder
+     */
+    static EventLatencyRecorder create(final PluginMetrics pluginMetrics, final String metricName, final double sampleRate) {
+        if (sampleRate <= 0) {
+            return DISABLED;
+        }
+        return new EventLatencyRecorder(pluginMetrics.timer(metricName), sampleRate);
+    }
+
+    /**
+     * Records the latency of a sample of the events in records. Records which are not {@link Event}s, or events
+     * without a receive time, are ignored.
+     *
+     * @param records the batch of records
+     */
+    void record(final Collection<Record> records) {
+        if (sampleRate <= 0 || records.isEmpty()) {
+            return;
+        }
+        final Instant now = Instant.now();
+        for (final Record record : records) {
+            if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                continue;
+            }
+            final Object data = record.getData();
+            if (!(data instanceof Event)) {
+                continue;
+            }
+            final EventMetadata metadata = ((Event) data).getMetadata();
+            if (metadata != null && metadata.getTimeReceived() != null) {
+                timer.record(Duration.between(metadata.getTimeReceived(), now));
+            }
+        }
+    }
+
+    /**
+     * Records the time since a sample of the records were written to the buffer from which they were read. Unlike the
+     * time since the events were received, this leaves out the time spent in the source and in upstream pipelines.
+     * Records which were not written to a buffer, such as those read back from disk, are ignored.
+     *
+     * @param records the batch of records read from a buffer
+     */
+    void recordSinceWritten(final Collection<Record> records) {
+        if (sampleRate <= 0 || records.isEmpty()) {
+            return;
+        }
+        final long now = System.nanoTime();
+        for (final Record record : records) {
+            if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                continue;
+            }
+            final long timeWrittenNanos = record.getTimeWrittenNanos();
+            if (timeWrittenNanos != Record.NOT_WRITTEN) {
+                timer.record(now - timeWrittenNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
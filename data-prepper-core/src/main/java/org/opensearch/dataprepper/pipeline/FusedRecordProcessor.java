@@ -0,0 +1,239 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.annotations.SingleThread;
+import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.processor.RecordProcessor;
+import com.amazon.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs consecutive {@link RecordProcessor}s as a single pass over a batch. Each record is handed to every processor in
+ * turn before the next record is processed, so no intermediate collection is built between the processors and the
+ * record stays in cache across them. The metrics of each processor are reported once per batch.
+ * <p>
+ * A parallel FusedRecordProcessor splits large batches into ranges which are processed by the {@link ForkJoinPool} of
+ * its pipeline, while the worker thread waits. The processed records keep the order of the batch.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+class FusedRecordProcessor implements Processor<Record<?>, Record<?>> {
+    static final int MIN_RECORDS_PER_TASK = 64;
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final RecordProcessor[] processors;
+    private final ForkJoinPool forkJoinPool;
+
+    FusedRecordProcessor(final List<RecordProcessor> processors) {
+        this(processors, null);
+    }
+
+    /**
+     * @param processors   the processors to run, in order
+     * @param forkJoinPool the pool which processes large batches in parallel, or null to process every batch on the
+     *                     calling thread
+     */
+    FusedRecordProcessor(final List<RecordProcessor> processors, final ForkJoinPool forkJoinPool) {
+        this.processors = processors.toArray(new RecordProcessor[0]);
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Replaces each run of two or more consecutive {@link RecordProcessor}s with a single FusedRecordProcessor.
+     *
+     * @param processors the processors of a worker, in order
+     * @return the processors to run, in order
+     */
+    static List<Processor> fuse(final List<Processor> processors) {
+        return fuse(processors, null);
+    }
+
+    /**
+     * Replaces each run of consecutive {@link RecordProcessor}s with a single FusedRecordProcessor. With a
+     * forkJoinPool, the RecordProcessors which are not annotated with {@link SingleThread} are shared by the workers
+     * and therefore thread-safe, so each run of them becomes a parallel FusedRecordProcessor, even a run of one.
+     *
+     * @param processors   the processors of a worker, in order
+     * @param forkJoinPool the pool across which thread-safe RecordProcessors split batches, or null
+     * @return the processors to run, in order
+     */
+    static List<Processor> fuse(final List<Processor> processors, final ForkJoinPool forkJoinPool) {
+        final List<Processor> fusedProcessors = new ArrayList<>(processors.size());
+        final List<RecordProcessor> run = new ArrayList<>();
+        boolean parallelRun = false;
+        for (final Processor processor : processors) {
+            if (processor instanceof RecordProcessor) {
+                final boolean parallelProcessor = forkJoinPool != null && !processor.getClass().isAnnotationPresent(SingleThread.class);
+                if (parallelProcessor != parallelRun) {
+                    addRun(fusedProcessors, run, parallelRun ? forkJoinPool : null);
+                    parallelRun = parallelProcessor;
+                }
+                run.add((RecordProcessor) processor);
+            } else {
+                addRun(fusedProcessors, run, parallelRun ? forkJoinPool : null);
+                fusedProcessors.add(processor);
+            }
+        }
+        addRun(fusedProcessors, run, parallelRun ? forkJoinPool : null);
+        return fusedProcessors;
+    }
+
+    private static void addRun(final List<Processor> fusedProcessors, final List<RecordProcessor> run, final ForkJoinPool forkJoinPool) {
+        if (run.size() == 1 && forkJoinPool == null) {
+            fusedProcessors.add(run.get(0));
+        } else if (!run.isEmpty()) {
+            fusedProcessors.add(new FusedRecordProcessor(run, forkJoinPool));
+        }
+        run.clear();
+    }
+
+    boolean isParallel() {
+        return forkJoinPool != null;
+    }
+
+    @Override
+    public Collection<Record<?>> execute(final Collection<Record<?>> records) {
+        if (forkJoinPool != null && records.size() >= 2 * MIN_RECORDS_PER_TASK) {
+            return executeInParallel(records);
+        }
+
+        final BatchMetrics batchMetrics = new BatchMetrics();
+        final List<Record<?>> processedRecords = new ArrayList<>(records.size());
+        for (final Record<?> record : records) {
+            final Record<?> processedRecord = processRecord(record, batchMetrics);
+            if (processedRecord != null) {
+                processedRecords.add(processedRecord);
+            }
+        }
+        batchMetrics.report();
+        return processedRecords;
+    }
+
+    private Collection<Record<?>> executeInParallel(final Collection<Record<?>> records) {
+        final Record<?>[] input = records.toArray(new Record<?>[0]);
+        final Record<?>[] output = new Record<?>[input.length];
+        final int recordsPerTask = Math.max(MIN_RECORDS_PER_TASK,
+                input.length / (forkJoinPool.getParallelism() * TASKS_PER_THREAD));
+
+        forkJoinPool.invoke(new ProcessRangeTask(input, output, 0, input.length, recordsPerTask)).report();
+
+        final List<Record<?>> processedRecords = new ArrayList<>(output.length);
+        for (final Record<?> processedRecord : output) {
+            if (processedRecord != null) {
+                processedRecords.add(processedRecord);
+            }
+        }
+        return processedRecords;
+    }
+
+    private Record<?> processRecord(final Record<?> record, final BatchMetrics batchMetrics) {
+        Record<?> current = record;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < processors.length && current != null; i++) {
+            batchMetrics.recordsIn[i]++;
+            current = processors[i].processRecord(current);
+            final long endTime = System.nanoTime();
+            batchMetrics.elapsedNanos[i] += endTime - startTime;
+            startTime = endTime;
+            if (current != null) {
+                batchMetrics.recordsOut[i]++;
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public void prepareForShutdown() {
+        for (final RecordProcessor processor : processors) {
+            processor.prepareForShutdown();
+        }
+    }
+
+    @Override
+    public boolean isReadyForShutdown() {
+        for (final RecordProcessor processor : processors) {
+            if (!processor.isReadyForShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void shutdown() {
+        for (final RecordProcessor processor : processors) {
+            processor.shutdown();
+        }
+    }
+
+    /**
+     * Processes input[from, to) into the same positions of output, leaving null for dropped records, by splitting
+     * the range in halves until it holds at most recordsPerTask records.
+     */
+    private class ProcessRangeTask extends RecursiveTask<BatchMetrics> {
+        private final Record<?>[] input;
+        private final Record<?>[] output;
+        private final int from;
+        private final int to;
+        private final int recordsPerTask;
+
+        ProcessRangeTask(final Record<?>[] input, final Record<?>[] output, final int from, final int to, final int recordsPerTask) {
+            this.input = input;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+            this.recordsPerTask = recordsPerTask;
+        }
+
+        @Override
+        protected BatchMetrics compute() {
+            if (to - from <= recordsPerTask) {
+                final BatchMetrics batchMetrics = new BatchMetrics();
+                for (int i = from; i < to; i++) {
+                    output[i] = processRecord(input[i], batchMetrics);
+                }
+                return batchMetrics;
+            }
+            final int middle = (from + to) >>> 1;
+            final ProcessRangeTask second = new ProcessRangeTask(input, output, middle, to, recordsPerTask);
+            second.fork();
+            final BatchMetrics batchMetrics = new ProcessRangeTask(input, output, from, middle, recordsPerTask).compute();
+            batchMetrics.add(second.join());
+            return batchMetrics;
+        }
+    }
+
+    private class BatchMetrics {
+        private final int[] recordsIn;
+        private final int[] recordsOut;
+        private final long[] elapsedNanos;
+
+        BatchMetrics() {
+            recordsIn = new int[processors.length];
+            recordsOut = new int[processors.length];
+            elapsedNanos = new long[processors.length];
+        }
+
+        void add(final BatchMetrics other) {
+            for (int i = 0; i < processors.length; i++) {
+                recordsIn[i] += other.recordsIn[i];
+                recordsOut[i] += other.recordsOut[i];
+                elapsedNanos[i] += other.elapsedNanos[i];
+            }
+        }
+
+        void report() {
+            for (int i = 0; i < processors.length; i++) {
+                processors[i].recordBatchMetrics(recordsIn[i], recordsOut[i], elapsedNanos[i]);
+            }
+        }
+    }
+}
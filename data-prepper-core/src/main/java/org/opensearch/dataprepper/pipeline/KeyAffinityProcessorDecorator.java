@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.peerforwarder.RequiresPeerForwarding;
+import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.record.Record;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Decorates the instance of a {@link RequiresPeerForwarding} processor confined to one process worker, so that it only
+ * receives the events of the identification keys assigned to that worker by a {@link WorkerKeyPartitioner}. The state
+ * the processor keeps per key is therefore only ever used by one thread.
+ * <p>
+ * The {@link ProcessWorker} running the decorated instance takes the hand-offs of each batch with
+ * {@link #takeBatchHandOffs()}, and only checkpoints the batch once the records it handed to other workers are processed.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class KeyAffinityProcessorDecorator implements Processor<Record<Event>, Record<Event>>, RequiresPeerForwarding {
+    private final Processor innerProcessor;
+    private final WorkerKeyPartitioner workerKeyPartitioner;
+    private final int workerIndex;
+
+    KeyAffinityProcessorDecorator(final Processor innerProcessor,
+                                  final WorkerKeyPartitioner workerKeyPartitioner,
+                                  final int workerIndex) {
+        this.innerProcessor = innerProcessor;
+        this.workerKeyPartitioner = workerKeyPartitioner;
+        this.workerIndex = workerIndex;
+    }
+
+    /**
+     * Decorates the instances of a processor, one per process worker, with a partitioner shared between them.
+     *
+     * @param processors the instances of a {@link RequiresPeerForwarding} processor, one per process worker
+     * @return the decorated instances, in the same order
+     */
+    public static List<Processor> decorateProcessors(final List<Processor> processors) {
+        final WorkerKeyPartitioner workerKeyPartitioner = new WorkerKeyPartitioner(processors.size(),
+                new HashSet<>(((RequiresPeerForwarding) processors.get(0)).getIdentificationKeys()));
+        return IntStream.range(0, processors.size())
+                .mapToObj(i -> new KeyAffinityProcessorDecorator(processors.get(i), workerKeyPartitioner, i))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Collection<Record<Event>> execute(final Collection<Record<Event>> records) {
+        return innerProcessor.execute(workerKeyPartitioner.partition(workerIndex, records));
+    }
+
+    /**
+     * @return the hand-offs of the records partitioned since the last call
+     */
+    WorkerKeyPartitioner.BatchHandOffs takeBatchHandOffs() {
+        return workerKeyPartitioner.takeBatchHandOffs(workerIndex);
+    }
+
+    @Override
+    public Collection<String> getIdentificationKeys() {
+        return ((RequiresPeerForwarding) innerProcessor).getIdentificationKeys();
+    }
+
+    @Override
+    public void prepareForShutdown() {
+        innerProcessor.prepareForShutdown();
+    }
+
+    /**
+     * @return true once no records are waiting for this worker and the inner processor is ready for shutdown
+     */
+    @Override
+    public boolean isReadyForShutdown() {
+        return workerKeyPartitioner.isInboxEmpty(workerIndex) && innerProcessor.isReadyForShutdown();
+    }
+
+    @Override
+    public void shutdown() {
+        innerProcessor.shutdown();
+    }
+}
@@ -5,13 +5,17 @@
 
 package org.opensearch.dataprepper.pipeline;
 
+import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.event.JacksonEvent;
 import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.processor.RecordProcessor;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.sink.Sink;
 import com.amazon.dataprepper.model.source.Source;
 import org.opensearch.dataprepper.pipeline.common.PipelineThreadFactory;
 import org.opensearch.dataprepper.pipeline.common.PipelineThreadPoolExecutor;
+import org.opensearch.dataprepper.pipeline.router.Router;
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,12 +24,19 @@ import javax.annotation.Nonnull;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 
@@ -36,6 +47,7 @@ import static java.lang.String.format;
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class Pipeline {
     private static final Logger LOG = LoggerFactory.getLogger(Pipeline.class);
+    private static final long IDLE_WORKER_THREAD_KEEP_ALIVE_MILLIS = 30_000;
     private volatile boolean stopRequested;
 
     private final String name;
@@ -44,11 +56,20 @@ public class Pipeline {
     private final List<List<Processor>> processorSets;
     private final List<Sink> sinks;
     private final int processorThreads;
+    private final int minProcessorThreads;
     private final int readBatchTimeoutInMillis;
+    private final int maxInFlightSinkBatches;
+    private final double latencySampleRate;
+    private final boolean parallelProcessing;
     private final Duration processorShutdownTimeout;
     private final Duration sinkShutdownTimeout;
     private final ExecutorService processorExecutorService;
-    private final ExecutorService sinkExecutorService;
+    private final ForkJoinPool parallelProcessingPool;
+    private final ScheduledExecutorService workerScalerExecutorService;
+    private final ProcessWorkerScaler processWorkerScaler;
+    private final DirectExecutionBuffer directExecutionBuffer;
+    private final List<SinkExecutor> sinkExecutors;
+    private final Router router;
 
     /**
      * Constructs a {@link Pipeline} object with provided {@link Source}, {@link #name}, {@link Collection} of
@@ -57,44 +78,72 @@ public class Pipeline {
      * {@link Processor} sequentially (in the given order) and outputs the processed records to collection of
      * {@link Sink}
      *
-     * @param name                     name of the pipeline
-     * @param source                   source from where the pipeline reads the records
-     * @param buffer                   buffer for the source to queue records
-     * @param processorSets               processor sets that will be applied to records. Each set includes either a single shared processor instance
-     *                                  or multiple instances with each to be accessed only by a single {@link ProcessWorker}.
-     * @param sinks                    sink to which the transformed records are posted
-     * @param processorThreads         configured or default threads to parallelize processor work
-     * @param readBatchTimeoutInMillis configured or default timeout for reading batch of records from buffer
-     * @param processorShutdownTimeout configured or default timeout before forcefully terminating the processor workers
-     * @param sinkShutdownTimeout      configured or default timeout before forcefully terminating the sink workers
+     * @param name          name of the pipeline
+     * @param source        source from where the pipeline reads the records
+     * @param buffer        buffer for the source to queue records, or null with direct execution, in which the source
+     *                      writes to a {@link DirectExecutionBuffer}
+     * @param processorSets processor sets that will be applied to records. Each set includes either a single shared
+     *                      processor instance or multiple instances with each to be accessed only by a single
+     *                      {@link ProcessWorker}.
+     * @param sinks         sink to which the transformed records are posted
+     * @param router        router splitting each processed batch into the records of each sink
+     * @param settings      settings of the workers and sinks of the pipeline
      */
     public Pipeline(
             @Nonnull final String name,
             @Nonnull final Source source,
-            @Nonnull final Buffer buffer,
+            final Buffer buffer,
             @Nonnull final List<List<Processor>> processorSets,
             @Nonnull final List<Sink> sinks,
-            final int processorThreads,
-            final int readBatchTimeoutInMillis,
-            final Duration processorShutdownTimeout,
-            final Duration sinkShutdownTimeout) {
+            @Nonnull final Router router,
+            @Nonnull final PipelineSettings settings) {
+        final int processorThreads = settings.getProcessorThreads();
+        final List<SinkExecutorSettings> sinkExecutorSettings = settings.getSinkExecutorSettings() != null ?
+                settings.getSinkExecutorSettings() :
+                defaultSinkExecutorSettings(sinks.size(), processorThreads, settings.getMaxInFlightSinkBatches());
         Preconditions.checkArgument(processorSets.stream().allMatch(
                 processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
+        Preconditions.checkArgument(sinkExecutorSettings.size() == sinks.size(),
+                "sinkExecutorSettings must have one entry for each sink");
+        Preconditions.checkArgument(settings.isDirectExecution() == (buffer == null),
+                "a buffer must be given unless the pipeline uses direct execution");
         this.name = name;
         this.source = source;
-        this.buffer = buffer;
         this.processorSets = processorSets;
         this.sinks = sinks;
         this.processorThreads = processorThreads;
-        this.readBatchTimeoutInMillis = readBatchTimeoutInMillis;
-        this.processorShutdownTimeout = processorShutdownTimeout;
-        this.sinkShutdownTimeout = sinkShutdownTimeout;
-        this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
-                new PipelineThreadFactory(format("%s-processor-worker", name)), this);
+        this.readBatchTimeoutInMillis = settings.getReadBatchTimeoutInMillis();
+        this.maxInFlightSinkBatches = settings.getMaxInFlightSinkBatches();
+        this.latencySampleRate = settings.getLatencySampleRate();
+        this.parallelProcessing = settings.isParallelProcessing();
+        this.processorShutdownTimeout = settings.getProcessorShutdownTimeout();
+        this.sinkShutdownTimeout = settings.getSinkShutdownTimeout();
+        this.router = Objects.requireNonNull(router);
+        this.minProcessorThreads = settings.getMinProcessorThreads();
+        this.parallelProcessingPool = parallelProcessing ? newParallelProcessingPool(name) : null;
+        this.directExecutionBuffer = settings.isDirectExecution() ? new DirectExecutionBuffer(this, IntStream.range(0, processorThreads)
+                .mapToObj(this::createProcessorChain).collect(Collectors.toList())) : null;
+        this.buffer = settings.isDirectExecution() ? directExecutionBuffer : buffer;
+        if (isWorkerScalingEnabled()) {
+            this.processorExecutorService = PipelineThreadPoolExecutor.newScalingThreadPool(processorThreads,
+                    IDLE_WORKER_THREAD_KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS,
+                    new PipelineThreadFactory(format("%s-processor-worker", name)), this);
+            this.workerScalerExecutorService = Executors.newSingleThreadScheduledExecutor(
+                    new PipelineThreadFactory(format("%s-process-worker-scaler", name)));
+            this.processWorkerScaler = new ProcessWorkerScaler(this, minProcessorThreads, processorThreads,
+                    canRetireProcessWorkers(), this::createProcessWorker, processorExecutorService,
+                    PluginMetrics.fromNames(ProcessWorkerScaler.PROCESS_WORKERS_METRICS_NAME, name));
+        } else {
+            this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
+                    new PipelineThreadFactory(format("%s-processor-worker", name)), this);
+            this.workerScalerExecutorService = null;
+            this.processWorkerScaler = null;
+        }
 
-        // TODO: allow this to be configurable as well?
-        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
-                new PipelineThreadFactory(format("%s-sink-worker", name)), this);
+        this.sinkExecutors = new ArrayList<>(sinks.size());
+        for (int i = 0; i < sinks.size(); i++) {
+            sinkExecutors.add(new SinkExecutor(sinks.get(i), sinkExecutorSettings.get(i), this));
+        }
 
         stopRequested = false;
     }
@@ -114,7 +163,7 @@ public class Pipeline {
     }
 
     /**
-     * @return {@link Buffer} of this pipeline.
+     * @return {@link Buffer} of this pipeline, which is a {@link DirectExecutionBuffer} with direct execution.
      */
     public Buffer getBuffer() {
         return this.buffer;
@@ -142,6 +191,30 @@ public class Pipeline {
         return readBatchTimeoutInMillis;
     }
 
+    int getMaxInFlightSinkBatches() {
+        return maxInFlightSinkBatches;
+    }
+
+    double getLatencySampleRate() {
+        return latencySampleRate;
+    }
+
+    boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    int getMinProcessorThreads() {
+        return minProcessorThreads;
+    }
+
+    boolean isWorkerScalingEnabled() {
+        return minProcessorThreads < processorThreads;
+    }
+
+    boolean isDirectExecution() {
+        return directExecutionBuffer != null;
+    }
+
     /**
      * Executes the current pipeline i.e. reads the data from {@link Source}, executes optional {@link Processor} on the
      * read data and outputs to {@link Sink}.
@@ -149,20 +222,23 @@ public class Pipeline {
     public void execute() {
         LOG.info("Pipeline [{}] - Initiating pipeline execution", name);
         try {
+            if (isDirectExecution()) {
+                directExecutionBuffer.start();
+                source.start(directExecutionBuffer);
+                LOG.info("Pipeline [{}] - Processing records on the source threads", name);
+                return;
+            }
             source.start(buffer);
             LOG.info("Pipeline [{}] - Submitting request to initiate the pipeline processing", name);
-            for (int i = 0; i < processorThreads; i++) {
-                final int finalI = i;
-                final List<Processor> processors = processorSets.stream().map(
-                        processorSet -> {
-                            if (processorSet.size() == 1) {
-                                return processorSet.get(0);
-                            } else {
-                                return processorSet.get(finalI);
-                            }
-                        }
-                ).collect(Collectors.toList());
-                processorExecutorService.submit(new ProcessWorker(buffer, processors, sinks, this));
+            if (isWorkerScalingEnabled()) {
+                processWorkerScaler.start();
+                workerScalerExecutorService.scheduleWithFixedDelay(processWorkerScaler,
+                        ProcessWorkerScaler.SCALING_INTERVAL_MILLIS, ProcessWorkerScaler.SCALING_INTERVAL_MILLIS,
+                        TimeUnit.MILLISECONDS);
+            } else {
+                for (int i = 0; i < processorThreads; i++) {
+                    processorExecutorService.submit(createProcessWorker(i));
+                }
             }
         } catch (Exception ex) {
             //source failed to start - Cannot proceed further with the current pipeline, skipping further execution
@@ -170,13 +246,64 @@ public class Pipeline {
         }
     }
 
+    /**
+     * Creates the {@link ProcessWorker} of the given index.
+     */
+    private ProcessWorker createProcessWorker(final int workerIndex) {
+        return new ProcessWorker(buffer, createProcessorChain(workerIndex), sinks, this);
+    }
+
+    /**
+     * Creates the processors run by the worker of the given index, which are the processor instances confined to that
+     * index along with the processors shared by all workers.
+     */
+    private List<Processor> createProcessorChain(final int workerIndex) {
+        final List<Processor> processors = processorSets.stream().map(
+                processorSet -> {
+                    if (processorSet.size() == 1) {
+                        return processorSet.get(0);
+                    } else {
+                        return processorSet.get(workerIndex);
+                    }
+                }
+        ).collect(Collectors.toList());
+        return FusedRecordProcessor.fuse(processors, parallelProcessingPool);
+    }
+
+    /**
+     * Creates the pool across which the workers of the pipeline split their batches, with one thread for each core.
+     */
+    private static ForkJoinPool newParallelProcessingPool(final String name) {
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(format("%s-parallel-processor-%d", name, threadNumber.getAndIncrement()));
+            return thread;
+        }, null, false);
+    }
+
+    private boolean canRetireProcessWorkers() {
+        final List<Processor> confinedProcessors = processorSets.stream()
+                .filter(processorSet -> processorSet.size() > 1)
+                .map(processorSet -> processorSet.get(0))
+                .filter(processor -> !(processor instanceof RecordProcessor))
+                .collect(Collectors.toList());
+        if (!confinedProcessors.isEmpty()) {
+            LOG.info("Pipeline [{}] - Process workers will not be retired as processors {} keep state per worker",
+                    name, confinedProcessors.stream().map(processor -> processor.getClass().getSimpleName())
+                            .collect(Collectors.toList()));
+        }
+        return confinedProcessors.isEmpty();
+    }
+
     /**
      * Initiates shutdown of the pipeline by:
-     * 1. Stopping the source to prevent new items from being consumed
+     * 1. Stopping the source to prevent new items from being consumed, and the scaling of the ProcessWorkers
      * 2. Notifying processors to prepare for shutdown (e.g. flushing batched items)
-     * 3. Waiting for ProcessWorkers to exit their run loop (only after buffer/processors are empty)
+     * 3. Waiting for ProcessWorkers to exit their run loop (only after buffer/processors are empty), or in direct
+     * execution for the writes in progress and the processors to complete
      * 4. Stopping the ProcessWorkers if they are unable to exit gracefully
-     * 5. Shutting down processors and sinks
+     * 5. Stopping the pool of parallel processing, and shutting down processors and sinks
      * 6. Stopping the sink ExecutorService
      */
     public void shutdown() {
@@ -186,50 +313,143 @@ public class Pipeline {
         try {
             source.stop();
             stopRequested = true;
+            if (workerScalerExecutorService != null) {
+                workerScalerExecutorService.shutdownNow();
+            }
             processorSets.forEach(processorSet -> processorSet.forEach(Processor::prepareForShutdown));
         } catch (Exception ex) {
             LOG.error("Pipeline [{}] - Encountered exception while stopping the source, " +
                     "proceeding with termination of process workers", name);
         }
 
-        shutdownExecutorService(processorExecutorService, processorShutdownTimeout.toMillis());
+        if (isDirectExecution()) {
+            directExecutionBuffer.shutdown(processorShutdownTimeout);
+        }
+        shutdownExecutorServices(Collections.singletonList(processorExecutorService), processorShutdownTimeout.toMillis());
+        if (parallelProcessingPool != null) {
+            parallelProcessingPool.shutdown();
+        }
 
         processorSets.forEach(processorSet -> processorSet.forEach(Processor::shutdown));
         sinks.forEach(Sink::shutdown);
 
-        shutdownExecutorService(sinkExecutorService, sinkShutdownTimeout.toMillis());
+        shutdownExecutorServices(sinkExecutors.stream().map(SinkExecutor::getExecutorService).collect(Collectors.toList()),
+                sinkShutdownTimeout.toMillis());
     }
 
-    private void shutdownExecutorService(final ExecutorService executorService, final long timeoutForTerminationInMillis) {
+    private void shutdownExecutorServices(final List<ExecutorService> executorServices, final long timeoutForTerminationInMillis) {
         LOG.info("Pipeline [{}] - Shutting down process workers", name);
 
-        executorService.shutdown();
+        executorServices.forEach(ExecutorService::shutdown);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutForTerminationInMillis);
         try {
-            if (!executorService.awaitTermination(timeoutForTerminationInMillis, TimeUnit.MILLISECONDS)) {
-                LOG.warn("Pipeline [{}] - Workers did not terminate in time, forcing termination", name);
-                executorService.shutdownNow();
+            for (final ExecutorService executorService : executorServices) {
+                if (!executorService.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    LOG.warn("Pipeline [{}] - Workers did not terminate in time, forcing termination", name);
+                    executorService.shutdownNow();
+                }
             }
         } catch (InterruptedException ex) {
             LOG.info("Pipeline [{}] - Encountered interruption terminating the pipeline execution, " +
                     "Attempting to force the termination", name);
-            executorService.shutdownNow();
+            executorServices.forEach(ExecutorService::shutdownNow);
         }
     }
 
     /**
-     * Submits the provided collection of records to output to each sink. Collects the future from each sink and returns
-     * them as list of futures
+     * Submits the records routed to each sink to that sink. Collects the future from each sink which receives records
+     * and returns them as list of futures
      *
-     * @param records records that needs to published to each sink
-     * @return List of Future, each future for each sink
+     * @param records records that needs to published to the sinks
+     * @return List of Future, one for each sink which received records
      */
     List<Future<Void>> publishToSinks(final Collection<Record> records) {
-        final int sinksSize = sinks.size();
-        final List<Future<Void>> sinkFutures = new ArrayList<>(sinksSize);
-        for (int i = 0; i < sinksSize; i++) {
-            final int finalI = i;
-            sinkFutures.add(sinkExecutorService.submit(() -> sinks.get(finalI).output(records), null));
+        return publishToSinks(records, () -> { });
+    }
+
+    /**
+     * Submits the records routed to each sink to that sink, and runs the given callback on the sink thread which
+     * completes last. Sinks to which no record is routed are skipped. The callback runs whether or not the sinks
+     * succeed; a sink failure is still reported through its future. When the records go to more than one sink, each
+     * sink which passes them on to another pipeline gets copies of the events, see {@link #getRecordsForSink}.
+     *
+     * @param records              records that needs to published to the sinks
+     * @param onAllSinksCompletion callback to run once every sink has returned
+     * @return List of Future, one for each sink which received records
+     */
+    List<Future<Void>> publishToSinks(final Collection<Record> records, final Runnable onAllSinksCompletion) {
+        final List<Collection<Record>> recordsPerSink = router.route(records);
+        final List<Integer> targetSinks = new ArrayList<>(sinkExecutors.size());
+        for (int i = 0; i < sinkExecutors.size(); i++) {
+            if (!recordsPerSink.get(i).isEmpty()) {
+                targetSinks.add(i);
+            }
+        }
+        if (targetSinks.isEmpty()) {
+            onAllSinksCompletion.run();
+            return Collections.emptyList();
+        }
+        final boolean isSharedAcrossSinks = targetSinks.size() > 1;
+        final List<Collection<Record>> recordsForTargetSinks = new ArrayList<>(targetSinks.size());
+        for (final int sinkIndex : targetSinks) {
+            recordsForTargetSinks.add(getRecordsForSink(sinkIndex, recordsPerSink.get(sinkIndex), isSharedAcrossSinks));
+        }
+        final AtomicInteger remainingSinks = new AtomicInteger(targetSinks.size());
+        final List<Future<Void>> sinkFutures = new ArrayList<>(targetSinks.size());
+        for (int i = 0; i < targetSinks.size(); i++) {
+            sinkFutures.add(sinkExecutors.get(targetSinks.get(i)).output(recordsForTargetSinks.get(i), () -> {
+                if (remainingSinks.decrementAndGet() == 0) {
+                    onAllSinksCompletion.run();
+                }
+            }));
         }
         return sinkFutures;
     }
+
+    /**
+     * Outputs the records routed to each sink to that sink on the calling thread, one sink after the other. A sink
+     * failure is thrown to the caller.
+     *
+     * @param records records that needs to published to the sinks
+     */
+    void publishToSinksInline(final Collection<Record> records) {
+        final List<Collection<Record>> recordsPerSink = router.route(records);
+        final boolean isSharedAcrossSinks = recordsPerSink.stream().filter(sinkRecords -> !sinkRecords.isEmpty()).count() > 1;
+        for (int i = 0; i < sinkExecutors.size(); i++) {
+            if (!recordsPerSink.get(i).isEmpty()) {
+                sinkExecutors.get(i).outputInline(getRecordsForSink(i, recordsPerSink.get(i), isSharedAcrossSinks));
+            }
+        }
+    }
+
+    /**
+     * Returns the records to output to a sink. Sinks only read the events, so they share them. A downstream pipeline
+     * however may modify them while the other sinks read them, so a sink which passes records on to another pipeline
+     * gets copies of the events when the records also go to other sinks. The copies share the data of the events until
+     * they are modified, so a copy only costs a new event and record.
+     */
+    private Collection<Record> getRecordsForSink(final int sinkIndex, final Collection<Record> records,
+                                                 final boolean isSharedAcrossSinks) {
+        if (!isSharedAcrossSinks || !sinkExecutors.get(sinkIndex).isPipelineConnector()) {
+            return records;
+        }
+        final List<Record> copies = new ArrayList<>(records.size());
+        for (final Record record : records) {
+            if (record.getData() instanceof JacksonEvent) {
+                copies.add(new Record<>(((JacksonEvent) record.getData()).copy(), record.getMetadata()));
+            } else {
+                copies.add(record);
+            }
+        }
+        return copies;
+    }
+
+    private static List<SinkExecutorSettings> defaultSinkExecutorSettings(
+            final int sinksSize, final int processorThreads, final int maxInFlightSinkBatches) {
+        final List<SinkExecutorSettings> sinkExecutorSettings = new ArrayList<>(sinksSize);
+        for (int i = 0; i < sinksSize; i++) {
+            sinkExecutorSettings.add(new SinkExecutorSettings("sink" + i, processorThreads, processorThreads * maxInFlightSinkBatches));
+        }
+        return sinkExecutorSettings;
+    }
 }
@@ -6,13 +6,17 @@
 package org.opensearch.dataprepper.pipeline;
 
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.sink.Sink;
 import com.amazon.dataprepper.model.source.Source;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -20,6 +24,12 @@ import static java.lang.String.format;
 
 /**
  * PipelineConnector is a special type of Plugin which connects two pipelines acting both as Sink and Source.
+ * <p>
+ * Each batch is handed to the buffer of the connected pipeline with {@link Buffer#writeAll(Collection, int)} as a
+ * read-only view, without copying the records. If the buffer rejects the batch with a {@link SizeOverflowException},
+ * the connector writes the rest of the batch in chunks of half the size, halving again as needed. Each batch is first
+ * written whole, so a batch of a few large records does not shrink the chunks of the following ones. A buffer which
+ * queues whole batches, such as the hand_off buffer, therefore receives the batch collection itself.
  *
  * @param <T>
  */
@@ -53,18 +63,7 @@ public final class PipelineConnector<T extends Record<?>> implements Source<T>,
     @Override
     public void output(final Collection<T> records) {
         if (buffer != null && !isStopRequested.get()) {
-            for (T record : records) {
-                while (true) {
-                    try {
-                        buffer.write(record, DEFAULT_WRITE_TIMEOUT);
-                        break;
-                    } catch (TimeoutException ex) {
-                        LOG.error("PipelineConnector [{}-{}]: Timed out writing to pipeline [{}]",
-                                sinkPipelineName, sourcePipelineName, sourcePipelineName, ex);
-                    }
-                }
-
-            }
+            writeInChunks(records);
         } else {
             LOG.error("PipelineConnector [{}-{}]: Pipeline [{}] is currently not initialized or has been halted",
                     sinkPipelineName, sourcePipelineName, sourcePipelineName);
@@ -73,6 +72,45 @@ public final class PipelineConnector<T extends Record<?>> implements Source<T>,
         }
     }
 
+    /**
+     * Writes the records in chunks, starting with a single chunk of the whole batch. Each chunk is written atomically,
+     * so a chunk which times out is retried on its own without writing the preceding chunks again, unless the thread
+     * has been interrupted, for instance by the shutdown of the sink executor, as the retry would then fail at once.
+     */
+    private void writeInChunks(final Collection<T> records) {
+        final List<T> recordsView = Collections.unmodifiableList(
+                records instanceof List ? (List<T>) records : new ArrayList<>(records));
+        int maxChunkSize = recordsView.size();
+        int written = 0;
+        while (written < recordsView.size()) {
+            final int chunkSize = Math.min(maxChunkSize, recordsView.size() - written);
+            try {
+                buffer.writeAll(recordsView.subList(written, written + chunkSize), DEFAULT_WRITE_TIMEOUT);
+                written += chunkSize;
+            } catch (final TimeoutException ex) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new RuntimeException(format("PipelineConnector [%s-%s]: Interrupted writing to pipeline [%s]",
+                            sinkPipelineName, sourcePipelineName, sourcePipelineName), ex);
+                }
+                LOG.error("PipelineConnector [{}-{}]: Timed out writing to pipeline [{}]",
+                        sinkPipelineName, sourcePipelineName, sourcePipelineName, ex);
+            } catch (final SizeOverflowException ex) {
+                if (chunkSize == 1) {
+                    throw new RuntimeException(format("PipelineConnector [%s-%s]: A single record exceeds the capacity " +
+                            "of the buffer of pipeline [%s]", sinkPipelineName, sourcePipelineName, sourcePipelineName), ex);
+                }
+                maxChunkSize = chunkSize / 2;
+                LOG.debug("PipelineConnector [{}-{}]: Writing to pipeline [{}] in chunks of {} records",
+                        sinkPipelineName, sourcePipelineName, sourcePipelineName, maxChunkSize);
+            } catch (final RuntimeException ex) {
+                throw ex;
+            } catch (final Exception ex) {
+                throw new RuntimeException(format("PipelineConnector [%s-%s]: Failed writing to pipeline [%s]",
+                        sinkPipelineName, sourcePipelineName, sourcePipelineName), ex);
+            }
+        }
+    }
+
     @Override
     public void shutdown() {
         //TODO: Cleanup resources
@@ -0,0 +1,231 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.sink.Sink;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * The settings with which a {@link Pipeline} runs its workers and sinks. Only the number of workers, the read batch
+ * timeout and the shutdown timeouts are required; the other settings default to a pipeline with a fixed number of
+ * workers, each waiting for the sinks before reading its next batch.
+ */
+public class PipelineSettings {
+    private final int processorThreads;
+    private final int minProcessorThreads;
+    private final int readBatchTimeoutInMillis;
+    private final int maxInFlightSinkBatches;
+    private final List<SinkExecutorSettings> sinkExecutorSettings;
+    private final double latencySampleRate;
+    private final boolean parallelProcessing;
+    private final boolean directExecution;
+    private final Duration processorShutdownTimeout;
+    private final Duration sinkShutdownTimeout;
+
+    private PipelineSettings(final Builder builder) {
+        checkArgument(builder.processorThreads > 0, "processorThreads must be positive");
+        checkArgument(builder.maxInFlightSinkBatches > 0, "maxInFlightSinkBatches must be positive");
+        checkArgument(builder.latencySampleRate >= 0 && builder.latencySampleRate <= 1,
+                "latencySampleRate must be between 0 and 1");
+        final int minProcessorThreads = builder.minProcessorThreads == null ? builder.processorThreads : builder.minProcessorThreads;
+        checkArgument(minProcessorThreads > 0 && minProcessorThreads <= builder.processorThreads,
+                "minProcessorThreads must be between 1 and processorThreads");
+        checkArgument(!builder.directExecution || minProcessorThreads == builder.processorThreads,
+                "worker scaling is not supported with direct execution");
+        this.processorThreads = builder.processorThreads;
+        this.minProcessorThreads = minProcessorThreads;
+        this.readBatchTimeoutInMillis = builder.readBatchTimeoutInMillis;
+        this.maxInFlightSinkBatches = builder.maxInFlightSinkBatches;
+        this.sinkExecutorSettings = builder.sinkExecutorSettings;
+        this.latencySampleRate = builder.latencySampleRate;
+        this.parallelProcessing = builder.parallelProcessing;
+        this.directExecution = builder.directExecution;
+        this.processorShutdownTimeout = Objects.requireNonNull(builder.processorShutdownTimeout);
+        this.sinkShutdownTimeout = Objects.requireNonNull(builder.sinkShutdownTimeout);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of workers, and of the instances of the processors confined to a worker
+     */
+    public int getProcessorThreads() {
+        return processorThreads;
+    }
+
+    /**
+     * @return the number of workers started with the pipeline, which is processorThreads unless workers are scaled
+     */
+    public int getMinProcessorThreads() {
+        return minProcessorThreads;
+    }
+
+    public int getReadBatchTimeoutInMillis() {
+        return readBatchTimeoutInMillis;
+    }
+
+    public int getMaxInFlightSinkBatches() {
+        return maxInFlightSinkBatches;
+    }
+
+    /**
+     * @return the sizing of the thread pool of each sink, in the same order as the sinks, or null for a pool per sink
+     * with a thread per worker
+     */
+    public List<SinkExecutorSettings> getSinkExecutorSettings() {
+        return sinkExecutorSettings;
+    }
+
+    public double getLatencySampleRate() {
+        return latencySampleRate;
+    }
+
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    public boolean isDirectExecution() {
+        return directExecution;
+    }
+
+    public Duration getProcessorShutdownTimeout() {
+        return processorShutdownTimeout;
+    }
+
+    public Duration getSinkShutdownTimeout() {
+        return sinkShutdownTimeout;
+    }
+
+    public static class Builder {
+        private int processorThreads;
+        private Integer minProcessorThreads;
+        private int readBatchTimeoutInMillis;
+        private int maxInFlightSinkBatches = 1;
+        private List<SinkExecutorSettings> sinkExecutorSettings;
+        private double latencySampleRate;
+        private boolean parallelProcessing;
+        private boolean directExecution;
+        private Duration processorShutdownTimeout;
+        private Duration sinkShutdownTimeout;
+
+        private Builder() {
+        }
+
+        /**
+         * @param processorThreads configured or default threads to parallelize processor work
+         * @return this builder
+         */
+        public Builder withProcessorThreads(final int processorThreads) {
+            this.processorThreads = processorThreads;
+            return this;
+        }
+
+        /**
+         * @param minProcessorThreads configured number of workers started with the pipeline, between 1 and
+         *                            processorThreads. The number of workers then grows and shrinks with the buffer fill
+         *                            ratio and the utilization of the workers. Defaults to processorThreads, with which
+         *                            the number of workers is fixed.
+         * @return this builder
+         */
+        public Builder withMinProcessorThreads(final int minProcessorThreads) {
+            this.minProcessorThreads = minProcessorThreads;
+            return this;
+        }
+
+        /**
+         * @param readBatchTimeoutInMillis configured or default timeout for reading batch of records from buffer
+         * @return this builder
+         */
+        public Builder withReadBatchTimeoutInMillis(final int readBatchTimeoutInMillis) {
+            this.readBatchTimeoutInMillis = readBatchTimeoutInMillis;
+            return this;
+        }
+
+        /**
+         * @param maxInFlightSinkBatches max number of batches each worker may have in flight to the sinks. With the
+         *                               default of 1 a worker waits for the sinks before reading its next batch.
+         * @return this builder
+         */
+        public Builder withMaxInFlightSinkBatches(final int maxInFlightSinkBatches) {
+            this.maxInFlightSinkBatches = maxInFlightSinkBatches;
+            return this;
+        }
+
+        /**
+         * @param sinkExecutorSettings sizing of the thread pool which delivers to each {@link Sink}, in the same order
+         *                             as the sinks
+         * @return this builder
+         */
+        public Builder withSinkExecutorSettings(final List<SinkExecutorSettings> sinkExecutorSettings) {
+            this.sinkExecutorSettings = sinkExecutorSettings;
+            return this;
+        }
+
+        /**
+         * @param latencySampleRate fraction of the events, between 0 and 1, whose latencies are recorded. With the
+         *                          default of 0 no latency is recorded.
+         * @return this builder
+         */
+        public Builder withLatencySampleRate(final double latencySampleRate) {
+            this.latencySampleRate = latencySampleRate;
+            return this;
+        }
+
+        /**
+         * @param parallelProcessing whether the processors of a worker which are RecordProcessors and not annotated
+         *                           with SingleThread process large batches in parallel, keeping their order
+         * @return this builder
+         */
+        public Builder withParallelProcessing(final boolean parallelProcessing) {
+            this.parallelProcessing = parallelProcessing;
+            return this;
+        }
+
+        /**
+         * @param directExecution whether the source thread runs the processors and sinks before its write returns
+         * @return this builder
+         */
+        public Builder withDirectExecution(final boolean directExecution) {
+            this.directExecution = directExecution;
+            return this;
+        }
+
+        /**
+         * @param processorShutdownTimeout configured or default timeout before forcefully terminating the processor
+         *                                 workers
+         * @return this builder
+         */
+        public Builder withProcessorShutdownTimeout(final Duration processorShutdownTimeout) {
+            this.processorShutdownTimeout = processorShutdownTimeout;
+            return this;
+        }
+
+        /**
+         * @param sinkShutdownTimeout configured or default timeout before forcefully terminating the sink workers
+         * @return this builder
+         */
+        public Builder withSinkShutdownTimeout(final Duration sinkShutdownTimeout) {
+            this.sinkShutdownTimeout = sinkShutdownTimeout;
+            return this;
+        }
+
+        /**
+         * @return the settings
+         * @throws IllegalArgumentException if a setting is out of its range
+         * @throws NullPointerException if a shutdown timeout is missing
+         */
+        public PipelineSettings build() {
+            return new PipelineSettings(this);
+        }
+    }
+}
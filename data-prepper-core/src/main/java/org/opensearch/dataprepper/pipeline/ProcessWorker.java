@@ -5,11 +5,13 @@
 
 package org.opensearch.dataprepper.pipeline;
 
+import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.CheckpointState;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.sink.Sink;
+import org.opensearch.dataprepper.peerforwarder.PeerForwardingProcessorDecorator;
 import org.opensearch.dataprepper.pipeline.common.FutureHelper;
 import org.opensearch.dataprepper.pipeline.common.FutureHelperResult;
 import org.slf4j.Logger;
@@ -18,7 +20,11 @@ import org.slf4j.LoggerFactory;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ProcessWorker implements Runnable {
@@ -26,9 +32,17 @@ public class ProcessWorker implements Runnable {
 
     private final Buffer readBuffer;
     private final List<Processor> processors;
+    private final List<KeyAffinityProcessorDecorator> keyAffinityProcessors;
     private final Collection<Sink> sinks;
     private final Pipeline pipeline;
+    private final int maxInFlightSinkBatches;
+    private final Semaphore inFlightSinkBatches;
+    private final EventLatencyRecorder timeSinceReceivedRecorder;
+    private final EventLatencyRecorder bufferDwellTimeRecorder;
     private boolean isEmptyRecordsLogged = false;
+    private volatile boolean retireRequested = false;
+    // Written only by the worker thread, read by the ProcessWorkerScaler
+    private volatile long busyTimeNanos = 0;
 
     public ProcessWorker(
             final Buffer readBuffer,
@@ -37,8 +51,30 @@ public class ProcessWorker implements Runnable {
             final Pipeline pipeline) {
         this.readBuffer = readBuffer;
         this.processors = processors;
+        this.keyAffinityProcessors = processors.stream()
+                .map(ProcessWorker::unwrapPeerForwarding)
+                .filter(processor -> processor instanceof KeyAffinityProcessorDecorator)
+                .map(processor -> (KeyAffinityProcessorDecorator) processor)
+                .collect(Collectors.toList());
         this.sinks = sinks;
         this.pipeline = pipeline;
+        this.maxInFlightSinkBatches = pipeline.getMaxInFlightSinkBatches();
+        this.inFlightSinkBatches = new Semaphore(maxInFlightSinkBatches);
+        final PluginMetrics latencyMetrics = PluginMetrics.fromNames(
+                EventLatencyRecorder.LATENCY_METRICS_NAME, pipeline.getName());
+        this.timeSinceReceivedRecorder = EventLatencyRecorder.create(
+                latencyMetrics, EventLatencyRecorder.TIME_SINCE_RECEIVED, pipeline.getLatencySampleRate());
+        this.bufferDwellTimeRecorder = EventLatencyRecorder.create(
+                latencyMetrics, EventLatencyRecorder.BUFFER_DWELL_TIME, pipeline.getLatencySampleRate());
+    }
+
+    /**
+     * Key affinity decorators are themselves decorated for peer forwarding, which hands them the records received from
+     * other nodes along with the batch of the worker.
+     */
+    private static Processor unwrapPeerForwarding(final Processor processor) {
+        return processor instanceof PeerForwardingProcessorDecorator ?
+                ((PeerForwardingProcessorDecorator) processor).getInnerProcessor() : processor;
     }
 
     @Override
@@ -48,6 +84,10 @@ public class ProcessWorker implements Runnable {
                 final Map.Entry<Collection, CheckpointState> readResult = readBuffer.read(pipeline.getReadBatchTimeoutInMillis());
                 Collection records = readResult.getKey();
                 final CheckpointState checkpointState = readResult.getValue();
+                final long processingStartTime = System.nanoTime();
+                final boolean isBatchReceived = !records.isEmpty();
+                bufferDwellTimeRecorder.recordSinceWritten(records);
+                timeSinceReceivedRecorder.record(records);
                 //TODO Hacky way to avoid logging continuously - Will be removed as part of metrics implementation
                 if (records.isEmpty()) {
                     if(!isEmptyRecordsLogged) {
@@ -61,17 +101,47 @@ public class ProcessWorker implements Runnable {
                 for (final Processor processor : processors) {
                     records = processor.execute(records);
                 }
-                if (!records.isEmpty()) {
-                    postToSink(records);
+                final List<WorkerKeyPartitioner.BatchHandOffs> batchHandOffs = takeBatchHandOffs();
+                if (isSinkStagePipelined()) {
+                    postToSinkAndCheckpointOnCompletion(records, checkpointState, batchHandOffs);
+                } else {
+                    if (!records.isEmpty()) {
+                        postToSink(records);
+                    }
+                    // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
+                    checkpoint(checkpointState, batchHandOffs);
+                }
+                if (isBatchReceived) {
+                    busyTimeNanos += System.nanoTime() - processingStartTime;
                 }
-                // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
-                readBuffer.checkpoint(checkpointState);
-            } while (!shouldStop());
+            } while (!shouldStop() && !retireRequested);
+            if (isSinkStagePipelined()) {
+                awaitInFlightSinkBatches();
+            }
         } catch (final Exception e) {
             LOG.error("Encountered exception during pipeline {} processing", pipeline.getName(), e);
         }
     }
 
+    /**
+     * Requests this worker to exit its run loop once it has delivered its current batch. Unlike a pipeline shutdown,
+     * the buffer is not drained first, as the remaining workers keep reading from it.
+     */
+    void retire() {
+        retireRequested = true;
+    }
+
+    boolean isRetireRequested() {
+        return retireRequested;
+    }
+
+    /**
+     * @return total time spent processing and delivering non-empty batches, as opposed to waiting on the buffer
+     */
+    long getBusyTimeNanos() {
+        return busyTimeNanos;
+    }
+
     /**
      * Shutdown should be handled end to end.
      *
@@ -87,6 +157,75 @@ public class ProcessWorker implements Runnable {
                 .allMatch(result -> result == true);
     }
 
+    private boolean isSinkStagePipelined() {
+        return maxInFlightSinkBatches > 1;
+    }
+
+    /**
+     * Publishes the records to the sinks without waiting for them, so that the next batch can be processed while
+     * this one is delivered. The batch is checkpointed once every sink has returned. Blocks while the max number of
+     * batches is already in flight.
+     */
+    private void postToSinkAndCheckpointOnCompletion(final Collection<Record> records,
+                                                     final CheckpointState checkpointState,
+                                                     final List<WorkerKeyPartitioner.BatchHandOffs> batchHandOffs)
+            throws InterruptedException {
+        if (records.isEmpty()) {
+            checkpoint(checkpointState, batchHandOffs);
+            return;
+        }
+        inFlightSinkBatches.acquire();
+        LOG.debug("Pipeline Worker: Submitting {} processed records to sinks without waiting", records.size());
+        try {
+            pipeline.publishToSinks(records, () -> {
+                try {
+                    checkpoint(checkpointState, batchHandOffs);
+                } finally {
+                    inFlightSinkBatches.release();
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            // A sink executor which has been shut down never runs the callback, so the batch is left unchecked
+            inFlightSinkBatches.release();
+            throw ex;
+        }
+    }
+
+    private List<WorkerKeyPartitioner.BatchHandOffs> takeBatchHandOffs() {
+        return keyAffinityProcessors.stream()
+                .map(KeyAffinityProcessorDecorator::takeBatchHandOffs)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Checkpoints a batch which has been processed and delivered to the sinks. With key affinity, the records this
+     * worker took from the inboxes of its processors are reported as processed, and the batch is only checkpointed
+     * once the workers to which it handed records have processed them, possibly on the thread of such a worker.
+     */
+    private void checkpoint(final CheckpointState checkpointState,
+                            final List<WorkerKeyPartitioner.BatchHandOffs> batchHandOffs) {
+        if (batchHandOffs.isEmpty()) {
+            readBuffer.checkpoint(checkpointState);
+            return;
+        }
+        batchHandOffs.forEach(WorkerKeyPartitioner.BatchHandOffs::completeTaken);
+        CompletableFuture.allOf(batchHandOffs.stream()
+                        .map(WorkerKeyPartitioner.BatchHandOffs::whenMadeAreCompleted)
+                        .toArray(CompletableFuture[]::new))
+                .thenRun(() -> readBuffer.checkpoint(checkpointState))
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        LOG.error("Pipeline {} failed to checkpoint a batch with records handed to other workers",
+                                pipeline.getName(), throwable);
+                    }
+                });
+    }
+
+    private void awaitInFlightSinkBatches() throws InterruptedException {
+        inFlightSinkBatches.acquire(maxInFlightSinkBatches);
+        inFlightSinkBatches.release(maxInFlightSinkBatches);
+    }
+
     /**
      * TODO Add isolator pattern - Fail if one of the Sink fails [isolator Pattern]
      * Uses the pipeline method to publish to sinks, waits for each of the sink result to be true before attempting to
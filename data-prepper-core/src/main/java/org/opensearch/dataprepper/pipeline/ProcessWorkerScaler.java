@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Grows and shrinks the {@link ProcessWorker}s of a {@link Pipeline} between a min and a max number of workers. On
+ * each run, one worker is added while the buffer fills up or the workers are busy for most of the interval, and one
+ * worker is retired while the buffer is nearly empty and the workers are mostly idle.
+ * <p>
+ * Each worker runs in a slot, identified by an index below the max number of workers. A slot is only reused once its
+ * previous worker has exited, so the processor instances confined to a slot are never accessed by two workers at once.
+ */
+class ProcessWorkerScaler implements Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessWorkerScaler.class);
+
+    static final long SCALING_INTERVAL_MILLIS = 1_000;
+    static final double SCALE_UP_FILL_RATIO = 0.5;
+    static final double SCALE_UP_UTILIZATION = 0.8;
+    static final double SCALE_DOWN_FILL_RATIO = 0.1;
+    static final double SCALE_DOWN_UTILIZATION = 0.3;
+    static final String PROCESS_WORKERS_METRICS_NAME = "processWorkers";
+    static final String ACTIVE_WORKERS = "activeWorkers";
+
+    private final Pipeline pipeline;
+    private final int minWorkers;
+    private final boolean canRetireWorkers;
+    private final IntFunction<ProcessWorker> workerFactory;
+    private final ExecutorService executorService;
+    private final ProcessWorker[] workers;
+    private final Future<?>[] workerFutures;
+    private final long[] lastBusyTimeNanos;
+    private final AtomicInteger activeWorkers;
+    private long lastScaleTimeNanos;
+
+    /**
+     * @param pipeline         pipeline whose buffer drives the scaling
+     * @param minWorkers       number of workers started up front, below which workers are not retired
+     * @param maxWorkers       max number of workers
+     * @param canRetireWorkers false if retiring a worker would strand the state of the processors confined to its slot
+     * @param workerFactory    creates the worker of a slot
+     * @param executorService  executor running the workers, with at least maxWorkers threads
+     * @param pluginMetrics    metrics in which to register the number of active workers
+     */
+    ProcessWorkerScaler(final Pipeline pipeline,
+                        final int minWorkers,
+                        final int maxWorkers,
+                        final boolean canRetireWorkers,
+                        final IntFunction<ProcessWorker> workerFactory,
+                        final ExecutorService executorService,
+                        final PluginMetrics pluginMetrics) {
+        this.pipeline = pipeline;
+        this.minWorkers = minWorkers;
+        this.canRetireWorkers = canRetireWorkers;
+        this.workerFactory = workerFactory;
+        this.executorService = executorService;
+        this.workers = new ProcessWorker[maxWorkers];
+        this.workerFutures = new Future<?>[maxWorkers];
+        this.lastBusyTimeNanos = new long[maxWorkers];
+        this.activeWorkers = pluginMetrics.gauge(ACTIVE_WORKERS, new AtomicInteger());
+    }
+
+    /**
+     * Starts the min number of workers.
+     */
+    void start() {
+        for (int slot = 0; slot < minWorkers; slot++) {
+            startWorker(slot);
+        }
+        activeWorkers.set(minWorkers);
+        lastScaleTimeNanos = System.nanoTime();
+    }
+
+    @Override
+    public void run() {
+        try {
+            scale(System.nanoTime());
+        } catch (final Exception e) {
+            LOG.error("Pipeline [{}] - Encountered exception scaling the process workers", pipeline.getName(), e);
+        }
+    }
+
+    void scale(final long nowNanos) {
+        final long elapsedNanos = nowNanos - lastScaleTimeNanos;
+        lastScaleTimeNanos = nowNanos;
+
+        int active = 0;
+        long busyNanos = 0;
+        for (int slot = 0; slot < workers.length; slot++) {
+            if (workers[slot] == null) {
+                continue;
+            }
+            if (workerFutures[slot].isDone()) {
+                workers[slot] = null;
+                workerFutures[slot] = null;
+                continue;
+            }
+            final long busyTimeNanos = workers[slot].getBusyTimeNanos();
+            if (!workers[slot].isRetireRequested()) {
+                active++;
+                busyNanos += busyTimeNanos - lastBusyTimeNanos[slot];
+            }
+            lastBusyTimeNanos[slot] = busyTimeNanos;
+        }
+        activeWorkers.set(active);
+        if (pipeline.isStopRequested()) {
+            return;
+        }
+
+        final double fillRatio = pipeline.getBuffer().getFillRatio();
+        final double utilization = active == 0 || elapsedNanos <= 0
+                ? 1.0 : Math.min(1.0, busyNanos / ((double) active * elapsedNanos));
+        if (active < workers.length && (fillRatio >= SCALE_UP_FILL_RATIO || utilization >= SCALE_UP_UTILIZATION)) {
+            final int freeSlot = findFreeSlot();
+            if (freeSlot >= 0) {
+                LOG.info("Pipeline [{}] - Adding a process worker, buffer fill ratio {} and worker utilization {}",
+                        pipeline.getName(), fillRatio, utilization);
+                startWorker(freeSlot);
+                activeWorkers.incrementAndGet();
+            }
+        } else if (canRetireWorkers && active > minWorkers
+                && fillRatio <= SCALE_DOWN_FILL_RATIO && utilization <= SCALE_DOWN_UTILIZATION) {
+            LOG.info("Pipeline [{}] - Retiring a process worker, buffer fill ratio {} and worker utilization {}",
+                    pipeline.getName(), fillRatio, utilization);
+            retireLastWorker();
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    private void startWorker(final int slot) {
+        final ProcessWorker worker = workerFactory.apply(slot);
+        workerFutures[slot] = executorService.submit(worker);
+        workers[slot] = worker;
+        lastBusyTimeNanos[slot] = 0;
+    }
+
+    private int findFreeSlot() {
+        for (int slot = 0; slot < workers.length; slot++) {
+            if (workers[slot] == null) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void retireLastWorker() {
+        for (int slot = workers.length - 1; slot >= 0; slot--) {
+            if (workers[slot] != null && !workers[slot].isRetireRequested()) {
+                workers[slot].retire();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.sink.Sink;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.pipeline.common.PipelineThreadFactory;
+import org.opensearch.dataprepper.pipeline.common.PipelineThreadPoolExecutor;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Delivers batches to a single {@link Sink} using a thread pool and a bounded queue which are not shared with any other
+ * sink. A slow sink therefore only fills its own queue, and blocks publishers only once that queue is full.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+class SinkExecutor {
+    static final String SINK_QUEUE_DEPTH = "sinkQueueDepth";
+    static final String SINK_QUEUE_TIME_ELAPSED = "sinkQueueTimeElapsed";
+    static final String SINK_TIME_ELAPSED = "sinkTimeElapsed";
+
+    private final Sink sink;
+    private final PipelineThreadPoolExecutor executorService;
+    private final Timer queueTimer;
+    private final Timer sinkTimer;
+    private final EventLatencyRecorder endToEndLatencyRecorder;
+
+    SinkExecutor(final Sink sink, final SinkExecutorSettings settings, final Pipeline pipeline) {
+        this.sink = sink;
+        this.executorService = PipelineThreadPoolExecutor.newBoundedThreadPool(settings.getWorkers(), settings.getQueueSize(),
+                new PipelineThreadFactory(format("%s-%s-sink-worker", pipeline.getName(), settings.getSinkName())), pipeline);
+
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames(settings.getSinkName(), pipeline.getName());
+        pluginMetrics.gauge(SINK_QUEUE_DEPTH, executorService.getQueue(), Collection::size);
+        this.queueTimer = pluginMetrics.timer(SINK_QUEUE_TIME_ELAPSED);
+        this.sinkTimer = pluginMetrics.timer(SINK_TIME_ELAPSED);
+        this.endToEndLatencyRecorder = EventLatencyRecorder.create(pluginMetrics, EventLatencyRecorder.END_TO_END_LATENCY,
+                pipeline.getLatencySampleRate());
+    }
+
+    /**
+     * Queues the records for output to the sink, blocking while the queue of this sink is full. Once the sink has
+     * returned successfully, the time since each sampled event was received is recorded as its end-to-end latency.
+     *
+     * @param records      records to output
+     * @param onCompletion callback to run on the sink thread once the sink has returned, whether or not it succeeded
+     * @return Future which completes once the sink has returned
+     */
+    Future<Void> output(final Collection<Record> records, final Runnable onCompletion) {
+        final long submitTime = System.nanoTime();
+        return executorService.submit(() -> {
+            queueTimer.record(System.nanoTime() - submitTime, TimeUnit.NANOSECONDS);
+            try {
+                outputInline(records);
+            } finally {
+                onCompletion.run();
+            }
+        }, null);
+    }
+
+    /**
+     * Outputs the records to the sink on the calling thread, bypassing the queue of this sink. Once the sink has
+     * returned successfully, the end-to-end latency of the sampled events is recorded.
+     *
+     * @param records records to output
+     */
+    void outputInline(final Collection<Record> records) {
+        final long startTime = System.nanoTime();
+        try {
+            sink.output(records);
+            endToEndLatencyRecorder.record(records);
+        } finally {
+            sinkTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @return true if the sink passes the records on to another pipeline, whose processors may modify the events
+     */
+    boolean isPipelineConnector() {
+        return sink instanceof PipelineConnector;
+    }
+
+    ExecutorService getExecutorService() {
+        return executorService;
+    }
+}
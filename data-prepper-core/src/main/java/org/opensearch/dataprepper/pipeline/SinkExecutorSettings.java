@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.sink.Sink;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Sizing of the dedicated thread pool which delivers batches to a single {@link Sink}.
+ */
+public class SinkExecutorSettings {
+    private final String sinkName;
+    private final int workers;
+    private final int queueSize;
+
+    /**
+     * @param sinkName  name of the sink, used to name its threads and metrics
+     * @param workers   number of threads which call the sink concurrently
+     * @param queueSize maximum number of batches waiting for a thread before publishing to the sink blocks
+     */
+    public SinkExecutorSettings(final String sinkName, final int workers, final int queueSize) {
+        checkArgument(workers > 0, "workers must be positive");
+        checkArgument(queueSize > 0, "queueSize must be positive");
+        this.sinkName = sinkName;
+        this.workers = workers;
+        this.queueSize = queueSize;
+    }
+
+    public String getSinkName() {
+        return sinkName;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Assigns each event to one of the process workers of a pipeline by hashing the values of its identification keys, so
+ * that every event of a key is processed by the same worker. This is the in-process counterpart of peer forwarding,
+ * which assigns the keys to Data Prepper nodes.
+ * <p>
+ * Each worker partitions the batches it reads: it keeps the events it owns and hands the others to the inbox of their
+ * owner, which takes them along with its next batch. The worker which read the events must not checkpoint them before
+ * their owner has processed them, so each hand-off completes once the owner reports the batch which took it as
+ * processed, see {@link BatchHandOffs}.
+ * <p>
+ * The inboxes are bounded. A worker waiting for room in the inbox of another takes the records waiting in its own
+ * inbox meanwhile, so that two workers handing off to each other cannot deadlock.
+ */
+public class WorkerKeyPartitioner {
+    static final int INBOX_HAND_OFFS_PER_WORKER = 2;
+    private static final long INBOX_OFFER_WAIT_MILLIS = 10;
+
+    private final int workers;
+    private final List<String> identificationKeys;
+    private final List<BlockingQueue<HandOff>> inboxes;
+    // Each worker only accesses the entry of its own index
+    private final BatchHandOffs[] batchHandOffs;
+
+    /**
+     * @param workers            the number of process workers of the pipeline
+     * @param identificationKeys the keys whose values identify the events which must be processed together
+     */
+    public WorkerKeyPartitioner(final int workers, final Set<String> identificationKeys) {
+        this.workers = workers;
+        this.identificationKeys = identificationKeys.stream().sorted().collect(Collectors.toList());
+        this.inboxes = IntStream.range(0, workers)
+                .mapToObj(i -> new ArrayBlockingQueue<HandOff>(INBOX_HAND_OFFS_PER_WORKER * workers))
+                .collect(Collectors.toList());
+        this.batchHandOffs = IntStream.range(0, workers)
+                .mapToObj(i -> new BatchHandOffs())
+                .toArray(BatchHandOffs[]::new);
+    }
+
+    /**
+     * Hands the given records owned by other workers to their inboxes, waiting while an inbox is full.
+     *
+     * @param workerIndex the index of the calling worker
+     * @param records     records read by the calling worker
+     * @return the given records owned by the calling worker, followed by the records handed to it by other workers
+     */
+    public Collection<Record<Event>> partition(final int workerIndex, final Collection<Record<Event>> records) {
+        final List<Record<Event>> ownedRecords = new ArrayList<>(records.size());
+        final List<List<Record<Event>>> recordsPerOwner = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            recordsPerOwner.add(null);
+        }
+        for (final Record<Event> record : records) {
+            final int owner = getOwner(record.getData());
+            if (owner == workerIndex) {
+                ownedRecords.add(record);
+            } else {
+                if (recordsPerOwner.get(owner) == null) {
+                    recordsPerOwner.set(owner, new ArrayList<>());
+                }
+                recordsPerOwner.get(owner).add(record);
+            }
+        }
+        for (int owner = 0; owner < workers; owner++) {
+            if (recordsPerOwner.get(owner) != null) {
+                handOff(workerIndex, owner, new HandOff(recordsPerOwner.get(owner)), ownedRecords);
+            }
+        }
+        takeInbox(workerIndex, ownedRecords);
+        return ownedRecords;
+    }
+
+    /**
+     * Returns the hand-offs of the records partitioned by a worker since its last call, which the worker completes
+     * once it has processed its batch.
+     *
+     * @param workerIndex the index of the calling worker
+     * @return the hand-offs made and taken by the worker
+     */
+    BatchHandOffs takeBatchHandOffs(final int workerIndex) {
+        final BatchHandOffs handOffs = batchHandOffs[workerIndex];
+        batchHandOffs[workerIndex] = new BatchHandOffs();
+        return handOffs;
+    }
+
+    /**
+     * @param workerIndex the index of a worker
+     * @return true if no records are waiting for the worker in its inbox
+     */
+    public boolean isInboxEmpty(final int workerIndex) {
+        return inboxes.get(workerIndex).isEmpty();
+    }
+
+    int getOwner(final Event event) {
+        int hash = 1;
+        for (final String identificationKey : identificationKeys) {
+            hash = 31 * hash + String.valueOf(event.get(identificationKey, Object.class)).hashCode();
+        }
+        // Spread the bits, as the low bits of String hash codes of similar keys are correlated
+        hash ^= (hash >>> 16);
+        hash *= 0x85ebca6b;
+        hash ^= (hash >>> 13);
+        return Math.floorMod(hash, workers);
+    }
+
+    private void handOff(final int workerIndex, final int owner, final HandOff handOff, final List<Record<Event>> ownedRecords) {
+        final BlockingQueue<HandOff> ownerInbox = inboxes.get(owner);
+        try {
+            while (!ownerInbox.offer(handOff, INBOX_OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                takeInbox(workerIndex, ownedRecords);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        batchHandOffs[workerIndex].made.add(handOff.processed);
+    }
+
+    private void takeInbox(final int workerIndex, final List<Record<Event>> ownedRecords) {
+        final BlockingQueue<HandOff> inbox = inboxes.get(workerIndex);
+        HandOff handOff;
+        while ((handOff = inbox.poll()) != null) {
+            ownedRecords.addAll(handOff.records);
+            batchHandOffs[workerIndex].taken.add(handOff);
+        }
+    }
+
+    private static class HandOff {
+        private final List<Record<Event>> records;
+        private final CompletableFuture<Void> processed;
+
+        private HandOff(final List<Record<Event>> records) {
+            this.records = records;
+            this.processed = new CompletableFuture<>();
+        }
+    }
+
+    /**
+     * The hand-offs of the batch of a worker: those made to other workers, which must complete before the worker
+     * checkpoints its batch, and those taken from its inbox, which the worker completes once its batch is processed.
+     */
+    static class BatchHandOffs {
+        private final List<CompletableFuture<Void>> made = new ArrayList<>();
+        private final List<HandOff> taken = new ArrayList<>();
+
+        /**
+         * Reports the records taken from the inbox as processed, completing the hand-offs of the workers which read
+         * them.
+         */
+        void completeTaken() {
+            for (final HandOff handOff : taken) {
+                handOff.processed.complete(null);
+            }
+        }
+
+        /**
+         * @return a future which completes once the owners of every record handed off have processed them
+         */
+        CompletableFuture<Void> whenMadeAreCompleted() {
+            return CompletableFuture.allOf(made.toArray(new CompletableFuture[0]));
+        }
+    }
+}
@@ -9,11 +9,13 @@ import org.opensearch.dataprepper.pipeline.Pipeline;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -28,6 +30,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class PipelineThreadPoolExecutor extends ThreadPoolExecutor {
     private static final Logger LOG = LoggerFactory.getLogger(PipelineThreadPoolExecutor.class);
+    private static final long QUEUE_CAPACITY_WAIT_MILLIS = 100;
     private final Pipeline pipeline;
 
     public PipelineThreadPoolExecutor(
@@ -50,6 +53,75 @@ public class PipelineThreadPoolExecutor extends ThreadPoolExecutor {
                 new LinkedBlockingQueue<>(), threadFactory, pipeline);
     }
 
+    /**
+     * Creates a thread pool of at most maxThreads threads, whose threads exit once they have been idle for the keep
+     * alive time. The pool therefore only holds as many threads as the tasks currently running need.
+     *
+     * @param maxThreads    the max number of threads in the pool
+     * @param keepAliveTime the time an idle thread waits for a new task before exiting
+     * @param unit          the time unit of keepAliveTime
+     * @param threadFactory the factory to use when creating new threads
+     * @param pipeline      the pipeline to shut down when a task fails
+     * @return the thread pool
+     */
+    public static PipelineThreadPoolExecutor newScalingThreadPool(
+            final int maxThreads,
+            final long keepAliveTime,
+            final TimeUnit unit,
+            final ThreadFactory threadFactory,
+            final Pipeline pipeline) {
+        final PipelineThreadPoolExecutor executor = new PipelineThreadPoolExecutor(maxThreads, maxThreads, keepAliveTime,
+                unit, new LinkedBlockingQueue<>(), threadFactory, pipeline);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates a fixed size thread pool whose queue holds at most queueCapacity tasks. Once the queue is full, a
+     * submitting thread blocks until a worker takes the next task, so a slow consumer applies backpressure to its
+     * producers instead of growing the queue without bound.
+     *
+     * @param nThreads      the number of threads in the pool
+     * @param queueCapacity the maximum number of tasks waiting for a thread
+     * @param threadFactory the factory to use when creating new threads
+     * @param pipeline      the pipeline to shut down when a task fails
+     * @return the thread pool
+     */
+    public static PipelineThreadPoolExecutor newBoundedThreadPool(
+            final int nThreads,
+            final int queueCapacity,
+            final ThreadFactory threadFactory,
+            final Pipeline pipeline) {
+        final PipelineThreadPoolExecutor executor = new PipelineThreadPoolExecutor(nThreads, nThreads, 0L,
+                TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), threadFactory, pipeline);
+        executor.setRejectedExecutionHandler(PipelineThreadPoolExecutor::waitForQueueCapacity);
+        return executor;
+    }
+
+    /**
+     * Waits for the queue to take the task, checking periodically that the executor has not been shut down meanwhile.
+     * A task which is queued as the executor shuts down is removed again and rejected, since no worker may be left to
+     * run it, so that its submitter can release whatever it holds for the task.
+     */
+    private static void waitForQueueCapacity(final Runnable runnable, final ThreadPoolExecutor executor) {
+        try {
+            while (true) {
+                if (executor.isShutdown()) {
+                    throw new RejectedExecutionException("Executor has been shut down");
+                }
+                if (executor.getQueue().offer(runnable, QUEUE_CAPACITY_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for queue capacity", ex);
+        }
+        if (executor.isShutdown() && executor.remove(runnable)) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+    }
+
     /**
      * Overriding the {@link ThreadPoolExecutor#afterExecute(Runnable, Throwable)} to tune the behavior when process
      * worker encounters an exception in one of its worker execution. The below method will be invoked upon completion
@@ -0,0 +1,157 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import com.amazon.dataprepper.model.configuration.ConditionalRoute;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.expression.ExpressionEvaluationException;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Routes the records of a batch to the sinks of a pipeline. Each record is evaluated once against every route which
+ * some sink uses, and the outcomes are kept in a single {@link BitSet} holding one bit per record and route. A sink
+ * then receives the records which match any of its routes. Sinks without routes receive the batch itself, and routed
+ * sinks receive the same record instances, so events are never copied.
+ */
+@SuppressWarnings({"rawtypes"})
+public class Router {
+    private static final Logger LOG = LoggerFactory.getLogger(Router.class);
+
+    private final List<ConditionalRoute> usedRoutes;
+    private final List<int[]> sinkRouteIndices;
+    private final ExpressionEvaluator<Boolean> expressionEvaluator;
+
+    /**
+     * @param routes              the routes of the pipeline
+     * @param sinkRoutes          the names of the routes of each sink, in the same order as the sinks. A sink with no
+     *                            routes receives all records.
+     * @param expressionEvaluator evaluator for the conditions of the routes, may be null if no sink has routes
+     * @throws IllegalArgumentException if a sink refers to a route which is not defined
+     */
+    public Router(final List<ConditionalRoute> routes,
+                  final List<? extends Collection<String>> sinkRoutes,
+                  final ExpressionEvaluator<Boolean> expressionEvaluator) {
+        final Map<String, ConditionalRoute> routesByName = new HashMap<>();
+        for (final ConditionalRoute route : routes) {
+            if (routesByName.put(route.getName(), route) != null) {
+                throw new IllegalArgumentException(format("Route %s is defined more than once", route.getName()));
+            }
+        }
+
+        final Map<String, Integer> usedRouteIndices = new HashMap<>();
+        this.usedRoutes = new ArrayList<>();
+        this.sinkRouteIndices = new ArrayList<>(sinkRoutes.size());
+        for (final Collection<String> routeNames : sinkRoutes) {
+            final int[] routeIndices = new int[routeNames.size()];
+            int i = 0;
+            for (final String routeName : routeNames) {
+                final ConditionalRoute route = routesByName.get(routeName);
+                if (route == null) {
+                    throw new IllegalArgumentException(format("Sink refers to route %s which is not defined", routeName));
+                }
+                routeIndices[i++] = usedRouteIndices.computeIfAbsent(routeName, name -> {
+                    usedRoutes.add(route);
+                    return usedRoutes.size() - 1;
+                });
+            }
+            sinkRouteIndices.add(routeIndices);
+        }
+        if (!usedRoutes.isEmpty()) {
+            Objects.requireNonNull(expressionEvaluator, "expressionEvaluator is required to evaluate routes");
+        }
+        this.expressionEvaluator = expressionEvaluator;
+    }
+
+    /**
+     * Creates a Router which sends every record to every sink.
+     *
+     * @param numberOfSinks the number of sinks of the pipeline
+     * @return the Router
+     */
+    public static Router allRecordsToAllSinks(final int numberOfSinks) {
+        return new Router(Collections.emptyList(), Collections.nCopies(numberOfSinks, Collections.emptyList()), null);
+    }
+
+    /**
+     * Splits the records into the records for each sink.
+     *
+     * @param records the batch of records
+     * @return the records for each sink, in the same order as the sinks
+     */
+    public List<Collection<Record>> route(final Collection<Record> records) {
+        if (usedRoutes.isEmpty()) {
+            return Collections.nCopies(sinkRouteIndices.size(), records);
+        }
+
+        final List<Record> recordList = records instanceof List ? (List<Record>) records : new ArrayList<>(records);
+        final BitSet matches = evaluateRoutes(recordList);
+
+        final List<Collection<Record>> recordsPerSink = new ArrayList<>(sinkRouteIndices.size());
+        for (final int[] routeIndices : sinkRouteIndices) {
+            if (routeIndices.length == 0) {
+                recordsPerSink.add(records);
+            } else {
+                recordsPerSink.add(selectMatchingRecords(recordList, matches, routeIndices));
+            }
+        }
+        return recordsPerSink;
+    }
+
+    private BitSet evaluateRoutes(final List<Record> records) {
+        final int routeCount = usedRoutes.size();
+        final BitSet matches = new BitSet(records.size() * routeCount);
+        for (int recordIndex = 0; recordIndex < records.size(); recordIndex++) {
+            final Object data = records.get(recordIndex).getData();
+            if (!(data instanceof Event)) {
+                continue;
+            }
+            for (int routeIndex = 0; routeIndex < routeCount; routeIndex++) {
+                if (matches((Event) data, usedRoutes.get(routeIndex))) {
+                    matches.set(recordIndex * routeCount + routeIndex);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private boolean matches(final Event event, final ConditionalRoute route) {
+        try {
+            return Boolean.TRUE.equals(expressionEvaluator.evaluate(route.getCondition(), event));
+        } catch (final ExpressionEvaluationException ex) {
+            LOG.warn("Failed to evaluate route {}, the event will not be sent to its sinks", route.getName(), ex);
+            return false;
+        }
+    }
+
+    private List<Record> selectMatchingRecords(final List<Record> records, final BitSet matches, final int[] routeIndices) {
+        final int routeCount = usedRoutes.size();
+        final List<Record> matchingRecords = new ArrayList<>();
+        for (int recordIndex = 0; recordIndex < records.size(); recordIndex++) {
+            final int offset = recordIndex * routeCount;
+            for (final int routeIndex : routeIndices) {
+                if (matches.get(offset + routeIndex)) {
+                    matchingRecords.add(records.get(recordIndex));
+                    break;
+                }
+            }
+        }
+        return matchingRecords;
+    }
+}
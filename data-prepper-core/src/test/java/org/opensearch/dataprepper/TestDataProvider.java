@@ -47,6 +47,8 @@ public class TestDataProvider {
     public static final String EMPTY_PIPELINE_DIRECTOTRY = "src/test/resources/no-pipelines";
     public static final String VALID_MULTIPLE_SINKS_CONFIG_FILE = "src/test/resources/valid_multiple_sinks.yml";
     public static final String VALID_MULTIPLE_PROCESSERS_CONFIG_FILE = "src/test/resources/valid_multiple_processors.yml";
+    public static final String VALID_ROUTED_SINKS_CONFIG_FILE = "src/test/resources/valid_routed_sinks.yml";
+    public static final String UNDEFINED_ROUTE_SINK_CONFIG_FILE = "src/test/resources/undefined_route_sink.yml";
     public static final String NO_PIPELINES_EXECUTE_CONFIG_FILE = "src/test/resources/no_pipelines_to_execute.yml";
     public static final String VALID_DATA_PREPPER_CONFIG_FILE = "src/test/resources/valid_data_prepper_config.yml";
     public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_TLS = "src/test/resources/valid_data_prepper_config_with_tls.yml";
@@ -59,12 +61,18 @@ public class TestDataProvider {
     public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_PROCESSOR_SHUTDOWN_TIMEOUT = "src/test/resources/valid_data_prepper_config_with_processor_shutdown_timeout.yml";
     public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_SINK_SHUTDOWN_TIMEOUT = "src/test/resources/valid_data_prepper_config_with_sink_shutdown_timeout.yml";
     public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_ISO8601_SHUTDOWN_TIMEOUTS = "src/test/resources/valid_data_prepper_config_with_iso8601_shutdown_timeouts.yml";
+    public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_LATENCY_SAMPLE_RATE = "src/test/resources/valid_data_prepper_config_with_latency_sample_rate.yml";
+    public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_VALUE_INTERNING = "src/test/resources/valid_data_prepper_config_with_value_interning.yml";
+    public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_TIME_ELAPSED_HISTOGRAMS = "src/test/resources/valid_data_prepper_config_with_time_elapsed_histograms.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE = "src/test/resources/invalid_data_prepper_config.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_TAGS = "src/test/resources/invalid_data_prepper_config_with_tags.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_BAD_PROCESSOR_SHUTDOWN_TIMEOUT = "src/test/resources/invalid_data_prepper_config_with_bad_processor_shutdown_timeout.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_BAD_SINK_SHUTDOWN_TIMEOUT = "src/test/resources/invalid_data_prepper_config_with_bad_sink_shutdown_timeout.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_NEGATIVE_PROCESSOR_SHUTDOWN_TIMEOUT = "src/test/resources/invalid_data_prepper_config_with_negative_processor_shutdown_timeout.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_NEGATIVE_SINK_SHUTDOWN_TIMEOUT = "src/test/resources/invalid_data_prepper_config_with_negative_sink_shutdown_timeout.yml";
+    public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_BAD_LATENCY_SAMPLE_RATE = "src/test/resources/invalid_data_prepper_config_with_bad_latency_sample_rate.yml";
+    public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_BAD_VALUE_INTERNING_CACHE_SIZE = "src/test/resources/invalid_data_prepper_config_with_bad_value_interning_cache_size.yml";
+    public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_BAD_VALUE_INTERNING_MAX_LENGTH = "src/test/resources/invalid_data_prepper_config_with_bad_value_interning_max_length.yml";
     public static final String INVALID_PORT_DATA_PREPPER_CONFIG_FILE = "src/test/resources/invalid_port_data_prepper_config.yml";
     public static final String INVALID_KEYSTORE_PASSWORD_DATA_PREPPER_CONFIG_FILE = "src/test/resources/invalid_data_prepper_config_with_bad_keystore_password.yml";
     public static final String VALID_PEER_FORWARDER_DATA_PREPPER_CONFIG_FILE = "src/test/resources/valid_data_prepper_config_wth_peer_forwarder_config.yml";
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.meter;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LatencyHistogramMeterFilterTest {
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new LatencyHistogramMeterFilter());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"timeSinceReceived", "bufferDwellTime", "endToEndLatency"})
+    void latency_timers_publish_percentiles_and_histogram(final String metricName) {
+        final Timer timer = meterRegistry.timer("test-pipeline.test-plugin." + metricName);
+        timer.record(10, TimeUnit.MILLISECONDS);
+
+        assertThat(timer.takeSnapshot().percentileValues().length, equalTo(LatencyHistogramMeterFilter.PERCENTILES.length));
+        final DistributionStatisticConfig config = new LatencyHistogramMeterFilter()
+                .configure(timer.getId(), DistributionStatisticConfig.DEFAULT);
+        assertThat(config.isPercentileHistogram(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"timeElapsed", "sinkTimeElapsed", "sinkQueueTimeElapsed", "writeTimeElapsedRatio"})
+    void other_timers_are_not_changed(final String metricName) {
+        final Timer timer = meterRegistry.timer("test-pipeline.test-plugin." + metricName);
+        timer.record(10, TimeUnit.MILLISECONDS);
+
+        assertThat(timer.takeSnapshot().percentileValues().length, equalTo(0));
+        final DistributionStatisticConfig config = new LatencyHistogramMeterFilter()
+                .configure(timer.getId(), DistributionStatisticConfig.DEFAULT);
+        assertThat(config, sameInstance(DistributionStatisticConfig.DEFAULT));
+    }
+
+    @Test
+    void time_elapsed_timers_publish_percentiles_and_histogram_when_enabled() {
+        final SimpleMeterRegistry timeElapsedMeterRegistry = new SimpleMeterRegistry();
+        timeElapsedMeterRegistry.config().meterFilter(new LatencyHistogramMeterFilter(true));
+        final Timer timer = timeElapsedMeterRegistry.timer("test-pipeline.test-plugin.timeElapsed");
+        timer.record(10, TimeUnit.MILLISECONDS);
+
+        assertThat(timer.takeSnapshot().percentileValues().length, equalTo(LatencyHistogramMeterFilter.PERCENTILES.length));
+        final DistributionStatisticConfig config = new LatencyHistogramMeterFilter(true)
+                .configure(timer.getId(), DistributionStatisticConfig.DEFAULT);
+        assertThat(config.isPercentileHistogram(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sinkTimeElapsed", "writeTimeElapsed"})
+    void other_time_elapsed_timers_are_not_changed_when_enabled(final String metricName) {
+        final Timer timer = meterRegistry.timer("test-pipeline.test-plugin." + metricName);
+
+        final DistributionStatisticConfig config = new LatencyHistogramMeterFilter(true)
+                .configure(timer.getId(), DistributionStatisticConfig.DEFAULT);
+        assertThat(config, sameInstance(DistributionStatisticConfig.DEFAULT));
+    }
+}
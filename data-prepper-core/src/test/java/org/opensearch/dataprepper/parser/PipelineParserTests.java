@@ -5,11 +5,13 @@
 
 package org.opensearch.dataprepper.parser;
 
+import com.amazon.dataprepper.model.event.InterningJsonNodeFactory;
 import com.amazon.dataprepper.model.plugin.PluginFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.TestDataProvider;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.pipeline.Pipeline;
 import org.opensearch.dataprepper.plugin.DefaultPluginFactory;
@@ -39,6 +41,9 @@ class PipelineParserTests {
     @Mock
     private DataPrepperConfiguration dataPrepperConfiguration;
 
+    @Mock
+    private ExpressionEvaluator<Boolean> expressionEvaluator;
+
     private PluginFactory pluginFactory;
 
     @BeforeEach
@@ -57,13 +62,14 @@ class PipelineParserTests {
     @AfterEach
     void tearDown() {
         verifyNoMoreInteractions(dataPrepperConfiguration);
+        InterningJsonNodeFactory.disable();
     }
 
     @Test
     void parseConfiguration_with_multiple_valid_pipelines_creates_the_correct_pipelineMap() {
         mockDataPrepperConfigurationAccesses();
         final PipelineParser pipelineParser =
-                new PipelineParser(TestDataProvider.VALID_MULTIPLE_PIPELINE_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+                new PipelineParser(TestDataProvider.VALID_MULTIPLE_PIPELINE_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
         final Map<String, Pipeline> actualPipelineMap = pipelineParser.parseConfiguration();
         assertThat(actualPipelineMap.keySet(), equalTo(TestDataProvider.VALID_MULTIPLE_PIPELINE_NAMES));
         verifyDataPrepperConfigurationAccesses(actualPipelineMap.keySet().size());
@@ -72,7 +78,7 @@ class PipelineParserTests {
     @Test
     void parseConfiguration_with_invalid_root_pipeline_creates_empty_pipelinesMap() {
         final PipelineParser pipelineParser =
-                new PipelineParser(TestDataProvider.CONNECTED_PIPELINE_ROOT_SOURCE_INCORRECT, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+                new PipelineParser(TestDataProvider.CONNECTED_PIPELINE_ROOT_SOURCE_INCORRECT, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
         final Map<String, Pipeline> connectedPipelines = pipelineParser.parseConfiguration();
         assertThat(connectedPipelines.size(), equalTo(0));
     }
@@ -81,7 +87,7 @@ class PipelineParserTests {
     void parseConfiguration_with_incorrect_child_pipeline_returns_empty_pipelinesMap() {
         mockDataPrepperConfigurationAccesses();
         final PipelineParser pipelineParser =
-                new PipelineParser(TestDataProvider.CONNECTED_PIPELINE_CHILD_PIPELINE_INCORRECT, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+                new PipelineParser(TestDataProvider.CONNECTED_PIPELINE_CHILD_PIPELINE_INCORRECT, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
         final Map<String, Pipeline> connectedPipelines = pipelineParser.parseConfiguration();
         assertThat(connectedPipelines.size(), equalTo(0));
         verifyDataPrepperConfigurationAccesses();
@@ -91,7 +97,7 @@ class PipelineParserTests {
     void parseConfiguration_with_a_single_pipeline_with_empty_source_settings_returns_that_pipeline() {
         mockDataPrepperConfigurationAccesses();
         final PipelineParser pipelineParser =
-                new PipelineParser(TestDataProvider.VALID_SINGLE_PIPELINE_EMPTY_SOURCE_PLUGIN_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+                new PipelineParser(TestDataProvider.VALID_SINGLE_PIPELINE_EMPTY_SOURCE_PLUGIN_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
         final Map<String, Pipeline> actualPipelineMap = pipelineParser.parseConfiguration();
         assertThat(actualPipelineMap.keySet().size(), equalTo(1));
         verifyDataPrepperConfigurationAccesses();
@@ -100,7 +106,7 @@ class PipelineParserTests {
     @Test
     void parseConfiguration_with_cycles_in_multiple_pipelines_should_throw() {
         final PipelineParser pipelineParser =
-                new PipelineParser(TestDataProvider.CYCLE_MULTIPLE_PIPELINE_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+                new PipelineParser(TestDataProvider.CYCLE_MULTIPLE_PIPELINE_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
 
         final RuntimeException actualException = assertThrows(RuntimeException.class, pipelineParser::parseConfiguration);
         assertThat(actualException.getMessage(),
@@ -111,7 +117,7 @@ class PipelineParserTests {
     @Test
     void parseConfiguration_with_incorrect_source_mapping_in_multiple_pipelines_should_throw() {
         final PipelineParser pipelineParser =
-                new PipelineParser(TestDataProvider.INCORRECT_SOURCE_MULTIPLE_PIPELINE_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+                new PipelineParser(TestDataProvider.INCORRECT_SOURCE_MULTIPLE_PIPELINE_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
 
         final RuntimeException actualException = assertThrows(RuntimeException.class, pipelineParser::parseConfiguration);
         assertThat(actualException.getMessage(),
@@ -121,7 +127,7 @@ class PipelineParserTests {
     @Test
     void parseConfiguration_with_missing_pipeline_name_should_throw() {
         final PipelineParser pipelineParser =
-                new PipelineParser(TestDataProvider.MISSING_NAME_MULTIPLE_PIPELINE_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+                new PipelineParser(TestDataProvider.MISSING_NAME_MULTIPLE_PIPELINE_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
 
         final RuntimeException actualException = assertThrows(RuntimeException.class, pipelineParser::parseConfiguration);
         assertThat(actualException.getMessage(),
@@ -132,7 +138,7 @@ class PipelineParserTests {
     @Test
     void parseConfiguration_with_missing_pipeline_name_in_multiple_pipelines_should_throw() {
         final PipelineParser pipelineParser =
-                new PipelineParser(TestDataProvider.MISSING_PIPELINE_MULTIPLE_PIPELINE_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+                new PipelineParser(TestDataProvider.MISSING_PIPELINE_MULTIPLE_PIPELINE_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
         final RuntimeException actualException = assertThrows(RuntimeException.class, pipelineParser::parseConfiguration);
         assertThat(actualException.getMessage(), equalTo("Invalid configuration, no pipeline is defined with name test-pipeline-4"));
     }
@@ -141,7 +147,7 @@ class PipelineParserTests {
     void testMultipleSinks() {
         mockDataPrepperConfigurationAccesses();
         final PipelineParser pipelineParser =
-                new PipelineParser(TestDataProvider.VALID_MULTIPLE_SINKS_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+                new PipelineParser(TestDataProvider.VALID_MULTIPLE_SINKS_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
         final Map<String, Pipeline> pipelineMap = pipelineParser.parseConfiguration();
         assertThat(pipelineMap.keySet().size(), equalTo(3));
         verifyDataPrepperConfigurationAccesses(pipelineMap.keySet().size());
@@ -151,22 +157,42 @@ class PipelineParserTests {
     void testMultipleProcessors() {
         mockDataPrepperConfigurationAccesses();
         final PipelineParser pipelineParser =
-                new PipelineParser(TestDataProvider.VALID_MULTIPLE_PROCESSERS_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+                new PipelineParser(TestDataProvider.VALID_MULTIPLE_PROCESSERS_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
         final Map<String, Pipeline> pipelineMap = pipelineParser.parseConfiguration();
         assertThat(pipelineMap.keySet().size(), equalTo(3));
         verifyDataPrepperConfigurationAccesses(pipelineMap.keySet().size());
     }
 
+    @Test
+    void parseConfiguration_with_routed_sinks_creates_the_pipeline() {
+        mockDataPrepperConfigurationAccesses();
+        final PipelineParser pipelineParser =
+                new PipelineParser(TestDataProvider.VALID_ROUTED_SINKS_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
+        final Map<String, Pipeline> pipelineMap = pipelineParser.parseConfiguration();
+        assertThat(pipelineMap.keySet().size(), equalTo(1));
+        assertThat(pipelineMap.get("test-pipeline-1").getSinks().size(), equalTo(2));
+        verifyDataPrepperConfigurationAccesses();
+    }
+
+    @Test
+    void parseConfiguration_with_a_sink_referring_to_an_undefined_route_should_throw() {
+        final PipelineParser pipelineParser =
+                new PipelineParser(TestDataProvider.UNDEFINED_ROUTE_SINK_CONFIG_FILE, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
+        final RuntimeException actualException = assertThrows(RuntimeException.class, pipelineParser::parseConfiguration);
+        assertThat(actualException.getMessage(), equalTo(
+                "Invalid configuration, sink file refers to route missing-route which is not defined in the pipeline"));
+    }
+
     @Test
     void parseConfiguration_with_a_configuration_file_which_does_not_exist_should_throw() {
-        final PipelineParser pipelineParser = new PipelineParser("file_does_no_exist.yml", pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+        final PipelineParser pipelineParser = new PipelineParser("file_does_no_exist.yml", pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
         final RuntimeException actualException = assertThrows(RuntimeException.class, pipelineParser::parseConfiguration);
         assertThat(actualException.getMessage(), equalTo("Pipelines configuration file not found at file_does_no_exist.yml"));
     }
 
     @Test
     void parseConfiguration_from_directory_with_multiple_files_creates_the_correct_pipelineMap() {
-        final PipelineParser pipelineParser = new PipelineParser(TestDataProvider.MULTI_FILE_PIPELINE_DIRECTOTRY, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+        final PipelineParser pipelineParser = new PipelineParser(TestDataProvider.MULTI_FILE_PIPELINE_DIRECTOTRY, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
         final Map<String, Pipeline> actualPipelineMap = pipelineParser.parseConfiguration();
         assertThat(actualPipelineMap.keySet(), equalTo(TestDataProvider.VALID_MULTIPLE_PIPELINE_NAMES));
         verifyDataPrepperConfigurationAccesses(actualPipelineMap.keySet().size());
@@ -174,7 +200,7 @@ class PipelineParserTests {
 
     @Test
     void parseConfiguration_from_directory_with_single_file_creates_the_correct_pipelineMap() {
-        final PipelineParser pipelineParser = new PipelineParser(TestDataProvider.SINGLE_FILE_PIPELINE_DIRECTOTRY, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+        final PipelineParser pipelineParser = new PipelineParser(TestDataProvider.SINGLE_FILE_PIPELINE_DIRECTOTRY, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
         final Map<String, Pipeline> actualPipelineMap = pipelineParser.parseConfiguration();
         assertThat(actualPipelineMap.keySet(), equalTo(TestDataProvider.VALID_MULTIPLE_PIPELINE_NAMES));
         verifyDataPrepperConfigurationAccesses(actualPipelineMap.keySet().size());
@@ -182,7 +208,7 @@ class PipelineParserTests {
 
     @Test
     void parseConfiguration_from_directory_with_no_yaml_files_should_throw() {
-        final PipelineParser pipelineParser = new PipelineParser(TestDataProvider.EMPTY_PIPELINE_DIRECTOTRY, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+        final PipelineParser pipelineParser = new PipelineParser(TestDataProvider.EMPTY_PIPELINE_DIRECTOTRY, pluginFactory, peerForwarderProvider, dataPrepperConfiguration, expressionEvaluator);
         final RuntimeException actualException = assertThrows(RuntimeException.class, pipelineParser::parseConfiguration);
         assertThat(actualException.getMessage(), equalTo(
                 String.format("Pipelines configuration file not found at %s", TestDataProvider.EMPTY_PIPELINE_DIRECTOTRY)));
@@ -200,5 +226,6 @@ class PipelineParserTests {
     private void verifyDataPrepperConfigurationAccesses(final int times) {
         verify(dataPrepperConfiguration, times(times)).getProcessorShutdownTimeout();
         verify(dataPrepperConfiguration, times(times)).getSinkShutdownTimeout();
+        verify(dataPrepperConfiguration, times(times)).getLatencySampleRate();
     }
 }
@@ -7,8 +7,10 @@ package org.opensearch.dataprepper.parser.config;
 
 import org.opensearch.dataprepper.TestDataProvider;
 import com.amazon.dataprepper.model.configuration.PluginModel;
+import com.amazon.dataprepper.model.event.InterningJsonNodeFactory;
 import org.opensearch.dataprepper.parser.model.DataPrepperConfiguration;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,13 +21,16 @@ import java.io.IOException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 
@@ -36,6 +41,11 @@ class DataPrepperAppConfigurationTest {
     private static final String pipelineConfigFilePath = "~/.config/data-prepper/pipeline.yaml";
     private static final String dataPrepperConfigFilePath = "~/.config/data-prepper/data-prepper-config.yaml";
 
+    @AfterEach
+    void tearDown() {
+        InterningJsonNodeFactory.disable();
+    }
+
     @Test
     public void testGivenValidCommandLineArgumentThenDataPrepperArgsBeanCreated() {
         final Environment env = mock(Environment.class);
@@ -139,4 +149,30 @@ class DataPrepperAppConfigurationTest {
         assertThat(pluginModel, is(expected));
         verify(configuration).getAuthentication();
     }
+
+    @Test
+    public void testGivenValueInterningCacheSizeThenInterningJsonNodeFactoryInternsValues() {
+        final DataPrepperConfiguration configuration = mock(DataPrepperConfiguration.class);
+
+        when(configuration.getValueInterningCacheSize())
+                .thenReturn(100);
+        when(configuration.getValueInterningMaxLength())
+                .thenReturn(16);
+
+        final InterningJsonNodeFactory nodeFactory = appConfiguration.interningJsonNodeFactory(configuration);
+
+        assertThat(nodeFactory, is(InterningJsonNodeFactory.getInstance()));
+        assertThat(nodeFactory.textNode(new String("value")), is(sameInstance(nodeFactory.textNode(new String("value")))));
+    }
+
+    @Test
+    public void testGivenNoValueInterningCacheSizeThenInterningJsonNodeFactoryDoesNotInternValues() {
+        final DataPrepperConfiguration configuration = mock(DataPrepperConfiguration.class);
+
+        final InterningJsonNodeFactory nodeFactory = appConfiguration.interningJsonNodeFactory(configuration);
+
+        assertThat(nodeFactory.textNode(new String("value")), is(not(sameInstance(nodeFactory.textNode(new String("value"))))));
+        verify(configuration).getValueInterningCacheSize();
+        verifyNoMoreInteractions(configuration);
+    }
 }
@@ -20,6 +20,7 @@ import io.micrometer.cloudwatch2.CloudWatchMeterRegistry;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
@@ -44,6 +45,7 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
@@ -193,6 +195,20 @@ class MetricsConfigTest {
         assertThat(commonTag.getValue(), equalTo(DataPrepper.getServiceNameForMetrics()));
     }
 
+    @Test
+    public void testGivenConfigWithPrometheusMeterRegistryThenLatencyTimersPublishHistograms() {
+        final DataPrepperConfiguration dataPrepperConfiguration = mock(DataPrepperConfiguration.class);
+
+        when(dataPrepperConfiguration.getMetricRegistryTypes())
+                .thenReturn(Collections.singletonList(MetricRegistryType.Prometheus));
+
+        final PrometheusMeterRegistry meterRegistry = metricsConfig.prometheusMeterRegistry(dataPrepperConfiguration);
+        final Timer timer = meterRegistry.timer("pipeline.latency.timeSinceReceived");
+
+        assertThat(timer.takeSnapshot().percentileValues().length, equalTo(3));
+        assertThat(meterRegistry.scrape(), containsString("pipeline_latency_timeSinceReceived_seconds_bucket"));
+    }
+
     @ParameterizedTest
     @MethodSource("provideMetricRegistryTypesAndCreators")
     public void testGivenConfigWithMetricTagsThenMeterRegistryConfigured(final MetricRegistryType metricRegistryType,
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.parser.PipelineParser;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 
@@ -36,13 +37,17 @@ class PipelineParserConfigurationTest {
     @Mock
     private DataPrepperConfiguration dataPrepperConfiguration;
 
+    @Mock
+    private ExpressionEvaluator<Boolean> expressionEvaluator;
+
     @Test
     void pipelineParser() {
         final String pipelineConfigFileLocation = "hot soup";
         when(args.getPipelineConfigFileLocation())
                 .thenReturn(pipelineConfigFileLocation);
 
-        final PipelineParser pipelineParser = pipelineParserConfiguration.pipelineParser(args, pluginFactory, peerForwarderProvider, dataPrepperConfiguration);
+        final PipelineParser pipelineParser = pipelineParserConfiguration.pipelineParser(args, pluginFactory, peerForwarderProvider, dataPrepperConfiguration,
+                expressionEvaluator);
 
         assertThat(pipelineParser, is(notNullValue()));
         verify(args).getPipelineConfigFileLocation();
@@ -140,6 +140,68 @@ public class DataPrepperConfigurationTests {
         assertThat(processorShutdownTimeout, equalTo(Duration.ofSeconds(45)));
     }
 
+    @Test
+    void testConfigWithDefaultLatencySampleRate() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE);
+
+        assertThat(dataPrepperConfiguration.getLatencySampleRate(), equalTo(DataPrepperConfiguration.DEFAULT_LATENCY_SAMPLE_RATE));
+    }
+
+    @Test
+    void testConfigWithValidLatencySampleRate() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_LATENCY_SAMPLE_RATE);
+
+        assertThat(dataPrepperConfiguration.getLatencySampleRate(), equalTo(0.5));
+    }
+
+    @Test
+    void testConfigWithInvalidLatencySampleRate() {
+        assertThrows(ValueInstantiationException.class,
+                () -> makeConfig(TestDataProvider.INVALID_DATA_PREPPER_CONFIG_FILE_WITH_BAD_LATENCY_SAMPLE_RATE));
+    }
+
+    @Test
+    void testConfigWithDefaultValueInterning() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE);
+
+        assertThat(dataPrepperConfiguration.getValueInterningCacheSize(), equalTo(0));
+        assertThat(dataPrepperConfiguration.getValueInterningMaxLength(), equalTo(DataPrepperConfiguration.DEFAULT_VALUE_INTERNING_MAX_LENGTH));
+    }
+
+    @Test
+    void testConfigWithValidValueInterning() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_VALUE_INTERNING);
+
+        assertThat(dataPrepperConfiguration.getValueInterningCacheSize(), equalTo(10000));
+        assertThat(dataPrepperConfiguration.getValueInterningMaxLength(), equalTo(32));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            TestDataProvider.INVALID_DATA_PREPPER_CONFIG_FILE_WITH_BAD_VALUE_INTERNING_CACHE_SIZE,
+            TestDataProvider.INVALID_DATA_PREPPER_CONFIG_FILE_WITH_BAD_VALUE_INTERNING_MAX_LENGTH
+    })
+    void testConfigWithInvalidValueInterning(final String configFile) {
+        assertThrows(ValueInstantiationException.class, () -> makeConfig(configFile));
+    }
+
+    @Test
+    void testConfigWithDefaultTimeElapsedHistograms() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE);
+
+        assertThat(dataPrepperConfiguration.isTimeElapsedHistograms(), equalTo(false));
+    }
+
+    @Test
+    void testConfigWithTimeElapsedHistograms() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_TIME_ELAPSED_HISTOGRAMS);
+
+        assertThat(dataPrepperConfiguration.isTimeElapsedHistograms(), equalTo(true));
+    }
+
     @Test
     void testPeerForwarderConfig() throws IOException {
         final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(TestDataProvider.VALID_PEER_FORWARDER_DATA_PREPPER_CONFIG_FILE);
@@ -5,9 +5,12 @@
 
 package org.opensearch.dataprepper.parser.model;
 
+import com.amazon.dataprepper.model.configuration.ConditionalRoute;
 import com.amazon.dataprepper.model.configuration.PipelineModel;
 import com.amazon.dataprepper.model.configuration.PluginModel;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.configuration.SinkModel;
+import org.opensearch.dataprepper.pipeline.SinkExecutorSettings;
 import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.TestDataProvider;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -48,7 +53,9 @@ class PipelineConfigurationTests {
         when(pipelineModel.getProcessors()).thenReturn(processors);
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
 
         final PluginSetting actualSourcePluginSetting = pipelineConfiguration.getSourcePluginSetting();
@@ -90,7 +97,9 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getProcessors()).thenReturn(null);
         when(pipelineModel.getWorkers()).thenReturn(null);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
         when(pipelineModel.getReadBatchDelay()).thenReturn(null);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
         final PluginSetting actualSourcePluginSetting = pipelineConfiguration.getSourcePluginSetting();
         final PluginSetting actualBufferPluginSetting = pipelineConfiguration.getBufferPluginSetting();
@@ -128,7 +137,9 @@ class PipelineConfigurationTests {
         when(pipelineModel.getProcessors()).thenReturn(null);
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
         assertThat(pipelineConfiguration.getProcessorPluginSettings(), isA(Iterable.class));
         assertThat(pipelineConfiguration.getProcessorPluginSettings().size(), is(0));
@@ -141,7 +152,9 @@ class PipelineConfigurationTests {
         when(pipelineModel.getProcessors()).thenReturn(new ArrayList<>());
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
         assertThat(pipelineConfiguration.getProcessorPluginSettings(), isA(Iterable.class));
         assertThat(pipelineConfiguration.getProcessorPluginSettings().size(), is(0));
@@ -194,11 +207,371 @@ class PipelineConfigurationTests {
         when(pipelineModel.getProcessors()).thenReturn(processors);
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
         when(pipelineModel.getReadBatchDelay()).thenReturn(0);
         final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
         assertThat(actual.getMessage(), equalTo("Invalid configuration, delay cannot be 0"));
     }
 
+    @Test
+    void testDefaultMaxInFlightSinkBatches() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.getMaxInFlightSinkBatches(), equalTo(1));
+    }
+
+    @Test
+    void testMaxInFlightSinkBatchesConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(4);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.getMaxInFlightSinkBatches(), equalTo(4));
+    }
+
+    @Test
+    void testInvalidMaxInFlightSinkBatchesConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(0);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, max_in_flight_sink_batches cannot be 0"));
+    }
+
+    @Test
+    void testDefaultSinkExecutorSettings() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(2);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+
+        final List<SinkExecutorSettings> sinkExecutorSettings = pipelineConfiguration.getSinkExecutorSettings();
+        assertThat(sinkExecutorSettings.size(), equalTo(sinks.size()));
+        for (int i = 0; i < sinks.size(); i++) {
+            assertThat(sinkExecutorSettings.get(i).getSinkName(), equalTo(sinks.get(i).getPluginName()));
+            assertThat(sinkExecutorSettings.get(i).getWorkers(), equalTo(TestDataProvider.TEST_WORKERS));
+            assertThat(sinkExecutorSettings.get(i).getQueueSize(), equalTo(TestDataProvider.TEST_WORKERS * 2));
+        }
+    }
+
+    @Test
+    void testSinkExecutorSettingsFromSinkModel() {
+        final SinkModel sinkModel = mock(SinkModel.class);
+        when(sinkModel.getPluginName()).thenReturn(TestDataProvider.TEST_PLUGIN_NAME_1);
+        when(sinkModel.getWorkers()).thenReturn(3);
+        when(sinkModel.getQueueSize()).thenReturn(7);
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(Collections.singletonList(sinkModel));
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+
+        final List<SinkExecutorSettings> sinkExecutorSettings = pipelineConfiguration.getSinkExecutorSettings();
+        assertThat(sinkExecutorSettings.size(), equalTo(1));
+        assertThat(sinkExecutorSettings.get(0).getSinkName(), equalTo(TestDataProvider.TEST_PLUGIN_NAME_1));
+        assertThat(sinkExecutorSettings.get(0).getWorkers(), equalTo(3));
+        assertThat(sinkExecutorSettings.get(0).getQueueSize(), equalTo(7));
+    }
+
+    @Test
+    void testInvalidSinkWorkersConfiguration() {
+        final SinkModel sinkModel = mock(SinkModel.class);
+        when(sinkModel.getPluginName()).thenReturn(TestDataProvider.TEST_PLUGIN_NAME_1);
+        when(sinkModel.getWorkers()).thenReturn(0);
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(Collections.singletonList(sinkModel));
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, sink workers cannot be 0"));
+    }
+
+    @Test
+    void testSinkRoutesFromSinkModel() {
+        final ConditionalRoute route = new ConditionalRoute("my-route", "/a == b");
+        final SinkModel routedSinkModel = mock(SinkModel.class);
+        when(routedSinkModel.getPluginName()).thenReturn(TestDataProvider.TEST_PLUGIN_NAME_1);
+        when(routedSinkModel.getRoutes()).thenReturn(Collections.singletonList("my-route"));
+        final SinkModel sinkModel = mock(SinkModel.class);
+        when(sinkModel.getPluginName()).thenReturn(TestDataProvider.TEST_PLUGIN_NAME_2);
+        final PipelineModel pipelineModel = mockPipelineModel(Arrays.asList(routedSinkModel, sinkModel));
+        when(pipelineModel.getRoutes()).thenReturn(Collections.singletonList(route));
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+
+        assertThat(pipelineConfiguration.getRoutes(), equalTo(Collections.singletonList(route)));
+        final List<Collection<String>> sinkRoutes = pipelineConfiguration.getSinkRoutes();
+        assertThat(sinkRoutes.size(), equalTo(2));
+        assertThat(new ArrayList<>(sinkRoutes.get(0)), equalTo(Collections.singletonList("my-route")));
+        assertThat(sinkRoutes.get(1).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void testSinkReferringToUndefinedRoute() {
+        final SinkModel sinkModel = mock(SinkModel.class);
+        when(sinkModel.getPluginName()).thenReturn(TestDataProvider.TEST_PLUGIN_NAME_1);
+        when(sinkModel.getRoutes()).thenReturn(Collections.singletonList("missing-route"));
+        final PipelineModel pipelineModel = mockPipelineModel(Collections.singletonList(sinkModel));
+        when(pipelineModel.getRoutes()).thenReturn(Collections.emptyList());
+
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new PipelineConfiguration(pipelineModel));
+        assertThat(exception.getMessage(), equalTo(String.format(
+                "Invalid configuration, sink %s refers to route missing-route which is not defined in the pipeline",
+                TestDataProvider.TEST_PLUGIN_NAME_1)));
+    }
+
+    private PipelineModel mockPipelineModel(final List<PluginModel> sinkModels) {
+        for (final PluginModel sinkModel : sinkModels) {
+            when(((SinkModel) sinkModel).getWorkers()).thenReturn(null);
+            when(((SinkModel) sinkModel).getQueueSize()).thenReturn(null);
+        }
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinkModels);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        return pipelineModel;
+    }
+
+    @Test
+    void testDefaultParallelProcessing() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        when(pipelineModel.getParallelProcessing()).thenReturn(null);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.isParallelProcessing(), equalTo(false));
+    }
+
+    @Test
+    void testParallelProcessingConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        when(pipelineModel.getParallelProcessing()).thenReturn(true);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.isParallelProcessing(), equalTo(true));
+    }
+
+    @Test
+    void testDefaultMinWorkers() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.getMinWorkers(), equalTo(TestDataProvider.TEST_WORKERS));
+    }
+
+    @Test
+    void testMinWorkersConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(1);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.getMinWorkers(), equalTo(1));
+        assertThat(pipelineConfiguration.getWorkers(), equalTo(TestDataProvider.TEST_WORKERS));
+    }
+
+    @Test
+    void testInvalidMinWorkersConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(0);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, min_workers cannot be 0"));
+    }
+
+    @Test
+    void testMinWorkersGreaterThanWorkers() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(TestDataProvider.TEST_WORKERS + 1);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, min_workers cannot be greater than workers"));
+    }
+
+    @Test
+    void testDefaultDirectExecution() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        when(pipelineModel.getDirectExecution()).thenReturn(null);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.isDirectExecution(), equalTo(false));
+    }
+
+    @Test
+    void testDirectExecutionConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        when(pipelineModel.getDirectExecution()).thenReturn(true);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.isDirectExecution(), equalTo(true));
+    }
+
+    @Test
+    void testDirectExecutionWithBuffer() {
+        final PluginModel buffer = TestDataProvider.validSingleConfiguration();
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getBuffer()).thenReturn(buffer);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        when(pipelineModel.getDirectExecution()).thenReturn(true);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, buffer cannot be configured with direct_execution"));
+    }
+
+    @Test
+    void testDirectExecutionWithMinWorkers() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(1);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        when(pipelineModel.getDirectExecution()).thenReturn(true);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, min_workers cannot be configured with direct_execution"));
+    }
+
+    @Test
+    void testDefaultKeyAffinity() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        when(pipelineModel.getKeyAffinity()).thenReturn(null);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.isKeyAffinity(), equalTo(false));
+    }
+
+    @Test
+    void testKeyAffinityConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        when(pipelineModel.getKeyAffinity()).thenReturn(true);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.isKeyAffinity(), equalTo(true));
+    }
+
+    @Test
+    void testKeyAffinityWithMinWorkers() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(1);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        when(pipelineModel.getKeyAffinity()).thenReturn(true);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, min_workers cannot be configured with key_affinity"));
+    }
+
+    @Test
+    void testKeyAffinityWithDirectExecution() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getMinWorkers()).thenReturn(null);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightSinkBatches()).thenReturn(null);
+        when(pipelineModel.getDirectExecution()).thenReturn(true);
+        when(pipelineModel.getKeyAffinity()).thenReturn(true);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, key_affinity cannot be configured with direct_execution"));
+    }
+
     private void comparePluginSettings(final PluginSetting actual, final PluginSetting expected) {
         assertThat("Plugin names are different", actual.getName(), is(expected.getName()));
         final Map<String, Object> actualSettings = actual.getSettings();
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.amazon.dataprepper.model.event.JacksonEventCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class ForwardingCodecTest {
+
+    @ParameterizedTest
+    @ArgumentsSource(EnumToStringNameArgumentsProvider.class)
+    void getValue_returns_expected_value(final ForwardingCodec enumValue, final String expectedName, final JacksonEventCodec expectedEventCodec) {
+        assertThat(enumValue.getName(), equalTo(expectedName));
+        assertThat(enumValue.getEventCodec(), equalTo(expectedEventCodec));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ForwardingCodec.class)
+    void getByName_returns_correct_enum_from_expected_name(final ForwardingCodec enumValue) {
+        assertThat(ForwardingCodec.getByName(enumValue.getName()), equalTo(enumValue));
+    }
+
+    @Test
+    void getByName_throws_for_null() {
+        assertThrows(IllegalArgumentException.class, () -> ForwardingCodec.getByName(null));
+    }
+
+    @Test
+    void getByName_throws_for_unrecognized_non_empty_name() {
+        assertThrows(IllegalArgumentException.class, () -> ForwardingCodec.getByName(UUID.randomUUID().toString()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ForwardingCodec.class)
+    void getByMediaType_returns_correct_enum_from_media_type(final ForwardingCodec enumValue) {
+        assertThat(ForwardingCodec.getByMediaType(enumValue.getEventCodec().getMediaType()), equalTo(Optional.of(enumValue)));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"text/plain", "application/octet-stream"})
+    void getByMediaType_returns_empty_for_other_media_types(final String mediaType) {
+        assertThat(ForwardingCodec.getByMediaType(mediaType), equalTo(Optional.empty()));
+    }
+
+    private static class EnumToStringNameArgumentsProvider implements ArgumentsProvider {
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext context) {
+            return Stream.of(
+                    arguments(ForwardingCodec.JSON, "json", JacksonEventCodec.json()),
+                    arguments(ForwardingCodec.SMILE, "smile", JacksonEventCodec.smile()),
+                    arguments(ForwardingCodec.CBOR, "cbor", JacksonEventCodec.cbor())
+            );
+        }
+    }
+}
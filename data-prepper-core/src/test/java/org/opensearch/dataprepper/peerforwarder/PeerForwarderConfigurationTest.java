@@ -47,6 +47,8 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getClientThreadCount(), equalTo(200));
         assertThat(peerForwarderConfiguration.getBatchSize(), equalTo(48));
         assertThat(peerForwarderConfiguration.getBufferSize(), equalTo(512));
+        assertThat(peerForwarderConfiguration.getBufferSizeInBytes(), equalTo(null));
+        assertThat(peerForwarderConfiguration.getCodec(), equalTo(ForwardingCodec.JSON));
         assertThat(peerForwarderConfiguration.getAuthentication(), equalTo(ForwardingAuthentication.UNAUTHENTICATED));
     }
 
@@ -71,6 +73,7 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getClientThreadCount(), equalTo(100));
         assertThat(peerForwarderConfiguration.getBatchSize(), equalTo(100));
         assertThat(peerForwarderConfiguration.getBufferSize(), equalTo(100));
+        assertThat(peerForwarderConfiguration.getCodec(), equalTo(ForwardingCodec.SMILE));
         assertThat(peerForwarderConfiguration.getAuthentication(), equalTo(ForwardingAuthentication.UNAUTHENTICATED));
     }
 
@@ -123,7 +126,9 @@ class PeerForwarderConfigurationTest {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_DNS_WITHOUT_DOMAIN_NAME_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_SSL,
             "src/test/resources/invalid_peer_forwarder_config_with_many_authentication.yml",
-            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml"
+            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml",
+            "src/test/resources/invalid_peer_forwarder_with_buffer_size_bytes_config.yml",
+            "src/test/resources/invalid_peer_forwarder_with_codec_config.yml"
     })
     void invalid_InvalidPeerForwarderConfig_test(final String filePath) {
         assertThrows(ValueInstantiationException.class, () -> makeConfig(filePath));
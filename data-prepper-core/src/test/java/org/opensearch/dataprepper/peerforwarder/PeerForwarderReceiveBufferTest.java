@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeoutException;
@@ -25,13 +26,15 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertThrows;
 
 class PeerForwarderReceiveBufferTest {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final String TEST_PLUGIN_ID = "test-plugin";
     private static final int TEST_BATCH_SIZE = 3;
     private static final int TEST_BUFFER_SIZE = 13;
     private static final int TEST_WRITE_TIMEOUT = 100;
     private static final int TEST_BATCH_READ_TIMEOUT = 5_000;
 
     PeerForwarderReceiveBuffer<Record<String>> createObjectUnderTest(final int bufferSize) {
-        return new PeerForwarderReceiveBuffer<>(bufferSize, TEST_BATCH_SIZE);
+        return new PeerForwarderReceiveBuffer<>(bufferSize, TEST_BATCH_SIZE, TEST_PIPELINE_NAME, TEST_PLUGIN_ID);
     }
 
     @Test
@@ -185,6 +188,30 @@ class PeerForwarderReceiveBufferTest {
         Assertions.assertFalse(peerForwarderReceiveBuffer.isEmpty());
     }
 
+    @Test
+    void boundedInBytes_blocks_writes_until_read_bytes_are_checkpointed() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer =
+                PeerForwarderReceiveBuffer.boundedInBytes(20, TEST_BATCH_SIZE, TEST_PIPELINE_NAME, TEST_PLUGIN_ID);
+        peerForwarderReceiveBuffer.writeAll(List.of(new Record<>("0123456789"), new Record<>("0123456789")), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> peerForwarderReceiveBuffer.write(new Record<>("0"), TEST_WRITE_TIMEOUT));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = peerForwarderReceiveBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getValue().getNumBytesToBeChecked(), equalTo(20L));
+        assertThrows(TimeoutException.class, () -> peerForwarderReceiveBuffer.write(new Record<>("0"), TEST_WRITE_TIMEOUT));
+
+        peerForwarderReceiveBuffer.checkpoint(readResult.getValue());
+        peerForwarderReceiveBuffer.write(new Record<>("0"), TEST_WRITE_TIMEOUT);
+    }
+
+    @Test
+    void boundedInBytes_writeAll_larger_than_capacity_throws_SizeOverflowException() {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer =
+                PeerForwarderReceiveBuffer.boundedInBytes(15, TEST_BATCH_SIZE, TEST_PIPELINE_NAME, TEST_PLUGIN_ID);
+        final Collection<Record<String>> testRecords = List.of(new Record<>("0123456789"), new Record<>("0123456789"));
+
+        assertThrows(SizeOverflowException.class, () -> peerForwarderReceiveBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
     private Collection<Record<String>> generateBatchRecords(final int numRecords) {
         final Collection<Record<String>> results = new ArrayList<>();
         for (int i = 0; i < numRecords; i++) {
@@ -20,6 +20,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.opensearch.dataprepper.peerforwarder.certificate.CertificateProviderFactory;
 import org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
@@ -251,6 +253,28 @@ class PeerForwarder_ClientServerIT {
             assertThat(receivedMessages, equalTo(expectedMessages));
         }
 
+        @ParameterizedTest
+        @EnumSource(ForwardingCodec.class)
+        void send_Events_to_server_with_codec(final ForwardingCodec codec) {
+            final PeerForwarderConfiguration peerForwarderConfiguration = createConfiguration(
+                    false, ForwardingAuthentication.UNAUTHENTICATED, SSL_CERTIFICATE_FILE, SSL_KEY_FILE, true, codec);
+
+            final PeerForwarderClient client = createClient(peerForwarderConfiguration);
+
+            final AggregatedHttpResponse httpResponse = client.serializeRecordsAndSendHttpRequest(outgoingRecords, LOCALHOST, pluginId, pipelineName);
+
+            assertThat(httpResponse.status(), equalTo(HttpStatus.OK));
+
+            final Collection<Record<Event>> receivedRecords = getServerSideRecords(peerForwarderProvider);
+            assertThat(receivedRecords, notNullValue());
+
+            final Set<String> receivedMessages = receivedRecords.stream()
+                    .map(Record::getData)
+                    .map(event -> event.get("message", String.class))
+                    .collect(Collectors.toSet());
+            assertThat(receivedMessages, equalTo(expectedMessages));
+        }
+
         @Test
         void send_Events_to_server_when_expecting_SSL_should_throw() {
             final PeerForwarderConfiguration peerForwarderConfiguration = createConfiguration(true, ForwardingAuthentication.UNAUTHENTICATED);
@@ -366,6 +390,16 @@ class PeerForwarder_ClientServerIT {
             final String sslCertificateFile,
             final String sslKeyFile,
             final boolean sslDisableVerification) {
+        return createConfiguration(ssl, authentication, sslCertificateFile, sslKeyFile, sslDisableVerification, ForwardingCodec.JSON);
+    }
+
+    private PeerForwarderConfiguration createConfiguration(
+            final boolean ssl,
+            final ForwardingAuthentication authentication,
+            final String sslCertificateFile,
+            final String sslKeyFile,
+            final boolean sslDisableVerification,
+            final ForwardingCodec codec) {
         final Map<String, Object> authenticationMap = Collections.singletonMap(authentication.getName(), null);
         return new PeerForwarderConfiguration(
                 21890,
@@ -391,7 +425,9 @@ class PeerForwarder_ClientServerIT {
                 List.of("127.0.0.1"),
                 200,
                 48,
-                512
+                512,
+                null,
+                codec.getName()
         );
     }
 }
@@ -70,6 +70,14 @@ class PeerForwardingProcessingDecoratorTest {
         verifyNoInteractions(peerForwarderProvider);
     }
 
+    @Test
+    void decorateProcessors_should_throw_if_the_processors_are_not_instances_of_RequiresPeerForwarding() {
+        assertThrows(UnsupportedPeerForwarderPluginException.class,
+                () -> PeerForwardingProcessorDecorator.decorateProcessors(List.of(processor), peerForwarderProvider, pipelineName, pluginId));
+
+        verifyNoInteractions(peerForwarderProvider);
+    }
+
     @Test
     void PeerForwardingProcessingDecorator_execute_with_empty_identification_keys_should_throw() {
         when(requiresPeerForwarding.getIdentificationKeys()).thenReturn(Collections.emptySet());
@@ -149,6 +157,21 @@ class PeerForwardingProcessingDecoratorTest {
             verify(processor).execute(anyCollection());
         }
 
+        @Test
+        void decorateProcessors_registers_a_single_peer_forwarder_for_every_instance() {
+            final Processor otherProcessor = mock(Processor.class);
+            final Collection<Record<Event>> testData = Collections.singletonList(record);
+            when(peerForwarder.forwardRecords(testData)).thenReturn(testData);
+
+            final List<Processor> decoratedProcessors = PeerForwardingProcessorDecorator.decorateProcessors(
+                    List.of(processor, otherProcessor), peerForwarderProvider, pipelineName, pluginId);
+            decoratedProcessors.get(1).execute(testData);
+
+            assertThat(decoratedProcessors.size(), equalTo(2));
+            verify(peerForwarderProvider).register(pipelineName, pluginId, identificationKeys);
+            verify(otherProcessor).execute(anyCollection());
+        }
+
         @Test
         void PeerForwardingProcessingDecorator_prepareForShutdown_will_call_inner_processors_prepareForShutdown() {
             PeerForwardingProcessorDecorator objectUnderTest = createObjectUnderTest(processor);
@@ -172,6 +195,13 @@ class PeerForwardingProcessingDecoratorTest {
             objectUnderTest.shutdown();
             verify(processor).shutdown();
         }
+
+        @Test
+        void PeerForwardingProcessingDecorator_getInnerProcessor_returns_the_inner_processor() {
+            PeerForwardingProcessorDecorator objectUnderTest = createObjectUnderTest(processor);
+
+            assertThat(objectUnderTest.getInnerProcessor(), equalTo(processor));
+        }
     }
 
 }
\ No newline at end of file
@@ -23,11 +23,15 @@ import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.peerforwarder.ForwardingCodec;
 import org.opensearch.dataprepper.peerforwarder.PeerClientPool;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderClientFactory;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.peerforwarder.model.BinaryWireEvents;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
 
 import java.io.IOException;
@@ -77,7 +81,12 @@ class PeerForwarderClientTest {
     }
 
     private PeerForwarderClient createObjectUnderTest(final ObjectMapper objectMapper) {
+        return createObjectUnderTest(objectMapper, ForwardingCodec.JSON);
+    }
+
+    private PeerForwarderClient createObjectUnderTest(final ObjectMapper objectMapper, final ForwardingCodec codec) {
         when(peerForwarderConfiguration.getClientThreadCount()).thenReturn(200);
+        when(peerForwarderConfiguration.getCodec()).thenReturn(codec);
         return new PeerForwarderClient(peerForwarderConfiguration, peerForwarderClientFactory, objectMapper);
     }
 
@@ -104,6 +113,37 @@ class PeerForwarderClientTest {
         server.stop(0);
     }
 
+    @ParameterizedTest
+    @EnumSource(value = ForwardingCodec.class, names = {"SMILE", "CBOR"})
+    void test_serializeRecordsAndSendHttpRequest_with_binary_codec_should_send_encoded_events(final ForwardingCodec codec) throws IOException {
+        final HttpServer server = createServer(2023);
+        final CapturingHandler capturingHandler = new CapturingHandler();
+        server.createContext(DEFAULT_PEER_FORWARDING_URI, capturingHandler);
+        server.start();
+
+        try {
+            final InetSocketAddress address = server.getAddress();
+            final WebClient testClient = getTestClient(String.valueOf(address.getPort()));
+            when(peerClientPool.getClient(anyString())).thenReturn(testClient);
+
+            final PeerForwarderClient peerForwarderClient = createObjectUnderTest(objectMapper, codec);
+
+            final AggregatedHttpResponse aggregatedHttpResponse =
+                    peerForwarderClient.serializeRecordsAndSendHttpRequest(generateBatchRecords(2), address.toString(), TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+
+            assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+            assertThat(capturingHandler.contentType, equalTo(codec.getEventCodec().getMediaType()));
+
+            final BinaryWireEvents binaryWireEvents = BinaryWireEvents.decode(codec.getEventCodec(), capturingHandler.content);
+            assertThat(binaryWireEvents.getDestinationPluginId(), equalTo(TEST_PLUGIN_ID));
+            assertThat(binaryWireEvents.getDestinationPipelineName(), equalTo(TEST_PIPELINE_NAME));
+            assertThat(binaryWireEvents.getEvents().size(), equalTo(2));
+            assertThat(binaryWireEvents.getEvents().get(1).get("key1", String.class), equalTo("value1"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
     @Test
     void test_serializeRecordsAndSendHttpRequest_with_bad_wireEvents_should_throw() throws JsonProcessingException {
         ObjectMapper objectMapper = mock(ObjectMapper.class);
@@ -161,4 +201,16 @@ class PeerForwarderClientTest {
         }
     }
 
+    private static class CapturingHandler extends TestHandler {
+        private String contentType;
+        private byte[] content;
+
+        @Override
+        public void handle(HttpExchange httpExchange) throws IOException {
+            contentType = httpExchange.getRequestHeaders().getFirst("Content-Type");
+            content = httpExchange.getRequestBody().readAllBytes();
+            super.handle(httpExchange);
+        }
+    }
+
 }
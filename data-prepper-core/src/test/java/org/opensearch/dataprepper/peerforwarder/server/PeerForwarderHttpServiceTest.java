@@ -22,16 +22,22 @@ import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.RequestHeaders;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.peerforwarder.ForwardingCodec;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderReceiveBuffer;
+import org.opensearch.dataprepper.peerforwarder.model.BinaryWireEvents;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvent;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -58,7 +64,7 @@ class PeerForwarderHttpServiceTest {
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
     private final PeerForwarderReceiveBuffer peerForwarderReceiveBuffer =
-            new PeerForwarderReceiveBuffer(TEST_BATCH_SIZE, TEST_BUFFER_CAPACITY);
+            new PeerForwarderReceiveBuffer(TEST_BATCH_SIZE, TEST_BUFFER_CAPACITY, PIPELINE_NAME, PLUGIN_ID);
 
     @Mock
     private PeerForwarderProvider peerForwarderProvider;
@@ -87,6 +93,76 @@ class PeerForwarderHttpServiceTest {
         assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
     }
 
+    @ParameterizedTest
+    @EnumSource(value = ForwardingCodec.class, names = {"SMILE", "CBOR"})
+    void test_doPost_with_binary_HTTP_request_should_write_events_to_buffer(final ForwardingCodec codec) throws Exception {
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, peerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+
+        final AggregatedHttpRequest aggregatedHttpRequest = generateBinaryHTTPRequest(codec, 2);
+
+        final PeerForwarderHttpService objectUnderTest = createObjectUnderTest();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        final Collection<Record<Event>> records = (Collection<Record<Event>>) peerForwarderReceiveBuffer.read(100).getKey();
+        assertThat(records.size(), equalTo(2));
+        for (final Record<Event> record : records) {
+            assertThat(record.getData().get("key1", String.class), equalTo("value"));
+            assertThat(record.getData().getMetadata().getEventType(), equalTo(LOG));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ForwardingCodec.class, names = {"SMILE", "CBOR"})
+    void test_doPost_with_bad_binary_HTTP_request_should_return_INTERNAL_SERVER_ERROR(final ForwardingCodec codec) throws ExecutionException, InterruptedException {
+        final RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(MediaType.parse(codec.getEventCodec().getMediaType()))
+                .method(HttpMethod.POST)
+                .path(DEFAULT_PEER_FORWARDING_URI)
+                .build();
+        final AggregatedHttpRequest aggregatedHttpRequest = HttpRequest.of(requestHeaders, HttpData.ofUtf8("{")).aggregate().get();
+
+        final PeerForwarderHttpService objectUnderTest = createObjectUnderTest();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.INTERNAL_SERVER_ERROR));
+    }
+
+    @Test
+    void test_doPost_with_unsupported_content_type_should_return_UNSUPPORTED_MEDIA_TYPE() throws ExecutionException, InterruptedException {
+        final RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(MediaType.PLAIN_TEXT_UTF_8)
+                .method(HttpMethod.POST)
+                .path(DEFAULT_PEER_FORWARDING_URI)
+                .build();
+        final AggregatedHttpRequest aggregatedHttpRequest = HttpRequest.of(requestHeaders, HttpData.ofUtf8("{}")).aggregate().get();
+
+        final PeerForwarderHttpService objectUnderTest = createObjectUnderTest();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+    }
+
+    @Test
+    void test_doPost_without_content_type_should_return_UNSUPPORTED_MEDIA_TYPE() throws ExecutionException, InterruptedException {
+        final RequestHeaders requestHeaders = RequestHeaders.builder()
+                .method(HttpMethod.POST)
+                .path(DEFAULT_PEER_FORWARDING_URI)
+                .build();
+        final AggregatedHttpRequest aggregatedHttpRequest = HttpRequest.of(requestHeaders, HttpData.ofUtf8("{}")).aggregate().get();
+
+        final PeerForwarderHttpService objectUnderTest = createObjectUnderTest();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+    }
+
     @Test
     void test_doPost_with_bad_HTTP_request_should_return_BAD_REQUEST() throws ExecutionException, InterruptedException {
         final AggregatedHttpRequest aggregatedHttpRequest = generateBadHTTPRequest();
@@ -144,6 +220,21 @@ class PeerForwarderHttpServiceTest {
         return HttpRequest.of(requestHeaders, httpData).aggregate().get();
     }
 
+    private AggregatedHttpRequest generateBinaryHTTPRequest(final ForwardingCodec codec, final int numRecords) throws IOException,
+            ExecutionException, InterruptedException {
+        final RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(MediaType.parse(codec.getEventCodec().getMediaType()))
+                .method(HttpMethod.POST)
+                .path(DEFAULT_PEER_FORWARDING_URI)
+                .build();
+
+        final List<Event> events = generateBatchRecords(numRecords).stream()
+                .map(Record::getData)
+                .collect(Collectors.toList());
+        final byte[] content = new BinaryWireEvents(events, PLUGIN_ID, PIPELINE_NAME).encode(codec.getEventCodec());
+        return HttpRequest.of(requestHeaders, HttpData.wrap(content)).aggregate().get();
+    }
+
     private AggregatedHttpRequest generateBadHTTPRequest() throws ExecutionException, InterruptedException {
         RequestHeaders requestHeaders = RequestHeaders.builder()
                 .contentType(MediaType.JSON)
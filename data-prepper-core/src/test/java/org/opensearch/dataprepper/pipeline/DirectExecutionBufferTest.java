@@ -0,0 +1,201 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.metrics.MetricNames;
+import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.record.Record;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+class DirectExecutionBufferTest {
+    @Mock
+    private Pipeline pipeline;
+
+    @Mock
+    private Processor processor;
+
+    private Collection<Record<?>> records;
+    private Collection<Record> processedRecords;
+    private DirectExecutionBuffer directExecutionBuffer;
+    private SimpleMeterRegistry meterRegistry;
+    private String pipelineName;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        pipelineName = UUID.randomUUID().toString();
+        when(pipeline.getName()).thenReturn(pipelineName);
+        records = Collections.singletonList(new Record<>("input"));
+        processedRecords = Collections.singletonList(new Record<>("output"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (directExecutionBuffer != null) {
+            directExecutionBuffer.shutdown(Duration.ZERO);
+        }
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    private double getBufferMetric(final String name) {
+        return meterRegistry.get(pipelineName + MetricNames.DELIMITER + DirectExecutionBuffer.BUFFER_NAME
+                + MetricNames.DELIMITER + name).meter().measure().iterator().next().getValue();
+    }
+
+    private DirectExecutionBuffer createObjectUnderTest(final List<List<Processor>> processorChains) {
+        directExecutionBuffer = new DirectExecutionBuffer(pipeline, processorChains);
+        return directExecutionBuffer;
+    }
+
+    @Test
+    void writeAll_runs_the_processors_and_the_sinks_before_returning() throws Exception {
+        when(processor.execute(records)).thenReturn(processedRecords);
+
+        createObjectUnderTest(List.of(List.of(processor))).writeAll(records, 100);
+
+        verify(pipeline).publishToSinksInline(processedRecords);
+    }
+
+    @Test
+    void write_runs_the_processors_and_the_sinks_with_the_record() throws Exception {
+        when(processor.execute(records)).thenReturn(processedRecords);
+
+        createObjectUnderTest(List.of(List.of(processor))).write(records.iterator().next(), 100);
+
+        verify(pipeline).publishToSinksInline(processedRecords);
+    }
+
+    @Test
+    void writeAll_reports_the_records_as_written_and_processed_and_none_as_in_the_buffer() throws Exception {
+        when(processor.execute(records)).thenReturn(processedRecords);
+        final DirectExecutionBuffer objectUnderTest = createObjectUnderTest(List.of(List.of(processor)));
+
+        objectUnderTest.writeAll(records, 100);
+        objectUnderTest.write(records.iterator().next(), 100);
+
+        assertThat(getBufferMetric(MetricNames.RECORDS_WRITTEN), equalTo(2.0));
+        assertThat(getBufferMetric(MetricNames.RECORDS_IN_BUFFER), equalTo(0.0));
+        assertThat(getBufferMetric(MetricNames.RECORDS_INFLIGHT), equalTo(0.0));
+        assertThat(meterRegistry.get(pipelineName + MetricNames.DELIMITER + MetricNames.RECORDS_PROCESSED).counter().count(),
+                equalTo(2.0));
+    }
+
+    @Test
+    void writeAll_does_not_output_empty_batches() throws Exception {
+        when(processor.execute(records)).thenReturn(Collections.emptyList());
+
+        createObjectUnderTest(List.of(List.of(processor))).writeAll(records, 100);
+
+        verify(pipeline, never()).publishToSinksInline(any());
+    }
+
+    @Test
+    void writeAll_throws_processor_failures_to_the_writer() {
+        when(processor.execute(records)).thenThrow(new RuntimeException("test"));
+        final DirectExecutionBuffer objectUnderTest = createObjectUnderTest(List.of(List.of(processor)));
+
+        assertThrows(RuntimeException.class, () -> objectUnderTest.writeAll(records, 100));
+        assertThat(objectUnderTest.getFillRatio(), equalTo(0.0));
+    }
+
+    @Test
+    void writeAll_times_out_while_every_processor_chain_is_in_use() throws Exception {
+        final CountDownLatch executing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(processor.execute(records)).thenAnswer(invocation -> {
+            executing.countDown();
+            release.await();
+            return processedRecords;
+        });
+        final DirectExecutionBuffer objectUnderTest = createObjectUnderTest(List.of(List.of(processor)));
+        final Thread writer = new Thread(() -> {
+            try {
+                objectUnderTest.writeAll(records, 100);
+            } catch (final Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        writer.start();
+        executing.await(5, TimeUnit.SECONDS);
+
+        assertThat(objectUnderTest.getFillRatio(), equalTo(1.0));
+        assertThrows(TimeoutException.class, () -> objectUnderTest.writeAll(records, 10));
+
+        release.countDown();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(objectUnderTest.getFillRatio(), equalTo(0.0));
+    }
+
+    @Test
+    void read_returns_no_records_and_the_buffer_is_always_empty() {
+        final DirectExecutionBuffer objectUnderTest = createObjectUnderTest(List.of(List.of(processor)));
+
+        assertThat(objectUnderTest.read(100).getKey().isEmpty(), equalTo(true));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void start_executes_idle_processor_chains_with_empty_batches() {
+        when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(10);
+        when(processor.execute(Collections.emptyList())).thenReturn(Collections.emptyList());
+
+        createObjectUnderTest(List.of(List.of(processor))).start();
+
+        verify(processor, timeout(5_000).atLeastOnce()).execute(Collections.emptyList());
+    }
+
+    @Test
+    void shutdown_executes_processors_until_they_are_ready_for_shutdown() {
+        when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(10);
+        when(processor.isReadyForShutdown()).thenReturn(false, true);
+        when(processor.execute(Collections.emptyList())).thenReturn(processedRecords);
+
+        final boolean isShutdown = createObjectUnderTest(List.of(List.of(processor))).shutdown(Duration.ofSeconds(5));
+
+        assertThat(isShutdown, equalTo(true));
+        verify(processor, atLeastOnce()).execute(Collections.emptyList());
+        verify(pipeline).publishToSinksInline(processedRecords);
+    }
+
+    @Test
+    void shutdown_returns_false_when_processors_are_not_ready_in_time() {
+        when(processor.isReadyForShutdown()).thenReturn(false);
+
+        final boolean isShutdown = createObjectUnderTest(List.of(List.of(processor))).shutdown(Duration.ZERO);
+
+        assertThat(isShutdown, equalTo(false));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventMetadata;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes"})
+@ExtendWith(MockitoExtension.class)
+class EventLatencyRecorderTest {
+    @Mock
+    private Timer timer;
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Test
+    void record_records_the_time_since_each_event_was_received() {
+        final Instant timeReceived = Instant.now().minus(Duration.ofSeconds(5));
+        final Collection<Record> records = Arrays.asList(createEventRecord(timeReceived), createEventRecord(timeReceived));
+
+        new EventLatencyRecorder(timer, 1).record(records);
+
+        final ArgumentCaptor<Duration> durationCaptor = ArgumentCaptor.forClass(Duration.class);
+        verify(timer, times(2)).record(durationCaptor.capture());
+        for (final Duration duration : durationCaptor.getAllValues()) {
+            assertThat(duration.compareTo(Duration.ofSeconds(5)) >= 0, equalTo(true));
+        }
+    }
+
+    @Test
+    void record_ignores_records_without_a_receive_time() {
+        final EventMetadata eventMetadata = mock(EventMetadata.class);
+        final Event eventWithoutReceiveTime = mock(Event.class);
+        when(eventWithoutReceiveTime.getMetadata()).thenReturn(eventMetadata);
+        final Collection<Record> records = Arrays.asList(
+                new Record<>("not an event"),
+                new Record<>(mock(Event.class)),
+                new Record<>(eventWithoutReceiveTime));
+
+        new EventLatencyRecorder(timer, 1).record(records);
+
+        verifyNoInteractions(timer);
+    }
+
+    @Test
+    void record_samples_a_fraction_of_the_events() {
+        final Instant timeReceived = Instant.now();
+        final List<Record> records = IntStream.range(0, 1000)
+                .mapToObj(i -> createEventRecord(timeReceived))
+                .collect(Collectors.toList());
+
+        new EventLatencyRecorder(timer, 0.5).record(records);
+
+        final ArgumentCaptor<Duration> durationCaptor = ArgumentCaptor.forClass(Duration.class);
+        verify(timer, atLeast(1)).record(durationCaptor.capture());
+        assertThat(durationCaptor.getAllValues().size() < records.size(), equalTo(true));
+    }
+
+    @Test
+    void recordSinceWritten_records_the_time_since_each_record_was_written() {
+        final Record record = new Record<>("written");
+        record.setTimeWrittenNanos(System.nanoTime() - TimeUnit.SECONDS.toNanos(5));
+
+        new EventLatencyRecorder(timer, 1).recordSinceWritten(Arrays.asList(record, new Record<>("not written")));
+
+        final ArgumentCaptor<Long> amountCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(timer).record(amountCaptor.capture(), eq(TimeUnit.NANOSECONDS));
+        assertThat(amountCaptor.getValue() >= TimeUnit.SECONDS.toNanos(5), equalTo(true));
+    }
+
+    @Test
+    void recordSinceWritten_samples_a_fraction_of_the_records() {
+        final long timeWrittenNanos = System.nanoTime();
+        final List<Record> records = IntStream.range(0, 1000)
+                .mapToObj(i -> {
+                    final Record record = new Record<>("written");
+                    record.setTimeWrittenNanos(timeWrittenNanos);
+                    return record;
+                })
+                .collect(Collectors.toList());
+
+        new EventLatencyRecorder(timer, 0.5).recordSinceWritten(records);
+
+        final ArgumentCaptor<Long> amountCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(timer, atLeast(1)).record(amountCaptor.capture(), eq(TimeUnit.NANOSECONDS));
+        assertThat(amountCaptor.getAllValues().size() < records.size(), equalTo(true));
+    }
+
+    @Test
+    void recordSinceWritten_with_zero_sample_rate_records_nothing() {
+        final Record record = new Record<>("written");
+        record.setTimeWrittenNanos(System.nanoTime());
+
+        EventLatencyRecorder.create(pluginMetrics, "testLatency", 0).recordSinceWritten(Collections.singletonList(record));
+
+        verifyNoInteractions(pluginMetrics);
+    }
+
+    @Test
+    void create_with_zero_sample_rate_returns_a_recorder_which_records_nothing() {
+        final EventLatencyRecorder recorder = EventLatencyRecorder.create(pluginMetrics, "testLatency", 0);
+
+        recorder.record(Collections.singletonList(createEventRecord(Instant.now())));
+
+        verifyNoInteractions(pluginMetrics);
+    }
+
+    @Test
+    void create_registers_a_timer_with_the_metric_name() {
+        when(pluginMetrics.timer("testLatency")).thenReturn(timer);
+
+        final EventLatencyRecorder recorder = EventLatencyRecorder.create(pluginMetrics, "testLatency", 1);
+        recorder.record(Collections.singletonList(createEventRecord(Instant.now())));
+
+        verify(timer).record(any(Duration.class));
+    }
+
+    private static Record createEventRecord(final Instant timeReceived) {
+        return new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withTimeReceived(timeReceived)
+                .build());
+    }
+}
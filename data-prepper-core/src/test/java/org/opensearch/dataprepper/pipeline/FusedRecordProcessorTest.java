@@ -0,0 +1,245 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.annotations.SingleThread;
+import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.processor.RecordProcessor;
+import com.amazon.dataprepper.model.record.Record;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+class FusedRecordProcessorTest {
+    private ForkJoinPool forkJoinPool;
+
+    @BeforeEach
+    void setUp() {
+        forkJoinPool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        forkJoinPool.shutdownNow();
+    }
+
+    @Test
+    void fuse_replaces_consecutive_RecordProcessors_with_a_FusedRecordProcessor() {
+        final Processor batchProcessor = mock(Processor.class);
+        final RecordProcessor first = mock(RecordProcessor.class);
+        final RecordProcessor second = mock(RecordProcessor.class);
+        final RecordProcessor single = mock(RecordProcessor.class);
+
+        final List<Processor> fusedProcessors = FusedRecordProcessor.fuse(Arrays.asList(first, second, batchProcessor, single));
+
+        assertThat(fusedProcessors.size(), equalTo(3));
+        assertThat(fusedProcessors.get(0), instanceOf(FusedRecordProcessor.class));
+        assertThat(fusedProcessors.get(1), sameInstance(batchProcessor));
+        assertThat(fusedProcessors.get(2), sameInstance(single));
+    }
+
+    @Test
+    void fuse_keeps_processors_which_are_not_RecordProcessors() {
+        final List<Processor> processors = Arrays.asList(mock(Processor.class), mock(Processor.class));
+
+        assertThat(FusedRecordProcessor.fuse(processors), equalTo(processors));
+        assertThat(FusedRecordProcessor.fuse(Collections.emptyList()).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void execute_passes_each_record_through_every_processor_before_the_next_record() {
+        final Record firstRecord = new Record<>("a");
+        final Record secondRecord = new Record<>("b");
+        final RecordProcessor first = mock(RecordProcessor.class);
+        final RecordProcessor second = mock(RecordProcessor.class);
+        when(first.processRecord(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(second.processRecord(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final Collection<Record<?>> processedRecords = new FusedRecordProcessor(Arrays.asList(first, second))
+                .execute((List) Arrays.asList(firstRecord, secondRecord));
+
+        assertThat(processedRecords, equalTo((List) Arrays.asList(firstRecord, secondRecord)));
+        final InOrder inOrder = inOrder(first, second);
+        inOrder.verify(first).processRecord(firstRecord);
+        inOrder.verify(second).processRecord(firstRecord);
+        inOrder.verify(first).processRecord(secondRecord);
+        inOrder.verify(second).processRecord(secondRecord);
+        verify(first).recordBatchMetrics(eq(2), eq(2), anyLong());
+        verify(second).recordBatchMetrics(eq(2), eq(2), anyLong());
+    }
+
+    @Test
+    void execute_stops_processing_dropped_records() {
+        final Record droppedRecord = new Record<>("drop");
+        final Record keptRecord = new Record<>("keep");
+        final Record replacedRecord = new Record<>("replaced");
+        final RecordProcessor first = mock(RecordProcessor.class);
+        final RecordProcessor second = mock(RecordProcessor.class);
+        when(first.processRecord(droppedRecord)).thenReturn(null);
+        when(first.processRecord(keptRecord)).thenReturn(keptRecord);
+        when(second.processRecord(keptRecord)).thenReturn(replacedRecord);
+
+        final Collection<Record<?>> processedRecords = new FusedRecordProcessor(Arrays.asList(first, second))
+                .execute((List) Arrays.asList(droppedRecord, keptRecord));
+
+        assertThat(processedRecords, equalTo((List) Collections.singletonList(replacedRecord)));
+        verify(second, never()).processRecord(droppedRecord);
+        verify(first).recordBatchMetrics(eq(2), eq(1), anyLong());
+        verify(second).recordBatchMetrics(eq(1), eq(1), anyLong());
+    }
+
+    @Test
+    void fuse_with_a_ForkJoinPool_makes_each_run_of_thread_safe_RecordProcessors_parallel() {
+        final Processor batchProcessor = mock(Processor.class);
+        final RecordProcessor first = new ThreadSafeRecordProcessor();
+        final RecordProcessor second = new ThreadSafeRecordProcessor();
+        final RecordProcessor singleThread = new SingleThreadRecordProcessor();
+        final RecordProcessor single = new ThreadSafeRecordProcessor();
+
+        final List<Processor> fusedProcessors = FusedRecordProcessor.fuse(
+                Arrays.asList(first, second, singleThread, batchProcessor, single), forkJoinPool);
+
+        assertThat(fusedProcessors.size(), equalTo(4));
+        assertThat(((FusedRecordProcessor) fusedProcessors.get(0)).isParallel(), equalTo(true));
+        assertThat(fusedProcessors.get(1), sameInstance(singleThread));
+        assertThat(fusedProcessors.get(2), sameInstance(batchProcessor));
+        assertThat(((FusedRecordProcessor) fusedProcessors.get(3)).isParallel(), equalTo(true));
+    }
+
+    @Test
+    void fuse_without_a_ForkJoinPool_does_not_make_RecordProcessors_parallel() {
+        final List<Processor> fusedProcessors = FusedRecordProcessor.fuse(
+                Arrays.asList(new ThreadSafeRecordProcessor(), new SingleThreadRecordProcessor()), null);
+
+        assertThat(fusedProcessors.size(), equalTo(1));
+        assertThat(((FusedRecordProcessor) fusedProcessors.get(0)).isParallel(), equalTo(false));
+    }
+
+    @Test
+    void execute_in_parallel_keeps_the_order_of_the_records_and_reports_the_metrics_of_the_whole_batch() {
+        final Set<Thread> processingThreads = ConcurrentHashMap.newKeySet();
+        final List<Record> records = IntStream.range(0, 20 * FusedRecordProcessor.MIN_RECORDS_PER_TASK)
+                .mapToObj(Record::new)
+                .collect(Collectors.toList());
+        final RecordProcessor dropOdd = mock(RecordProcessor.class);
+        final RecordProcessor second = mock(RecordProcessor.class);
+        when(dropOdd.processRecord(any())).thenAnswer(invocation -> {
+            processingThreads.add(Thread.currentThread());
+            final Record<Integer> record = invocation.getArgument(0);
+            return record.getData() % 2 == 0 ? record : null;
+        });
+        when(second.processRecord(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final Collection<Record<?>> processedRecords = new FusedRecordProcessor(Arrays.asList(dropOdd, second), forkJoinPool)
+                .execute((List) records);
+
+        final List<Record> expectedRecords = records.stream()
+                .filter(record -> (Integer) record.getData() % 2 == 0)
+                .collect(Collectors.toList());
+        assertThat(processedRecords, equalTo((List) expectedRecords));
+        verify(dropOdd).recordBatchMetrics(eq(records.size()), eq(expectedRecords.size()), anyLong());
+        verify(second).recordBatchMetrics(eq(expectedRecords.size()), eq(expectedRecords.size()), anyLong());
+        for (final Thread processingThread : processingThreads) {
+            assertThat(processingThread, instanceOf(ForkJoinWorkerThread.class));
+            assertThat(((ForkJoinWorkerThread) processingThread).getPool(), sameInstance(forkJoinPool));
+        }
+    }
+
+    @Test
+    void execute_in_parallel_processes_small_batches_on_the_calling_thread() {
+        final Thread callingThread = Thread.currentThread();
+        final RecordProcessor processor = mock(RecordProcessor.class);
+        when(processor.processRecord(any())).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread(), sameInstance(callingThread));
+            return invocation.getArgument(0);
+        });
+        final List<Record> records = Arrays.asList(new Record<>("a"), new Record<>("b"));
+
+        final Collection<Record<?>> processedRecords = new FusedRecordProcessor(Collections.singletonList(processor), forkJoinPool)
+                .execute((List) records);
+
+        assertThat(processedRecords, equalTo((List) records));
+        verify(processor).recordBatchMetrics(eq(2), eq(2), anyLong());
+    }
+
+    @Test
+    void shutdown_methods_are_delegated_to_every_processor() {
+        final RecordProcessor first = mock(RecordProcessor.class);
+        final RecordProcessor second = mock(RecordProcessor.class);
+        when(first.isReadyForShutdown()).thenReturn(true);
+        final FusedRecordProcessor fusedRecordProcessor = new FusedRecordProcessor(Arrays.asList(first, second));
+
+        assertThat(fusedRecordProcessor.isReadyForShutdown(), equalTo(false));
+        when(second.isReadyForShutdown()).thenReturn(true);
+        assertThat(fusedRecordProcessor.isReadyForShutdown(), equalTo(true));
+
+        fusedRecordProcessor.prepareForShutdown();
+        fusedRecordProcessor.shutdown();
+        verify(first).prepareForShutdown();
+        verify(second).prepareForShutdown();
+        verify(first).shutdown();
+        verify(second).shutdown();
+    }
+
+    private static class ThreadSafeRecordProcessor implements RecordProcessor<Record<?>> {
+        @Override
+        public Record<?> processRecord(final Record<?> record) {
+            return record;
+        }
+
+        @Override
+        public void recordBatchMetrics(final int recordsIn, final int recordsOut, final long elapsedNanos) {
+        }
+
+        @Override
+        public Collection<Record<?>> execute(final Collection<Record<?>> records) {
+            return records;
+        }
+
+        @Override
+        public void prepareForShutdown() {
+        }
+
+        @Override
+        public boolean isReadyForShutdown() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    @SingleThread
+    private static class SingleThreadRecordProcessor extends ThreadSafeRecordProcessor {
+    }
+}
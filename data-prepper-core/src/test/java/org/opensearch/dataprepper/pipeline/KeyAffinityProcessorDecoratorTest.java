@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.peerforwarder.RequiresPeerForwarding;
+import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.record.Record;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+class KeyAffinityProcessorDecoratorTest {
+    private static final int WORKER_INDEX = 1;
+
+    @Mock(extraInterfaces = RequiresPeerForwarding.class)
+    private Processor processor;
+
+    @Mock
+    private WorkerKeyPartitioner workerKeyPartitioner;
+
+    private KeyAffinityProcessorDecorator objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new KeyAffinityProcessorDecorator(processor, workerKeyPartitioner, WORKER_INDEX);
+    }
+
+    @Test
+    void execute_passes_the_records_of_the_worker_to_the_inner_processor() {
+        final Collection<Record<Event>> records = List.of(mock(Record.class));
+        final Collection<Record<Event>> ownedRecords = List.of(mock(Record.class));
+        final Collection<Record<Event>> processedRecords = List.of(mock(Record.class));
+        when(workerKeyPartitioner.partition(WORKER_INDEX, records)).thenReturn(ownedRecords);
+        when(processor.execute(ownedRecords)).thenReturn(processedRecords);
+
+        assertThat(objectUnderTest.execute(records), equalTo(processedRecords));
+    }
+
+    @Test
+    void getIdentificationKeys_returns_the_keys_of_the_inner_processor() {
+        when(((RequiresPeerForwarding) processor).getIdentificationKeys()).thenReturn(Set.of("traceId"));
+
+        assertThat(objectUnderTest.getIdentificationKeys(), equalTo(Set.of("traceId")));
+    }
+
+    @Test
+    void isReadyForShutdown_is_false_while_records_are_waiting_for_the_worker() {
+        when(workerKeyPartitioner.isInboxEmpty(WORKER_INDEX)).thenReturn(false);
+
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(false));
+        verify(processor, never()).isReadyForShutdown();
+    }
+
+    @Test
+    void isReadyForShutdown_returns_the_readiness_of_the_inner_processor_once_the_inbox_is_empty() {
+        when(workerKeyPartitioner.isInboxEmpty(WORKER_INDEX)).thenReturn(true);
+        when(processor.isReadyForShutdown()).thenReturn(true);
+
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(true));
+    }
+
+    @Test
+    void prepareForShutdown_and_shutdown_are_delegated_to_the_inner_processor() {
+        objectUnderTest.prepareForShutdown();
+        objectUnderTest.shutdown();
+
+        verify(processor).prepareForShutdown();
+        verify(processor).shutdown();
+    }
+
+    @Test
+    void decorateProcessors_decorates_each_instance_with_a_shared_partitioner() {
+        final Processor otherProcessor = mock(Processor.class);
+        when(((RequiresPeerForwarding) processor).getIdentificationKeys()).thenReturn(Set.of("traceId"));
+        when(processor.execute(Collections.emptyList())).thenReturn(Collections.emptyList());
+        when(otherProcessor.execute(Collections.emptyList())).thenReturn(Collections.emptyList());
+
+        final List<Processor> decoratedProcessors = KeyAffinityProcessorDecorator.decorateProcessors(List.of(processor, otherProcessor));
+
+        assertThat(decoratedProcessors.size(), equalTo(2));
+        assertThat(decoratedProcessors.get(0), instanceOf(KeyAffinityProcessorDecorator.class));
+        decoratedProcessors.get(0).execute(Collections.emptyList());
+        decoratedProcessors.get(1).execute(Collections.emptyList());
+        verify(processor).execute(Collections.emptyList());
+        verify(otherProcessor).execute(Collections.emptyList());
+    }
+}
@@ -6,22 +6,36 @@
 package org.opensearch.dataprepper.pipeline;
 
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
 import com.amazon.dataprepper.model.record.Record;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeoutException;
-
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -60,13 +74,13 @@ public class PipelineConnectorTest {
 
     @Test
     public void testOutputBufferTimesOutThenSucceeds() throws Exception {
-        doThrow(new TimeoutException()).doNothing().when(buffer).write(any(), anyInt());
+        doThrow(new TimeoutException()).doNothing().when(buffer).writeAll(any(), anyInt());
 
         sut.start(buffer);
 
         sut.output(recordList);
 
-        verify(buffer, times(2)).write(eq(RECORD), anyInt());
+        verify(buffer, times(2)).writeAll(eq(recordList), anyInt());
     }
 
     @Test
@@ -75,7 +89,119 @@ public class PipelineConnectorTest {
 
         sut.output(recordList);
 
-        verify(buffer).write(eq(RECORD), anyInt());
+        verify(buffer).writeAll(eq(recordList), anyInt());
+        verify(buffer, never()).write(any(), anyInt());
+    }
+
+    @Test
+    public void testOutputWritesWholeBatchAsReadOnlyView() throws Exception {
+        final List<Record<String>> records = createRecords(4);
+        sut.start(buffer);
+
+        sut.output(records);
+
+        final ArgumentCaptor<Collection<Record<String>>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(buffer).writeAll(captor.capture(), anyInt());
+        assertThat(captor.getValue(), contains(records.toArray()));
+        assertThrows(UnsupportedOperationException.class, () -> captor.getValue().clear());
+    }
+
+    @Test
+    public void testOutputSplitsIntoChunksOnSizeOverflow() throws Exception {
+        final List<Record<String>> records = createRecords(4);
+        final List<Collection<Record<String>>> writtenChunks = new ArrayList<>();
+        doAnswer(invocation -> {
+            final Collection<Record<String>> chunk = invocation.getArgument(0);
+            if (chunk.size() > 2) {
+                throw new SizeOverflowException("too large");
+            }
+            writtenChunks.add(new ArrayList<>(chunk));
+            return null;
+        }).when(buffer).writeAll(any(), anyInt());
+        sut.start(buffer);
+
+        sut.output(records);
+
+        assertThat(writtenChunks.size(), equalTo(2));
+        assertThat(writtenChunks.get(0), equalTo(records.subList(0, 2)));
+        assertThat(writtenChunks.get(1), equalTo(records.subList(2, 4)));
+        verify(buffer, times(3)).writeAll(any(), anyInt());
+    }
+
+    @Test
+    public void testOutputWritesTheNextBatchWholeAfterASizeOverflow() throws Exception {
+        final List<Record<String>> records = createRecords(4);
+        final List<Collection<Record<String>>> writtenChunks = new ArrayList<>();
+        final AtomicBoolean overflowed = new AtomicBoolean();
+        doAnswer(invocation -> {
+            final Collection<Record<String>> chunk = invocation.getArgument(0);
+            if (overflowed.compareAndSet(false, true)) {
+                throw new SizeOverflowException("too large");
+            }
+            writtenChunks.add(new ArrayList<>(chunk));
+            return null;
+        }).when(buffer).writeAll(any(), anyInt());
+        sut.start(buffer);
+
+        sut.output(records);
+        sut.output(records);
+
+        assertThat(writtenChunks.size(), equalTo(3));
+        assertThat(writtenChunks.get(2), equalTo(records));
+    }
+
+    @Test
+    public void testOutputRetriesOnlyTheChunkWhichTimedOut() throws Exception {
+        final List<Record<String>> records = createRecords(4);
+        final List<Collection<Record<String>>> writtenChunks = new ArrayList<>();
+        final AtomicBoolean timedOut = new AtomicBoolean();
+        doAnswer(invocation -> {
+            final Collection<Record<String>> chunk = invocation.getArgument(0);
+            if (chunk.size() > 2) {
+                throw new SizeOverflowException("too large");
+            }
+            if (!writtenChunks.isEmpty() && timedOut.compareAndSet(false, true)) {
+                throw new TimeoutException();
+            }
+            writtenChunks.add(new ArrayList<>(chunk));
+            return null;
+        }).when(buffer).writeAll(any(), anyInt());
+        sut.start(buffer);
+
+        sut.output(records);
+
+        assertThat(writtenChunks.size(), equalTo(2));
+        assertThat(writtenChunks.get(0), equalTo(records.subList(0, 2)));
+        assertThat(writtenChunks.get(1), equalTo(records.subList(2, 4)));
+    }
+
+    @Test
+    public void testOutputThrowsInsteadOfRetryingWhenInterrupted() throws Exception {
+        doThrow(new TimeoutException()).when(buffer).writeAll(any(), anyInt());
+        sut.start(buffer);
+
+        Thread.currentThread().interrupt();
+        try {
+            final RuntimeException exception = assertThrows(RuntimeException.class, () -> sut.output(createRecords(2)));
+            assertThat(exception.getCause(), instanceOf(TimeoutException.class));
+        } finally {
+            Thread.interrupted();
+        }
+        verify(buffer).writeAll(any(), anyInt());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testOutputThrowsWhenSingleRecordOverflowsBuffer() throws Exception {
+        doThrow(new SizeOverflowException("too large")).when(buffer).writeAll(any(), anyInt());
+        sut.start(buffer);
+
+        sut.output(createRecords(2));
+    }
+
+    private static List<Record<String>> createRecords(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Record<>(RECORD_DATA + i))
+                .collect(Collectors.toList());
     }
 
     @Test
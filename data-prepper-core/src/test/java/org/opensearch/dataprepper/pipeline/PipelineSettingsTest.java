@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PipelineSettingsTest {
+    private static final Duration PROCESSOR_SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration SINK_SHUTDOWN_TIMEOUT = Duration.ofSeconds(20);
+
+    private static PipelineSettings.Builder createBuilder() {
+        return PipelineSettings.builder()
+                .withProcessorThreads(4)
+                .withReadBatchTimeoutInMillis(3000)
+                .withProcessorShutdownTimeout(PROCESSOR_SHUTDOWN_TIMEOUT)
+                .withSinkShutdownTimeout(SINK_SHUTDOWN_TIMEOUT);
+    }
+
+    @Test
+    void build_with_the_required_settings_uses_the_defaults() {
+        final PipelineSettings pipelineSettings = createBuilder().build();
+
+        assertThat(pipelineSettings.getProcessorThreads(), equalTo(4));
+        assertThat(pipelineSettings.getMinProcessorThreads(), equalTo(4));
+        assertThat(pipelineSettings.getReadBatchTimeoutInMillis(), equalTo(3000));
+        assertThat(pipelineSettings.getMaxInFlightSinkBatches(), equalTo(1));
+        assertThat(pipelineSettings.getSinkExecutorSettings(), nullValue());
+        assertThat(pipelineSettings.getLatencySampleRate(), equalTo(0.0));
+        assertThat(pipelineSettings.isParallelProcessing(), equalTo(false));
+        assertThat(pipelineSettings.isDirectExecution(), equalTo(false));
+        assertThat(pipelineSettings.getProcessorShutdownTimeout(), equalTo(PROCESSOR_SHUTDOWN_TIMEOUT));
+        assertThat(pipelineSettings.getSinkShutdownTimeout(), equalTo(SINK_SHUTDOWN_TIMEOUT));
+    }
+
+    @Test
+    void build_keeps_the_given_settings() {
+        final List<SinkExecutorSettings> sinkExecutorSettings = Collections.singletonList(new SinkExecutorSettings("sink", 1, 1));
+
+        final PipelineSettings pipelineSettings = createBuilder()
+                .withMinProcessorThreads(2)
+                .withMaxInFlightSinkBatches(3)
+                .withSinkExecutorSettings(sinkExecutorSettings)
+                .withLatencySampleRate(0.5)
+                .withParallelProcessing(true)
+                .build();
+
+        assertThat(pipelineSettings.getMinProcessorThreads(), equalTo(2));
+        assertThat(pipelineSettings.getMaxInFlightSinkBatches(), equalTo(3));
+        assertThat(pipelineSettings.getSinkExecutorSettings(), equalTo(sinkExecutorSettings));
+        assertThat(pipelineSettings.getLatencySampleRate(), equalTo(0.5));
+        assertThat(pipelineSettings.isParallelProcessing(), equalTo(true));
+    }
+
+    @Test
+    void build_with_direct_execution() {
+        assertThat(createBuilder().withDirectExecution(true).build().isDirectExecution(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 5})
+    void build_with_minProcessorThreads_out_of_range_throws(final int minProcessorThreads) {
+        final PipelineSettings.Builder builder = createBuilder().withMinProcessorThreads(minProcessorThreads);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.1, 1.1})
+    void build_with_latencySampleRate_out_of_range_throws(final double latencySampleRate) {
+        final PipelineSettings.Builder builder = createBuilder().withLatencySampleRate(latencySampleRate);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void build_with_non_positive_processorThreads_throws() {
+        assertThrows(IllegalArgumentException.class, () -> createBuilder().withProcessorThreads(0).build());
+    }
+
+    @Test
+    void build_with_non_positive_maxInFlightSinkBatches_throws() {
+        assertThrows(IllegalArgumentException.class, () -> createBuilder().withMaxInFlightSinkBatches(0).build());
+    }
+
+    @Test
+    void build_with_direct_execution_and_worker_scaling_throws() {
+        final PipelineSettings.Builder builder = createBuilder().withMinProcessorThreads(1).withDirectExecution(true);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void build_without_shutdown_timeouts_throws() {
+        assertThrows(NullPointerException.class, () -> createBuilder().withProcessorShutdownTimeout(null).build());
+        assertThrows(NullPointerException.class, () -> createBuilder().withSinkShutdownTimeout(null).build());
+    }
+}
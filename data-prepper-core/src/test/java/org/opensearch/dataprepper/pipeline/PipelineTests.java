@@ -6,7 +6,10 @@
 package org.opensearch.dataprepper.pipeline;
 
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.configuration.ConditionalRoute;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.sink.Sink;
@@ -16,29 +19,49 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.pipeline.common.FutureHelper;
+import org.opensearch.dataprepper.pipeline.common.FutureHelperResult;
 import org.opensearch.dataprepper.pipeline.common.TestProcessor;
+import org.opensearch.dataprepper.pipeline.router.Router;
 import org.opensearch.dataprepper.plugins.TestSink;
 import org.opensearch.dataprepper.plugins.TestSource;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class PipelineTests {
     private static final int TEST_READ_BATCH_TIMEOUT = 3000;
@@ -55,6 +78,14 @@ class PipelineTests {
         sinkShutdownTimeout = Duration.ofSeconds(Math.abs(new Random().nextInt(10)));
     }
 
+    private PipelineSettings.Builder settingsBuilder() {
+        return PipelineSettings.builder()
+                .withProcessorThreads(TEST_PROCESSOR_THREADS)
+                .withReadBatchTimeoutInMillis(TEST_READ_BATCH_TIMEOUT)
+                .withProcessorShutdownTimeout(processorShutdownTimeout)
+                .withSinkShutdownTimeout(sinkShutdownTimeout);
+    }
+
     @AfterEach
     void teardown() {
         if (testPipeline != null && !testPipeline.isStopRequested()) {
@@ -67,8 +98,8 @@ class PipelineTests {
         final Source<Record<String>> testSource = new TestSource();
         final TestSink testSink = new TestSink();
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
-                Collections.emptyList(), Collections.singletonList(testSink), TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout);
+                Collections.emptyList(), Collections.singletonList(testSink), Router.allRecordsToAllSinks(1),
+                settingsBuilder().build());
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertTrue("Pipeline processors should be empty", testPipeline.getProcessorSets().isEmpty());
@@ -86,8 +117,8 @@ class PipelineTests {
         final TestProcessor testProcessor = new TestProcessor(new PluginSetting("test_processor", new HashMap<>()));
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.singletonList(Collections.singletonList(testProcessor)),
-                Collections.singletonList(testSink),
-                TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout);
+                Collections.singletonList(testSink), Router.allRecordsToAllSinks(1),
+                settingsBuilder().build());
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertEquals("Pipeline processorSets size should be 1", 1, testPipeline.getProcessorSets().size());
@@ -106,8 +137,8 @@ class PipelineTests {
         final TestProcessor testProcessor = new TestProcessor(new PluginSetting("test_processor", new HashMap<>()));
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.singletonList(Collections.singletonList(testProcessor)),
-                Collections.singletonList(testSink),
-                TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout);
+                Collections.singletonList(testSink), Router.allRecordsToAllSinks(1),
+                settingsBuilder().build());
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertEquals("Pipeline processorSets size should be 1", 1, testPipeline.getProcessorSets().size());
@@ -119,14 +150,132 @@ class PipelineTests {
         assertThat("Processor shutdown should be called", testProcessor.isShutdown, is(true));
     }
 
+    @Test
+    void testParallelProcessingIsDisabledByDefault() {
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, new TestSource(), new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.emptyList(), Collections.singletonList(new TestSink()), Router.allRecordsToAllSinks(1),
+                settingsBuilder().build());
+
+        assertThat(testPipeline.isParallelProcessing(), is(false));
+    }
+
+    @Test
+    void testPipelineStateWithParallelProcessing() {
+        final TestSink testSink = new TestSink();
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, new TestSource(), new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.emptyList(), Collections.singletonList(testSink), Router.allRecordsToAllSinks(1),
+                settingsBuilder()
+                        .withSinkExecutorSettings(Collections.singletonList(new SinkExecutorSettings("test_sink", 1, 1)))
+                        .withParallelProcessing(true)
+                        .build());
+        assertThat(testPipeline.isParallelProcessing(), is(true));
+        testPipeline.execute();
+        testPipeline.shutdown();
+        assertThat("Pipeline isStopRequested is expected to be true", testPipeline.isStopRequested(), is(true));
+        assertThat("Sink shutdown should be called", testSink.isShutdown, is(true));
+    }
+
+    @Test
+    void testWorkerScalingIsDisabledByDefault() {
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, new TestSource(), new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.emptyList(), Collections.singletonList(new TestSink()), Router.allRecordsToAllSinks(1),
+                settingsBuilder().build());
+
+        assertThat(testPipeline.getMinProcessorThreads(), is(TEST_PROCESSOR_THREADS));
+        assertThat(testPipeline.isWorkerScalingEnabled(), is(false));
+    }
+
+    @Test
+    void testPipelineStateWithWorkerScaling() {
+        final TestSink testSink = new TestSink();
+        final TestProcessor testProcessor = new TestProcessor(new PluginSetting("test_processor", new HashMap<>()));
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, new TestSource(), new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.singletonList(Collections.singletonList(testProcessor)),
+                Collections.singletonList(testSink), Router.allRecordsToAllSinks(1),
+                settingsBuilder()
+                        .withProcessorThreads(2)
+                        .withMinProcessorThreads(1)
+                        .withSinkExecutorSettings(Collections.singletonList(new SinkExecutorSettings("test_sink", 1, 1)))
+                        .build());
+        assertThat(testPipeline.isWorkerScalingEnabled(), is(true));
+        testPipeline.execute();
+        testPipeline.shutdown();
+        assertThat("Pipeline isStopRequested is expected to be true", testPipeline.isStopRequested(), is(true));
+        assertThat("Processor shutdown should be called", testProcessor.isShutdown, is(true));
+        assertThat("Sink shutdown should be called", testSink.isShutdown, is(true));
+    }
+
+    @Test
+    void testMinProcessorThreadsGreaterThanProcessorThreads() {
+        assertThrows(IllegalArgumentException.class, () -> new Pipeline(TEST_PIPELINE_NAME, new TestSource(),
+                new BlockingBuffer(TEST_PIPELINE_NAME), Collections.emptyList(), Collections.singletonList(new TestSink()),
+                Router.allRecordsToAllSinks(1),
+                settingsBuilder()
+                        .withMinProcessorThreads(TEST_PROCESSOR_THREADS + 1)
+                        .withSinkExecutorSettings(Collections.singletonList(new SinkExecutorSettings("test_sink", 1, 1)))
+                        .build()));
+    }
+
+    @Test
+    void testDirectExecutionOutputsRecordsBeforeTheSourceWriteReturns() {
+        final TestSink testSink = new TestSink();
+        final TestProcessor testProcessor = new TestProcessor(new PluginSetting("test_processor", new HashMap<>()));
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, new TestSource(), null,
+                Collections.singletonList(Collections.singletonList(testProcessor)),
+                Collections.singletonList(testSink), Router.allRecordsToAllSinks(1),
+                settingsBuilder()
+                        .withSinkExecutorSettings(Collections.singletonList(new SinkExecutorSettings("test_sink", 1, 1)))
+                        .withDirectExecution(true)
+                        .build());
+        assertThat(testPipeline.isDirectExecution(), is(true));
+
+        testPipeline.execute();
+
+        assertThat(testSink.getCollectedRecords(), equalTo(TestSource.TEST_DATA));
+        assertThat(testPipeline.getBuffer(), instanceOf(DirectExecutionBuffer.class));
+        assertThat(testPipeline.getBuffer().isEmpty(), is(true));
+        testPipeline.shutdown();
+        assertThat("Processor shutdown should be called", testProcessor.isShutdown, is(true));
+        assertThat("Sink shutdown should be called", testSink.isShutdown, is(true));
+    }
+
+    @Test
+    void testDirectExecutionWithBufferThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new Pipeline(TEST_PIPELINE_NAME, new TestSource(),
+                new BlockingBuffer(TEST_PIPELINE_NAME), Collections.emptyList(), Collections.singletonList(new TestSink()),
+                Router.allRecordsToAllSinks(1),
+                settingsBuilder()
+                        .withDirectExecution(true)
+                        .build()));
+    }
+
+    @Test
+    void testWithoutBufferOrDirectExecutionThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new Pipeline(TEST_PIPELINE_NAME, new TestSource(), null,
+                Collections.emptyList(), Collections.singletonList(new TestSink()), Router.allRecordsToAllSinks(1),
+                settingsBuilder().build()));
+    }
+
+    @Test
+    void testDirectExecutionWithWorkerScalingThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new Pipeline(TEST_PIPELINE_NAME, new TestSource(), null,
+                Collections.emptyList(), Collections.singletonList(new TestSink()), Router.allRecordsToAllSinks(1),
+                settingsBuilder()
+                        .withProcessorThreads(2)
+                        .withMinProcessorThreads(1)
+                        .withSinkExecutorSettings(Collections.singletonList(new SinkExecutorSettings("test_sink", 1, 1)))
+                        .withDirectExecution(true)
+                        .build()));
+    }
+
     @Test
     void testExecuteFailingSource() {
         final Source<Record<String>> testSource = new TestSource(true);
         final TestSink testSink = new TestSink();
         try {
             final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
-                    Collections.emptyList(), Collections.singletonList(testSink), TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout);
+                    Collections.emptyList(), Collections.singletonList(testSink), Router.allRecordsToAllSinks(1),
+                    settingsBuilder().build());
             testPipeline.execute();
         } catch (Exception ex) {
             assertThat("Incorrect exception message", ex.getMessage().contains("Source is expected to fail"));
@@ -141,8 +290,8 @@ class PipelineTests {
         final Sink<Record<String>> testSink = new TestSink(true);
         try {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
-                    Collections.emptyList(), Collections.singletonList(testSink), TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout);
+                    Collections.emptyList(), Collections.singletonList(testSink), Router.allRecordsToAllSinks(1),
+                    settingsBuilder().build());
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (Exception ex) {
@@ -178,8 +327,9 @@ class PipelineTests {
         };
         try {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
-                    Collections.singletonList(Collections.singletonList(testProcessor)), Collections.singletonList(testSink),
-                    TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout);
+                    Collections.singletonList(Collections.singletonList(testProcessor)),
+                    Collections.singletonList(testSink), Router.allRecordsToAllSinks(1),
+                    settingsBuilder().build());
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (Exception ex) {
@@ -193,8 +343,8 @@ class PipelineTests {
         final Source<Record<String>> testSource = new TestSource();
         final TestSink testSink = new TestSink();
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
-                Collections.emptyList(), Collections.singletonList(testSink), TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout);
+                Collections.emptyList(), Collections.singletonList(testSink), Router.allRecordsToAllSinks(1),
+                settingsBuilder().build());
 
         assertEquals(testSource, testPipeline.getSource());
     }
@@ -204,8 +354,8 @@ class PipelineTests {
         final Source<Record<String>> testSource = new TestSource();
         final TestSink testSink = new TestSink();
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
-                Collections.emptyList(), Collections.singletonList(testSink),
-                TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout);
+                Collections.emptyList(), Collections.singletonList(testSink), Router.allRecordsToAllSinks(1),
+                settingsBuilder().build());
 
         assertEquals(1, testPipeline.getSinks().size());
         assertEquals(testSink, testPipeline.getSinks().iterator().next());
@@ -229,8 +379,9 @@ class PipelineTests {
         }
 
         private Pipeline createObjectUnderTest() {
-            return new Pipeline(TEST_PIPELINE_NAME, mock(Source.class), mock(Buffer.class), Collections.emptyList(),
-                    sinks, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout);
+            return new Pipeline(TEST_PIPELINE_NAME, mock(Source.class), mock(Buffer.class),
+                    Collections.emptyList(), sinks, Router.allRecordsToAllSinks(sinks.size()),
+                    settingsBuilder().build());
         }
 
         @Test
@@ -245,6 +396,175 @@ class PipelineTests {
             }
         }
 
+        @Test
+        void publishToSinks_with_completion_runs_completion_once_after_all_Sinks() {
+            final AtomicInteger completions = new AtomicInteger();
+
+            final List<Future<Void>> futures = createObjectUnderTest().publishToSinks(records, completions::incrementAndGet);
+            FutureHelper.awaitFuturesIndefinitely(futures);
+
+            assertThat(futures.size(), equalTo(sinks.size()));
+            assertThat(completions.get(), equalTo(1));
+            for (Sink sink : sinks) {
+                verify(sink).output(records);
+            }
+        }
+
+        @Test
+        void publishToSinks_with_completion_runs_completion_when_a_Sink_fails() {
+            final AtomicInteger completions = new AtomicInteger();
+            final Sink failingSink = mock(Sink.class);
+            doThrow(RuntimeException.class).when(failingSink).output(records);
+            sinks = Collections.singletonList(failingSink);
+
+            final List<Future<Void>> futures = createObjectUnderTest().publishToSinks(records, completions::incrementAndGet);
+            final FutureHelperResult<Void> result = FutureHelper.awaitFuturesIndefinitely(futures);
+
+            assertThat(result.getFailedReasons().size(), equalTo(1));
+            assertThat(completions.get(), equalTo(1));
+        }
+
+        @Test
+        void publishToSinks_does_not_hold_up_other_Sinks_while_a_Sink_is_slow() {
+            final CountDownLatch slowSinkLatch = new CountDownLatch(1);
+            final Sink slowSink = mock(Sink.class);
+            doAnswer(invocation -> slowSinkLatch.await(10, TimeUnit.SECONDS)).when(slowSink).output(records);
+            final Sink fastSink = mock(Sink.class);
+            sinks = Arrays.asList(slowSink, fastSink);
+
+            try {
+                createObjectUnderTest().publishToSinks(records);
+
+                verify(fastSink, timeout(2000)).output(records);
+            } finally {
+                slowSinkLatch.countDown();
+            }
+        }
+
+        @Test
+        void constructor_throws_if_SinkExecutorSettings_do_not_match_Sinks() {
+            final List<SinkExecutorSettings> sinkExecutorSettings = Collections.singletonList(new SinkExecutorSettings("sink", 1, 1));
+
+            assertThrows(IllegalArgumentException.class, () -> new Pipeline(TEST_PIPELINE_NAME, mock(Source.class), mock(Buffer.class),
+                    Collections.emptyList(), sinks, Router.allRecordsToAllSinks(sinks.size()),
+                    settingsBuilder()
+                            .withSinkExecutorSettings(sinkExecutorSettings)
+                            .build()));
+        }
+
+        private Pipeline createObjectUnderTest(final Router router) {
+            final List<SinkExecutorSettings> sinkExecutorSettings = IntStream.range(0, sinks.size())
+                    .mapToObj(i -> new SinkExecutorSettings("sink" + i, 1, 1))
+                    .collect(Collectors.toList());
+            return new Pipeline(TEST_PIPELINE_NAME, mock(Source.class), mock(Buffer.class),
+                    Collections.emptyList(), sinks, router,
+                    settingsBuilder()
+                            .withSinkExecutorSettings(sinkExecutorSettings)
+                            .build());
+        }
+
+        @Test
+        void publishToSinks_with_Router_writes_routed_records_to_each_Sink() {
+            final Event matchingEvent = mock(Event.class);
+            final Record matchingRecord = new Record<>(matchingEvent);
+            final Record otherRecord = new Record<>(mock(Event.class));
+            final List<Record> events = Arrays.asList(matchingRecord, otherRecord);
+            final ExpressionEvaluator<Boolean> expressionEvaluator = mock(ExpressionEvaluator.class);
+            when(expressionEvaluator.evaluate(anyString(), any(Event.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(1) == matchingEvent);
+            sinks = Arrays.asList(mock(Sink.class), mock(Sink.class));
+            final Router router = new Router(Collections.singletonList(new ConditionalRoute("my-route", "/a == b")),
+                    Arrays.asList(Collections.singletonList("my-route"), Collections.emptyList()), expressionEvaluator);
+
+            final List<Future<Void>> futures = createObjectUnderTest(router).publishToSinks(events);
+            FutureHelper.awaitFuturesIndefinitely(futures);
+
+            verify(sinks.get(0)).output(Collections.singletonList(matchingRecord));
+            verify(sinks.get(1)).output(events);
+        }
+
+        @Test
+        void publishToSinks_with_Router_skips_Sinks_without_routed_records_and_runs_completion() {
+            final List<Record> events = Collections.singletonList(new Record<>(mock(Event.class)));
+            final ExpressionEvaluator<Boolean> expressionEvaluator = mock(ExpressionEvaluator.class);
+            when(expressionEvaluator.evaluate(anyString(), any(Event.class))).thenReturn(false);
+            sinks = Collections.singletonList(mock(Sink.class));
+            final Router router = new Router(Collections.singletonList(new ConditionalRoute("my-route", "/a == b")),
+                    Collections.singletonList(Collections.singletonList("my-route")), expressionEvaluator);
+            final AtomicInteger completions = new AtomicInteger();
+
+            final List<Future<Void>> futures = createObjectUnderTest(router).publishToSinks(events, completions::incrementAndGet);
+
+            assertThat(futures.size(), equalTo(0));
+            assertThat(completions.get(), equalTo(1));
+            verify(sinks.get(0), never()).output(any());
+        }
+
+        @Test
+        void publishToSinks_writes_copies_of_the_Events_to_PipelineConnectors_which_share_them_with_other_Sinks() {
+            final JacksonEvent event = JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("foo", Map.of("bar", "baz")))
+                    .build();
+            final Record record = new Record<>(event);
+            final PipelineConnector pipelineConnector = mock(PipelineConnector.class);
+            sinks = Arrays.asList(mock(Sink.class), pipelineConnector);
+
+            final List<Future<Void>> futures = createObjectUnderTest().publishToSinks(Collections.singletonList(record));
+            FutureHelper.awaitFuturesIndefinitely(futures);
+
+            verify(sinks.get(0)).output(Collections.singletonList(record));
+            final ArgumentCaptor<Collection<Record>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+            verify(pipelineConnector).output(recordsCaptor.capture());
+            final Record copiedRecord = recordsCaptor.getValue().iterator().next();
+            assertThat(copiedRecord, not(sameInstance(record)));
+            assertThat(copiedRecord.getData(), not(sameInstance(event)));
+
+            ((Event) copiedRecord.getData()).put("foo/bar", "other");
+
+            assertThat(event.get("foo/bar", String.class), equalTo("baz"));
+        }
+
+        @Test
+        void publishToSinks_writes_the_Events_to_a_single_PipelineConnector() {
+            final Record record = new Record<>(JacksonEvent.fromMessage("message"));
+            final PipelineConnector pipelineConnector = mock(PipelineConnector.class);
+            sinks = Collections.singletonList(pipelineConnector);
+
+            final List<Future<Void>> futures = createObjectUnderTest().publishToSinks(Collections.singletonList(record));
+            FutureHelper.awaitFuturesIndefinitely(futures);
+
+            verify(pipelineConnector).output(Collections.singletonList(record));
+        }
+
+        @Test
+        void publishToSinksInline_writes_copies_of_the_Events_to_PipelineConnectors_which_share_them_with_other_Sinks() {
+            final Record record = new Record<>(JacksonEvent.fromMessage("message"));
+            final Record otherRecord = new Record<>(mock(Event.class));
+            final PipelineConnector pipelineConnector = mock(PipelineConnector.class);
+            sinks = Arrays.asList(pipelineConnector, mock(Sink.class));
+
+            createObjectUnderTest().publishToSinksInline(Arrays.asList(record, otherRecord));
+
+            verify(sinks.get(1)).output(Arrays.asList(record, otherRecord));
+            final ArgumentCaptor<Collection<Record>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+            verify(pipelineConnector).output(recordsCaptor.capture());
+            final List<Record> copiedRecords = List.copyOf(recordsCaptor.getValue());
+            assertThat(copiedRecords.size(), equalTo(2));
+            assertThat(copiedRecords.get(0).getData(), not(sameInstance(record.getData())));
+            assertThat(((Event) copiedRecords.get(0).getData()).toJsonString(), equalTo("{\"message\":\"message\"}"));
+            assertThat(copiedRecords.get(1), sameInstance(otherRecord));
+        }
+
+        @Test
+        void publishToSinksInline_writes_the_Events_to_each_Sink() {
+            createObjectUnderTest().publishToSinksInline(records);
+
+            for (Sink sink : sinks) {
+                verify(sink).output(records);
+            }
+        }
+
         @Test
         void publishToSinks_writes_Events_to_Sinks() {
             final List<Future<Void>> futures = createObjectUnderTest().publishToSinks(records);
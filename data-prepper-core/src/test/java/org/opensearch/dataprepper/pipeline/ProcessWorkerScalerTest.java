@@ -0,0 +1,211 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+class ProcessWorkerScalerTest {
+    private static final int MIN_WORKERS = 1;
+    private static final int MAX_WORKERS = 3;
+    private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    @Mock
+    private Pipeline pipeline;
+
+    @Mock
+    private Buffer buffer;
+
+    @Mock
+    private ExecutorService executorService;
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    private List<ProcessWorker> createdWorkers;
+    private List<Integer> createdWorkerSlots;
+    private AtomicInteger activeWorkers;
+
+    @BeforeEach
+    void setUp() {
+        createdWorkers = new ArrayList<>();
+        createdWorkerSlots = new ArrayList<>();
+        when(pluginMetrics.gauge(eq(ProcessWorkerScaler.ACTIVE_WORKERS), any(AtomicInteger.class)))
+                .thenAnswer(invocation -> {
+                    activeWorkers = invocation.getArgument(1);
+                    return activeWorkers;
+                });
+        lenient().when(pipeline.getName()).thenReturn("test-pipeline");
+        lenient().when(pipeline.getBuffer()).thenReturn(buffer);
+        lenient().when(executorService.submit(any(Runnable.class))).thenAnswer(invocation -> mock(Future.class));
+    }
+
+    private ProcessWorkerScaler createObjectUnderTest(final boolean canRetireWorkers) {
+        return new ProcessWorkerScaler(pipeline, MIN_WORKERS, MAX_WORKERS, canRetireWorkers, slot -> {
+            final ProcessWorker processWorker = mock(ProcessWorker.class);
+            createdWorkers.add(processWorker);
+            createdWorkerSlots.add(slot);
+            return processWorker;
+        }, executorService, pluginMetrics);
+    }
+
+    @Test
+    void start_starts_the_min_number_of_workers() {
+        createObjectUnderTest(true).start();
+
+        assertThat(createdWorkers.size(), equalTo(MIN_WORKERS));
+        verify(executorService).submit(createdWorkers.get(0));
+        assertThat(activeWorkers.get(), equalTo(MIN_WORKERS));
+    }
+
+    @Test
+    void scale_adds_a_worker_when_the_buffer_fills_up() {
+        final ProcessWorkerScaler objectUnderTest = createObjectUnderTest(true);
+        objectUnderTest.start();
+        when(buffer.getFillRatio()).thenReturn(ProcessWorkerScaler.SCALE_UP_FILL_RATIO);
+
+        objectUnderTest.scale(System.nanoTime() + INTERVAL_NANOS);
+
+        assertThat(createdWorkerSlots, equalTo(List.of(0, 1)));
+        verify(executorService).submit(createdWorkers.get(1));
+        assertThat(activeWorkers.get(), equalTo(2));
+    }
+
+    @Test
+    void scale_adds_a_worker_when_the_workers_are_busy() {
+        final ProcessWorkerScaler objectUnderTest = createObjectUnderTest(true);
+        objectUnderTest.start();
+        when(createdWorkers.get(0).getBusyTimeNanos()).thenReturn(INTERVAL_NANOS);
+
+        objectUnderTest.scale(System.nanoTime() + INTERVAL_NANOS);
+
+        assertThat(createdWorkers.size(), equalTo(2));
+    }
+
+    @Test
+    void scale_does_not_add_workers_beyond_the_max() {
+        final ProcessWorkerScaler objectUnderTest = createObjectUnderTest(true);
+        objectUnderTest.start();
+        when(buffer.getFillRatio()).thenReturn(1.0);
+
+        long now = System.nanoTime();
+        for (int i = 0; i < MAX_WORKERS + 2; i++) {
+            now += INTERVAL_NANOS;
+            objectUnderTest.scale(now);
+        }
+
+        assertThat(createdWorkerSlots, equalTo(List.of(0, 1, 2)));
+        assertThat(activeWorkers.get(), equalTo(MAX_WORKERS));
+    }
+
+    @Test
+    void scale_retires_the_last_worker_when_the_buffer_is_empty_and_the_workers_are_idle() {
+        final ProcessWorkerScaler objectUnderTest = createObjectUnderTest(true);
+        objectUnderTest.start();
+        when(buffer.getFillRatio()).thenReturn(1.0);
+        final long now = System.nanoTime();
+        objectUnderTest.scale(now + INTERVAL_NANOS);
+        when(buffer.getFillRatio()).thenReturn(0.0);
+
+        objectUnderTest.scale(now + 2 * INTERVAL_NANOS);
+
+        verify(createdWorkers.get(1)).retire();
+        verify(createdWorkers.get(0), never()).retire();
+        assertThat(activeWorkers.get(), equalTo(1));
+    }
+
+    @Test
+    void scale_does_not_retire_workers_below_the_min() {
+        final ProcessWorkerScaler objectUnderTest = createObjectUnderTest(true);
+        objectUnderTest.start();
+        when(buffer.getFillRatio()).thenReturn(0.0);
+
+        objectUnderTest.scale(System.nanoTime() + INTERVAL_NANOS);
+
+        verify(createdWorkers.get(0), never()).retire();
+    }
+
+    @Test
+    void scale_does_not_retire_workers_when_retiring_is_disabled() {
+        final ProcessWorkerScaler objectUnderTest = createObjectUnderTest(false);
+        objectUnderTest.start();
+        when(buffer.getFillRatio()).thenReturn(1.0);
+        final long now = System.nanoTime();
+        objectUnderTest.scale(now + INTERVAL_NANOS);
+        when(buffer.getFillRatio()).thenReturn(0.0);
+
+        objectUnderTest.scale(now + 2 * INTERVAL_NANOS);
+
+        verify(createdWorkers.get(1), never()).retire();
+        assertThat(activeWorkers.get(), equalTo(2));
+    }
+
+    @Test
+    void scale_reuses_the_slot_of_a_worker_once_it_has_exited() {
+        final Future<?> exitedWorkerFuture = mock(Future.class);
+        when(executorService.submit(any(Runnable.class))).thenAnswer(invocation -> mock(Future.class))
+                .thenAnswer(invocation -> exitedWorkerFuture)
+                .thenAnswer(invocation -> mock(Future.class));
+        final ProcessWorkerScaler objectUnderTest = createObjectUnderTest(true);
+        objectUnderTest.start();
+        when(buffer.getFillRatio()).thenReturn(1.0);
+        final long now = System.nanoTime();
+        objectUnderTest.scale(now + INTERVAL_NANOS);
+        when(exitedWorkerFuture.isDone()).thenReturn(true);
+
+        objectUnderTest.scale(now + 2 * INTERVAL_NANOS);
+
+        assertThat(createdWorkerSlots, equalTo(List.of(0, 1, 1)));
+    }
+
+    @Test
+    void scale_does_nothing_once_the_pipeline_is_stopping() {
+        final ProcessWorkerScaler objectUnderTest = createObjectUnderTest(true);
+        objectUnderTest.start();
+        when(pipeline.isStopRequested()).thenReturn(true);
+
+        objectUnderTest.scale(System.nanoTime() + INTERVAL_NANOS);
+
+        assertThat(createdWorkers.size(), equalTo(MIN_WORKERS));
+        verify(buffer, never()).getFillRatio();
+    }
+
+    @Test
+    void run_logs_exceptions_instead_of_propagating_them() {
+        final ProcessWorkerScaler objectUnderTest = createObjectUnderTest(true);
+        objectUnderTest.start();
+        when(buffer.getFillRatio()).thenThrow(new RuntimeException("test"));
+
+        objectUnderTest.run();
+
+        verify(executorService, times(MIN_WORKERS)).submit(any(Runnable.class));
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.peerforwarder.RequiresPeerForwarding;
+import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.sink.Sink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.peerforwarder.PeerForwarder;
+import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
+import org.opensearch.dataprepper.peerforwarder.PeerForwardingProcessorDecorator;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+class ProcessWorkerTest {
+    @Mock
+    private Buffer buffer;
+
+    @Mock
+    private Pipeline pipeline;
+
+    @Mock
+    private CheckpointState checkpointState;
+
+    private List<Processor> processors;
+    private Collection<Sink> sinks;
+    private Collection<Record> records;
+
+    @BeforeEach
+    void setUp() {
+        processors = Collections.emptyList();
+        sinks = Collections.singletonList(mock(Sink.class));
+        records = Collections.singletonList(mock(Record.class));
+
+        when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(100);
+        when(buffer.read(anyInt())).thenReturn(new AbstractMap.SimpleEntry<>(records, checkpointState));
+        lenient().when(pipeline.isStopRequested()).thenReturn(true);
+        lenient().when(buffer.isEmpty()).thenReturn(true);
+    }
+
+    private ProcessWorker createObjectUnderTest() {
+        return new ProcessWorker(buffer, processors, sinks, pipeline);
+    }
+
+    @Test
+    void run_waits_for_sinks_before_checkpointing_when_one_batch_may_be_in_flight() {
+        when(pipeline.getMaxInFlightSinkBatches()).thenReturn(1);
+        when(pipeline.publishToSinks(records)).thenReturn(Collections.singletonList(CompletableFuture.completedFuture(null)));
+
+        createObjectUnderTest().run();
+
+        final var inOrder = inOrder(pipeline, buffer);
+        inOrder.verify(pipeline).publishToSinks(records);
+        inOrder.verify(buffer).checkpoint(checkpointState);
+        verify(pipeline, never()).publishToSinks(eq(records), any(Runnable.class));
+    }
+
+    @Test
+    void run_checkpoints_on_sink_completion_when_sink_stage_is_pipelined() throws InterruptedException {
+        when(pipeline.getMaxInFlightSinkBatches()).thenReturn(2);
+        final ArgumentCaptor<Runnable> completionCaptor = ArgumentCaptor.forClass(Runnable.class);
+        when(pipeline.publishToSinks(eq(records), completionCaptor.capture())).thenReturn(Collections.emptyList());
+
+        final Thread workerThread = new Thread(createObjectUnderTest());
+        workerThread.start();
+        workerThread.join(200);
+
+        assertThat(workerThread.isAlive(), equalTo(true));
+        verify(buffer, never()).checkpoint(any());
+
+        completionCaptor.getValue().run();
+        workerThread.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(workerThread.isAlive(), equalTo(false));
+        verify(buffer).checkpoint(checkpointState);
+        verify(pipeline, never()).publishToSinks(records);
+    }
+
+    @Test
+    void run_exits_without_checkpointing_when_a_sink_rejects_the_batch_when_sink_stage_is_pipelined() {
+        when(pipeline.getMaxInFlightSinkBatches()).thenReturn(2);
+        when(pipeline.publishToSinks(eq(records), any(Runnable.class))).thenThrow(new RejectedExecutionException());
+
+        createObjectUnderTest().run();
+
+        verify(pipeline).publishToSinks(eq(records), any(Runnable.class));
+        verify(buffer, never()).checkpoint(any());
+    }
+
+    @Test
+    void run_checkpoints_empty_batches_immediately_when_sink_stage_is_pipelined() {
+        when(pipeline.getMaxInFlightSinkBatches()).thenReturn(2);
+        when(buffer.read(anyInt())).thenReturn(new AbstractMap.SimpleEntry<>(Collections.emptyList(), checkpointState));
+
+        createObjectUnderTest().run();
+
+        verify(buffer).checkpoint(checkpointState);
+        verify(pipeline, never()).publishToSinks(any(), any(Runnable.class));
+    }
+
+    @Test
+    void run_exits_once_retired_without_waiting_for_the_pipeline_to_stop() throws InterruptedException {
+        when(pipeline.getMaxInFlightSinkBatches()).thenReturn(1);
+        when(pipeline.isStopRequested()).thenReturn(false);
+        when(pipeline.publishToSinks(records)).thenReturn(Collections.singletonList(CompletableFuture.completedFuture(null)));
+        final ProcessWorker processWorker = createObjectUnderTest();
+
+        final Thread workerThread = new Thread(processWorker);
+        workerThread.start();
+        workerThread.join(200);
+        assertThat(workerThread.isAlive(), equalTo(true));
+
+        processWorker.retire();
+        workerThread.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(workerThread.isAlive(), equalTo(false));
+        assertThat(processWorker.isRetireRequested(), equalTo(true));
+    }
+
+    @Test
+    void run_accumulates_busy_time_for_non_empty_batches() {
+        when(pipeline.getMaxInFlightSinkBatches()).thenReturn(1);
+        when(pipeline.publishToSinks(records)).thenReturn(Collections.singletonList(CompletableFuture.completedFuture(null)));
+        final ProcessWorker processWorker = createObjectUnderTest();
+
+        processWorker.run();
+
+        assertThat(processWorker.getBusyTimeNanos() > 0, equalTo(true));
+    }
+
+    @Test
+    void run_does_not_accumulate_busy_time_for_empty_batches() {
+        when(pipeline.getMaxInFlightSinkBatches()).thenReturn(1);
+        when(buffer.read(anyInt())).thenReturn(new AbstractMap.SimpleEntry<>(Collections.emptyList(), checkpointState));
+        final ProcessWorker processWorker = createObjectUnderTest();
+
+        processWorker.run();
+
+        assertThat(processWorker.getBusyTimeNanos(), equalTo(0L));
+    }
+
+    @Test
+    void run_with_key_affinity_checkpoints_records_handed_to_another_worker_once_it_has_processed_them() {
+        when(pipeline.getMaxInFlightSinkBatches()).thenReturn(1);
+        final Processor processor = createKeyAffinityProcessor();
+        final Processor otherProcessor = createKeyAffinityProcessor();
+        final List<Processor> decoratedProcessors = KeyAffinityProcessorDecorator.decorateProcessors(List.of(processor, otherProcessor));
+        final Record<Event> recordOfOtherWorker = createRecordOwnedBy(new WorkerKeyPartitioner(2, Set.of("traceId")), 1);
+        when(buffer.read(anyInt())).thenReturn(new AbstractMap.SimpleEntry<>(List.of(recordOfOtherWorker), checkpointState));
+        final Buffer otherBuffer = mock(Buffer.class);
+        final CheckpointState otherCheckpointState = mock(CheckpointState.class);
+        when(otherBuffer.read(anyInt())).thenReturn(new AbstractMap.SimpleEntry<>(Collections.emptyList(), otherCheckpointState));
+        when(otherBuffer.isEmpty()).thenReturn(true);
+        when(pipeline.publishToSinks(List.of(recordOfOtherWorker)))
+                .thenReturn(Collections.singletonList(CompletableFuture.completedFuture(null)));
+
+        new ProcessWorker(buffer, List.of(decoratedProcessors.get(0)), sinks, pipeline).run();
+
+        verify(pipeline, never()).publishToSinks(any());
+        verify(buffer, never()).checkpoint(any());
+
+        new ProcessWorker(otherBuffer, List.of(decoratedProcessors.get(1)), sinks, pipeline).run();
+
+        verify(otherBuffer).checkpoint(otherCheckpointState);
+        verify(buffer).checkpoint(checkpointState);
+    }
+
+    @Test
+    void run_with_key_affinity_decorated_for_peer_forwarding_checkpoints_records_handed_to_another_worker_once_it_has_processed_them() {
+        when(pipeline.getMaxInFlightSinkBatches()).thenReturn(1);
+        final PeerForwarder peerForwarder = mock(PeerForwarder.class);
+        when(peerForwarder.forwardRecords(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(peerForwarder.receiveRecords()).thenReturn(Collections.emptyList());
+        final PeerForwarderProvider peerForwarderProvider = mock(PeerForwarderProvider.class);
+        when(peerForwarderProvider.register(eq("pipeline"), eq("processor"), any())).thenReturn(peerForwarder);
+        final List<Processor> decoratedProcessors = PeerForwardingProcessorDecorator.decorateProcessors(
+                KeyAffinityProcessorDecorator.decorateProcessors(List.of(createKeyAffinityProcessor(), createKeyAffinityProcessor())),
+                peerForwarderProvider, "pipeline", "processor");
+        final Record<Event> recordOfOtherWorker = createRecordOwnedBy(new WorkerKeyPartitioner(2, Set.of("traceId")), 1);
+        when(buffer.read(anyInt())).thenReturn(new AbstractMap.SimpleEntry<>(List.of(recordOfOtherWorker), checkpointState));
+        final Buffer otherBuffer = mock(Buffer.class);
+        final CheckpointState otherCheckpointState = mock(CheckpointState.class);
+        when(otherBuffer.read(anyInt())).thenReturn(new AbstractMap.SimpleEntry<>(Collections.emptyList(), otherCheckpointState));
+        when(otherBuffer.isEmpty()).thenReturn(true);
+        when(pipeline.publishToSinks(List.of(recordOfOtherWorker)))
+                .thenReturn(Collections.singletonList(CompletableFuture.completedFuture(null)));
+
+        new ProcessWorker(buffer, List.of(decoratedProcessors.get(0)), sinks, pipeline).run();
+
+        verify(pipeline, never()).publishToSinks(any());
+        verify(buffer, never()).checkpoint(any());
+
+        new ProcessWorker(otherBuffer, List.of(decoratedProcessors.get(1)), sinks, pipeline).run();
+
+        verify(otherBuffer).checkpoint(otherCheckpointState);
+        verify(buffer).checkpoint(checkpointState);
+    }
+
+    private static Processor createKeyAffinityProcessor() {
+        final Processor processor = mock(Processor.class, withSettings().extraInterfaces(RequiresPeerForwarding.class));
+        lenient().when(((RequiresPeerForwarding) processor).getIdentificationKeys()).thenReturn(Set.of("traceId"));
+        when(processor.execute(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(processor.isReadyForShutdown()).thenReturn(true);
+        return processor;
+    }
+
+    private static Record<Event> createRecordOwnedBy(final WorkerKeyPartitioner workerKeyPartitioner, final int owner) {
+        Record<Event> record;
+        do {
+            record = new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("traceId", UUID.randomUUID().toString()))
+                    .build());
+        } while (workerKeyPartitioner.getOwner(record.getData()) != owner);
+        return record;
+    }
+}
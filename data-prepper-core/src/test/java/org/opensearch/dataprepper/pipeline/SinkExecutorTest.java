@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.sink.Sink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+class SinkExecutorTest {
+    @Mock
+    private Sink sink;
+
+    @Mock
+    private Pipeline pipeline;
+
+    private Collection<Record> records;
+    private SinkExecutor sinkExecutor;
+
+    @BeforeEach
+    void setUp() {
+        when(pipeline.getName()).thenReturn(UUID.randomUUID().toString());
+        records = Collections.singletonList(mock(Record.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sinkExecutor != null) {
+            sinkExecutor.getExecutorService().shutdownNow();
+        }
+    }
+
+    private SinkExecutor createObjectUnderTest() {
+        sinkExecutor = new SinkExecutor(sink, new SinkExecutorSettings("testSink", 1, 1), pipeline);
+        return sinkExecutor;
+    }
+
+    @Test
+    void output_sends_records_to_the_Sink_and_then_runs_the_callback() throws Exception {
+        final AtomicInteger completions = new AtomicInteger();
+
+        final Future<Void> future = createObjectUnderTest().output(records, completions::incrementAndGet);
+        future.get(5, TimeUnit.SECONDS);
+
+        verify(sink).output(records);
+        assertThat(completions.get(), equalTo(1));
+    }
+
+    @Test
+    void output_runs_the_callback_when_the_Sink_fails() {
+        final AtomicInteger completions = new AtomicInteger();
+        doThrow(RuntimeException.class).when(sink).output(records);
+
+        final Future<Void> future = createObjectUnderTest().output(records, completions::incrementAndGet);
+
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(completions.get(), equalTo(1));
+    }
+
+    @Test
+    void outputInline_sends_records_to_the_Sink_on_the_calling_thread() {
+        final Thread callingThread = Thread.currentThread();
+        final AtomicInteger callsOnCallingThread = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (Thread.currentThread() == callingThread) {
+                callsOnCallingThread.incrementAndGet();
+            }
+            return null;
+        }).when(sink).output(records);
+
+        createObjectUnderTest().outputInline(records);
+
+        assertThat(callsOnCallingThread.get(), equalTo(1));
+    }
+
+    @Test
+    void outputInline_throws_when_the_Sink_fails() {
+        doThrow(RuntimeException.class).when(sink).output(records);
+
+        final SinkExecutor objectUnderTest = createObjectUnderTest();
+
+        assertThrows(RuntimeException.class, () -> objectUnderTest.outputInline(records));
+    }
+}
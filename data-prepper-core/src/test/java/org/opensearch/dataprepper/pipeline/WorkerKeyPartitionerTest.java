@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+class WorkerKeyPartitionerTest {
+    private static final int WORKERS = 4;
+    private static final String TRACE_ID_KEY = "traceId";
+
+    private WorkerKeyPartitioner createObjectUnderTest() {
+        return new WorkerKeyPartitioner(WORKERS, Set.of(TRACE_ID_KEY));
+    }
+
+    private static Record<Event> record(final String traceId) {
+        return new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of(TRACE_ID_KEY, traceId, "spanId", UUID.randomUUID().toString()))
+                .build());
+    }
+
+    private static Record<Event> recordOwnedBy(final WorkerKeyPartitioner objectUnderTest, final int owner) {
+        Record<Event> record;
+        do {
+            record = record(UUID.randomUUID().toString());
+        } while (objectUnderTest.getOwner(record.getData()) != owner);
+        return record;
+    }
+
+    @Test
+    void getOwner_is_the_same_for_events_with_the_same_key_values() {
+        final WorkerKeyPartitioner objectUnderTest = createObjectUnderTest();
+        final String traceId = UUID.randomUUID().toString();
+
+        assertThat(objectUnderTest.getOwner(record(traceId).getData()),
+                equalTo(objectUnderTest.getOwner(record(traceId).getData())));
+    }
+
+    @Test
+    void getOwner_spreads_keys_over_every_worker() {
+        final WorkerKeyPartitioner objectUnderTest = createObjectUnderTest();
+        final Set<Integer> owners = new HashSet<>();
+
+        for (int i = 0; i < 100; i++) {
+            owners.add(objectUnderTest.getOwner(record("trace-" + i).getData()));
+        }
+
+        assertThat(owners, equalTo(Set.of(0, 1, 2, 3)));
+    }
+
+    @Test
+    void getOwner_accepts_events_without_the_identification_keys() {
+        final Event event = JacksonEvent.builder().withEventType("event").withData(Map.of()).build();
+
+        final int owner = createObjectUnderTest().getOwner(event);
+
+        assertThat(owner >= 0 && owner < WORKERS, equalTo(true));
+    }
+
+    @Test
+    void partition_keeps_the_owned_records_and_hands_the_others_to_their_owner() {
+        final WorkerKeyPartitioner objectUnderTest = createObjectUnderTest();
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            records.add(record("trace-" + i));
+        }
+
+        final List<Collection<Record<Event>>> partitions = new ArrayList<>();
+        partitions.add(objectUnderTest.partition(0, records));
+        for (int worker = 1; worker < WORKERS; worker++) {
+            partitions.add(objectUnderTest.partition(worker, Collections.emptyList()));
+        }
+
+        int total = 0;
+        for (int worker = 0; worker < WORKERS; worker++) {
+            for (final Record<Event> record : partitions.get(worker)) {
+                assertThat(objectUnderTest.getOwner(record.getData()), equalTo(worker));
+            }
+            total += partitions.get(worker).size();
+            assertThat(objectUnderTest.isInboxEmpty(worker), equalTo(true));
+        }
+        assertThat(total, equalTo(records.size()));
+    }
+
+    @Test
+    void partition_returns_the_records_handed_by_other_workers() {
+        final WorkerKeyPartitioner objectUnderTest = createObjectUnderTest();
+        Record<Event> record;
+        do {
+            record = record(UUID.randomUUID().toString());
+        } while (objectUnderTest.getOwner(record.getData()) != 1);
+
+        assertThat(objectUnderTest.partition(0, List.of(record)).isEmpty(), equalTo(true));
+        assertThat(objectUnderTest.isInboxEmpty(1), equalTo(false));
+
+        assertThat(objectUnderTest.partition(1, Collections.emptyList()), hasItem(record));
+        assertThat(objectUnderTest.isInboxEmpty(1), equalTo(true));
+    }
+
+    @Test
+    void hand_offs_complete_once_the_owner_completes_the_batch_which_took_them() {
+        final WorkerKeyPartitioner objectUnderTest = createObjectUnderTest();
+        objectUnderTest.partition(0, List.of(recordOwnedBy(objectUnderTest, 1), recordOwnedBy(objectUnderTest, 0)));
+        final CompletableFuture<Void> handOffsOfReader = objectUnderTest.takeBatchHandOffs(0).whenMadeAreCompleted();
+
+        assertThat(handOffsOfReader.isDone(), equalTo(false));
+
+        objectUnderTest.partition(1, Collections.emptyList());
+        final WorkerKeyPartitioner.BatchHandOffs handOffsOfOwner = objectUnderTest.takeBatchHandOffs(1);
+        assertThat(handOffsOfReader.isDone(), equalTo(false));
+        assertThat(handOffsOfOwner.whenMadeAreCompleted().isDone(), equalTo(true));
+
+        handOffsOfOwner.completeTaken();
+        assertThat(handOffsOfReader.isDone(), equalTo(true));
+    }
+
+    @Test
+    void batch_without_hand_offs_completes_immediately() {
+        final WorkerKeyPartitioner objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.partition(0, List.of(recordOwnedBy(objectUnderTest, 0)));
+
+        assertThat(objectUnderTest.takeBatchHandOffs(0).whenMadeAreCompleted().isDone(), equalTo(true));
+    }
+
+    @Test
+    void partition_waits_for_room_in_a_full_inbox_and_takes_its_own_inbox_meanwhile() throws InterruptedException {
+        final WorkerKeyPartitioner objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < WorkerKeyPartitioner.INBOX_HAND_OFFS_PER_WORKER * WORKERS; i++) {
+            objectUnderTest.partition(0, List.of(recordOwnedBy(objectUnderTest, 1)));
+        }
+        final Record<Event> recordForReader = recordOwnedBy(objectUnderTest, 0);
+        final Record<Event> recordForOwner = recordOwnedBy(objectUnderTest, 1);
+        final List<Collection<Record<Event>>> partitions = new ArrayList<>();
+        final Thread reader = new Thread(() -> partitions.add(objectUnderTest.partition(0, List.of(recordForOwner))));
+        reader.start();
+        reader.join(200);
+        assertThat(reader.isAlive(), equalTo(true));
+
+        objectUnderTest.partition(2, List.of(recordForReader));
+        objectUnderTest.partition(1, Collections.emptyList());
+        reader.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(reader.isAlive(), equalTo(false));
+        assertThat(partitions.get(0), containsInAnyOrder(recordForReader));
+        assertThat(objectUnderTest.partition(1, Collections.emptyList()), containsInAnyOrder(recordForOwner));
+    }
+}
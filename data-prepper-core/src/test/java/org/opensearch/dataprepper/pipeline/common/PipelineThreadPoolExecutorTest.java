@@ -13,9 +13,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -96,4 +103,76 @@ public class PipelineThreadPoolExecutorTest {
         verify(runnableFuture).get();
         verify(pipeline).shutdown();
     }
+
+    @Test
+    public void testBoundedThreadPoolBlocksSubmitterWhileQueueIsFull() throws Exception {
+        final PipelineThreadPoolExecutor boundedExecutor = PipelineThreadPoolExecutor.newBoundedThreadPool(1, 1,
+                new PipelineThreadFactory("bounded-test"), pipeline);
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+        try {
+            boundedExecutor.submit(() -> awaitUninterruptibly(releaseLatch));
+            boundedExecutor.submit(() -> awaitUninterruptibly(releaseLatch));
+
+            final Thread submitter = new Thread(() -> boundedExecutor.submit(() -> { }));
+            submitter.start();
+            submitter.join(100);
+            assertThat(submitter.isAlive(), equalTo(true));
+
+            releaseLatch.countDown();
+            submitter.join(5000);
+            assertThat(submitter.isAlive(), equalTo(false));
+        } finally {
+            releaseLatch.countDown();
+            boundedExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBoundedThreadPoolRejectsAfterShutdown() {
+        final PipelineThreadPoolExecutor boundedExecutor = PipelineThreadPoolExecutor.newBoundedThreadPool(1, 1,
+                pipelineThreadFactory, pipeline);
+        boundedExecutor.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> boundedExecutor.submit(runnable));
+    }
+
+    @Test
+    public void testBoundedThreadPoolRejectsSubmitterWaitingForCapacityWhenShutDown() throws Exception {
+        final PipelineThreadPoolExecutor boundedExecutor = PipelineThreadPoolExecutor.newBoundedThreadPool(1, 1,
+                new PipelineThreadFactory("bounded-test"), pipeline);
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+        final AtomicReference<Throwable> submitFailure = new AtomicReference<>();
+        try {
+            boundedExecutor.submit(() -> awaitUninterruptibly(releaseLatch));
+            boundedExecutor.submit(() -> awaitUninterruptibly(releaseLatch));
+
+            final Thread submitter = new Thread(() -> {
+                try {
+                    boundedExecutor.submit(() -> { });
+                } catch (final RejectedExecutionException ex) {
+                    submitFailure.set(ex);
+                }
+            });
+            submitter.start();
+            submitter.join(100);
+            assertThat(submitter.isAlive(), equalTo(true));
+
+            boundedExecutor.shutdownNow();
+            submitter.join(5000);
+            assertThat(submitter.isAlive(), equalTo(false));
+            assertThat(submitFailure.get(), instanceOf(RejectedExecutionException.class));
+            assertThat(boundedExecutor.getQueue().isEmpty(), equalTo(true));
+        } finally {
+            releaseLatch.countDown();
+            boundedExecutor.shutdownNow();
+        }
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
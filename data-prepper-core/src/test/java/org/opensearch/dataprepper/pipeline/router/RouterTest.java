@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import com.amazon.dataprepper.model.configuration.ConditionalRoute;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.record.Record;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluationException;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+class RouterTest {
+    private static final String ERROR_CONDITION = "/level == \"ERROR\"";
+    private static final String WARN_CONDITION = "/level == \"WARN\"";
+    private static final String UNUSED_CONDITION = "/level == \"DEBUG\"";
+
+    @Mock
+    private ExpressionEvaluator<Boolean> expressionEvaluator;
+
+    private List<ConditionalRoute> routes;
+    private List<Event> events;
+    private List<Record> records;
+    private Map<String, Set<Event>> matchingEvents;
+
+    @BeforeEach
+    void setUp() {
+        routes = Arrays.asList(
+                new ConditionalRoute("error", ERROR_CONDITION),
+                new ConditionalRoute("warn", WARN_CONDITION),
+                new ConditionalRoute("unused", UNUSED_CONDITION));
+        events = IntStream.range(0, 4)
+                .mapToObj(i -> mock(Event.class))
+                .collect(Collectors.toList());
+        records = events.stream()
+                .map(Record::new)
+                .collect(Collectors.toList());
+        matchingEvents = new HashMap<>();
+    }
+
+    @Test
+    void route_without_routed_sinks_returns_the_records_for_every_sink() {
+        final Router router = Router.allRecordsToAllSinks(2);
+
+        final List<Collection<Record>> recordsPerSink = router.route(records);
+
+        assertThat(recordsPerSink.size(), equalTo(2));
+        assertThat(recordsPerSink.get(0), sameInstance(records));
+        assertThat(recordsPerSink.get(1), sameInstance(records));
+    }
+
+    @Test
+    void route_sends_each_sink_the_records_matching_any_of_its_routes() {
+        matchEvents(ERROR_CONDITION, 0, 2);
+        matchEvents(WARN_CONDITION, 1, 2);
+        final Router router = new Router(routes, Arrays.asList(
+                Collections.singletonList("error"),
+                Arrays.asList("error", "warn"),
+                Collections.emptyList()), expressionEvaluator);
+
+        final List<Collection<Record>> recordsPerSink = router.route(records);
+
+        assertThat(recordsPerSink.size(), equalTo(3));
+        assertThat(recordsPerSink.get(0), equalTo(Arrays.asList(records.get(0), records.get(2))));
+        assertThat(recordsPerSink.get(1), equalTo(Arrays.asList(records.get(0), records.get(1), records.get(2))));
+        assertThat(recordsPerSink.get(2), sameInstance(records));
+    }
+
+    @Test
+    void route_evaluates_each_used_route_once_per_event() {
+        final Router router = new Router(routes, Arrays.asList(
+                Collections.singletonList("error"),
+                Arrays.asList("error", "warn")), expressionEvaluator);
+
+        router.route(records);
+
+        for (final Event event : events) {
+            verify(expressionEvaluator, times(1)).evaluate(ERROR_CONDITION, event);
+            verify(expressionEvaluator, times(1)).evaluate(WARN_CONDITION, event);
+            verify(expressionEvaluator, times(0)).evaluate(UNUSED_CONDITION, event);
+        }
+    }
+
+    @Test
+    void route_does_not_match_records_whose_evaluation_fails() {
+        when(expressionEvaluator.evaluate(anyString(), any(Event.class))).thenAnswer(invocation -> {
+            if (invocation.getArgument(1) == events.get(0)) {
+                throw new ExpressionEvaluationException("failed", new RuntimeException());
+            }
+            return invocation.getArgument(1) == events.get(1);
+        });
+        final Router router = new Router(routes, Collections.singletonList(Collections.singletonList("error")), expressionEvaluator);
+
+        final List<Collection<Record>> recordsPerSink = router.route(records);
+
+        assertThat(recordsPerSink.get(0), equalTo(Collections.singletonList(records.get(1))));
+    }
+
+    @Test
+    void route_does_not_match_records_which_are_not_Events() {
+        final List<Record> stringRecords = Collections.singletonList(new Record<>("not an event"));
+        final Router router = new Router(routes, Collections.singletonList(Collections.singletonList("error")), expressionEvaluator);
+
+        final List<Collection<Record>> recordsPerSink = router.route(stringRecords);
+
+        assertThat(recordsPerSink.get(0).isEmpty(), equalTo(true));
+        verifyNoInteractions(expressionEvaluator);
+    }
+
+    @Test
+    void constructor_throws_if_a_sink_refers_to_an_undefined_route() {
+        final List<List<String>> sinkRoutes = Collections.singletonList(Collections.singletonList("missing"));
+
+        assertThrows(IllegalArgumentException.class, () -> new Router(routes, sinkRoutes, expressionEvaluator));
+    }
+
+    @Test
+    void constructor_throws_if_a_route_is_defined_twice() {
+        final List<ConditionalRoute> duplicateRoutes = Arrays.asList(
+                new ConditionalRoute("error", ERROR_CONDITION),
+                new ConditionalRoute("error", WARN_CONDITION));
+        final List<List<String>> sinkRoutes = Collections.singletonList(Collections.singletonList("error"));
+
+        assertThrows(IllegalArgumentException.class, () -> new Router(duplicateRoutes, sinkRoutes, expressionEvaluator));
+    }
+
+    @Test
+    void constructor_throws_if_routes_are_used_without_an_evaluator() {
+        final List<List<String>> sinkRoutes = Collections.singletonList(Collections.singletonList("error"));
+
+        assertThrows(NullPointerException.class, () -> new Router(routes, sinkRoutes, null));
+    }
+
+    @Test
+    void route_copies_records_which_are_not_a_List() {
+        matchEvents(ERROR_CONDITION, 3);
+        final Router router = new Router(routes, Collections.singletonList(Collections.singletonList("error")), expressionEvaluator);
+
+        final List<Collection<Record>> recordsPerSink = router.route(new LinkedHashSet<>(records));
+
+        assertThat(recordsPerSink.get(0), equalTo(Collections.singletonList(records.get(3))));
+        verify(expressionEvaluator, times(records.size())).evaluate(anyString(), any(Event.class));
+    }
+
+    private void matchEvents(final String condition, final int... eventIndices) {
+        if (matchingEvents.isEmpty()) {
+            when(expressionEvaluator.evaluate(anyString(), any(Event.class))).thenAnswer(invocation ->
+                    matchingEvents.getOrDefault(invocation.getArgument(0), Collections.emptySet()).contains(invocation.getArgument(1)));
+        }
+        final Set<Event> matches = matchingEvents.computeIfAbsent(condition, key -> new HashSet<>());
+        for (final int eventIndex : eventIndices) {
+            matches.add(events.get(eventIndex));
+        }
+    }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.expression;
 
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
@@ -13,11 +14,18 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import java.io.Serializable;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 @Named
 class ParseTreeCoercionService {
     private final Map<Class<? extends Serializable>, Function<Object, Object>> literalTypeConversions;
+    /**
+     * The json pointers of an expression are the same for every event it is evaluated on, so their EventKeys are
+     * created once. Json pointers which are not valid EventKeys are looked up by their String.
+     */
+    private final Map<String, Optional<EventKey>> eventKeys = new ConcurrentHashMap<>();
 
     @Inject
     public ParseTreeCoercionService(final Map<Class<? extends Serializable>, Function<Object, Object>> literalTypeConversions) {
@@ -56,7 +64,8 @@ class ParseTreeCoercionService {
     }
 
     private Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
-        final Object value = event.get(jsonPointer, Object.class);
+        final Optional<EventKey> eventKey = eventKeys.computeIfAbsent(jsonPointer, this::toEventKey);
+        final Object value = eventKey.isPresent() ? event.get(eventKey.get(), Object.class) : event.get(jsonPointer, Object.class);
         if (value == null) {
             return null;
         } else if (literalTypeConversions.containsKey(value.getClass())) {
@@ -65,4 +74,12 @@ class ParseTreeCoercionService {
             throw new ExpressionCoercionException("Unsupported type for value " + value);
         }
     }
+
+    private Optional<EventKey> toEventKey(final String jsonPointer) {
+        try {
+            return Optional.of(EventKey.of(jsonPointer));
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.expression;
 
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.antlr.v4.runtime.Token;
@@ -215,6 +216,16 @@ class ParseTreeCoercionServiceTest {
             }
             return mapper.treeToValue(childNode, clazz);
         });
+        lenient().when(event.get(any(EventKey.class), any())).thenAnswer(invocation -> {
+            Object[] args = invocation.getArguments();
+            final String jsonPointer = ((EventKey) args[0]).getKey();
+            final Class<?> clazz = (Class<?>) args[1];
+            final JsonNode childNode = node.at(jsonPointer);
+            if (childNode.isMissingNode()) {
+                return null;
+            }
+            return mapper.treeToValue(childNode, clazz);
+        });
         return event;
     }
 
@@ -6,22 +6,26 @@
 package com.amazon.dataprepper.plugins.processor.aggregate;
 
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 class AggregateIdentificationKeysHasher {
     private final List<String> identificationKeys;
+    private final List<EventKey> identificationEventKeys;
     AggregateIdentificationKeysHasher(final List<String> identificationKeys) {
         this.identificationKeys = identificationKeys;
+        this.identificationEventKeys = identificationKeys.stream().map(EventKey::of).collect(Collectors.toList());
     }
 
     IdentificationHash createIdentificationKeyHashFromEvent(final Event event) {
         final Map<Object, Object> identificationKeysHash = new HashMap<>();
-        for (final String identificationKey : identificationKeys) {
-            identificationKeysHash.put(identificationKey, event.get(identificationKey, Object.class));
+        for (int i = 0; i < identificationKeys.size(); i++) {
+            identificationKeysHash.put(identificationKeys.get(i), event.get(identificationEventKeys.get(i), Object.class));
         }
         return new IdentificationHash(identificationKeysHash);
     }
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Chooses the size of each read batch of a {@link BlockingBuffer} from the number of records waiting in the buffer.
+ * A deep queue yields batches of up to {@link #getMaxBatchSize()} records so that bulk sinks receive large requests,
+ * while a shallow queue yields a batch as soon as {@link #getMinBatchSize()} records are available so that records do
+ * not wait for a full batch. A read never waits longer than {@link #getMaxBatchLatencyInMillis()}.
+ */
+class AdaptiveBatchSize {
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int maxBatchLatencyInMillis;
+
+    AdaptiveBatchSize(final int minBatchSize, final int maxBatchSize, final int maxBatchLatencyInMillis) {
+        checkArgument(minBatchSize > 0, "min_batch_size must be a positive integer");
+        checkArgument(maxBatchSize >= minBatchSize, "max_batch_size must be greater than or equal to min_batch_size");
+        checkArgument(maxBatchLatencyInMillis >= 0, "max_batch_latency must not be negative");
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchLatencyInMillis = maxBatchLatencyInMillis;
+    }
+
+    /**
+     * @param queueDepth the number of records currently waiting to be read
+     * @return the number of records to read in the next batch
+     */
+    int nextBatchSize(final int queueDepth) {
+        return Math.max(minBatchSize, Math.min(maxBatchSize, queueDepth));
+    }
+
+    int getMinBatchSize() {
+        return minBatchSize;
+    }
+
+    int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    int getMaxBatchLatencyInMillis() {
+        return maxBatchLatencyInMillis;
+    }
+}
@@ -13,6 +13,7 @@ import com.amazon.dataprepper.model.buffer.SizeOverflowException;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.record.Record;
 import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.DistributionSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,7 +38,14 @@ import static java.lang.String.format;
  * not provided); {@link #write(Record, int)} inserts specified non-null record into this buffer, waiting up to the
  * specified timeout in milliseconds if necessary for space to become available; and throws an exception if the
  * record is null. {@link #read(int)} retrieves and removes the batch of records from the head of the queue. The
- * batch size is defined/determined by the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the timeout parameter
+ * batch size is defined/determined by the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the timeout parameter.
+ * <p>
+ * If {@link #ATTRIBUTE_BUFFER_CAPACITY_BYTES} is provided, the buffer is instead bounded to that many bytes of unchecked
+ * records, using the size estimate carried on each record (see {@link Record#getEstimatedSizeInBytes()}). A single
+ * record larger than the whole capacity is accounted as the capacity, so it is accepted once the buffer is drained.
+ * <p>
+ * If {@link #ATTRIBUTE_MAX_BATCH_SIZE} is provided, the size of each read batch adapts to the number of records waiting
+ * in the buffer instead of targeting the fixed {@link #ATTRIBUTE_BATCH_SIZE}, see {@link AdaptiveBatchSize}.
  */
 @DataPrepperPlugin(name = "bounded_blocking", pluginType = Buffer.class)
 public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
@@ -46,10 +54,19 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     private static final int DEFAULT_BATCH_SIZE = 8;
     private static final String PLUGIN_NAME = "bounded_blocking";
     private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BUFFER_CAPACITY_BYTES = "buffer_size_bytes";
     private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_MIN_BATCH_SIZE = "min_batch_size";
+    private static final String ATTRIBUTE_MAX_BATCH_SIZE = "max_batch_size";
+    private static final String ATTRIBUTE_MAX_BATCH_LATENCY = "max_batch_latency";
+    private static final int DEFAULT_MIN_BATCH_SIZE = 1;
+    static final String READ_BATCH_SIZE = "readBatchSize";
 
     private final int bufferCapacity;
+    private final boolean boundedInBytes;
     private final int batchSize;
+    private final AdaptiveBatchSize adaptiveBatchSize;
+    private final DistributionSummary readBatchSizeSummary;
     private final BlockingQueue<T> blockingQueue;
     private final String pipelineName;
 
@@ -63,30 +80,72 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      * @param pipelineName   the name of the associated Pipeline
      */
     public BlockingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        this(bufferCapacity, false, batchSize, null, pipelineName);
+    }
+
+    BlockingBuffer(final int bufferCapacity, final boolean boundedInBytes, final int batchSize,
+                   final AdaptiveBatchSize adaptiveBatchSize, final String pipelineName) {
         super("BlockingBuffer", pipelineName);
         this.bufferCapacity = bufferCapacity;
+        this.boundedInBytes = boundedInBytes;
         this.batchSize = batchSize;
-        this.blockingQueue = new LinkedBlockingQueue<>(bufferCapacity);
+        this.adaptiveBatchSize = adaptiveBatchSize;
+        this.readBatchSizeSummary = pluginMetrics.summary(READ_BATCH_SIZE);
+        this.blockingQueue = boundedInBytes ? new LinkedBlockingQueue<>() : new LinkedBlockingQueue<>(bufferCapacity);
         this.capacitySemaphore = new Semaphore(bufferCapacity);
         this.pipelineName = pipelineName;
     }
 
+    /**
+     * Creates a BlockingBuffer whose capacity is given in bytes rather than in records.
+     *
+     * @param bufferCapacityInBytes the capacity of the buffer in bytes
+     * @param batchSize             the batch size for {@link #read(int)}
+     * @param pipelineName          the name of the associated Pipeline
+     * @param <T>                   the type of records in the buffer
+     * @return a byte-bounded BlockingBuffer
+     */
+    public static <T extends Record<?>> BlockingBuffer<T> boundedInBytes(final int bufferCapacityInBytes,
+                                                                        final int batchSize,
+                                                                        final String pipelineName) {
+        return new BlockingBuffer<>(bufferCapacityInBytes, true, batchSize, null, pipelineName);
+    }
+
     /**
      * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to construct an
      * instance of {@link BlockingBuffer} using an instance of {@link PluginSetting} which has access to
      * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer-size`, `batch-size`,
      * `batch-timeout` are optional and can be passed via {@link PluginSetting}, if not present default values will
-     * be used to create the buffer.
+     * be used to create the buffer. When `buffer_size_bytes` is present it takes precedence over `buffer_size`, and
+     * when `max_batch_size` is present the batch size adapts between `min_batch_size` and `max_batch_size`.
      *
      * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
      */
     public BlockingBuffer(final PluginSetting pluginSetting) {
-        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
-                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+        this(getBufferCapacity(checkNotNull(pluginSetting, "PluginSetting cannot be null")),
+                pluginSetting.getAttributeFromSettings(ATTRIBUTE_BUFFER_CAPACITY_BYTES) != null,
                 pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                getAdaptiveBatchSize(pluginSetting),
                 pluginSetting.getPipelineName());
     }
 
+    private static AdaptiveBatchSize getAdaptiveBatchSize(final PluginSetting pluginSetting) {
+        if (pluginSetting.getAttributeFromSettings(ATTRIBUTE_MAX_BATCH_SIZE) == null) {
+            return null;
+        }
+        return new AdaptiveBatchSize(
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_MIN_BATCH_SIZE, DEFAULT_MIN_BATCH_SIZE),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_MAX_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_MAX_BATCH_LATENCY, Integer.MAX_VALUE));
+    }
+
+    private static int getBufferCapacity(final PluginSetting pluginSetting) {
+        if (pluginSetting.getAttributeFromSettings(ATTRIBUTE_BUFFER_CAPACITY_BYTES) != null) {
+            return pluginSetting.getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY_BYTES, DEFAULT_BUFFER_CAPACITY);
+        }
+        return pluginSetting.getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY);
+    }
+
     public BlockingBuffer(final String pipelineName) {
         this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, pipelineName);
     }
@@ -94,7 +153,7 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     @Override
     public void doWrite(T record, int timeoutInMillis) throws TimeoutException {
         try {
-            final boolean permitAcquired = capacitySemaphore.tryAcquire(timeoutInMillis, TimeUnit.MILLISECONDS);
+            final boolean permitAcquired = capacitySemaphore.tryAcquire(getPermits(record), timeoutInMillis, TimeUnit.MILLISECONDS);
             if (!permitAcquired) {
                 throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
                         pipelineName));
@@ -109,11 +168,14 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     @Override
     public void doWriteAll(Collection<T> records, int timeoutInMillis) throws Exception {
         final int size = records.size();
-        if (size > bufferCapacity) {
-            throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", size));
+        final long permits = getPermits(records);
+        if (permits > bufferCapacity) {
+            throw new SizeOverflowException(boundedInBytes
+                    ? format("Buffer capacity too small for the size of records: %d bytes", permits)
+                    : format("Buffer capacity too small for the size of records: %d", size));
         }
         try {
-            final boolean permitAcquired = capacitySemaphore.tryAcquire(size, timeoutInMillis, TimeUnit.MILLISECONDS);
+            final boolean permitAcquired = capacitySemaphore.tryAcquire((int) permits, timeoutInMillis, TimeUnit.MILLISECONDS);
             if (!permitAcquired) {
                 throw new TimeoutException(
                         format("Pipeline [%s] - Buffer does not have enough capacity left for the size of records: %d, " +
@@ -135,13 +197,22 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     /**
      * Retrieves and removes the batch of records from the head of the queue. The batch size is defined/determined by
      * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis. The timeoutInMillis
-     * is also used for retrieving each record
+     * is also used for retrieving each record. With an adaptive batch size, see {@link #readAdaptiveBatch(int)}.
      *
      * @param timeoutInMillis how long to wait before giving up
      * @return The earliest batch of records in the buffer which are still not read.
      */
     @Override
     public Map.Entry<Collection<T>, CheckpointState> doRead(int timeoutInMillis) {
+        final List<T> records = adaptiveBatchSize != null ? readAdaptiveBatch(timeoutInMillis) : readFixedBatch(timeoutInMillis);
+        readBatchSizeSummary.record(records.size());
+        final CheckpointState checkpointState = boundedInBytes
+                ? new CheckpointState(records.size(), getPermits(records))
+                : new CheckpointState(records.size());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    private List<T> readFixedBatch(final int timeoutInMillis) {
         final List<T> records = new ArrayList<>();
         final Stopwatch stopwatch = Stopwatch.createStarted();
         try {
@@ -158,8 +229,39 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
             LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
             throw new RuntimeException(ex);
         }
-        final CheckpointState checkpointState = new CheckpointState(records.size());
-        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+        return records;
+    }
+
+    /**
+     * Chooses the batch size from the number of records waiting in the queue, takes whatever is available up to that
+     * size and only waits, for at most the smaller of timeoutInMillis and the max batch latency, while fewer than the
+     * min batch size records have been taken.
+     */
+    private List<T> readAdaptiveBatch(final int timeoutInMillis) {
+        final int targetBatchSize = adaptiveBatchSize.nextBatchSize(blockingQueue.size());
+        final List<T> records = new ArrayList<>(targetBatchSize);
+        blockingQueue.drainTo(records, targetBatchSize);
+
+        final long maxWaitInNanos = TimeUnit.MILLISECONDS.toNanos(
+                Math.min(timeoutInMillis, adaptiveBatchSize.getMaxBatchLatencyInMillis()));
+        final long deadline = System.nanoTime() + maxWaitInNanos;
+        try {
+            while (records.size() < adaptiveBatchSize.getMinBatchSize()) {
+                final long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    break;
+                }
+                final T record = blockingQueue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                if (record != null) {
+                    records.add(record);
+                    blockingQueue.drainTo(records, targetBatchSize - records.size());
+                }
+            }
+        } catch (InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(ex);
+        }
+        return records;
     }
 
     /**
@@ -175,12 +277,47 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
 
     @Override
     public void doCheckpoint(final CheckpointState checkpointState) {
-        final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
-        capacitySemaphore.release(numCheckedRecords);
+        if (boundedInBytes) {
+            capacitySemaphore.release((int) checkpointState.getNumBytesToBeChecked());
+        } else {
+            final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
+            capacitySemaphore.release(numCheckedRecords);
+        }
+    }
+
+    @Override
+    protected long getSizeInBytes(final T record) {
+        return boundedInBytes ? getPermits(record) : 0;
+    }
+
+    private int getPermits(final T record) {
+        if (!boundedInBytes) {
+            return 1;
+        }
+        return (int) Math.min(record.getEstimatedSizeInBytes(), bufferCapacity);
+    }
+
+    private long getPermits(final Collection<T> records) {
+        if (!boundedInBytes) {
+            return records.size();
+        }
+        long permits = 0;
+        for (final T record : records) {
+            permits += getPermits(record);
+        }
+        return permits;
     }
 
     @Override
     public boolean isEmpty() {
         return blockingQueue.isEmpty() && getRecordsInFlight() == 0;
     }
+
+    /**
+     * @return the fraction of the capacity held by records which have not been checkpointed yet
+     */
+    @Override
+    public double getFillRatio() {
+        return 1.0 - (double) capacitySemaphore.availablePermits() / bufferCapacity;
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveBatchSizeTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 4",
+            "3, 4",
+            "4, 4",
+            "50, 50",
+            "100, 100",
+            "5000, 100"
+    })
+    void nextBatchSize_follows_queue_depth_within_bounds(final int queueDepth, final int expectedBatchSize) {
+        final AdaptiveBatchSize objectUnderTest = new AdaptiveBatchSize(4, 100, 50);
+
+        assertThat(objectUnderTest.nextBatchSize(queueDepth), equalTo(expectedBatchSize));
+    }
+
+    @Test
+    void constructor_throws_for_non_positive_min_batch_size() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSize(0, 100, 50));
+    }
+
+    @Test
+    void constructor_throws_when_max_batch_size_is_less_than_min_batch_size() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSize(10, 5, 50));
+    }
+
+    @Test
+    void constructor_throws_for_negative_max_batch_latency() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSize(1, 5, -1));
+    }
+}
@@ -5,18 +5,26 @@
 
 package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
 
+import com.amazon.dataprepper.metrics.MetricNames;
+import com.amazon.dataprepper.metrics.MetricsTestUtil;
 import com.amazon.dataprepper.model.CheckpointState;
 import com.amazon.dataprepper.model.buffer.SizeOverflowException;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.record.Record;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Statistic;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -31,6 +39,10 @@ import static org.junit.Assert.assertTrue;
 public class BlockingBufferTests {
     private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
     private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String ATTRIBUTE_BUFFER_SIZE_BYTES = "buffer_size_bytes";
+    private static final String ATTRIBUTE_MIN_BATCH_SIZE = "min_batch_size";
+    private static final String ATTRIBUTE_MAX_BATCH_SIZE = "max_batch_size";
+    private static final String ATTRIBUTE_MAX_BATCH_LATENCY = "max_batch_latency";
     private static final String TEST_PIPELINE_NAME = "test-pipeline";
     private static final int TEST_BATCH_SIZE = 3;
     private static final int TEST_BUFFER_SIZE = 13;
@@ -157,6 +169,21 @@ public class BlockingBufferTests {
         assertEquals(2, readCheckResult.getKey().size());
     }
 
+    @Test
+    public void testFillRatioCoversRecordsUntilCheckpointed() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(4, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        assertThat(blockingBuffer.getFillRatio(), equalTo(0.0));
+
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.getFillRatio(), equalTo(0.5));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(blockingBuffer.getFillRatio(), equalTo(0.5));
+
+        blockingBuffer.checkpoint(readResult.getValue());
+        assertThat(blockingBuffer.getFillRatio(), equalTo(0.0));
+    }
+
     @Test
     public void testReadEmptyBuffer() {
         final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
@@ -217,6 +244,140 @@ public class BlockingBufferTests {
         assertFalse(blockingBuffer.isEmpty());
     }
 
+    @Test
+    public void testBoundedInBytesCreationUsingPluginSetting() throws TimeoutException {
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_BUFFER_SIZE_BYTES, 20);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+
+        blockingBuffer.write(new Record<>("0123456789"), TEST_WRITE_TIMEOUT);
+        blockingBuffer.write(new Record<>("0123456789"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> blockingBuffer.write(new Record<>("0"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testBoundedInBytesWriteAllSizeOverflow() {
+        final BlockingBuffer<Record<String>> blockingBuffer = BlockingBuffer.boundedInBytes(15, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = Arrays.asList(new Record<>("0123456789"), new Record<>("0123456789"));
+
+        assertThrows(SizeOverflowException.class, () -> blockingBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testBoundedInBytesNoEmptySpaceAfterUncheckedRead() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = BlockingBuffer.boundedInBytes(20, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(Arrays.asList(new Record<>("0123456789"), new Record<>("01234")), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        assertThat(readResult.getKey().size(), is(2));
+        assertThat(readResult.getValue().getNumBytesToBeChecked(), is(15L));
+        blockingBuffer.write(new Record<>("01234"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> blockingBuffer.write(new Record<>("0"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testBoundedInBytesWriteIntoEmptySpaceAfterCheckedRead() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = BlockingBuffer.boundedInBytes(20, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(Arrays.asList(new Record<>("0123456789"), new Record<>("0123456789")), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        blockingBuffer.checkpoint(readResult.getValue());
+
+        blockingBuffer.writeAll(Arrays.asList(new Record<>("0123456789"), new Record<>("0123456789")), TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().size(), is(2));
+    }
+
+    @Test
+    public void testBoundedInBytesAcceptsRecordLargerThanCapacityWhenEmpty() throws TimeoutException {
+        final BlockingBuffer<Record<String>> blockingBuffer = BlockingBuffer.boundedInBytes(5, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+
+        blockingBuffer.write(new Record<>("0123456789"), TEST_WRITE_TIMEOUT);
+
+        assertThrows(TimeoutException.class, () -> blockingBuffer.write(new Record<>("0"), TEST_WRITE_TIMEOUT));
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getValue().getNumBytesToBeChecked(), is(5L));
+        blockingBuffer.checkpoint(readResult.getValue());
+        blockingBuffer.write(new Record<>("0"), TEST_WRITE_TIMEOUT);
+    }
+
+    @Test
+    public void testAdaptiveBatchReadReturnsUpToMaxBatchSizeFromDeepQueue() throws Exception {
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_MAX_BATCH_SIZE, 10);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+        blockingBuffer.writeAll(generateBatchRecords(TEST_BUFFER_SIZE), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        assertThat(readResult.getKey().size(), is(10));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(10));
+        assertThat(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().size(), is(TEST_BUFFER_SIZE - 10));
+    }
+
+    @Test
+    public void testAdaptiveBatchReadReturnsEarlyFromShallowQueue() throws Exception {
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_MAX_BATCH_SIZE, 10);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+        blockingBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+
+        final long startTime = System.nanoTime();
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        assertThat(readResult.getKey().size(), is(1));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) < TEST_BATCH_READ_TIMEOUT);
+    }
+
+    @Test
+    public void testReadBatchSizeRecordsTheNumberOfRecordsRead() throws Exception {
+        MetricsTestUtil.initMetrics();
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_MAX_BATCH_SIZE, 10);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+        blockingBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+
+        blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final List<Measurement> readBatchSizeMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(TEST_PIPELINE_NAME).add("BlockingBuffer")
+                        .add(BlockingBuffer.READ_BATCH_SIZE).toString());
+        assertThat(MetricsTestUtil.getMeasurementFromList(readBatchSizeMeasurements, Statistic.COUNT).getValue(), is(1.0));
+        assertThat(MetricsTestUtil.getMeasurementFromList(readBatchSizeMeasurements, Statistic.TOTAL).getValue(), is(1.0));
+    }
+
+    @Test
+    public void testAdaptiveBatchReadWaitsAtMostMaxBatchLatencyForMinBatchSize() throws Exception {
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_MIN_BATCH_SIZE, 5);
+        pluginSetting.getSettings().put(ATTRIBUTE_MAX_BATCH_SIZE, 10);
+        pluginSetting.getSettings().put(ATTRIBUTE_MAX_BATCH_LATENCY, 50);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+
+        final long startTime = System.nanoTime();
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        assertThat(readResult.getKey().size(), is(2));
+        assertTrue(elapsedMillis >= 50);
+        assertTrue(elapsedMillis < TEST_BATCH_READ_TIMEOUT);
+    }
+
+    @Test
+    public void testAdaptiveBatchReadOfEmptyBufferReturnsEmptyBatch() {
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_MAX_BATCH_SIZE, 10);
+        pluginSetting.getSettings().put(ATTRIBUTE_MAX_BATCH_LATENCY, 10);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+
+        assertThat(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().size(), is(0));
+    }
+
     private PluginSetting completePluginSettingForBlockingBuffer() {
         final String pluginName = "bounded_blocking";
         final Map<String, Object> settings = new HashMap<>();
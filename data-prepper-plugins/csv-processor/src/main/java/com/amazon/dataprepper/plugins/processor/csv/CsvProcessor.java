@@ -9,6 +9,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.processor.AbstractProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
@@ -25,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Processor to parse CSV data in Events.
@@ -40,11 +42,18 @@ public class CsvProcessor extends AbstractProcessor<Record<Event>, Record<Event>
 
     private final CsvProcessorConfig config;
 
+    private final EventKey source;
+    private final EventKey columnNamesSourceKey;
+    private final List<EventKey> columnNames;
+
     @DataPrepperPluginConstructor
     public CsvProcessor(final PluginMetrics pluginMetrics, final CsvProcessorConfig config) {
         super(pluginMetrics);
         this.csvInvalidEventsCounter = pluginMetrics.counter(CSV_INVALID_EVENTS);
         this.config = config;
+        this.source = EventKey.of(config.getSource());
+        this.columnNamesSourceKey = Objects.nonNull(config.getColumnNamesSourceKey()) ? EventKey.of(config.getColumnNamesSourceKey()) : null;
+        this.columnNames = Objects.nonNull(config.getColumnNames()) ? toEventKeys(config.getColumnNames()) : null;
     }
 
     @Override
@@ -56,9 +65,9 @@ public class CsvProcessor extends AbstractProcessor<Record<Event>, Record<Event>
 
             final Event event = record.getData();
 
-            final String message = event.get(config.getSource(), String.class);
-            final boolean userDidSpecifyHeaderEventKey = Objects.nonNull(config.getColumnNamesSourceKey());
-            final boolean thisEventHasHeaderSource = userDidSpecifyHeaderEventKey && event.containsKey(config.getColumnNamesSourceKey());
+            final String message = event.get(source, String.class);
+            final boolean userDidSpecifyHeaderEventKey = Objects.nonNull(columnNamesSourceKey);
+            final boolean thisEventHasHeaderSource = userDidSpecifyHeaderEventKey && event.containsKey(columnNamesSourceKey);
 
             try {
                 final MappingIterator<List<String>> messageIterator = mapper.readerFor(List.class).with(schema).readValues(message);
@@ -66,12 +75,12 @@ public class CsvProcessor extends AbstractProcessor<Record<Event>, Record<Event>
                 // otherwise the message is empty
                 if (messageIterator.hasNextValue()) {
                     final List<String> row = messageIterator.nextValue();
-                    final List<String> header = parseHeader(event, thisEventHasHeaderSource, mapper, schema);
+                    final List<EventKey> header = parseHeader(event, thisEventHasHeaderSource, mapper, schema);
                     putDataInEvent(event, header, row);
                 }
 
                 if (thisEventHasHeaderSource && Boolean.TRUE.equals(config.isDeleteHeader())) {
-                    event.delete(config.getColumnNamesSourceKey());
+                    event.delete(columnNamesSourceKey);
                 }
             } catch (final IOException e) {
                 csvInvalidEventsCounter.increment();
@@ -109,23 +118,27 @@ public class CsvProcessor extends AbstractProcessor<Record<Event>, Record<Event>
         return schema;
     }
 
-    private List<String> parseHeader(final Event event, final boolean thisEventHasHeaderSource, final CsvMapper mapper,
-                                     final CsvSchema schema) {
+    private List<EventKey> parseHeader(final Event event, final boolean thisEventHasHeaderSource, final CsvMapper mapper,
+                                       final CsvSchema schema) {
         if (thisEventHasHeaderSource) {
-            return parseHeaderFromEventSourceKey(event, mapper, schema);
+            return toEventKeys(parseHeaderFromEventSourceKey(event, mapper, schema));
         }
-        else if (Objects.nonNull(config.getColumnNames())) {
-            return config.getColumnNames();
+        else if (Objects.nonNull(columnNames)) {
+            return columnNames;
         }
         else {
-            final List<String> emptyHeader = new ArrayList<>();
+            final List<EventKey> emptyHeader = new ArrayList<>();
             return emptyHeader;
         }
     }
 
+    private static List<EventKey> toEventKeys(final List<String> keys) {
+        return keys.stream().map(EventKey::of).collect(Collectors.toList());
+    }
+
     private List<String> parseHeaderFromEventSourceKey(final Event event, final CsvMapper mapper, final CsvSchema schema) {
         try {
-            final String headerUnprocessed = event.get(config.getColumnNamesSourceKey(), String.class);
+            final String headerUnprocessed = event.get(columnNamesSourceKey, String.class);
             final MappingIterator<List<String>> headerIterator = mapper.readerFor(List.class).with(schema)
                     .readValues(headerUnprocessed);
             // if header is empty, behaves correctly since columns are autogenerated.
@@ -139,13 +152,13 @@ public class CsvProcessor extends AbstractProcessor<Record<Event>, Record<Event>
         }
     }
 
-    private void putDataInEvent(final Event event, final List<String> header, final List<String> data) {
+    private void putDataInEvent(final Event event, final List<EventKey> header, final List<String> data) {
         int providedHeaderColIdx = 0;
         for (; providedHeaderColIdx < header.size() && providedHeaderColIdx < data.size(); providedHeaderColIdx++) {
             event.put(header.get(providedHeaderColIdx), data.get(providedHeaderColIdx));
         }
         for (int remainingColIdx = providedHeaderColIdx; remainingColIdx < data.size(); remainingColIdx++) {
-            event.put(generateColumnHeader(remainingColIdx), data.get(remainingColIdx));
+            event.put(EventKey.of(generateColumnHeader(remainingColIdx)), data.get(remainingColIdx));
         }
     }
 
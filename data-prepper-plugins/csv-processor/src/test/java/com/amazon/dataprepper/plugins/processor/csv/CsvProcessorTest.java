@@ -84,6 +84,7 @@ class CsvProcessorTest {
     void test_when_deleteHeaderAndHeaderSourceDefined_then_headerIsDeleted() {
         when(processorConfig.isDeleteHeader()).thenReturn(true);
         when(processorConfig.getColumnNamesSourceKey()).thenReturn("header");
+        csvProcessor = createObjectUnderTest();
 
         final Map<String, Object> eventData = new HashMap<>();
         eventData.put("message","1,2,3");
@@ -104,6 +105,7 @@ class CsvProcessorTest {
     void test_when_headerSource_then_usesHeaderSourceForParsing() {
         when(processorConfig.isDeleteHeader()).thenReturn(false);
         when(processorConfig.getColumnNamesSourceKey()).thenReturn("header");
+        csvProcessor = createObjectUnderTest();
 
         final Map<String, Object> eventData = new HashMap<>();
         eventData.put("message","1,2,3");
@@ -151,6 +153,7 @@ class CsvProcessorTest {
     void test_when_tooManyUserSpecifiedColumns_then_omitsExtraNames() {
         final List<String> columnNames = Arrays.asList("col1","col2","col3","col4");
         when(processorConfig.getColumnNames()).thenReturn(columnNames);
+        csvProcessor = createObjectUnderTest();
 
         final Record<Event> eventUnderTest = createMessageEvent("1,2,3");
         final List<Record<Event>> editedEvents = (List<Record<Event>>) csvProcessor.doExecute(Collections.singletonList(eventUnderTest));
@@ -167,6 +170,7 @@ class CsvProcessorTest {
     void test_when_notEnoughUserSpecifiedColumns_then_generatesExtraNames() {
         final List<String> columnNames = Arrays.asList("col1","col2");
         when(processorConfig.getColumnNames()).thenReturn(columnNames);
+        csvProcessor = createObjectUnderTest();
 
         final Record<Event> eventUnderTest = createMessageEvent("1,2,3");
         final List<Record<Event>> editedEvents = (List<Record<Event>>) csvProcessor.doExecute(Collections.singletonList(eventUnderTest));
@@ -182,6 +186,7 @@ class CsvProcessorTest {
     @Test
     void test_when_tooManyHeaderSourceColumns_then_omitsExtraNames() {
         when(processorConfig.getColumnNamesSourceKey()).thenReturn("header");
+        csvProcessor = createObjectUnderTest();
 
         final Map<String, Object> eventData = new HashMap<>();
         eventData.put("message","1,2,3");
@@ -200,6 +205,7 @@ class CsvProcessorTest {
     @Test
     void test_when_notEnoughHeaderSourceColumns_then_generatesExtraNames() {
         when(processorConfig.getColumnNamesSourceKey()).thenReturn("header");
+        csvProcessor = createObjectUnderTest();
 
         final Map<String, Object> eventData = new HashMap<>();
         eventData.put("message","1,2,3");
@@ -221,6 +227,7 @@ class CsvProcessorTest {
         when(processorConfig.getColumnNamesSourceKey()).thenReturn("header");
         final List<String> columnNames = Arrays.asList("user_col1","user_col2","user_col3");
         when(processorConfig.getColumnNames()).thenReturn(columnNames);
+        csvProcessor = createObjectUnderTest();
 
         final Map<String, Object> firstEventData = new HashMap<>();
         firstEventData.put("message","1,2,3");
@@ -261,6 +268,7 @@ class CsvProcessorTest {
     @Test
     void test_when_sourceIsNotMessage_then_parsesCorrectly() {
         when(processorConfig.getSource()).thenReturn("different_source");
+        csvProcessor = createObjectUnderTest();
 
         final Map<String, Object> eventData = new HashMap<>();
         eventData.put("different_source","1,2,3");
@@ -277,6 +285,7 @@ class CsvProcessorTest {
     @Test
     void test_when_multilineInput_then_parseBehavior() {
         when(processorConfig.getColumnNamesSourceKey()).thenReturn("header");
+        csvProcessor = createObjectUnderTest();
 
         final Map<String, Object> eventData = new HashMap<>();
         eventData.put("message","1,2,3\n4,5,6");
@@ -9,7 +9,8 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.processor.AbstractRecordProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import io.micrometer.core.instrument.Counter;
@@ -22,21 +23,21 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
-import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @DataPrepperPlugin(name = "date", pluginType = Processor.class, pluginConfigurationType = DateProcessorConfig.class)
-public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class DateProcessor extends AbstractRecordProcessor<Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(DateProcessor.class);
     private static final String OUTPUT_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
 
     static final String DATE_PROCESSING_MATCH_SUCCESS = "dateProcessingMatchSuccess";
     static final String DATE_PROCESSING_MATCH_FAILURE = "dateProcessingMatchFailure";
 
-    private String keyToParse;
+    private EventKey keyToParse;
     private List<DateTimeFormatter> dateTimeFormatters;
     private final DateProcessorConfig dateProcessorConfig;
+    private final EventKey destination;
 
     private final Counter dateProcessingMatchSuccessCounter;
     private final Counter dateProcessingMatchFailureCounter;
@@ -45,6 +46,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     public DateProcessor(PluginMetrics pluginMetrics, final DateProcessorConfig dateProcessorConfig) {
         super(pluginMetrics);
         this.dateProcessorConfig = dateProcessorConfig;
+        this.destination = EventKey.of(dateProcessorConfig.getDestination());
 
         dateProcessingMatchSuccessCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_SUCCESS);
         dateProcessingMatchFailureCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_FAILURE);
@@ -54,22 +56,21 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            String zonedDateTime = null;
+    public Record<Event> processRecord(final Record<Event> record) {
+        String zonedDateTime = null;
 
-            if (Boolean.TRUE.equals(dateProcessorConfig.getFromTimeReceived()))
-                zonedDateTime =  getDateTimeFromTimeReceived(record);
+        if (Boolean.TRUE.equals(dateProcessorConfig.getFromTimeReceived()))
+            zonedDateTime =  getDateTimeFromTimeReceived(record);
 
-            else if (keyToParse != null && !keyToParse.isEmpty()) {
-                zonedDateTime = getDateTimeFromMatch(record);
-                populateDateProcessorMetrics(zonedDateTime);
-            }
-
-            if (zonedDateTime != null)
-                record.getData().put(dateProcessorConfig.getDestination(), zonedDateTime);
+        else if (keyToParse != null) {
+            zonedDateTime = getDateTimeFromMatch(record);
+            populateDateProcessorMetrics(zonedDateTime);
         }
-        return records;
+
+        if (zonedDateTime != null)
+            record.getData().put(destination, zonedDateTime);
+
+        return record;
     }
 
     private void populateDateProcessorMetrics(final String zonedDateTime) {
@@ -81,7 +82,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private void extractKeyAndFormatters() {
         for (DateProcessorConfig.DateMatch entry: dateProcessorConfig.getMatch()) {
-            keyToParse = entry.getKey();
+            keyToParse = entry.getKey() == null || entry.getKey().isEmpty() ? null : EventKey.of(entry.getKey());
             dateTimeFormatters = entry.getPatterns().stream().map(this::getSourceFormatter).collect(Collectors.toList());
         }
     }
@@ -0,0 +1,365 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import com.amazon.dataprepper.model.buffer.AbstractBuffer;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * A DiskBuffer is an implementation of {@link Buffer} which appends records to memory-mapped segment files in the
+ * configured directory instead of keeping them on the heap. Batches are served from the segments in the order the
+ * records were written. A segment is deleted only once every record in it has been checked by
+ * {@link #checkpoint(CheckpointState)}; records which were not checked before a restart are read again when the
+ * buffer is next created on the same directory.
+ * <p>
+ * The buffer is bounded by {@link DiskBufferConfig#getMaxSegments()} segments of
+ * {@link DiskBufferConfig#getSegmentSize()} bytes each. {@link #write(Record, int)} and
+ * {@link #writeAll(Collection, int)} wait up to the provided timeout for a segment to be released. Records which could
+ * never fit are rejected with a {@link SizeOverflowException}, which {@link #write(Record, int)} wraps in a
+ * {@link RuntimeException} since it only declares a {@link TimeoutException}.
+ * <p>
+ * A segment which cannot be read back when the buffer is created is logged and renamed with a {@code .corrupt} suffix,
+ * so that the pipeline still starts without its records.
+ */
+@DataPrepperPlugin(name = "disk_buffer", pluginType = Buffer.class, pluginConfigurationType = DiskBufferConfig.class)
+public class DiskBuffer extends AbstractBuffer<Record<Event>> {
+    private static final Logger LOG = LoggerFactory.getLogger(DiskBuffer.class);
+    static final String SEGMENTS_IN_USE = "segmentsInUse";
+    static final String CORRUPT_SEGMENT_SUFFIX = ".corrupt";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final int batchSize;
+    private final String pipelineName;
+    private final EventSerializer eventSerializer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final List<Segment> segments = new ArrayList<>();
+    private final AtomicInteger segmentsInUse;
+    private Segment activeSegment;
+    private long nextSegmentId;
+    private int unreadRecords;
+
+    @DataPrepperPluginConstructor
+    public DiskBuffer(final DiskBufferConfig diskBufferConfig, final PluginSetting pluginSetting) {
+        this(diskBufferConfig, pluginSetting, new EventSerializer());
+    }
+
+    DiskBuffer(final DiskBufferConfig diskBufferConfig, final PluginSetting pluginSetting, final EventSerializer eventSerializer) {
+        super(pluginSetting);
+        this.directory = Paths.get(diskBufferConfig.getPath());
+        this.segmentSize = diskBufferConfig.getSegmentSize();
+        this.maxSegments = diskBufferConfig.getMaxSegments();
+        this.batchSize = diskBufferConfig.getBatchSize();
+        this.pipelineName = pluginSetting.getPipelineName();
+        this.eventSerializer = eventSerializer;
+        this.segmentsInUse = pluginMetrics.gauge(SEGMENTS_IN_USE, new AtomicInteger());
+        recoverSegments();
+    }
+
+    private void recoverSegments() {
+        try {
+            Files.createDirectories(directory);
+            final List<Path> segmentPaths;
+            try (final Stream<Path> paths = Files.list(directory)) {
+                segmentPaths = paths.filter(Segment::isSegmentFile)
+                        .sorted(Comparator.comparingLong(Segment::parseId))
+                        .collect(Collectors.toList());
+            }
+            for (final Path segmentPath : segmentPaths) {
+                nextSegmentId = Segment.parseId(segmentPath) + 1;
+                final Segment segment;
+                try {
+                    segment = Segment.open(segmentPath);
+                } catch (final IOException ex) {
+                    quarantineSegment(segmentPath, ex);
+                    continue;
+                }
+                if (segment.isFullyAcknowledged()) {
+                    segment.delete();
+                } else {
+                    segments.add(segment);
+                    unreadRecords += segment.getUnreadRecords();
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(format("Pipeline [%s] - Unable to recover buffer segments from %s",
+                    pipelineName, directory), ex);
+        }
+        segmentsInUse.set(segments.size());
+        if (unreadRecords > 0) {
+            LOG.info("Pipeline [{}] - Recovered {} unacknowledged records from {} buffer segments",
+                    pipelineName, unreadRecords, segments.size());
+        }
+    }
+
+    private void quarantineSegment(final Path segmentPath, final IOException cause) {
+        final Path quarantinePath = segmentPath.resolveSibling(segmentPath.getFileName() + CORRUPT_SEGMENT_SUFFIX);
+        try {
+            Files.move(segmentPath, quarantinePath, StandardCopyOption.REPLACE_EXISTING);
+            LOG.error("Pipeline [{}] - Unable to recover buffer segment {}, its records are skipped and the file was " +
+                    "moved to {}", pipelineName, segmentPath, quarantinePath, cause);
+        } catch (final IOException ex) {
+            LOG.error("Pipeline [{}] - Unable to recover buffer segment {}, its records are skipped", pipelineName,
+                    segmentPath, cause);
+            LOG.error("Pipeline [{}] - Unable to move buffer segment {} to {}", pipelineName, segmentPath, quarantinePath, ex);
+        }
+    }
+
+    @Override
+    public void doWrite(final Record<Event> record, final int timeoutInMillis) throws TimeoutException {
+        final byte[] entry = serialize(record);
+        if (!fitsInEmptyBuffer(Collections.singletonList(entry))) {
+            throw new RuntimeException(new SizeOverflowException(format(
+                    "Record of %d bytes does not fit in a buffer segment of %d bytes", entry.length, segmentSize)));
+        }
+        writeEntries(Collections.singletonList(entry), timeoutInMillis);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<Record<Event>> records, final int timeoutInMillis) throws Exception {
+        final List<byte[]> entries = new ArrayList<>(records.size());
+        for (final Record<Event> record : records) {
+            entries.add(serialize(record));
+        }
+        if (!fitsInEmptyBuffer(entries)) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", records.size()));
+        }
+        writeEntries(entries, timeoutInMillis);
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the oldest unread segment positions. The batch size is
+     * defined/determined by the configuration attribute batch_size or the @param timeoutInMillis.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<Record<Event>>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<byte[]> entries = new ArrayList<>(batchSize);
+        final List<SegmentCheckpointState.SegmentRange> segmentRanges = new ArrayList<>();
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        lock.lock();
+        try {
+            while (true) {
+                drain(entries, segmentRanges);
+                if (entries.size() >= batchSize || remainingNanos <= 0) {
+                    break;
+                }
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+        } catch (final InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(ex);
+        } finally {
+            lock.unlock();
+        }
+
+        final List<Record<Event>> records = new ArrayList<>(entries.size());
+        for (final byte[] entry : entries) {
+            records.add(deserialize(entry));
+        }
+        return new AbstractMap.SimpleEntry<>(records, new SegmentCheckpointState(records.size(), segmentRanges));
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        if (!(checkpointState instanceof SegmentCheckpointState)) {
+            throw new IllegalArgumentException(format("Pipeline [%s] - Checkpoint state %s was not read from a disk buffer",
+                    pipelineName, checkpointState.getClass().getName()));
+        }
+        lock.lock();
+        try {
+            for (final SegmentCheckpointState.SegmentRange segmentRange : ((SegmentCheckpointState) checkpointState).getSegmentRanges()) {
+                final Segment segment = segmentRange.getSegment();
+                if (!segments.contains(segment)) {
+                    continue;
+                }
+                segment.acknowledge(segmentRange.getStartOffset(), segmentRange.getEndOffset());
+                if (segment != activeSegment && segment.isFullyAcknowledged()) {
+                    releaseSegment(segment);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return unreadRecords == 0 && getRecordsInFlight() == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the fraction of the segments holding records which have not been checkpointed yet, including the
+     * segment currently being written
+     */
+    @Override
+    public double getFillRatio() {
+        return (double) segmentsInUse.get() / maxSegments;
+    }
+
+    private void writeEntries(final List<byte[]> entries, final int timeoutInMillis) throws TimeoutException {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        lock.lock();
+        try {
+            while (!hasCapacityFor(entries)) {
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException(format("Pipeline [%s] - Buffer does not have enough capacity left for " +
+                            "the size of records: %d, timed out waiting for a segment.", pipelineName, entries.size()));
+                }
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+            }
+            for (final byte[] entry : entries) {
+                append(entry);
+            }
+            unreadRecords += entries.size();
+            notEmpty.signalAll();
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the size of records: {}, " +
+                    "interrupted while waiting to write the records", pipelineName, entries.size(), ex);
+            throw new TimeoutException(format("Pipeline [%s] - Buffer does not have enough capacity left for the " +
+                    "size of records: %d, timed out waiting for a segment.", pipelineName, entries.size()));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(format("Pipeline [%s] - Unable to create a buffer segment in %s",
+                    pipelineName, directory), ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(final byte[] entry) throws IOException {
+        if (activeSegment != null && activeSegment.append(entry)) {
+            return;
+        }
+        if (activeSegment != null) {
+            activeSegment.seal();
+            if (activeSegment.isFullyAcknowledged()) {
+                releaseSegment(activeSegment);
+            }
+        }
+        activeSegment = Segment.create(directory, nextSegmentId++, segmentSize);
+        segments.add(activeSegment);
+        segmentsInUse.set(segments.size());
+        activeSegment.append(entry);
+    }
+
+    private void drain(final List<byte[]> entries, final List<SegmentCheckpointState.SegmentRange> segmentRanges) {
+        for (final Segment segment : segments) {
+            if (entries.size() >= batchSize) {
+                return;
+            }
+            if (!segment.hasUnread()) {
+                continue;
+            }
+            final int startOffset = segment.getReadOffset();
+            while (segment.hasUnread() && entries.size() < batchSize) {
+                entries.add(segment.readNext());
+                unreadRecords--;
+            }
+            final SegmentCheckpointState.SegmentRange lastRange = segmentRanges.isEmpty() ? null : segmentRanges.get(segmentRanges.size() - 1);
+            if (lastRange != null && lastRange.getSegment() == segment) {
+                lastRange.extendTo(segment.getReadOffset());
+            } else {
+                segmentRanges.add(new SegmentCheckpointState.SegmentRange(segment, startOffset, segment.getReadOffset()));
+            }
+        }
+    }
+
+    private boolean hasCapacityFor(final List<byte[]> entries) {
+        final boolean activeSegmentReleasable = activeSegment != null && activeSegment.isFullyAcknowledged();
+        return fits(entries, activeSegment == null ? 0 : activeSegment.remaining(),
+                maxSegments - segments.size() + (activeSegmentReleasable ? 1 : 0));
+    }
+
+    private boolean fitsInEmptyBuffer(final List<byte[]> entries) {
+        return fits(entries, 0, maxSegments);
+    }
+
+    private boolean fits(final List<byte[]> entries, final int remainingInActiveSegment, final int freeSegments) {
+        int remaining = remainingInActiveSegment;
+        int segmentsLeft = freeSegments;
+        for (final byte[] entry : entries) {
+            final int entrySize = Segment.entrySize(entry);
+            if (entrySize <= remaining) {
+                remaining -= entrySize;
+            } else if (segmentsLeft > 0 && entrySize <= segmentSize - Segment.HEADER_SIZE) {
+                segmentsLeft--;
+                remaining = segmentSize - Segment.HEADER_SIZE - entrySize;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void releaseSegment(final Segment segment) {
+        segments.remove(segment);
+        segmentsInUse.set(segments.size());
+        try {
+            segment.delete();
+        } catch (final IOException ex) {
+            LOG.warn("Pipeline [{}] - Unable to delete acknowledged buffer segment {}", pipelineName, segment.getId(), ex);
+        }
+        notFull.signalAll();
+    }
+
+    private byte[] serialize(final Record<Event> record) {
+        try {
+            return eventSerializer.serialize(record.getData());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to serialize record for the disk buffer", ex);
+        }
+    }
+
+    private Record<Event> deserialize(final byte[] entry) {
+        try {
+            return new Record<>(eventSerializer.deserialize(entry));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to deserialize record from the disk buffer", ex);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+
+public class DiskBufferConfig {
+    static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    static final int DEFAULT_MAX_SEGMENTS = 16;
+    static final int DEFAULT_BATCH_SIZE = 8;
+
+    @JsonProperty("path")
+    @NotEmpty
+    private String path;
+
+    @JsonProperty("segment_size")
+    @Min(1024)
+    private int segmentSize = DEFAULT_SEGMENT_SIZE;
+
+    @JsonProperty("max_segments")
+    @Min(1)
+    private int maxSegments = DEFAULT_MAX_SEGMENTS;
+
+    @JsonProperty("batch_size")
+    @Min(1)
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public int getMaxSegments() {
+        return maxSegments;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
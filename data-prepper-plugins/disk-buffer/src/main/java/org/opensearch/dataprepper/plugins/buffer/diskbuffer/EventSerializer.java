@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventMetadata;
+import com.amazon.dataprepper.model.event.JacksonEventCodec;
+
+import java.io.IOException;
+
+/**
+ * Serializes an {@link Event} together with its {@link EventMetadata} so that it can be restored from a segment.
+ * Events are written with the Smile {@link JacksonEventCodec}, which restores spans and metrics to their own classes.
+ */
+class EventSerializer {
+    private final JacksonEventCodec eventCodec = JacksonEventCodec.smile();
+
+    byte[] serialize(final Event event) throws IOException {
+        return eventCodec.encode(event);
+    }
+
+    Event deserialize(final byte[] bytes) throws IOException {
+        return eventCodec.decode(bytes);
+    }
+}
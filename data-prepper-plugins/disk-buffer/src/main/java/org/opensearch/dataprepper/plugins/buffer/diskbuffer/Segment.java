@@ -0,0 +1,292 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import static java.lang.String.format;
+
+/**
+ * A fixed-size, memory-mapped file holding a sequence of serialized records. Each entry is written as
+ * {@code [int length][int crc32][bytes]}; the length is written last so that a partially written entry is never
+ * visible after a crash. The file header persists the offset up to which all entries have been acknowledged, which
+ * is where reading resumes when the segment is reopened.
+ * <p>
+ * The mapping is released when the segment is deleted or closed, rather than when the buffer is garbage collected,
+ * so that deleted segments do not keep holding disk space and address space. The segment must not be used afterwards.
+ * <p>
+ * This class is not thread-safe. {@link DiskBuffer} guards every segment with its own lock.
+ */
+class Segment {
+    private static final Logger LOG = LoggerFactory.getLogger(Segment.class);
+    private static final BufferUnmapper BUFFER_UNMAPPER = BufferUnmapper.create();
+
+    static final String FILE_PREFIX = "segment-";
+    static final String FILE_SUFFIX = ".dat";
+    static final int HEADER_SIZE = 16;
+    static final int ENTRY_HEADER_SIZE = 8;
+    private static final int MAGIC = 0x44505342;
+    private static final int CAPACITY_POSITION = 4;
+    private static final int ACKNOWLEDGED_OFFSET_POSITION = 8;
+
+    private final long id;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final NavigableMap<Integer, Integer> pendingAcknowledgements = new TreeMap<>();
+    private int writeOffset;
+    private int readOffset;
+    private int acknowledgedOffset;
+    private int unreadRecords;
+    private boolean sealed;
+    private boolean closed;
+
+    private Segment(final long id, final Path path, final MappedByteBuffer buffer, final int capacity) {
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a new, empty segment file in the given directory.
+     */
+    static Segment create(final Path directory, final long id, final int capacity) throws IOException {
+        final Path path = directory.resolve(fileName(id));
+        try (final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(CAPACITY_POSITION, capacity);
+            buffer.putInt(ACKNOWLEDGED_OFFSET_POSITION, HEADER_SIZE);
+            final Segment segment = new Segment(id, path, buffer, capacity);
+            segment.writeOffset = HEADER_SIZE;
+            segment.readOffset = HEADER_SIZE;
+            segment.acknowledgedOffset = HEADER_SIZE;
+            return segment;
+        }
+    }
+
+    /**
+     * Reopens an existing segment file. The segment is sealed, and every entry after the persisted acknowledged
+     * offset is available to read again. Scanning stops at the first empty or corrupt entry.
+     */
+    static Segment open(final Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final int capacity = (int) channel.size();
+            if (capacity < HEADER_SIZE) {
+                throw new IOException(format("File %s is not a valid buffer segment", path));
+            }
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(CAPACITY_POSITION) != capacity) {
+                BUFFER_UNMAPPER.unmap(buffer);
+                throw new IOException(format("File %s is not a valid buffer segment", path));
+            }
+            final Segment segment = new Segment(parseId(path), path, buffer, capacity);
+            final int persistedAcknowledgedOffset = buffer.getInt(ACKNOWLEDGED_OFFSET_POSITION);
+
+            int offset = HEADER_SIZE;
+            int unreadRecords = 0;
+            while (offset + ENTRY_HEADER_SIZE <= capacity) {
+                final int length = buffer.getInt(offset);
+                if (length <= 0 || offset + ENTRY_HEADER_SIZE + length > capacity
+                        || buffer.getInt(offset + 4) != checksum(segment.readBytes(offset, length))) {
+                    break;
+                }
+                if (offset >= persistedAcknowledgedOffset) {
+                    unreadRecords++;
+                }
+                offset += ENTRY_HEADER_SIZE + length;
+            }
+            segment.writeOffset = offset;
+            segment.acknowledgedOffset = Math.max(HEADER_SIZE, Math.min(persistedAcknowledgedOffset, offset));
+            segment.readOffset = segment.acknowledgedOffset;
+            segment.unreadRecords = unreadRecords;
+            segment.sealed = true;
+            return segment;
+        }
+    }
+
+    static String fileName(final long id) {
+        return format("%s%020d%s", FILE_PREFIX, id, FILE_SUFFIX);
+    }
+
+    static boolean isSegmentFile(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return fileName.startsWith(FILE_PREFIX) && fileName.endsWith(FILE_SUFFIX);
+    }
+
+    static long parseId(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+    }
+
+    static int entrySize(final byte[] data) {
+        return ENTRY_HEADER_SIZE + data.length;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    int getReadOffset() {
+        return readOffset;
+    }
+
+    int getUnreadRecords() {
+        return unreadRecords;
+    }
+
+    int remaining() {
+        return sealed ? 0 : capacity - writeOffset;
+    }
+
+    boolean hasUnread() {
+        return unreadRecords > 0;
+    }
+
+    boolean isFullyAcknowledged() {
+        return acknowledgedOffset == writeOffset;
+    }
+
+    /**
+     * Appends an entry to the segment.
+     *
+     * @return false if the segment is sealed or does not have enough room left for the entry
+     */
+    boolean append(final byte[] data) {
+        if (entrySize(data) > remaining()) {
+            return false;
+        }
+        final ByteBuffer view = buffer.duplicate();
+        view.position(writeOffset + 4);
+        view.putInt(checksum(data));
+        view.put(data);
+        buffer.putInt(writeOffset, data.length);
+        writeOffset += entrySize(data);
+        unreadRecords++;
+        return true;
+    }
+
+    /**
+     * Reads the next unread entry and advances the read offset past it.
+     */
+    byte[] readNext() {
+        final int length = buffer.getInt(readOffset);
+        final byte[] data = readBytes(readOffset, length);
+        readOffset += ENTRY_HEADER_SIZE + length;
+        unreadRecords--;
+        return data;
+    }
+
+    /**
+     * Acknowledges the entries in the range [startOffset, endOffset). Ranges may be acknowledged out of order; the
+     * persisted acknowledged offset only advances over a contiguous prefix of acknowledged entries.
+     */
+    void acknowledge(final int startOffset, final int endOffset) {
+        if (startOffset != acknowledgedOffset) {
+            pendingAcknowledgements.put(startOffset, endOffset);
+            return;
+        }
+        acknowledgedOffset = endOffset;
+        Integer nextEndOffset;
+        while ((nextEndOffset = pendingAcknowledgements.remove(acknowledgedOffset)) != null) {
+            acknowledgedOffset = nextEndOffset;
+        }
+        buffer.putInt(ACKNOWLEDGED_OFFSET_POSITION, acknowledgedOffset);
+    }
+
+    /**
+     * Seals the segment against further writes and flushes its contents to the file.
+     */
+    void seal() {
+        sealed = true;
+        buffer.force();
+    }
+
+    /**
+     * Releases the mapping of the segment and deletes its file.
+     */
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Releases the mapping of the segment, keeping its file.
+     */
+    void close() {
+        if (!closed) {
+            closed = true;
+            BUFFER_UNMAPPER.unmap(buffer);
+        }
+    }
+
+    private byte[] readBytes(final int offset, final int length) {
+        final byte[] data = new byte[length];
+        final ByteBuffer view = buffer.duplicate();
+        view.position(offset + ENTRY_HEADER_SIZE);
+        view.get(data);
+        return data;
+    }
+
+    private static int checksum(final byte[] data) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(data);
+        return (int) crc32.getValue();
+    }
+
+    /**
+     * Releases mapped buffers with {@code sun.misc.Unsafe#invokeCleaner}, which the JDK does not otherwise expose. If it
+     * is not available, mapped buffers are released when they are garbage collected.
+     */
+    static class BufferUnmapper {
+        private final Object unsafe;
+        private final Method invokeCleaner;
+
+        private BufferUnmapper(final Object unsafe, final Method invokeCleaner) {
+            this.unsafe = unsafe;
+            this.invokeCleaner = invokeCleaner;
+        }
+
+        static BufferUnmapper create() {
+            try {
+                final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                return new BufferUnmapper(theUnsafe.get(null), unsafeClass.getMethod("invokeCleaner", ByteBuffer.class));
+            } catch (final ReflectiveOperationException | RuntimeException ex) {
+                LOG.warn("Unable to release buffer segments when they are deleted, they are released when garbage collected", ex);
+                return new BufferUnmapper(null, null);
+            }
+        }
+
+        void unmap(final MappedByteBuffer buffer) {
+            if (invokeCleaner == null) {
+                return;
+            }
+            try {
+                invokeCleaner.invoke(unsafe, buffer);
+            } catch (final ReflectiveOperationException ex) {
+                LOG.warn("Unable to release a buffer segment, it is released when garbage collected", ex);
+            }
+        }
+    }
+}
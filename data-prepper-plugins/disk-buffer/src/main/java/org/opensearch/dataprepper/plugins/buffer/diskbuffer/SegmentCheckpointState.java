@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+
+import java.util.List;
+
+/**
+ * A {@link CheckpointState} which also remembers the segment ranges a batch was read from, so that
+ * {@link DiskBuffer#doCheckpoint(CheckpointState)} can acknowledge exactly those entries.
+ */
+class SegmentCheckpointState extends CheckpointState {
+    private final List<SegmentRange> segmentRanges;
+
+    SegmentCheckpointState(final int numRecordsToBeChecked, final List<SegmentRange> segmentRanges) {
+        super(numRecordsToBeChecked);
+        this.segmentRanges = segmentRanges;
+    }
+
+    List<SegmentRange> getSegmentRanges() {
+        return segmentRanges;
+    }
+
+    static class SegmentRange {
+        private final Segment segment;
+        private final int startOffset;
+        private int endOffset;
+
+        SegmentRange(final Segment segment, final int startOffset, final int endOffset) {
+            this.segment = segment;
+            this.startOffset = startOffset;
+            this.endOffset = endOffset;
+        }
+
+        Segment getSegment() {
+            return segment;
+        }
+
+        int getStartOffset() {
+            return startOffset;
+        }
+
+        int getEndOffset() {
+            return endOffset;
+        }
+
+        void extendTo(final int endOffset) {
+            this.endOffset = endOffset;
+        }
+    }
+}
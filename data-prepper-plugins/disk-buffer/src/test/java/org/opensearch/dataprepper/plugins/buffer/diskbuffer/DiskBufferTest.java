@@ -0,0 +1,314 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DiskBufferTest {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final int TEST_WRITE_TIMEOUT = 1_00;
+    private static final int TEST_READ_TIMEOUT = 1_00;
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private DiskBufferConfig diskBufferConfig;
+
+    private PluginSetting pluginSetting;
+
+    @BeforeEach
+    void setUp() {
+        when(diskBufferConfig.getPath()).thenReturn(directory.toString());
+        when(diskBufferConfig.getSegmentSize()).thenReturn(1024);
+        when(diskBufferConfig.getMaxSegments()).thenReturn(4);
+        when(diskBufferConfig.getBatchSize()).thenReturn(3);
+        pluginSetting = new PluginSetting("disk_buffer", Collections.emptyMap());
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+    }
+
+    private DiskBuffer createObjectUnderTest() {
+        return new DiskBuffer(diskBufferConfig, pluginSetting);
+    }
+
+    @Test
+    void read_returns_records_in_write_order_with_data_and_metadata() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final Instant timeReceived = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withTimeReceived(timeReceived)
+                .withEventMetadataAttributes(Collections.singletonMap("attribute", "value"))
+                .withData(Map.of("message", "hello", "nested", Map.of("count", 42)))
+                .build();
+
+        objectUnderTest.write(new Record<>(event), TEST_WRITE_TIMEOUT);
+        objectUnderTest.writeAll(generateRecords(2), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(TEST_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(3));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(3));
+
+        final Event readEvent = readResult.getKey().iterator().next().getData();
+        assertThat(readEvent.toJsonString(), equalTo(event.toJsonString()));
+        assertThat(readEvent.getMetadata().getEventType(), equalTo("event"));
+        assertThat(readEvent.getMetadata().getTimeReceived(), equalTo(timeReceived));
+        assertThat(readEvent.getMetadata().getAttributes(), equalTo(Collections.singletonMap("attribute", "value")));
+    }
+
+    @Test
+    void read_from_empty_buffer_returns_empty_batch() {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(TEST_READ_TIMEOUT);
+
+        assertThat(readResult.getKey().size(), is(0));
+        assertThat(objectUnderTest.isEmpty(), is(true));
+    }
+
+    @Test
+    void isEmpty_is_false_until_read_records_are_checkpointed() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(generateRecords(2), TEST_WRITE_TIMEOUT);
+        assertThat(objectUnderTest.isEmpty(), is(false));
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(TEST_READ_TIMEOUT);
+        assertThat(objectUnderTest.isEmpty(), is(false));
+
+        objectUnderTest.checkpoint(readResult.getValue());
+        assertThat(objectUnderTest.isEmpty(), is(true));
+    }
+
+    @Test
+    void getFillRatio_is_the_fraction_of_segments_in_use() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.getFillRatio(), equalTo(0.0));
+
+        objectUnderTest.writeAll(generateRecords(2), TEST_WRITE_TIMEOUT);
+        assertThat(objectUnderTest.getFillRatio(), equalTo(0.25));
+    }
+
+    @Test
+    void write_times_out_when_all_segments_are_unacknowledged() throws Exception {
+        when(diskBufferConfig.getMaxSegments()).thenReturn(1);
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        fillActiveSegment(objectUnderTest);
+
+        assertThrows(TimeoutException.class, () -> objectUnderTest.write(generateRecord(), TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class, () -> objectUnderTest.writeAll(generateRecords(1), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void write_reuses_capacity_after_all_records_are_checkpointed() throws Exception {
+        when(diskBufferConfig.getMaxSegments()).thenReturn(1);
+        when(diskBufferConfig.getBatchSize()).thenReturn(100);
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        fillActiveSegment(objectUnderTest);
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(TEST_READ_TIMEOUT);
+        objectUnderTest.checkpoint(readResult.getValue());
+
+        final Record<Event> record = generateRecord();
+        objectUnderTest.write(record, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> nextReadResult = objectUnderTest.read(TEST_READ_TIMEOUT);
+        assertThat(nextReadResult.getKey().size(), is(1));
+        assertThat(nextReadResult.getKey().iterator().next().getData().toJsonString(), equalTo(record.getData().toJsonString()));
+        assertThat(listSegmentFiles().size(), is(1));
+    }
+
+    @Test
+    void writeAll_larger_than_total_capacity_throws_SizeOverflowException() {
+        when(diskBufferConfig.getMaxSegments()).thenReturn(1);
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+
+        assertThrows(SizeOverflowException.class, () -> objectUnderTest.writeAll(generateRecords(100), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void write_of_record_larger_than_a_segment_throws_SizeOverflowException() {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final Record<Event> record = new Record<>(JacksonEvent.fromMessage("a".repeat(2048)));
+
+        final RuntimeException exception = assertThrows(RuntimeException.class, () -> objectUnderTest.write(record, TEST_WRITE_TIMEOUT));
+        assertThat(exception.getCause(), instanceOf(SizeOverflowException.class));
+    }
+
+    @Test
+    void checkpoint_with_a_state_not_read_from_the_buffer_throws() {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.checkpoint(new CheckpointState(0)));
+    }
+
+    @Test
+    void checkpoint_of_a_released_segment_is_ignored() throws Exception {
+        when(diskBufferConfig.getBatchSize()).thenReturn(1000);
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        fillActiveSegment(objectUnderTest);
+        objectUnderTest.write(generateRecord(), TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(TEST_READ_TIMEOUT);
+        objectUnderTest.checkpoint(readResult.getValue());
+        assertThat(listSegmentFiles().size(), is(1));
+
+        objectUnderTest.checkpoint(readResult.getValue());
+
+        assertThat(listSegmentFiles().size(), is(1));
+    }
+
+    @Test
+    void segments_are_deleted_once_checkpointed() throws Exception {
+        when(diskBufferConfig.getBatchSize()).thenReturn(1000);
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 3; i++) {
+            fillActiveSegment(objectUnderTest);
+        }
+        objectUnderTest.write(generateRecord(), TEST_WRITE_TIMEOUT);
+        assertThat(listSegmentFiles().size(), is(4));
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(TEST_READ_TIMEOUT);
+        objectUnderTest.checkpoint(readResult.getValue());
+
+        assertThat(listSegmentFiles().size(), is(1));
+    }
+
+    @Test
+    void unacknowledged_records_are_replayed_after_restart() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final List<Record<Event>> records = generateRecords(6);
+        objectUnderTest.writeAll(records, TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> firstBatch = objectUnderTest.read(TEST_READ_TIMEOUT);
+        objectUnderTest.read(TEST_READ_TIMEOUT);
+        objectUnderTest.checkpoint(firstBatch.getValue());
+
+        final DiskBuffer restartedBuffer = createObjectUnderTest();
+        assertThat(restartedBuffer.isEmpty(), is(false));
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> replayedBatch = restartedBuffer.read(TEST_READ_TIMEOUT);
+
+        final List<String> replayedData = replayedBatch.getKey().stream()
+                .map(record -> record.getData().toJsonString())
+                .collect(Collectors.toList());
+        final List<String> expectedData = records.subList(3, 6).stream()
+                .map(record -> record.getData().toJsonString())
+                .collect(Collectors.toList());
+        assertThat(replayedData, equalTo(expectedData));
+    }
+
+    @Test
+    void out_of_order_checkpoints_are_persisted_once_contiguous() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(generateRecords(6), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> firstBatch = objectUnderTest.read(TEST_READ_TIMEOUT);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> secondBatch = objectUnderTest.read(TEST_READ_TIMEOUT);
+        objectUnderTest.checkpoint(secondBatch.getValue());
+
+        assertThat(createObjectUnderTest().read(TEST_READ_TIMEOUT).getKey().size(), is(3));
+
+        objectUnderTest.checkpoint(firstBatch.getValue());
+
+        final DiskBuffer restartedBuffer = createObjectUnderTest();
+        assertThat(restartedBuffer.isEmpty(), is(true));
+        assertThat(listSegmentFiles().size(), is(0));
+    }
+
+    @Test
+    void fully_acknowledged_segments_are_deleted_on_restart() throws Exception {
+        when(diskBufferConfig.getBatchSize()).thenReturn(1000);
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(generateRecords(2), TEST_WRITE_TIMEOUT);
+        objectUnderTest.checkpoint(objectUnderTest.read(TEST_READ_TIMEOUT).getValue());
+        assertThat(listSegmentFiles().size(), is(1));
+
+        createObjectUnderTest();
+
+        assertThat(listSegmentFiles().size(), is(0));
+    }
+
+    @Test
+    void corrupt_segments_are_skipped_and_quarantined_on_restart() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(generateRecords(2), TEST_WRITE_TIMEOUT);
+        final Path corruptSegment = directory.resolve(Segment.fileName(100));
+        Files.write(corruptSegment, new byte[64]);
+
+        final DiskBuffer restartedBuffer = createObjectUnderTest();
+
+        assertThat(restartedBuffer.read(TEST_READ_TIMEOUT).getKey().size(), is(2));
+        assertThat(Files.exists(corruptSegment), is(false));
+        assertThat(Files.exists(directory.resolve(Segment.fileName(100) + DiskBuffer.CORRUPT_SEGMENT_SUFFIX)), is(true));
+
+        restartedBuffer.writeAll(generateRecords(1), TEST_WRITE_TIMEOUT);
+        assertThat(Files.exists(directory.resolve(Segment.fileName(101))), is(true));
+    }
+
+    private void fillActiveSegment(final DiskBuffer diskBuffer) throws Exception {
+        final List<Record<Event>> records = generateRecords(1);
+        final int entrySize = Segment.entrySize(new EventSerializer().serialize(records.get(0).getData()));
+        final int recordsPerSegment = (1024 - Segment.HEADER_SIZE) / entrySize;
+        diskBuffer.writeAll(generateRecords(recordsPerSegment), TEST_WRITE_TIMEOUT);
+    }
+
+    private List<Path> listSegmentFiles() throws IOException {
+        try (final Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(Segment::isSegmentFile).collect(Collectors.toList());
+        }
+    }
+
+    private static Record<Event> generateRecord() {
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withTimeReceived(Instant.EPOCH)
+                .withData(Collections.singletonMap("message", UUID.randomUUID().toString()))
+                .build();
+        return new Record<>(event);
+    }
+
+    private static List<Record<Event>> generateRecords(final int numRecords) {
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            records.add(generateRecord());
+        }
+        return records;
+    }
+}
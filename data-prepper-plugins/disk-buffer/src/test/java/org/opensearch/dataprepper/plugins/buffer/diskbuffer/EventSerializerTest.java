@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.trace.DefaultTraceGroupFields;
+import com.amazon.dataprepper.model.trace.JacksonSpan;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventSerializerTest {
+    private static final Instant TIME_RECEIVED = Instant.ofEpochSecond(1_660_000_000L, 123_456_000);
+
+    private EventSerializer createObjectUnderTest() {
+        return new EventSerializer();
+    }
+
+    private static Event createEvent() {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withTimeReceived(TIME_RECEIVED)
+                .withEventMetadataAttributes(Collections.singletonMap("attribute", "value"))
+                .withData(Map.of("message", UUID.randomUUID().toString(), "nested", Map.of("count", 3)))
+                .build();
+    }
+
+    private static void assertEventEquals(final Event actual, final Event expected) {
+        assertThat(actual.getMetadata().getEventType(), equalTo(expected.getMetadata().getEventType()));
+        assertThat(actual.getMetadata().getTimeReceived(), equalTo(expected.getMetadata().getTimeReceived()));
+        assertThat(actual.getMetadata().getAttributes(), equalTo(expected.getMetadata().getAttributes()));
+        assertThat(actual.toMap(), equalTo(expected.toMap()));
+    }
+
+    @Test
+    void deserialize_restores_serialized_event() throws IOException {
+        final EventSerializer objectUnderTest = createObjectUnderTest();
+        final Event event = createEvent();
+
+        assertEventEquals(objectUnderTest.deserialize(objectUnderTest.serialize(event)), event);
+    }
+
+    @Test
+    void deserialize_restores_a_span_as_a_JacksonSpan() throws IOException {
+        final EventSerializer objectUnderTest = createObjectUnderTest();
+        final JacksonSpan span = JacksonSpan.builder()
+                .withTraceId("trace-id")
+                .withSpanId("span-id")
+                .withName("span")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2022-08-08T00:00:00Z")
+                .withEndTime("2022-08-08T00:00:01Z")
+                .withTraceGroup("group")
+                .withDurationInNanos(1_000_000_000L)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .withAttributes(Collections.singletonMap("service.name", "frontend"))
+                .build();
+
+        final Event deserializedEvent = objectUnderTest.deserialize(objectUnderTest.serialize(span));
+
+        assertThat(deserializedEvent, instanceOf(JacksonSpan.class));
+        assertThat(((JacksonSpan) deserializedEvent).getSpanId(), equalTo("span-id"));
+        assertThat(deserializedEvent.toJsonString(), equalTo(span.toJsonString()));
+    }
+
+    @Test
+    void serialize_writes_less_than_json() throws IOException {
+        final Event event = createEvent();
+
+        assertThat(createObjectUnderTest().serialize(event).length, lessThan(toJson(event).length));
+    }
+
+    private static byte[] toJson(final Event event) {
+        final String json = "{\"eventType\":\"event\",\"timeReceived\":1660000000.123456000," +
+                "\"attributes\":{\"attribute\":\"value\"},\"data\":" + event.toJsonString() + "}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void deserialize_throws_for_truncated_entry() throws IOException {
+        final EventSerializer objectUnderTest = createObjectUnderTest();
+        final byte[] bytes = objectUnderTest.serialize(createEvent());
+        final byte[] truncatedBytes = new byte[bytes.length / 2];
+        System.arraycopy(bytes, 0, truncatedBytes, 0, truncatedBytes.length);
+
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(truncatedBytes));
+    }
+}
@@ -10,18 +10,14 @@ import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.annotations.SingleThread;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
+import com.amazon.dataprepper.model.processor.AbstractRecordProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.stream.Collectors;
-
 @SingleThread
 @DataPrepperPlugin(name = "drop_events", pluginType = Processor.class, pluginConfigurationType = DropEventProcessorConfig.class)
-public class DropEventsProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class DropEventsProcessor extends AbstractRecordProcessor<Record<Event>> {
 
     private final DropEventsWhenCondition whenCondition;
 
@@ -40,15 +36,11 @@ public class DropEventsProcessor extends AbstractProcessor<Record<Event>, Record
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        if (whenCondition.isNotAlwaysTrue()) {
-            return records.stream()
-                    .filter(record -> whenCondition.isStatementFalseWith(record.getData()))
-                    .collect(Collectors.toList());
-        }
-        else {
-            return Collections.emptyList();
+    public Record<Event> processRecord(final Record<Event> record) {
+        if (whenCondition.isNotAlwaysTrue() && whenCondition.isStatementFalseWith(record.getData())) {
+            return record;
         }
+        return null;
     }
 
     @Override
@@ -7,10 +7,10 @@ package com.amazon.dataprepper.plugins.prepper.grok;
 
 
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
-import com.amazon.dataprepper.model.annotations.SingleThread;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.processor.AbstractRecordProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import io.micrometer.core.instrument.Counter;
@@ -32,30 +32,36 @@ import java.nio.file.Files;
 import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 
-@SingleThread
+/**
+ * Matches grok patterns on the fields of each event. A single instance is shared by the workers of the pipeline, and
+ * may process the records of a batch in parallel, as the compiled patterns are only read once constructed. Each match
+ * with a timeout runs on a thread of a pool bounded by the number of threads which may call the processor, so that
+ * matches from different threads do not wait on each other.
+ */
 @DataPrepperPlugin(name = "grok", pluginType = Processor.class)
-public class GrokPrepper extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class GrokPrepper extends AbstractRecordProcessor<Record<Event>> {
 
     private static final Logger LOG = LoggerFactory.getLogger(GrokPrepper.class);
+    private static final long TIMEOUT_THREAD_KEEP_ALIVE_SECONDS = 60;
 
     static final String GROK_PROCESSING_MATCH_SUCCESS = "grokProcessingMatchSuccess";
     static final String GROK_PROCESSING_MATCH_FAILURE = "grokProcessingMatchFailure";
@@ -70,13 +76,14 @@ public class GrokPrepper extends AbstractProcessor<Record<Event>, Record<Event>>
     private final Timer grokProcessingTime;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<EventKey, List<Grok>> fieldToGrok;
+    private final EventKey targetKey;
     private final GrokPrepperConfig grokPrepperConfig;
     private final Set<String> keysToOverwrite;
     private final ExecutorService executorService;
 
     public GrokPrepper(final PluginSetting pluginSetting) {
-        this(pluginSetting, GrokCompiler.newInstance(), Executors.newSingleThreadExecutor());
+        this(pluginSetting, GrokCompiler.newInstance(), newTimeoutExecutorService(pluginSetting.getNumberOfProcessWorkers()));
     }
 
     GrokPrepper(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final ExecutorService executorService) {
@@ -85,6 +92,7 @@ public class GrokPrepper extends AbstractProcessor<Record<Event>, Record<Event>>
         this.keysToOverwrite = new HashSet<>(grokPrepperConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
+        this.targetKey = grokPrepperConfig.getTargetKey() == null ? null : EventKey.of(grokPrepperConfig.getTargetKey());
         this.executorService = executorService;
 
         grokProcessingMatchSuccessCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH_SUCCESS);
@@ -101,44 +109,36 @@ public class GrokPrepper extends AbstractProcessor<Record<Event>, Record<Event>>
      * execute the prepper logic which could potentially modify the incoming record. The level to which the record has
      * been modified depends on the implementation
      *
-     * @param records Input records that will be modified/processed
-     * @return Record  modified output records
+     * @param record Input record that will be modified/processed
+     * @return Record  modified output record
      */
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        final List<Record<Event>> recordsOut = new LinkedList<>();
-
-        for (final Record<Event> record : records) {
-            try {
-                final Event event = record.getData();
-
-                if (grokPrepperConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+    public Record<Event> processRecord(final Record<Event> record) {
+        try {
+            final Event event = record.getData();
 
-                final Record<Event> grokkedRecord = new Record<>(event, record.getMetadata());
-                recordsOut.add(grokkedRecord);
-            } catch (TimeoutException e) {
-                LOG.error("Matching on record [{}] took longer than [{}] and timed out", record.getData(), grokPrepperConfig.getTimeoutMillis());
-                recordsOut.add(record);
-                grokProcessingTimeoutsCounter.increment();
-            } catch (ExecutionException e) {
-                LOG.error("An exception occurred while matching on record [{}]", record.getData(), e);
-                recordsOut.add(record);
-                grokProcessingErrorsCounter.increment();
-            } catch (InterruptedException e) {
-                LOG.error("Matching on record [{}] was interrupted", record.getData(), e);
-                recordsOut.add(record);
-                grokProcessingErrorsCounter.increment();
-            } catch (RuntimeException e) {
-                LOG.error("Unknown exception occurred when matching record [{}]", record.getData(), e);
-                recordsOut.add(record);
-                grokProcessingErrorsCounter.increment();
+            if (grokPrepperConfig.getTimeoutMillis() == 0) {
+                grokProcessingTime.record(() -> matchAndMerge(event));
+            } else {
+                runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
             }
-         }
-        return recordsOut;
+        } catch (TimeoutException e) {
+            LOG.error("Matching on record [{}] took longer than [{}] and timed out", record.getData(), grokPrepperConfig.getTimeoutMillis());
+            grokProcessingTimeoutsCounter.increment();
+        } catch (ExecutionException e) {
+            LOG.error("An exception occurred while matching on record [{}]", record.getData(), e);
+            grokProcessingErrorsCounter.increment();
+        } catch (InterruptedException e) {
+            LOG.error("Matching on record [{}] was interrupted", record.getData(), e);
+            grokProcessingErrorsCounter.increment();
+        } catch (RejectedExecutionException e) {
+            LOG.error("Matching on record [{}] was rejected, as every matching thread is held by a timed out match", record.getData());
+            grokProcessingErrorsCounter.increment();
+        } catch (RuntimeException e) {
+            LOG.error("Unknown exception occurred when matching record [{}]", record.getData(), e);
+            grokProcessingErrorsCounter.increment();
+        }
+        return record;
     }
 
     @Override
@@ -199,7 +199,7 @@ public class GrokPrepper extends AbstractProcessor<Record<Event>, Record<Event>>
 
     private void compileMatchPatterns() {
         for (final Map.Entry<String, List<String>> entry : grokPrepperConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            fieldToGrok.put(EventKey.of(entry.getKey()), entry.getValue()
                             .stream()
                             .map(item -> grokCompiler.compile(item, grokPrepperConfig.isNamedCapturesOnly()))
                             .collect(Collectors.toList()));
@@ -209,7 +209,7 @@ public class GrokPrepper extends AbstractProcessor<Record<Event>, Record<Event>>
     private void matchAndMerge(final Event event) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
+        for (final Map.Entry<EventKey, List<Grok>> entry : fieldToGrok.entrySet()) {
             for (final Grok grok : entry.getValue()) {
                 final String value = event.get(entry.getKey(), String.class);
                 if (value != null && !value.isEmpty()) {
@@ -229,8 +229,8 @@ public class GrokPrepper extends AbstractProcessor<Record<Event>, Record<Event>>
             }
         }
 
-        if (grokPrepperConfig.getTargetKey() != null) {
-            event.put(grokPrepperConfig.getTargetKey(), grokkedCaptures);
+        if (targetKey != null) {
+            event.put(targetKey, grokkedCaptures);
         } else {
             mergeCaptures(event, grokkedCaptures);
         }
@@ -261,21 +261,23 @@ public class GrokPrepper extends AbstractProcessor<Record<Event>, Record<Event>>
 
     private void mergeCaptures(final Event event, final Map<String, Object> updates) {
         for (final Map.Entry<String, Object> updateEntry : updates.entrySet()) {
+            // The capture names depend on the patterns which matched, so their keys are created per event
+            final EventKey key = EventKey.of(updateEntry.getKey());
 
-            if (!(event.containsKey(updateEntry.getKey())) || keysToOverwrite.contains(updateEntry.getKey())) {
-                event.put(updateEntry.getKey(), updateEntry.getValue());
+            if (!(event.containsKey(key)) || keysToOverwrite.contains(updateEntry.getKey())) {
+                event.put(key, updateEntry.getValue());
                 continue;
             }
 
-            if (event.isValueAList(updateEntry.getKey())) {
-                final List<Object> values = event.getList(updateEntry.getKey(), Object.class);
+            if (event.isValueAList(key)) {
+                final List<Object> values = event.getList(key, Object.class);
                 mergeValueWithValues(updateEntry.getValue(), values);
-                event.put(updateEntry.getKey(), values);
+                event.put(key, values);
             } else {
-                final Object fieldObject = event.get(updateEntry.getKey(), Object.class);
+                final Object fieldObject = event.get(key, Object.class);
                 final List<Object> values = new ArrayList<>(Collections.singletonList(fieldObject));
                 mergeValueWithValues(updateEntry.getValue(), values);
-                event.put(updateEntry.getKey(), values);
+                event.put(key, values);
             }
         }
     }
@@ -294,6 +296,29 @@ public class GrokPrepper extends AbstractProcessor<Record<Event>, Record<Event>>
 
     private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
         Future<?> task = executorService.submit(runnable);
-        task.get(grokPrepperConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        try {
+            task.get(grokPrepperConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the pool on which matches with a timeout run. Regular expressions cannot be interrupted, so a timed out
+     * match keeps its thread until it completes. The pool is therefore bounded, with a thread for each worker and for
+     * each thread of the pool which splits batches with parallel processing, and rejects matches once its threads and
+     * queue are held by timed out matches rather than starting new threads.
+     *
+     * @param processWorkers the number of workers of the pipeline
+     * @return the pool
+     */
+    static ExecutorService newTimeoutExecutorService(final int processWorkers) {
+        final int threads = Math.max(processWorkers, 1) + Runtime.getRuntime().availableProcessors();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                TIMEOUT_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(threads),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 }
\ No newline at end of file
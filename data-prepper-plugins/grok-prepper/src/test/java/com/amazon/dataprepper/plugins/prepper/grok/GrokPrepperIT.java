@@ -20,6 +20,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.amazon.dataprepper.plugins.prepper.grok.GrokPrepperTests.buildRecordWithEvent;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -143,6 +148,35 @@ public class GrokPrepperIT {
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
     }
 
+    @Test
+    public void testSingleMatchSinglePatternFromConcurrentThreads() throws Exception {
+        final Map<String, List<String>> matchConfig = new HashMap<>();
+        matchConfig.put("message", Collections.singletonList("%{COMMONAPACHELOG}"));
+
+        pluginSetting.getSettings().put(GrokPrepperConfig.MATCH, matchConfig);
+        pluginSetting.setProcessWorkers(8);
+        grokPrepper = new GrokPrepper(pluginSetting);
+
+        final ExecutorService callers = Executors.newFixedThreadPool(pluginSetting.getNumberOfProcessWorkers());
+        try {
+            final List<Future<Record<Event>>> grokkedRecords = IntStream.range(0, 200)
+                    .mapToObj(i -> callers.submit(() -> {
+                        final Map<String, Object> testData = new HashMap<>();
+                        testData.put("message", messageInput.replace("2326", String.valueOf(i)));
+                        return grokPrepper.processRecord(buildRecordWithEvent(testData));
+                    }))
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < grokkedRecords.size(); i++) {
+                final Event event = grokkedRecords.get(i).get().getData();
+                assertThat(event.get("clientip", String.class), equalTo("127.0.0.1"));
+                assertThat(event.get("bytes", String.class), equalTo(String.valueOf(i)));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
     @Test
     public void testSingleMatchMultiplePatternWithBreakOnMatchFalse() throws JsonProcessingException {
         final Map<String, List<String>> matchConfig = new HashMap<>();
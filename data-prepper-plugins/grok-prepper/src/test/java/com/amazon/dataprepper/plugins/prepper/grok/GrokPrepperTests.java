@@ -37,6 +37,8 @@ import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -394,6 +396,38 @@ public class GrokPrepperTests {
         assertRecordsAreEqual(grokkedRecords.get(0), record);
         verify(grokProcessingTimeoutsCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
+        verify(task).cancel(true);
+    }
+
+    @Test
+    public void testThatRejectedExecutionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        when(executorService.submit(any(Runnable.class))).thenThrow(RejectedExecutionException.class);
+
+        grokPrepper = createObjectUnderTest();
+
+        final Map<String, Object> testData = new HashMap();
+        testData.put("message", messageInput);
+        final Record<Event> record = buildRecordWithEvent(testData);
+
+        final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokPrepper.doExecute(Collections.singletonList(record));
+
+        assertThat(grokkedRecords.size(), equalTo(1));
+        assertRecordsAreEqual(grokkedRecords.get(0), record);
+        verify(grokProcessingErrorsCounter, times(1)).increment();
+        verifyNoInteractions(grokProcessingTimeoutsCounter);
+    }
+
+    @Test
+    public void testTimeoutExecutorServiceIsBoundedByTheThreadsWhichMayCallTheProcessor() {
+        final ThreadPoolExecutor executor = (ThreadPoolExecutor) GrokPrepper.newTimeoutExecutorService(4);
+        try {
+            final int threads = 4 + Runtime.getRuntime().availableProcessors();
+            assertThat(executor.getMaximumPoolSize(), equalTo(threads));
+            assertThat(executor.getQueue().remainingCapacity(), equalTo(threads));
+            assertThat(executor.allowsCoreThreadTimeOut(), equalTo(true));
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     @Test
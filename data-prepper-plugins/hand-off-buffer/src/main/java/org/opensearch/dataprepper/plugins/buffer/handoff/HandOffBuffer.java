@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.handoff;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.buffer.AbstractBuffer;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A HandOffBuffer queues whole batches rather than individual records. {@link #writeAll(Collection, int)} enqueues the
+ * given collection itself, so a writer such as a pipeline connector hands its batch to the readers of this buffer
+ * without the records being copied or queued one at a time. A read returns the oldest batch as it was written, and
+ * combines it with the following batches only while it is smaller than {@link #ATTRIBUTE_BATCH_SIZE}.
+ * <p>
+ * The buffer is bounded to {@link #ATTRIBUTE_BUFFER_SIZE} batches waiting to be read. Writers must not modify a
+ * collection after it has been written.
+ */
+@DataPrepperPlugin(name = "hand_off", pluginType = Buffer.class)
+public class HandOffBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(HandOffBuffer.class);
+    private static final int DEFAULT_BUFFER_SIZE = 16;
+    private static final int DEFAULT_BATCH_SIZE = 8;
+    private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+
+    private final BlockingQueue<Collection<T>> batches;
+    private final int batchSize;
+    private final String pipelineName;
+
+    /**
+     * Creates a HandOffBuffer holding at most bufferSize batches.
+     *
+     * @param bufferSize   the maximum number of batches waiting to be read
+     * @param batchSize    the number of records up to which small batches are combined on read
+     * @param pipelineName the name of the associated Pipeline
+     */
+    public HandOffBuffer(final int bufferSize, final int batchSize, final String pipelineName) {
+        super("HandOffBuffer", pipelineName);
+        checkArgument(bufferSize > 0, "buffer_size must be greater than 0");
+        checkArgument(batchSize > 0, "batch_size must be greater than 0");
+        this.batches = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.pipelineName = pipelineName;
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to
+     * construct an instance of {@link HandOffBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. Buffer settings `buffer_size` and `batch_size` are
+     * optional, if not present default values will be used to create the buffer.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public HandOffBuffer(final PluginSetting pluginSetting) {
+        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_SIZE, DEFAULT_BUFFER_SIZE),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getPipelineName());
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        enqueue(Collections.singletonList(record), timeoutInMillis);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        if (records.isEmpty()) {
+            return;
+        }
+        enqueue(records, timeoutInMillis);
+    }
+
+    private void enqueue(final Collection<T> batch, final int timeoutInMillis) throws TimeoutException {
+        try {
+            if (!batches.offer(batch, timeoutInMillis, TimeUnit.MILLISECONDS)) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                        pipelineName));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Interrupt received while writing to buffer", pipelineName);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        Collection<T> records;
+        try {
+            records = batches.poll(timeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(ex);
+        }
+
+        if (records == null) {
+            records = Collections.emptyList();
+        } else if (records.size() < batchSize && !batches.isEmpty()) {
+            records = combineWithFollowingBatches(records);
+        }
+        return new AbstractMap.SimpleEntry<>(records, new CheckpointState(records.size()));
+    }
+
+    private Collection<T> combineWithFollowingBatches(final Collection<T> firstBatch) {
+        final List<T> records = new ArrayList<>(firstBatch);
+        Collection<T> nextBatch;
+        while (records.size() < batchSize && (nextBatch = batches.poll()) != null) {
+            records.addAll(nextBatch);
+        }
+        return records;
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return batches.isEmpty() && getRecordsInFlight() == 0;
+    }
+
+    /**
+     * @return the fraction of the batch slots taken by batches waiting to be read
+     */
+    @Override
+    public double getFillRatio() {
+        final int waitingBatches = batches.size();
+        return (double) waitingBatches / (waitingBatches + batches.remainingCapacity());
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.handoff;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.record.Record;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HandOffBufferTest {
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final int TEST_BATCH_SIZE = 4;
+    private static final int TEST_BUFFER_SIZE = 2;
+    private static final int TEST_WRITE_TIMEOUT = 1_00;
+    private static final int TEST_BATCH_READ_TIMEOUT = 5_00;
+
+    @Test
+    void testCreationUsingPluginSetting() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_SIZE, TEST_BUFFER_SIZE);
+        settings.put(ATTRIBUTE_BATCH_SIZE, TEST_BATCH_SIZE);
+        final PluginSetting pluginSetting = new PluginSetting("hand_off", settings);
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+
+        final HandOffBuffer<Record<String>> handOffBuffer = new HandOffBuffer<>(pluginSetting);
+        assertThat(handOffBuffer, notNullValue());
+    }
+
+    @Test
+    void testCreationUsingNullPluginSetting() {
+        final NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> new HandOffBuffer<Record<String>>((PluginSetting) null));
+        assertThat(exception.getMessage(), is(equalTo("PluginSetting cannot be null")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testCreationWithInvalidBufferSize(final int bufferSize) {
+        assertThrows(IllegalArgumentException.class, () -> new HandOffBuffer<>(bufferSize, TEST_BATCH_SIZE, TEST_PIPELINE_NAME));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testCreationWithInvalidBatchSize(final int batchSize) {
+        assertThrows(IllegalArgumentException.class, () -> new HandOffBuffer<>(TEST_BUFFER_SIZE, batchSize, TEST_PIPELINE_NAME));
+    }
+
+    @Test
+    void testInsertNull() {
+        final HandOffBuffer<Record<String>> handOffBuffer = createObjectUnderTest();
+        assertThrows(NullPointerException.class, () -> handOffBuffer.write(null, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testReadReturnsTheWrittenCollection() throws Exception {
+        final HandOffBuffer<Record<String>> handOffBuffer = createObjectUnderTest();
+        final List<Record<String>> records = createRecords(TEST_BATCH_SIZE);
+
+        handOffBuffer.writeAll(records, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = handOffBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        assertThat(readResult.getKey(), sameInstance(records));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), equalTo(TEST_BATCH_SIZE));
+    }
+
+    @Test
+    void testReadCombinesSmallBatches() throws Exception {
+        final HandOffBuffer<Record<String>> handOffBuffer = createObjectUnderTest();
+        final List<Record<String>> first = createRecords(1);
+        final List<Record<String>> second = createRecords(2);
+
+        handOffBuffer.writeAll(first, TEST_WRITE_TIMEOUT);
+        handOffBuffer.writeAll(second, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = handOffBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final List<Record<String>> expected = new ArrayList<>(first);
+        expected.addAll(second);
+        assertThat(new ArrayList<>(readResult.getKey()), equalTo(expected));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), equalTo(3));
+    }
+
+    @Test
+    void testWriteQueuesSingleRecordAsBatch() throws Exception {
+        final HandOffBuffer<Record<String>> handOffBuffer = createObjectUnderTest();
+        final Record<String> record = new Record<>("data");
+
+        handOffBuffer.write(record, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = handOffBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        assertThat(new ArrayList<>(readResult.getKey()), equalTo(Collections.singletonList(record)));
+    }
+
+    @Test
+    void testWriteAllWithEmptyCollectionDoesNotConsumeCapacity() throws Exception {
+        final HandOffBuffer<Record<String>> handOffBuffer = new HandOffBuffer<>(1, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+
+        handOffBuffer.writeAll(Collections.emptyList(), TEST_WRITE_TIMEOUT);
+        handOffBuffer.writeAll(createRecords(1), TEST_WRITE_TIMEOUT);
+
+        assertThat(handOffBuffer.isEmpty(), equalTo(false));
+    }
+
+    @Test
+    void testWriteTimesOutWhenBufferIsFull() throws Exception {
+        final HandOffBuffer<Record<String>> handOffBuffer = createObjectUnderTest();
+        for (int i = 0; i < TEST_BUFFER_SIZE; i++) {
+            handOffBuffer.writeAll(createRecords(TEST_BATCH_SIZE), TEST_WRITE_TIMEOUT);
+        }
+
+        assertThrows(TimeoutException.class, () -> handOffBuffer.writeAll(createRecords(1), TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class, () -> handOffBuffer.write(new Record<>("data"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testFillRatioCoversBatchesWaitingToBeRead() throws Exception {
+        final HandOffBuffer<Record<String>> handOffBuffer = createObjectUnderTest();
+        assertThat(handOffBuffer.getFillRatio(), equalTo(0.0));
+
+        handOffBuffer.writeAll(createRecords(TEST_BATCH_SIZE), TEST_WRITE_TIMEOUT);
+        assertThat(handOffBuffer.getFillRatio(), equalTo(0.5));
+
+        handOffBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(handOffBuffer.getFillRatio(), equalTo(0.0));
+    }
+
+    @Test
+    void testReadFromEmptyBufferReturnsEmptyBatch() {
+        final HandOffBuffer<Record<String>> handOffBuffer = createObjectUnderTest();
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = handOffBuffer.read(10);
+
+        assertThat(readResult.getKey().size(), equalTo(0));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), equalTo(0));
+    }
+
+    @Test
+    void testReadThrowsWhenInterrupted() {
+        final HandOffBuffer<Record<String>> handOffBuffer = createObjectUnderTest();
+
+        Thread.currentThread().interrupt();
+        try {
+            final RuntimeException exception = assertThrows(RuntimeException.class, () -> handOffBuffer.read(10));
+            assertThat(exception.getCause(), instanceOf(InterruptedException.class));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void testWriteAllThrowsWhenInterruptedAndKeepsTheInterruptFlag() throws Exception {
+        final HandOffBuffer<Record<String>> handOffBuffer = createObjectUnderTest();
+        for (int i = 0; i < TEST_BUFFER_SIZE; i++) {
+            handOffBuffer.writeAll(createRecords(1), TEST_WRITE_TIMEOUT);
+        }
+
+        Thread.currentThread().interrupt();
+        try {
+            final RuntimeException exception = assertThrows(RuntimeException.class,
+                    () -> handOffBuffer.writeAll(createRecords(1), TEST_WRITE_TIMEOUT));
+            assertThat(exception.getCause(), instanceOf(InterruptedException.class));
+            assertThat(Thread.currentThread().isInterrupted(), equalTo(true));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void testIsEmptyOnlyAfterCheckpoint() throws Exception {
+        final HandOffBuffer<Record<String>> handOffBuffer = createObjectUnderTest();
+        assertThat(handOffBuffer.isEmpty(), equalTo(true));
+
+        handOffBuffer.writeAll(createRecords(TEST_BATCH_SIZE), TEST_WRITE_TIMEOUT);
+        assertThat(handOffBuffer.isEmpty(), equalTo(false));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = handOffBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(handOffBuffer.isEmpty(), equalTo(false));
+
+        handOffBuffer.checkpoint(readResult.getValue());
+        assertThat(handOffBuffer.isEmpty(), equalTo(true));
+    }
+
+    private HandOffBuffer<Record<String>> createObjectUnderTest() {
+        return new HandOffBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+    }
+
+    private static List<Record<String>> createRecords(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Record<>("data-" + i))
+                .collect(Collectors.toList());
+    }
+}
@@ -10,6 +10,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.BufferBackpressure;
 import com.amazon.dataprepper.model.configuration.PluginModel;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.plugin.PluginFactory;
@@ -120,7 +121,10 @@ public class HTTPSource implements Source<Record<Log>> {
             final LogThrottlingRejectHandler logThrottlingRejectHandler = new LogThrottlingRejectHandler(maxPendingRequests, pluginMetrics);
             // TODO: allow customization on URI path for log ingestion
             sb.decorator(HTTPSourceConfig.DEFAULT_LOG_INGEST_URI, ThrottlingService.newDecorator(logThrottlingStrategy, logThrottlingRejectHandler));
-            final LogHTTPService logHTTPService = new LogHTTPService(requestTimeoutInMillis, buffer, pluginMetrics);
+            final BufferBackpressure bufferBackpressure = sourceConfig.hasBufferBackpressure()
+                    ? new BufferBackpressure(buffer, sourceConfig.getBufferHighWaterMark(), sourceConfig.getBufferLowWaterMark())
+                    : BufferBackpressure.disabled();
+            final LogHTTPService logHTTPService = new LogHTTPService(requestTimeoutInMillis, buffer, bufferBackpressure, pluginMetrics);
             sb.annotatedService(HTTPSourceConfig.DEFAULT_LOG_INGEST_URI, logHTTPService);
 
             if (sourceConfig.hasHealthCheckService()) {
@@ -9,6 +9,8 @@ import com.amazon.dataprepper.model.configuration.PluginModel;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.micrometer.core.instrument.util.StringUtils;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
@@ -25,6 +27,7 @@ public class HTTPSourceConfig {
     static final int DEFAULT_MAX_CONNECTION_COUNT = 500;
     static final int DEFAULT_MAX_PENDING_REQUESTS = 1024;
     static final boolean DEFAULT_HEALTH_CHECK = false;
+    static final double DEFAULT_BUFFER_WATER_MARK_GAP = 0.1;
     static final String HEALTH_CHECK_SERVICE = "health_check_service";
     static final String UNAUTHENTICATED_HEALTH_CHECK = "unauthenticated_health_check";
     static final String S3_PREFIX = "s3://";
@@ -81,6 +84,16 @@ public class HTTPSourceConfig {
     @JsonProperty(UNAUTHENTICATED_HEALTH_CHECK)
     private boolean unauthenticatedHealthCheck = false;
 
+    @JsonProperty("buffer_high_water_mark")
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax("1.0")
+    private Double bufferHighWaterMark;
+
+    @JsonProperty("buffer_low_water_mark")
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private Double bufferLowWaterMark;
+
     private PluginModel authentication;
 
     public boolean isSslCertAndKeyFileInS3() {
@@ -126,6 +139,14 @@ public class HTTPSourceConfig {
         return true;
     }
 
+    @AssertTrue(message = "buffer_low_water_mark requires buffer_high_water_mark and cannot be greater than it")
+    boolean isBufferLowWaterMarkValid() {
+        if (bufferLowWaterMark == null) {
+            return true;
+        }
+        return bufferHighWaterMark != null && bufferLowWaterMark <= bufferHighWaterMark;
+    }
+
     public int getPort() {
         return port;
     }
@@ -189,4 +210,19 @@ public class HTTPSourceConfig {
     public boolean isUnauthenticatedHealthCheck() {
         return unauthenticatedHealthCheck;
     }
+
+    public boolean hasBufferBackpressure() {
+        return bufferHighWaterMark != null;
+    }
+
+    public Double getBufferHighWaterMark() {
+        return bufferHighWaterMark;
+    }
+
+    public Double getBufferLowWaterMark() {
+        if (bufferLowWaterMark == null && bufferHighWaterMark != null) {
+            return Math.max(0.0, bufferHighWaterMark - DEFAULT_BUFFER_WATER_MARK_GAP);
+        }
+        return bufferLowWaterMark;
+    }
 }
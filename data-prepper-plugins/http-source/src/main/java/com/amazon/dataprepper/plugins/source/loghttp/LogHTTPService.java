@@ -7,6 +7,7 @@ package com.amazon.dataprepper.plugins.source.loghttp;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.BufferBackpressure;
 import com.amazon.dataprepper.model.log.JacksonLog;
 import com.amazon.dataprepper.model.log.Log;
 import com.amazon.dataprepper.model.record.Record;
@@ -15,6 +16,7 @@ import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.server.annotation.Blocking;
 import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Counter;
@@ -36,6 +38,7 @@ public class LogHTTPService {
     public static final String SUCCESS_REQUESTS = "successRequests";
     public static final String PAYLOAD_SIZE = "payloadSize";
     public static final String REQUEST_PROCESS_DURATION = "requestProcessDuration";
+    public static final String REQUESTS_REJECTED_BY_BACKPRESSURE = "requestsRejectedByBackpressure";
 
     private static final Logger LOG = LoggerFactory.getLogger(LogHTTPService.class);
 
@@ -43,21 +46,26 @@ public class LogHTTPService {
     private final JsonCodec jsonCodec = new JsonCodec();
     private final Buffer<Record<Log>> buffer;
     private final int bufferWriteTimeoutInMillis;
+    private final BufferBackpressure bufferBackpressure;
     private final RequestExceptionHandler requestExceptionHandler;
     private final Counter requestsReceivedCounter;
     private final Counter successRequestsCounter;
+    private final Counter requestsRejectedByBackpressureCounter;
     private final DistributionSummary payloadSizeSummary;
     private final Timer requestProcessDuration;
 
     public LogHTTPService(final int bufferWriteTimeoutInMillis,
                           final Buffer<Record<Log>> buffer,
+                          final BufferBackpressure bufferBackpressure,
                           final PluginMetrics pluginMetrics) {
         this.buffer = buffer;
         this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
+        this.bufferBackpressure = bufferBackpressure;
 
         requestExceptionHandler = new RequestExceptionHandler(pluginMetrics);
         requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
         successRequestsCounter = pluginMetrics.counter(SUCCESS_REQUESTS);
+        requestsRejectedByBackpressureCounter = pluginMetrics.counter(REQUESTS_REJECTED_BY_BACKPRESSURE);
         payloadSizeSummary = pluginMetrics.summary(PAYLOAD_SIZE);
         requestProcessDuration = pluginMetrics.timer(REQUEST_PROCESS_DURATION);
     }
@@ -70,9 +78,15 @@ public class LogHTTPService {
     private HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) {
         requestsReceivedCounter.increment();
 
-        List<String> jsonList;
         final HttpData content = aggregatedHttpRequest.content();
         payloadSizeSummary.record(content.length());
+        if (bufferBackpressure.isOverloaded()) {
+            requestsRejectedByBackpressureCounter.increment();
+            return HttpResponse.of(HttpStatus.TOO_MANY_REQUESTS, MediaType.ANY_TYPE,
+                    "The buffer is above its high water mark. Please retry later");
+        }
+
+        List<byte[]> jsonList;
         try {
             jsonList = jsonCodec.parse(content);
         } catch (IOException e) {
@@ -92,10 +106,10 @@ public class LogHTTPService {
         return HttpResponse.of(HttpStatus.OK);
     }
 
-    private Record<Log> buildRecordLog(String json) {
+    private Record<Log> buildRecordLog(final byte[] json) {
 
         final JacksonLog log = JacksonLog.builder()
-                .withData(json)
+                .withJsonBytes(json)
                 .getThis()
                 .build();
 
@@ -5,33 +5,43 @@
 
 package com.amazon.dataprepper.plugins.source.loghttp.codec;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.linecorp.armeria.common.HttpData;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 /**
- * JsonCodec parses the json array format HTTP data into List&lt;{@link String}&gt;.
- * TODO: replace output List&lt;String&gt; with List&lt;InternalModel&gt; type
+ * JsonCodec parses the json array format HTTP data into the UTF-8 bytes of each of its json objects.
  * <p>
+ * The objects are only tokenized to validate them and find their bounds; they are not parsed into trees, as the
+ * events created from them parse them on first access.
  */
-public class JsonCodec implements Codec<List<String>> {
-    private static final ObjectMapper mapper = new ObjectMapper();
-    private static final TypeReference<List<Map<String, Object>>> LIST_OF_MAP_TYPE_REFERENCE =
-            new TypeReference<List<Map<String, Object>>>() {};
+public class JsonCodec implements Codec<List<byte[]>> {
+    private static final JsonFactory jsonFactory = new JsonFactory();
 
     @Override
-    public List<String> parse(HttpData httpData) throws IOException {
-        List<String> jsonList = new ArrayList<>();
-        final List<Map<String, Object>> logList = mapper.readValue(httpData.toInputStream(),
-                LIST_OF_MAP_TYPE_REFERENCE);
-        for (final Map<String, Object> log: logList) {
-            final String recordString = mapper.writeValueAsString(log);
-            jsonList.add(recordString);
+    public List<byte[]> parse(HttpData httpData) throws IOException {
+        final byte[] content = httpData.array();
+        final List<byte[]> jsonList = new ArrayList<>();
+        try (final JsonParser parser = jsonFactory.createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a json array");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected a json object");
+                }
+                final int start = (int) parser.getTokenLocation().getByteOffset();
+                parser.skipChildren();
+                final int end = (int) parser.getCurrentLocation().getByteOffset();
+                jsonList.add(Arrays.copyOfRange(content, start, end));
+            }
         }
 
         return jsonList;
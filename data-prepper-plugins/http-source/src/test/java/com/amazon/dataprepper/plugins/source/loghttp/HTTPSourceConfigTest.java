@@ -13,7 +13,9 @@ import java.util.UUID;
 
 import static com.amazon.dataprepper.plugins.source.loghttp.HTTPSourceConfig.S3_PREFIX;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
 import static org.junit.Assert.assertEquals;
 
 public class HTTPSourceConfigTest {
@@ -30,6 +32,55 @@ public class HTTPSourceConfigTest {
         assertEquals(HTTPSourceConfig.DEFAULT_MAX_PENDING_REQUESTS, sourceConfig.getMaxPendingRequests());
         assertEquals(HTTPSourceConfig.DEFAULT_USE_ACM_CERTIFICATE_FOR_SSL, sourceConfig.isUseAcmCertificateForSsl());
         assertEquals(HTTPSourceConfig.DEFAULT_ACM_CERTIFICATE_TIMEOUT_MILLIS, sourceConfig.getAcmCertificateTimeoutMillis());
+        assertThat(sourceConfig.hasBufferBackpressure(), equalTo(false));
+        assertThat(sourceConfig.getBufferHighWaterMark(), nullValue());
+        assertThat(sourceConfig.getBufferLowWaterMark(), nullValue());
+        assertThat(sourceConfig.isBufferLowWaterMarkValid(), equalTo(true));
+    }
+
+    @Nested
+    class BufferWaterMarks {
+        @Test
+        void getBufferLowWaterMark_defaults_to_below_the_high_water_mark() throws NoSuchFieldException, IllegalAccessException {
+            final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
+
+            reflectivelySetField(objectUnderTest, "bufferHighWaterMark", 0.8);
+
+            assertThat(objectUnderTest.hasBufferBackpressure(), equalTo(true));
+            assertThat(objectUnderTest.getBufferHighWaterMark(), equalTo(0.8));
+            assertThat(objectUnderTest.getBufferLowWaterMark(), closeTo(0.7, 0.0001));
+            assertThat(objectUnderTest.isBufferLowWaterMarkValid(), equalTo(true));
+        }
+
+        @Test
+        void getBufferLowWaterMark_returns_the_configured_value() throws NoSuchFieldException, IllegalAccessException {
+            final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
+
+            reflectivelySetField(objectUnderTest, "bufferHighWaterMark", 0.8);
+            reflectivelySetField(objectUnderTest, "bufferLowWaterMark", 0.5);
+
+            assertThat(objectUnderTest.getBufferLowWaterMark(), equalTo(0.5));
+            assertThat(objectUnderTest.isBufferLowWaterMarkValid(), equalTo(true));
+        }
+
+        @Test
+        void isBufferLowWaterMarkValid_should_return_false_if_low_is_above_high() throws NoSuchFieldException, IllegalAccessException {
+            final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
+
+            reflectivelySetField(objectUnderTest, "bufferHighWaterMark", 0.5);
+            reflectivelySetField(objectUnderTest, "bufferLowWaterMark", 0.8);
+
+            assertThat(objectUnderTest.isBufferLowWaterMarkValid(), equalTo(false));
+        }
+
+        @Test
+        void isBufferLowWaterMarkValid_should_return_false_without_a_high_water_mark() throws NoSuchFieldException, IllegalAccessException {
+            final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
+
+            reflectivelySetField(objectUnderTest, "bufferLowWaterMark", 0.5);
+
+            assertThat(objectUnderTest.isBufferLowWaterMarkValid(), equalTo(false));
+        }
     }
 
     @Nested
@@ -292,6 +292,43 @@ class HTTPSourceTest {
                 .whenComplete((i, ex) -> assertSecureResponseWithStatusCode(i, HttpStatus.UNAUTHORIZED)).join();
     }
 
+    @Test
+    public void testHTTPJsonResponse429WhenBufferIsAboveHighWaterMark() {
+        // Prepare
+        when(sourceConfig.hasBufferBackpressure()).thenReturn(true);
+        when(sourceConfig.getBufferHighWaterMark()).thenReturn(1.0);
+        when(sourceConfig.getBufferLowWaterMark()).thenReturn(0.0);
+        final String testData = "[{\"log\": \"somelog\"}]";
+        HTTPSourceUnderTest.start(testBuffer);
+        refreshMeasurements();
+        final WebClient webClient = WebClient.of();
+        final RequestHeaders requestHeaders = RequestHeaders.builder()
+                .scheme(SessionProtocol.HTTP)
+                .authority("127.0.0.1:2021")
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .contentType(MediaType.JSON_UTF_8)
+                .build();
+
+        // When
+        webClient.execute(requestHeaders, HttpData.ofUtf8(testData))
+                .aggregate()
+                .whenComplete((i, ex) -> assertSecureResponseWithStatusCode(i, HttpStatus.OK)).join();
+        webClient.execute(requestHeaders, HttpData.ofUtf8(testData))
+                .aggregate()
+                .whenComplete((i, ex) -> assertSecureResponseWithStatusCode(i, HttpStatus.TOO_MANY_REQUESTS)).join();
+
+        // Then
+        final Map.Entry<Collection<Record<Log>>, CheckpointState> result = testBuffer.read(100);
+        Assertions.assertEquals(1, result.getKey().size());
+        final Measurement requestReceivedCount = MetricsTestUtil.getMeasurementFromList(
+                requestsReceivedMeasurements, Statistic.COUNT);
+        Assertions.assertEquals(2.0, requestReceivedCount.getValue());
+        final Measurement successRequestsCount = MetricsTestUtil.getMeasurementFromList(
+                successRequestsMeasurements, Statistic.COUNT);
+        Assertions.assertEquals(1.0, successRequestsCount.getValue());
+    }
+
     @Test
     public void testHTTPJsonResponse400() {
         // Prepare
@@ -7,6 +7,7 @@ package com.amazon.dataprepper.plugins.source.loghttp;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.BufferBackpressure;
 import com.amazon.dataprepper.model.log.Log;
 import com.amazon.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
@@ -74,6 +75,12 @@ class LogHTTPServiceTest {
     @Mock
     private Counter internalServerErrorCounter;
 
+    @Mock
+    private Counter requestsRejectedByBackpressureCounter;
+
+    @Mock
+    private BufferBackpressure bufferBackpressure;
+
     @Mock
     private DistributionSummary payloadSizeSummary;
 
@@ -90,6 +97,7 @@ class LogHTTPServiceTest {
         when(pluginMetrics.counter(RequestExceptionHandler.BAD_REQUESTS)).thenReturn(badRequestsCounter);
         when(pluginMetrics.counter(RequestExceptionHandler.REQUESTS_TOO_LARGE)).thenReturn(requestsTooLargeCounter);
         when(pluginMetrics.counter(RequestExceptionHandler.INTERNAL_SERVER_ERROR)).thenReturn(internalServerErrorCounter);
+        when(pluginMetrics.counter(LogHTTPService.REQUESTS_REJECTED_BY_BACKPRESSURE)).thenReturn(requestsRejectedByBackpressureCounter);
         when(pluginMetrics.summary(LogHTTPService.PAYLOAD_SIZE)).thenReturn(payloadSizeSummary);
         when(pluginMetrics.timer(LogHTTPService.REQUEST_PROCESS_DURATION)).thenReturn(requestProcessDuration);
         when(requestProcessDuration.record(ArgumentMatchers.<Supplier<HttpResponse>>any())).thenAnswer(
@@ -102,7 +110,24 @@ class LogHTTPServiceTest {
         );
 
         Buffer<Record<Log>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
-        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, blockingBuffer, pluginMetrics);
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, blockingBuffer, bufferBackpressure, pluginMetrics);
+    }
+
+    @Test
+    public void testHTTPRequestRejectedWhenBufferIsOverloaded() throws InterruptedException, ExecutionException, JsonProcessingException {
+        // Prepare
+        when(bufferBackpressure.isOverloaded()).thenReturn(true);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(2);
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, postResponse.status());
+        verify(requestsReceivedCounter, times(1)).increment();
+        verify(requestsRejectedByBackpressureCounter, times(1)).increment();
+        verify(successRequestsCounter, never()).increment();
+        verify(requestTimeoutsCounter, never()).increment();
     }
 
     @Test
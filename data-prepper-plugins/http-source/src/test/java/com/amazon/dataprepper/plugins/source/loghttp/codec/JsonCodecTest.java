@@ -9,6 +9,7 @@ import com.linecorp.armeria.common.HttpData;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -19,16 +20,19 @@ class JsonCodecTest {
     private final HttpData badTestDataJsonLine = HttpData.ofUtf8("{\"a\":\"b\"}");
     private final HttpData badTestDataMultiJsonLines = HttpData.ofUtf8("{\"a\":\"b\"}{\"c\":\"d\"}");
     private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
+    private final HttpData badTestDataArrayOfStrings = HttpData.ofUtf8("[\"a\", \"b\"]");
+    private final HttpData badTestDataUnterminatedArray = HttpData.ofUtf8("[{\"a\":\"b\"}");
     private final JsonCodec objectUnderTest = new JsonCodec();
 
     @Test
     public void testParseSuccess() throws IOException {
         // When
-        List<String> res = objectUnderTest.parse(goodTestData);
+        List<byte[]> res = objectUnderTest.parse(goodTestData);
 
         // Then
         assertEquals(2, res.size());
-        assertEquals("{\"a\":\"b\"}", res.get(0));
+        assertEquals("{\"a\":\"b\"}", new String(res.get(0), StandardCharsets.UTF_8));
+        assertEquals("{\"c\":\"d\"}", new String(res.get(1), StandardCharsets.UTF_8));
     }
 
     @Test
@@ -41,6 +45,25 @@ class JsonCodecTest {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataMultiJsonLines));
     }
 
+    @Test
+    public void testParseNestedObjectsSuccess() throws IOException {
+        final String nestedJson = "{\"a\": {\"b\": [1, {\"c\": \"d\"}]}}";
+        final List<byte[]> res = objectUnderTest.parse(HttpData.ofUtf8("[" + nestedJson + "]"));
+
+        assertEquals(1, res.size());
+        assertEquals(nestedJson, new String(res.get(0), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testParseArrayOfNonObjectsFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataArrayOfStrings));
+    }
+
+    @Test
+    public void testParseUnterminatedArrayFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataUnterminatedArray));
+    }
+
     @Test
     public void testParseNonJsonFailure() {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
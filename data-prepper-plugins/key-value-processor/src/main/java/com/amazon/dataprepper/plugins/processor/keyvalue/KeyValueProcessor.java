@@ -9,13 +9,13 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.processor.AbstractRecordProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -25,10 +25,12 @@ import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 @DataPrepperPlugin(name = "key_value", pluginType = Processor.class, pluginConfigurationType = KeyValueProcessorConfig.class)
-public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class KeyValueProcessor extends AbstractRecordProcessor<Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(KeyValueProcessor.class);
 
     private final KeyValueProcessorConfig keyValueProcessorConfig;
+    private final EventKey source;
+    private final EventKey destination;
 
     private final Pattern fieldDelimiterPattern;
     private final Pattern keyValueDelimiterPattern;
@@ -37,6 +39,8 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
     public KeyValueProcessor(final PluginMetrics pluginMetrics, final KeyValueProcessorConfig keyValueProcessorConfig) {
         super(pluginMetrics);
         this.keyValueProcessorConfig = keyValueProcessorConfig;
+        this.source = EventKey.of(keyValueProcessorConfig.getSource());
+        this.destination = EventKey.of(keyValueProcessorConfig.getDestination());
 
         if(keyValueProcessorConfig.getFieldDelimiterRegex() != null
                 && !keyValueProcessorConfig.getFieldDelimiterRegex().isEmpty()) {
@@ -119,44 +123,42 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Map<String, Object> parsedMap = new HashMap<>();
-            final Event recordEvent = record.getData();
-
-            final String groupsRaw = recordEvent.get(keyValueProcessorConfig.getSource(), String.class);
-            final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
-            for(final String group : groups) {
-                final String[] terms = keyValueDelimiterPattern.split(group, 2);
-                String key = terms[0];
-                Object value;
-
-                if(keyValueProcessorConfig.getDeleteKeyRegex() != null && !Objects.equals(keyValueProcessorConfig.getDeleteKeyRegex(), "")) {
-                    key = key.replaceAll(keyValueProcessorConfig.getDeleteKeyRegex(), "");
-                }
-                key = keyValueProcessorConfig.getPrefix() + key;
-
-                if (terms.length == 2) {
-                    value = terms[1];
-                } else {
-                    LOG.debug(String.format("Unsuccessful match: '%s'", terms[0]));
-                    value = keyValueProcessorConfig.getNonMatchValue();
-                }
-
-                if(value != null
-                        && value instanceof String
-                        && keyValueProcessorConfig.getDeleteValueRegex() != null
-                        && !Objects.equals(keyValueProcessorConfig.getDeleteValueRegex(), "")) {
-                    value = ((String)value).replaceAll(keyValueProcessorConfig.getDeleteValueRegex(), "");
-                }
-
-                addKeyValueToMap(parsedMap, key, value);
+    public Record<Event> processRecord(final Record<Event> record) {
+        final Map<String, Object> parsedMap = new HashMap<>();
+        final Event recordEvent = record.getData();
+
+        final String groupsRaw = recordEvent.get(source, String.class);
+        final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
+        for(final String group : groups) {
+            final String[] terms = keyValueDelimiterPattern.split(group, 2);
+            String key = terms[0];
+            Object value;
+
+            if(keyValueProcessorConfig.getDeleteKeyRegex() != null && !Objects.equals(keyValueProcessorConfig.getDeleteKeyRegex(), "")) {
+                key = key.replaceAll(keyValueProcessorConfig.getDeleteKeyRegex(), "");
             }
+            key = keyValueProcessorConfig.getPrefix() + key;
 
-            recordEvent.put(keyValueProcessorConfig.getDestination(), parsedMap);
+            if (terms.length == 2) {
+                value = terms[1];
+            } else {
+                LOG.debug(String.format("Unsuccessful match: '%s'", terms[0]));
+                value = keyValueProcessorConfig.getNonMatchValue();
+            }
+
+            if(value != null
+                    && value instanceof String
+                    && keyValueProcessorConfig.getDeleteValueRegex() != null
+                    && !Objects.equals(keyValueProcessorConfig.getDeleteValueRegex(), "")) {
+                value = ((String)value).replaceAll(keyValueProcessorConfig.getDeleteValueRegex(), "");
+            }
+
+            addKeyValueToMap(parsedMap, key, value);
         }
 
-        return records;
+        recordEvent.put(destination, parsedMap);
+
+        return record;
     }
 
     private void addKeyValueToMap(final Map<String, Object> parsedMap, final String key, final Object value) {
@@ -9,36 +9,39 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.processor.AbstractRecordProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 
-import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @DataPrepperPlugin(name = "add_entries", pluginType = Processor.class, pluginConfigurationType = AddEntryProcessorConfig.class)
-public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class AddEntryProcessor extends AbstractRecordProcessor<Record<Event>> {
     private final List<AddEntryProcessorConfig.Entry> entries;
+    private final List<EventKey> keys;
 
     @DataPrepperPluginConstructor
     public AddEntryProcessor(final PluginMetrics pluginMetrics, final AddEntryProcessorConfig config) {
         super(pluginMetrics);
         this.entries = config.getEntries();
+        this.keys = entries.stream().map(entry -> EventKey.of(entry.getKey())).collect(Collectors.toList());
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-
-            for(AddEntryProcessorConfig.Entry entry : entries) {
-                if (!recordEvent.containsKey(entry.getKey()) || entry.getOverwriteIfKeyExists()) {
-                    recordEvent.put(entry.getKey(), entry.getValue());
-                }
+    public Record<Event> processRecord(final Record<Event> record) {
+        final Event recordEvent = record.getData();
+
+        for(int i = 0; i < entries.size(); i++) {
+            final AddEntryProcessorConfig.Entry entry = entries.get(i);
+            final EventKey key = keys.get(i);
+            if (!recordEvent.containsKey(key) || entry.getOverwriteIfKeyExists()) {
+                recordEvent.put(key, entry.getValue());
             }
         }
 
-        return records;
+        return record;
     }
 
     @Override
@@ -9,33 +9,32 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.processor.AbstractRecordProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 
-import java.util.Collection;
+import java.util.Arrays;
 
 @DataPrepperPlugin(name = "delete_entries", pluginType = Processor.class, pluginConfigurationType = DeleteEntryProcessorConfig.class)
-public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    private final String[] entries;
+public class DeleteEntryProcessor extends AbstractRecordProcessor<Record<Event>> {
+    private final EventKey[] entries;
 
     @DataPrepperPluginConstructor
     public DeleteEntryProcessor(final PluginMetrics pluginMetrics, final DeleteEntryProcessorConfig config) {
         super(pluginMetrics);
-        this.entries = config.getWithKeys();
+        this.entries = Arrays.stream(config.getWithKeys()).map(EventKey::of).toArray(EventKey[]::new);
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
+    public Record<Event> processRecord(final Record<Event> record) {
+        final Event recordEvent = record.getData();
 
-            for(String entry : entries) {
-                recordEvent.delete(entry);
-            }
+        for(EventKey entry : entries) {
+            recordEvent.delete(entry);
         }
 
-        return records;
+        return record;
     }
 
     @Override
@@ -9,42 +9,47 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.processor.AbstractRecordProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 
-import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @DataPrepperPlugin(name = "rename_keys", pluginType = Processor.class, pluginConfigurationType = RenameKeyProcessorConfig.class)
-public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class RenameKeyProcessor extends AbstractRecordProcessor<Record<Event>> {
     private final List<RenameKeyProcessorConfig.Entry> entries;
+    private final List<EventKey> fromKeys;
+    private final List<EventKey> toKeys;
 
     @DataPrepperPluginConstructor
     public RenameKeyProcessor(final PluginMetrics pluginMetrics, final RenameKeyProcessorConfig config) {
         super(pluginMetrics);
         this.entries = config.getEntries();
+        this.fromKeys = entries.stream().map(entry -> EventKey.of(entry.getFromKey())).collect(Collectors.toList());
+        this.toKeys = entries.stream().map(entry -> EventKey.of(entry.getToKey())).collect(Collectors.toList());
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-
-            for(RenameKeyProcessorConfig.Entry entry : entries) {
-                if(entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
-                    continue;
-                }
-
-                if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
-                    final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                    recordEvent.put(entry.getToKey(), source);
-                    recordEvent.delete(entry.getFromKey());
-                }
+    public Record<Event> processRecord(final Record<Event> record) {
+        final Event recordEvent = record.getData();
+
+        for(int i = 0; i < entries.size(); i++) {
+            final EventKey fromKey = fromKeys.get(i);
+            final EventKey toKey = toKeys.get(i);
+            if(fromKey.equals(toKey) || !recordEvent.containsKey(fromKey)) {
+                continue;
+            }
+
+            if (!recordEvent.containsKey(toKey) || entries.get(i).getOverwriteIfToKeyExists()) {
+                final Object source = recordEvent.get(fromKey, Object.class);
+                recordEvent.put(toKey, source);
+                recordEvent.delete(fromKey);
             }
         }
 
-        return records;
+        return record;
     }
 
     @Override
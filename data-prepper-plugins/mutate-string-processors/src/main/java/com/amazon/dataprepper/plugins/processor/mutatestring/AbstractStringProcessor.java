@@ -8,47 +8,49 @@ package com.amazon.dataprepper.plugins.processor.mutatestring;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
-import com.amazon.dataprepper.model.processor.AbstractProcessor;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.processor.AbstractRecordProcessor;
 import com.amazon.dataprepper.model.record.Record;
 
-import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
-public abstract class AbstractStringProcessor<T> extends AbstractProcessor<Record<Event>, Record<Event>> {
-    private List<T> entries;
+public abstract class AbstractStringProcessor<T> extends AbstractRecordProcessor<Record<Event>> {
+    private final List<T> entries;
+    private final List<EventKey> keys;
 
     @DataPrepperPluginConstructor
     public AbstractStringProcessor(final PluginMetrics pluginMetrics, final StringProcessorConfig<T> config) {
         super(pluginMetrics);
         this.entries = config.getIterativeConfig();
+        this.keys = entries.stream().map(entry -> EventKey.of(getKey(entry))).collect(Collectors.toList());
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-            performStringAction(recordEvent);
-        }
+    public Record<Event> processRecord(final Record<Event> record) {
+        final Event recordEvent = record.getData();
+        performStringAction(recordEvent);
 
-        return records;
+        return record;
     }
 
     private void performStringAction(final Event recordEvent)
     {
-        for(T entry : entries) {
-            final String key = getKey(entry);
+        for(int i = 0; i < entries.size(); i++) {
+            final T entry = entries.get(i);
+            final EventKey key = keys.get(i);
 
             if(recordEvent.containsKey(key)) {
                 final Object value = recordEvent.get(key, Object.class);
 
                 if(value instanceof String) {
-                    performKeyAction(recordEvent, entry, (String) value);
+                    performKeyAction(recordEvent, entry, key, (String) value);
                 }
             }
         }
     }
 
-    protected abstract void performKeyAction(final Event recordEvent, final T entry, final String value);
+    protected abstract void performKeyAction(final Event recordEvent, final T entry, final EventKey key, final String value);
 
     protected abstract String getKey(final T entry);
 
@@ -9,6 +9,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.processor.Processor;
 
 import java.util.HashMap;
@@ -42,7 +43,7 @@ public class SplitStringProcessor extends AbstractStringProcessor<SplitStringPro
     }
 
     @Override
-    protected void performKeyAction(final Event recordEvent, final SplitStringProcessorConfig.Entry entry, final String value) {
+    protected void performKeyAction(final Event recordEvent, final SplitStringProcessorConfig.Entry entry, final EventKey key, final String value) {
         final String lookup;
         if(entry.getDelimiterRegex() != null && !entry.getDelimiterRegex().isEmpty()) {
             lookup = entry.getDelimiterRegex();
@@ -52,7 +53,7 @@ public class SplitStringProcessor extends AbstractStringProcessor<SplitStringPro
 
         final Pattern pattern = patternMap.get(lookup);
         final String[] splitValue = pattern.split(value);
-        recordEvent.put(entry.getSource(), splitValue);
+        recordEvent.put(key, splitValue);
     }
 
     @Override
@@ -9,6 +9,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.processor.Processor;
 
 import java.util.HashMap;
@@ -34,12 +35,12 @@ public class SubstituteStringProcessor extends AbstractStringProcessor<Substitut
     }
 
     @Override
-    protected void performKeyAction(final Event recordEvent, final SubstituteStringProcessorConfig.Entry entry, final String value)
+    protected void performKeyAction(final Event recordEvent, final SubstituteStringProcessorConfig.Entry entry, final EventKey key, final String value)
     {
         final Pattern pattern = patternMap.get(entry.getFrom());
         final Matcher matcher = pattern.matcher(value);
         final String newValue = matcher.replaceAll(entry.getTo());
-        recordEvent.put(entry.getSource(), newValue);
+        recordEvent.put(key, newValue);
     }
 
     @Override
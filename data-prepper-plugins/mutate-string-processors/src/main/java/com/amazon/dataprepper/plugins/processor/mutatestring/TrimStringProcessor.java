@@ -9,6 +9,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.processor.Processor;
 
 /**
@@ -23,7 +24,7 @@ public class TrimStringProcessor extends AbstractStringProcessor<String> {
     }
 
     @Override
-    protected void performKeyAction(final Event recordEvent, final String key, final String value)
+    protected void performKeyAction(final Event recordEvent, final String entry, final EventKey key, final String value)
     {
         recordEvent.put(key, value.trim());
     }
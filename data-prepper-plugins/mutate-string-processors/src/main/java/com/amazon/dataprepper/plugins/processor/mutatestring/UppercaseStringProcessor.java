@@ -9,6 +9,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.processor.Processor;
 import java.util.Locale;
 
@@ -29,8 +30,8 @@ public class UppercaseStringProcessor extends AbstractStringProcessor<String> {
     }
 
     @Override
-    protected void performKeyAction(final Event recordEvent, final String entry, final String value)
+    protected void performKeyAction(final Event recordEvent, final String entry, final EventKey key, final String value)
     {
-        recordEvent.put(entry, value.toUpperCase(Locale.ROOT));
+        recordEvent.put(key, value.toUpperCase(Locale.ROOT));
     }
 }
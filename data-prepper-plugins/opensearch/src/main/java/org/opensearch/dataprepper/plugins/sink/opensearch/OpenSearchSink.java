@@ -196,7 +196,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   }
 
   private SerializedJson getDocument(final Event event) {
-    return SerializedJson.fromString(event.toJsonString());
+    return SerializedJson.fromBytes(event.toJsonBytes());
   }
 
   private void flushBatch(AccumulatingBulkRequest accumulatingBulkRequest) {
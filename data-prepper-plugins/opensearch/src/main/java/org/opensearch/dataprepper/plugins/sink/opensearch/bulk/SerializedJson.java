@@ -25,4 +25,15 @@ public interface SerializedJson extends SizedDocument {
         Objects.requireNonNull(jsonString);
         return new SerializedJsonImpl(jsonString.getBytes(StandardCharsets.UTF_8));
     }
+
+    /**
+     * Creates a new {@link SerializedJson} from JSON encoded in UTF-8, without copying it.
+     *
+     * @param jsonBytes The serialized JSON bytes which form this JSON data.
+     * @return A new {@link SerializedJson}.
+     */
+    static SerializedJson fromBytes(byte[] jsonBytes) {
+        Objects.requireNonNull(jsonBytes);
+        return new SerializedJsonImpl(jsonBytes);
+    }
 }
@@ -7,7 +7,10 @@ package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -21,4 +24,17 @@ class SerializedJsonTest {
     void fromString_throws_if_the_jsonString_is_null() {
         assertThrows(NullPointerException.class, () -> SerializedJson.fromString(null));
     }
+
+    @Test
+    void fromBytes_returns_SerializedJsonImpl_with_the_bytes() {
+        final byte[] jsonBytes = "{}".getBytes(StandardCharsets.UTF_8);
+        final SerializedJson serializedJson = SerializedJson.fromBytes(jsonBytes);
+        assertThat(serializedJson, instanceOf(SerializedJsonImpl.class));
+        assertThat(serializedJson.getSerializedJson(), sameInstance(jsonBytes));
+    }
+
+    @Test
+    void fromBytes_throws_if_the_jsonBytes_is_null() {
+        assertThrows(NullPointerException.class, () -> SerializedJson.fromBytes(null));
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ package com.amazon.dataprepper.plugins.source.otelmetrics;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.BufferBackpressure;
 import com.amazon.dataprepper.model.record.Record;
 import io.grpc.Context;
 import io.grpc.Status;
@@ -26,22 +27,28 @@ public class OTelMetricsGrpcService extends MetricsServiceGrpc.MetricsServiceImp
 
     public static final String REQUEST_TIMEOUTS = "requestTimeouts";
     public static final String REQUESTS_RECEIVED = "requestsReceived";
+    public static final String REQUESTS_REJECTED_BY_BACKPRESSURE = "requestsRejectedByBackpressure";
 
     private final int bufferWriteTimeoutInMillis;
     private final Buffer<Record<ExportMetricsServiceRequest>> buffer;
+    private final BufferBackpressure bufferBackpressure;
 
     private final Counter requestTimeoutCounter;
     private final Counter requestsReceivedCounter;
+    private final Counter requestsRejectedByBackpressureCounter;
 
 
     public OTelMetricsGrpcService(int bufferWriteTimeoutInMillis,
                                   Buffer<Record<ExportMetricsServiceRequest>> buffer,
+                                  final BufferBackpressure bufferBackpressure,
                                   final PluginMetrics pluginMetrics) {
         this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
         this.buffer = buffer;
+        this.bufferBackpressure = bufferBackpressure;
 
         requestTimeoutCounter = pluginMetrics.counter(REQUEST_TIMEOUTS);
         requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
+        requestsRejectedByBackpressureCounter = pluginMetrics.counter(REQUESTS_REJECTED_BY_BACKPRESSURE);
     }
 
 
@@ -55,6 +62,14 @@ public class OTelMetricsGrpcService extends MetricsServiceGrpc.MetricsServiceImp
             return;
         }
 
+        if (bufferBackpressure.isOverloaded()) {
+            requestsRejectedByBackpressureCounter.increment();
+            responseObserver.onError(Status.RESOURCE_EXHAUSTED
+                    .withDescription("The buffer is above its high water mark. Please retry later")
+                    .asException());
+            return;
+        }
+
         try {
             buffer.write(new Record<>(request), bufferWriteTimeoutInMillis);
             responseObserver.onNext(ExportMetricsServiceResponse.newBuilder().build());
@@ -10,6 +10,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.BufferBackpressure;
 import com.amazon.dataprepper.model.configuration.PluginModel;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.plugin.PluginFactory;
@@ -56,6 +57,7 @@ public class OTelMetricsSource implements Source<Record<ExportMetricsServiceRequ
     @DataPrepperPluginConstructor
     public OTelMetricsSource(final OTelMetricsSourceConfig oTelMetricsSourceConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory) {
         oTelMetricsSourceConfig.validateAndInitializeCertAndKeyFileInS3();
+        oTelMetricsSourceConfig.validateBufferWaterMarks();
         this.oTelMetricsSourceConfig = oTelMetricsSourceConfig;
         this.pluginMetrics = pluginMetrics;
         this.certificateProviderFactory = new CertificateProviderFactory(oTelMetricsSourceConfig);
@@ -65,6 +67,7 @@ public class OTelMetricsSource implements Source<Record<ExportMetricsServiceRequ
     // accessible only in the same package for unit test
     OTelMetricsSource(final OTelMetricsSourceConfig oTelMetricsSourceConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final CertificateProviderFactory certificateProviderFactory) {
         oTelMetricsSourceConfig.validateAndInitializeCertAndKeyFileInS3();
+        oTelMetricsSourceConfig.validateBufferWaterMarks();
         this.oTelMetricsSourceConfig = oTelMetricsSourceConfig;
         this.pluginMetrics = pluginMetrics;
         this.certificateProviderFactory = certificateProviderFactory;
@@ -79,9 +82,13 @@ public class OTelMetricsSource implements Source<Record<ExportMetricsServiceRequ
 
         if (server == null) {
 
+            final BufferBackpressure bufferBackpressure = oTelMetricsSourceConfig.hasBufferBackpressure()
+                    ? new BufferBackpressure(buffer, oTelMetricsSourceConfig.getBufferHighWaterMark(), oTelMetricsSourceConfig.getBufferLowWaterMark())
+                    : BufferBackpressure.disabled();
             final OTelMetricsGrpcService oTelMetricsGrpcService = new OTelMetricsGrpcService(
                     oTelMetricsSourceConfig.getRequestTimeoutInMillis(),
                     buffer,
+                    bufferBackpressure,
                     pluginMetrics
             );
 
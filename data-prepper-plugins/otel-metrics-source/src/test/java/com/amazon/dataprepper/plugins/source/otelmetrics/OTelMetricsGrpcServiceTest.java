@@ -7,8 +7,11 @@ package com.amazon.dataprepper.plugins.source.otelmetrics;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.BufferBackpressure;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.record.Record;
+import io.grpc.Status;
+import io.grpc.StatusException;
 import io.grpc.stub.StreamObserver;
 import io.micrometer.core.instrument.Counter;
 import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
@@ -56,10 +59,17 @@ public class OTelMetricsGrpcServiceTest {
     StreamObserver responseObserver;
     @Mock
     Buffer buffer;
+    @Mock
+    BufferBackpressure bufferBackpressure;
+    @Mock
+    Counter requestsRejectedByBackpressureCounter;
 
     @Captor
     ArgumentCaptor<Record> recordCaptor;
 
+    @Captor
+    ArgumentCaptor<StatusException> statusExceptionArgumentCaptor;
+
     private OTelMetricsGrpcService sut;
 
     @BeforeEach
@@ -71,8 +81,9 @@ public class OTelMetricsGrpcServiceTest {
 
         when(mockPluginMetrics.counter(OTelMetricsGrpcService.REQUESTS_RECEIVED)).thenReturn(requestsReceivedCounter);
         when(mockPluginMetrics.counter(OTelMetricsGrpcService.REQUEST_TIMEOUTS)).thenReturn(timeoutCounter);
+        when(mockPluginMetrics.counter(OTelMetricsGrpcService.REQUESTS_REJECTED_BY_BACKPRESSURE)).thenReturn(requestsRejectedByBackpressureCounter);
 
-        sut = new OTelMetricsGrpcService(bufferWriteTimeoutInMillis, buffer, mockPluginMetrics);
+        sut = new OTelMetricsGrpcService(bufferWriteTimeoutInMillis, buffer, bufferBackpressure, mockPluginMetrics);
     }
 
     @Test
@@ -101,4 +112,20 @@ public class OTelMetricsGrpcServiceTest {
         verify(timeoutCounter, times(1)).increment();
         verify(requestsReceivedCounter, times(1)).increment();
     }
+
+    @Test
+    public void export_BufferOverloaded_responseObserverOnError() {
+        when(bufferBackpressure.isOverloaded()).thenReturn(true);
+
+        sut.export(METRICS_REQUEST, responseObserver);
+
+        verifyNoInteractions(buffer);
+        verify(responseObserver, times(0)).onNext(any());
+        verify(responseObserver, times(0)).onCompleted();
+        verify(responseObserver, times(1)).onError(statusExceptionArgumentCaptor.capture());
+        verify(requestsReceivedCounter, times(1)).increment();
+        verify(requestsRejectedByBackpressureCounter, times(1)).increment();
+        verifyNoInteractions(timeoutCounter);
+        assertEquals(Status.RESOURCE_EXHAUSTED.getCode(), statusExceptionArgumentCaptor.getValue().getStatus().getCode());
+    }
 }
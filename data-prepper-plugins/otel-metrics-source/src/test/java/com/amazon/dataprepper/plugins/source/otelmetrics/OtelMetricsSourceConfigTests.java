@@ -222,6 +222,64 @@ public class OtelMetricsSourceConfigTests {
         assertThrows(IllegalArgumentException.class, otelMetricsSourceConfig::validateAndInitializeCertAndKeyFileInS3);
     }
 
+    @Test
+    public void testBufferWaterMarksDefaultToDisabled() {
+        // Prepare
+        final OTelMetricsSourceConfig otelMetricsSourceConfig = new OTelMetricsSourceConfig();
+
+        // When/Then
+        otelMetricsSourceConfig.validateBufferWaterMarks();
+        assertFalse(otelMetricsSourceConfig.hasBufferBackpressure());
+        assertNull(otelMetricsSourceConfig.getBufferHighWaterMark());
+        assertNull(otelMetricsSourceConfig.getBufferLowWaterMark());
+    }
+
+    @Test
+    public void testBufferLowWaterMarkDefaultsToBelowHighWaterMark() {
+        // Prepare
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(OTelMetricsSourceConfig.BUFFER_HIGH_WATER_MARK, 0.8);
+
+        final OTelMetricsSourceConfig otelMetricsSourceConfig = OBJECT_MAPPER.convertValue(settings, OTelMetricsSourceConfig.class);
+
+        // When/Then
+        otelMetricsSourceConfig.validateBufferWaterMarks();
+        assertTrue(otelMetricsSourceConfig.hasBufferBackpressure());
+        assertEquals(0.8, otelMetricsSourceConfig.getBufferHighWaterMark(), 0.0001);
+        assertEquals(0.7, otelMetricsSourceConfig.getBufferLowWaterMark(), 0.0001);
+    }
+
+    @Test
+    public void testBufferWaterMarksAreConfigurable() {
+        // Prepare
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(OTelMetricsSourceConfig.BUFFER_HIGH_WATER_MARK, 0.9);
+        settings.put(OTelMetricsSourceConfig.BUFFER_LOW_WATER_MARK, 0.5);
+
+        final OTelMetricsSourceConfig otelMetricsSourceConfig = OBJECT_MAPPER.convertValue(settings, OTelMetricsSourceConfig.class);
+
+        // When/Then
+        otelMetricsSourceConfig.validateBufferWaterMarks();
+        assertEquals(0.9, otelMetricsSourceConfig.getBufferHighWaterMark(), 0.0001);
+        assertEquals(0.5, otelMetricsSourceConfig.getBufferLowWaterMark(), 0.0001);
+    }
+
+    @Test
+    public void testInvalidBufferWaterMarks() {
+        final Map<String, Object> highAboveOne = new HashMap<>();
+        highAboveOne.put(OTelMetricsSourceConfig.BUFFER_HIGH_WATER_MARK, 1.5);
+        final Map<String, Object> lowWithoutHigh = new HashMap<>();
+        lowWithoutHigh.put(OTelMetricsSourceConfig.BUFFER_LOW_WATER_MARK, 0.5);
+        final Map<String, Object> lowAboveHigh = new HashMap<>();
+        lowAboveHigh.put(OTelMetricsSourceConfig.BUFFER_HIGH_WATER_MARK, 0.5);
+        lowAboveHigh.put(OTelMetricsSourceConfig.BUFFER_LOW_WATER_MARK, 0.8);
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, OBJECT_MAPPER.convertValue(highAboveOne, OTelMetricsSourceConfig.class)::validateBufferWaterMarks);
+        assertThrows(IllegalArgumentException.class, OBJECT_MAPPER.convertValue(lowWithoutHigh, OTelMetricsSourceConfig.class)::validateBufferWaterMarks);
+        assertThrows(IllegalArgumentException.class, OBJECT_MAPPER.convertValue(lowAboveHigh, OTelMetricsSourceConfig.class)::validateBufferWaterMarks);
+    }
+
     private PluginSetting completePluginSettingForOtelMetricsSource(final int requestTimeoutInMillis,
                                                                     final int port,
                                                                     final boolean healthCheck,
@@ -7,6 +7,7 @@ package com.amazon.dataprepper.plugins.source.oteltrace;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.BufferBackpressure;
 import com.amazon.dataprepper.model.buffer.SizeOverflowException;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.trace.Span;
@@ -33,6 +34,7 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
 
     public static final String REQUEST_TIMEOUTS = "requestTimeouts";
     public static final String REQUESTS_RECEIVED = "requestsReceived";
+    public static final String REQUESTS_REJECTED_BY_BACKPRESSURE = "requestsRejectedByBackpressure";
     public static final String BAD_REQUESTS = "badRequests";
     public static final String REQUESTS_TOO_LARGE = "requestsTooLarge";
     public static final String INTERNAL_SERVER_ERROR = "internalServerError";
@@ -43,9 +45,11 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
     private final int bufferWriteTimeoutInMillis;
     private final OTelProtoCodec.OTelProtoDecoder oTelProtoDecoder;
     private final Buffer<Record<Object>> buffer;
+    private final BufferBackpressure bufferBackpressure;
 
     private final Counter requestTimeoutCounter;
     private final Counter requestsReceivedCounter;
+    private final Counter requestsRejectedByBackpressureCounter;
     private final Counter successRequestsCounter;
     private final Counter badRequestsCounter;
     private final Counter requestsTooLargeCounter;
@@ -57,13 +61,16 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
     public OTelTraceGrpcService(int bufferWriteTimeoutInMillis,
                                 final OTelProtoCodec.OTelProtoDecoder oTelProtoDecoder,
                                 final Buffer<Record<Object>> buffer,
+                                final BufferBackpressure bufferBackpressure,
                                 final PluginMetrics pluginMetrics) {
         this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
         this.buffer = buffer;
+        this.bufferBackpressure = bufferBackpressure;
         this.oTelProtoDecoder = oTelProtoDecoder;
 
         requestTimeoutCounter = pluginMetrics.counter(REQUEST_TIMEOUTS);
         requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
+        requestsRejectedByBackpressureCounter = pluginMetrics.counter(REQUESTS_REJECTED_BY_BACKPRESSURE);
         badRequestsCounter = pluginMetrics.counter(BAD_REQUESTS);
         requestsTooLargeCounter = pluginMetrics.counter(REQUESTS_TOO_LARGE);
         internalServerErrorCounter = pluginMetrics.counter(INTERNAL_SERVER_ERROR);
@@ -89,6 +96,14 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
             return;
         }
 
+        if (bufferBackpressure.isOverloaded()) {
+            requestsRejectedByBackpressureCounter.increment();
+            responseObserver.onError(Status.RESOURCE_EXHAUSTED
+                    .withDescription("The buffer is above its high water mark. Please retry later")
+                    .asException());
+            return;
+        }
+
         Collection<Span> spans;
 
         try {
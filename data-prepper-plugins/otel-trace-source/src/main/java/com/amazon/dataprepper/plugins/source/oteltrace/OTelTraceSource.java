@@ -10,6 +10,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.BufferBackpressure;
 import com.amazon.dataprepper.model.configuration.PluginModel;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.plugin.PluginFactory;
@@ -55,6 +56,7 @@ public class OTelTraceSource implements Source<Record<Object>> {
     @DataPrepperPluginConstructor
     public OTelTraceSource(final OTelTraceSourceConfig oTelTraceSourceConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory) {
         oTelTraceSourceConfig.validateAndInitializeCertAndKeyFileInS3();
+        oTelTraceSourceConfig.validateBufferWaterMarks();
         this.oTelTraceSourceConfig = oTelTraceSourceConfig;
         this.pluginMetrics = pluginMetrics;
         this.certificateProviderFactory = new CertificateProviderFactory(oTelTraceSourceConfig);
@@ -64,6 +66,7 @@ public class OTelTraceSource implements Source<Record<Object>> {
     // accessible only in the same package for unit test
     OTelTraceSource(final OTelTraceSourceConfig oTelTraceSourceConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final CertificateProviderFactory certificateProviderFactory) {
         oTelTraceSourceConfig.validateAndInitializeCertAndKeyFileInS3();
+        oTelTraceSourceConfig.validateBufferWaterMarks();
         this.oTelTraceSourceConfig = oTelTraceSourceConfig;
         this.pluginMetrics = pluginMetrics;
         this.certificateProviderFactory = certificateProviderFactory;
@@ -78,10 +81,14 @@ public class OTelTraceSource implements Source<Record<Object>> {
 
         if (server == null) {
 
+            final BufferBackpressure bufferBackpressure = oTelTraceSourceConfig.hasBufferBackpressure()
+                    ? new BufferBackpressure(buffer, oTelTraceSourceConfig.getBufferHighWaterMark(), oTelTraceSourceConfig.getBufferLowWaterMark())
+                    : BufferBackpressure.disabled();
             final OTelTraceGrpcService oTelTraceGrpcService = new OTelTraceGrpcService(
                     oTelTraceSourceConfig.getRequestTimeoutInMillis(),
                     new OTelProtoCodec.OTelProtoDecoder(),
                     buffer,
+                    bufferBackpressure,
                     pluginMetrics
             );
 
@@ -26,6 +26,8 @@ public class OTelTraceSourceConfig {
     static final String MAX_CONNECTION_COUNT = "max_connection_count";
     static final String ENABLE_UNFRAMED_REQUESTS = "unframed_requests";
     static final String UNAUTHENTICATED_HEALTH_CHECK = "unauthenticated_health_check";
+    static final String BUFFER_HIGH_WATER_MARK = "buffer_high_water_mark";
+    static final String BUFFER_LOW_WATER_MARK = "buffer_low_water_mark";
     static final int DEFAULT_REQUEST_TIMEOUT_MS = 10000;
     static final int DEFAULT_PORT = 21890;
     static final int DEFAULT_THREAD_COUNT = 200;
@@ -36,6 +38,7 @@ public class OTelTraceSourceConfig {
     static final boolean DEFAULT_PROTO_REFLECTION_SERVICE = false;
     static final boolean DEFAULT_USE_ACM_CERT_FOR_SSL = false;
     static final int DEFAULT_ACM_CERT_ISSUE_TIME_OUT_MILLIS = 120000;
+    static final double DEFAULT_BUFFER_WATER_MARK_GAP = 0.1;
     private static final String S3_PREFIX = "s3://";
 
     @JsonProperty(REQUEST_TIMEOUT)
@@ -91,6 +94,12 @@ public class OTelTraceSourceConfig {
     @JsonProperty(UNAUTHENTICATED_HEALTH_CHECK)
     private boolean unauthenticatedHealthCheck = false;
 
+    @JsonProperty(BUFFER_HIGH_WATER_MARK)
+    private Double bufferHighWaterMark;
+
+    @JsonProperty(BUFFER_LOW_WATER_MARK)
+    private Double bufferLowWaterMark;
+
     public void validateAndInitializeCertAndKeyFileInS3() {
         boolean certAndKeyFileInS3 = false;
         if (useAcmCertForSSL) {
@@ -106,6 +115,16 @@ public class OTelTraceSourceConfig {
         sslCertAndKeyFileInS3 = certAndKeyFileInS3;
     }
 
+    public void validateBufferWaterMarks() {
+        if (bufferHighWaterMark != null && (bufferHighWaterMark <= 0 || bufferHighWaterMark > 1)) {
+            throw new IllegalArgumentException(String.format("%s must be greater than 0 and at most 1", BUFFER_HIGH_WATER_MARK));
+        }
+        if (bufferLowWaterMark != null && (bufferHighWaterMark == null || bufferLowWaterMark < 0 || bufferLowWaterMark > bufferHighWaterMark)) {
+            throw new IllegalArgumentException(String.format("%s requires %s and must be between 0 and %s",
+                    BUFFER_LOW_WATER_MARK, BUFFER_HIGH_WATER_MARK, BUFFER_HIGH_WATER_MARK));
+        }
+    }
+
     private void validateSSLArgument(final String sslTypeMessage, final String argument, final String argumentName) {
         if (StringUtils.isEmpty(argument)) {
             throw new IllegalArgumentException(String.format("%s, %s can not be empty or null", sslTypeMessage, argumentName));
@@ -195,4 +214,19 @@ public class OTelTraceSourceConfig {
     public boolean isUnauthenticatedHealthCheck() {
         return unauthenticatedHealthCheck;
     }
+
+    public boolean hasBufferBackpressure() {
+        return bufferHighWaterMark != null;
+    }
+
+    public Double getBufferHighWaterMark() {
+        return bufferHighWaterMark;
+    }
+
+    public Double getBufferLowWaterMark() {
+        if (bufferLowWaterMark == null && bufferHighWaterMark != null) {
+            return Math.max(0.0, bufferHighWaterMark - DEFAULT_BUFFER_WATER_MARK_GAP);
+        }
+        return bufferLowWaterMark;
+    }
 }
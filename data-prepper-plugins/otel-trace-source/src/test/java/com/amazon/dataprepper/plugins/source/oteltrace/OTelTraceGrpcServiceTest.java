@@ -7,6 +7,7 @@ package com.amazon.dataprepper.plugins.source.oteltrace;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.BufferBackpressure;
 import com.amazon.dataprepper.model.buffer.SizeOverflowException;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.record.Record;
@@ -81,6 +82,10 @@ public class OTelTraceGrpcServiceTest {
     @Mock
     Buffer buffer;
     @Mock
+    BufferBackpressure bufferBackpressure;
+    @Mock
+    Counter requestsRejectedByBackpressureCounter;
+    @Mock
     Counter successRequestsCounter;
     @Mock
     Counter badRequestsCounter;
@@ -117,6 +122,7 @@ public class OTelTraceGrpcServiceTest {
         when(mockPluginMetrics.counter(OTelTraceGrpcService.REQUESTS_TOO_LARGE)).thenReturn(requestsTooLargeCounter);
         when(mockPluginMetrics.counter(OTelTraceGrpcService.INTERNAL_SERVER_ERROR)).thenReturn(internalServerErrorCounter);
         when(mockPluginMetrics.counter(OTelTraceGrpcService.SUCCESS_REQUESTS)).thenReturn(successRequestsCounter);
+        when(mockPluginMetrics.counter(OTelTraceGrpcService.REQUESTS_REJECTED_BY_BACKPRESSURE)).thenReturn(requestsRejectedByBackpressureCounter);
         when(mockPluginMetrics.summary(OTelTraceGrpcService.PAYLOAD_SIZE)).thenReturn(payloadSizeSummary);
         when(mockPluginMetrics.timer(OTelTraceGrpcService.REQUEST_PROCESS_DURATION)).thenReturn(requestProcessDuration);
         doAnswer(invocation -> {
@@ -246,8 +252,26 @@ public class OTelTraceGrpcServiceTest {
         assertThat(capturedStatusException.getStatus().getCode(), equalTo(Status.INTERNAL.getCode()));
     }
 
+    @Test
+    public void export_BufferOverloaded_responseObserverOnError() throws Exception {
+        when(bufferBackpressure.isOverloaded()).thenReturn(true);
+        objectUnderTest = generateOTelTraceGrpcService(new OTelProtoCodec.OTelProtoDecoder());
+        objectUnderTest.export(SUCCESS_REQUEST, responseObserver);
+
+        verifyNoInteractions(buffer);
+        verify(responseObserver, times(0)).onNext(any());
+        verify(responseObserver, times(0)).onCompleted();
+        verify(responseObserver, times(1)).onError(statusExceptionArgumentCaptor.capture());
+        verify(requestsReceivedCounter, times(1)).increment();
+        verify(requestsRejectedByBackpressureCounter, times(1)).increment();
+        verifyNoInteractions(successRequestsCounter);
+        verifyNoInteractions(timeoutCounter);
+        StatusException capturedStatusException = statusExceptionArgumentCaptor.getValue();
+        assertThat(capturedStatusException.getStatus().getCode(), equalTo(Status.RESOURCE_EXHAUSTED.getCode()));
+    }
+
     private OTelTraceGrpcService generateOTelTraceGrpcService(final OTelProtoCodec.OTelProtoDecoder decoder) {
         return new OTelTraceGrpcService(
-                bufferWriteTimeoutInMillis, decoder, buffer, mockPluginMetrics);
+                bufferWriteTimeoutInMillis, decoder, buffer, bufferBackpressure, mockPluginMetrics);
     }
 }
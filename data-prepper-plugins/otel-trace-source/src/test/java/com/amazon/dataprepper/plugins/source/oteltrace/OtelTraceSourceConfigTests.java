@@ -222,6 +222,64 @@ public class OtelTraceSourceConfigTests {
         assertThrows(IllegalArgumentException.class, otelTraceSourceConfig::validateAndInitializeCertAndKeyFileInS3);
     }
 
+    @Test
+    public void testBufferWaterMarksDefaultToDisabled() {
+        // Prepare
+        final OTelTraceSourceConfig otelTraceSourceConfig = new OTelTraceSourceConfig();
+
+        // When/Then
+        otelTraceSourceConfig.validateBufferWaterMarks();
+        assertFalse(otelTraceSourceConfig.hasBufferBackpressure());
+        assertNull(otelTraceSourceConfig.getBufferHighWaterMark());
+        assertNull(otelTraceSourceConfig.getBufferLowWaterMark());
+    }
+
+    @Test
+    public void testBufferLowWaterMarkDefaultsToBelowHighWaterMark() {
+        // Prepare
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(OTelTraceSourceConfig.BUFFER_HIGH_WATER_MARK, 0.8);
+
+        final OTelTraceSourceConfig otelTraceSourceConfig = OBJECT_MAPPER.convertValue(settings, OTelTraceSourceConfig.class);
+
+        // When/Then
+        otelTraceSourceConfig.validateBufferWaterMarks();
+        assertTrue(otelTraceSourceConfig.hasBufferBackpressure());
+        assertEquals(0.8, otelTraceSourceConfig.getBufferHighWaterMark(), 0.0001);
+        assertEquals(0.7, otelTraceSourceConfig.getBufferLowWaterMark(), 0.0001);
+    }
+
+    @Test
+    public void testBufferWaterMarksAreConfigurable() {
+        // Prepare
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(OTelTraceSourceConfig.BUFFER_HIGH_WATER_MARK, 0.9);
+        settings.put(OTelTraceSourceConfig.BUFFER_LOW_WATER_MARK, 0.5);
+
+        final OTelTraceSourceConfig otelTraceSourceConfig = OBJECT_MAPPER.convertValue(settings, OTelTraceSourceConfig.class);
+
+        // When/Then
+        otelTraceSourceConfig.validateBufferWaterMarks();
+        assertEquals(0.9, otelTraceSourceConfig.getBufferHighWaterMark(), 0.0001);
+        assertEquals(0.5, otelTraceSourceConfig.getBufferLowWaterMark(), 0.0001);
+    }
+
+    @Test
+    public void testInvalidBufferWaterMarks() {
+        final Map<String, Object> highAboveOne = new HashMap<>();
+        highAboveOne.put(OTelTraceSourceConfig.BUFFER_HIGH_WATER_MARK, 1.5);
+        final Map<String, Object> lowWithoutHigh = new HashMap<>();
+        lowWithoutHigh.put(OTelTraceSourceConfig.BUFFER_LOW_WATER_MARK, 0.5);
+        final Map<String, Object> lowAboveHigh = new HashMap<>();
+        lowAboveHigh.put(OTelTraceSourceConfig.BUFFER_HIGH_WATER_MARK, 0.5);
+        lowAboveHigh.put(OTelTraceSourceConfig.BUFFER_LOW_WATER_MARK, 0.8);
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, OBJECT_MAPPER.convertValue(highAboveOne, OTelTraceSourceConfig.class)::validateBufferWaterMarks);
+        assertThrows(IllegalArgumentException.class, OBJECT_MAPPER.convertValue(lowWithoutHigh, OTelTraceSourceConfig.class)::validateBufferWaterMarks);
+        assertThrows(IllegalArgumentException.class, OBJECT_MAPPER.convertValue(lowAboveHigh, OTelTraceSourceConfig.class)::validateBufferWaterMarks);
+    }
+
     private PluginSetting completePluginSettingForOtelTraceSource(final int requestTimeoutInMillis,
                                                                   final int port,
                                                                   final boolean healthCheck,
@@ -9,6 +9,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.processor.AbstractProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
@@ -27,14 +28,14 @@ import java.util.Objects;
 public class ParseJsonProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(ParseJsonProcessor.class);
 
-    private final String source;
-    private final String destination;
+    private final EventKey source;
+    private final EventKey destination;
     @DataPrepperPluginConstructor
     public ParseJsonProcessor(final PluginMetrics pluginMetrics, final ParseJsonProcessorConfig parseJsonProcessorConfig) {
         super(pluginMetrics);
 
-        source = parseJsonProcessorConfig.getSource();
-        destination = parseJsonProcessorConfig.getDestination();
+        source = EventKey.of(parseJsonProcessorConfig.getSource());
+        destination = Objects.isNull(parseJsonProcessorConfig.getDestination()) ? null : EventKey.of(parseJsonProcessorConfig.getDestination());
     }
 
     @Override
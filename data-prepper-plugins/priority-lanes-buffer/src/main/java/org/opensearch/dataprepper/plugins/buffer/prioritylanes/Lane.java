@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.prioritylanes;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import io.micrometer.core.instrument.Counter;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lane of a {@link PriorityLanesBuffer}. The queue of a lane is guarded by the lock of its buffer, while its capacity
+ * is a semaphore with one permit per record, held from the write of a record until it is checkpointed.
+ */
+class Lane<T> {
+    static final String RECORDS_IN_LANE = "recordsInLane";
+    static final String RECORDS_WRITTEN = "recordsWritten";
+    static final String RECORDS_READ = "recordsRead";
+    static final String WRITE_TIMEOUTS = "writeTimeouts";
+
+    private final int index;
+    private final String name;
+    private final String condition;
+    private final int capacity;
+    private final int weight;
+    private final ArrayDeque<T> queue;
+    private final Semaphore capacitySemaphore;
+    private final AtomicInteger recordsInLane;
+    private final Counter recordsWrittenCounter;
+    private final Counter recordsReadCounter;
+    private final Counter writeTimeoutCounter;
+
+    Lane(final int index, final LaneConfig laneConfig, final PluginMetrics pluginMetrics) {
+        this.index = index;
+        this.name = laneConfig.getName();
+        this.condition = laneConfig.getCondition();
+        this.capacity = laneConfig.getBufferSize();
+        this.weight = laneConfig.getWeight();
+        this.queue = new ArrayDeque<>(capacity);
+        this.capacitySemaphore = new Semaphore(capacity);
+        this.recordsInLane = pluginMetrics.gauge(metricName(RECORDS_IN_LANE), new AtomicInteger());
+        this.recordsWrittenCounter = pluginMetrics.counter(metricName(RECORDS_WRITTEN));
+        this.recordsReadCounter = pluginMetrics.counter(metricName(RECORDS_READ));
+        this.writeTimeoutCounter = pluginMetrics.counter(metricName(WRITE_TIMEOUTS));
+    }
+
+    private String metricName(final String metric) {
+        return name + "." + metric;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getCondition() {
+        return condition;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    boolean tryAcquire(final int records, final long timeoutInNanos) throws InterruptedException {
+        return capacitySemaphore.tryAcquire(records, Math.max(0, timeoutInNanos), TimeUnit.NANOSECONDS);
+    }
+
+    void release(final int records) {
+        capacitySemaphore.release(records);
+    }
+
+    int getAvailablePermits() {
+        return capacitySemaphore.availablePermits();
+    }
+
+    void recordWriteTimeout() {
+        writeTimeoutCounter.increment();
+    }
+
+    void recordRead(final int records) {
+        if (records > 0) {
+            recordsReadCounter.increment(records);
+        }
+    }
+
+    /**
+     * Must be called while holding the lock of the buffer.
+     */
+    void enqueue(final List<T> records) {
+        queue.addAll(records);
+        recordsInLane.addAndGet(records.size());
+        recordsWrittenCounter.increment(records.size());
+    }
+
+    /**
+     * Must be called while holding the lock of the buffer.
+     */
+    int getQueuedSize() {
+        return queue.size();
+    }
+
+    /**
+     * Moves up to maxRecords records from the head of the lane to the given collection. Must be called while holding
+     * the lock of the buffer.
+     *
+     * @return the number of records moved
+     */
+    int drainTo(final Collection<? super T> records, final int maxRecords) {
+        int drained = 0;
+        while (drained < maxRecords && !queue.isEmpty()) {
+            records.add(queue.poll());
+            drained++;
+        }
+        recordsInLane.addAndGet(-drained);
+        return drained;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.prioritylanes;
+
+import com.amazon.dataprepper.model.CheckpointState;
+
+import java.util.Arrays;
+
+/**
+ * The {@link CheckpointState} of a {@link PriorityLanesBuffer} read, which also records how many of the records were
+ * read from each lane so that checkpointing releases the capacity of the right lanes.
+ */
+class LaneCheckpointState extends CheckpointState {
+    private final int[] recordsPerLane;
+
+    LaneCheckpointState(final int[] recordsPerLane) {
+        super(Arrays.stream(recordsPerLane).sum());
+        this.recordsPerLane = recordsPerLane;
+    }
+
+    /**
+     * @return the number of records read from each lane, indexed by the position of the lane in the configuration
+     */
+    int[] getRecordsPerLane() {
+        return recordsPerLane;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.prioritylanes;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+
+public class LaneConfig {
+    static final int DEFAULT_BUFFER_SIZE = 512;
+    static final int DEFAULT_WEIGHT = 1;
+
+    @JsonProperty("name")
+    @NotEmpty
+    private String name;
+
+    @JsonProperty("condition")
+    private String condition;
+
+    @JsonProperty("buffer_size")
+    @Min(1)
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    @JsonProperty("weight")
+    @Min(1)
+    private int weight = DEFAULT_WEIGHT;
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the expression which an event must match to be written to this lane, nullable
+     */
+    public String getCondition() {
+        return condition;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @return the share of each read batch which this lane receives while other lanes also hold records
+     */
+    public int getWeight() {
+        return weight;
+    }
+}
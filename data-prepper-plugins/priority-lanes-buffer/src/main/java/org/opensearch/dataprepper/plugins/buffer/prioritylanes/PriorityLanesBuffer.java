@@ -0,0 +1,290 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.prioritylanes;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import com.amazon.dataprepper.model.buffer.AbstractBuffer;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventMetadata;
+import com.amazon.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+
+/**
+ * A PriorityLanesBuffer is an implementation of {@link Buffer} which queues records in several lanes, each bounded to
+ * its own capacity. The lane of an event is named by the {@link PriorityLanesBufferConfig#getLaneAttribute()} metadata
+ * attribute when present, or else is the first lane whose condition the event matches. Records matching no lane are
+ * written to the last lane.
+ * <p>
+ * A read drains the lanes in a weighted-fair way: every lane holding records receives a share of the batch
+ * proportional to its weight, and at least one record, so no lane is starved. The space left by lanes with fewer
+ * records than their share goes to the lanes in priority order. A read returns as soon as any lane holds records,
+ * rather than waiting for a full batch, so records of a lightly used lane are not held back.
+ * <p>
+ * As with the bounded_blocking buffer, the capacity of a lane covers both the records waiting in it and the records
+ * which have been read but not yet checked by {@link #checkpoint(CheckpointState)}.
+ */
+@DataPrepperPlugin(name = "priority_lanes", pluginType = Buffer.class, pluginConfigurationType = PriorityLanesBufferConfig.class)
+public class PriorityLanesBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(PriorityLanesBuffer.class);
+
+    private final List<Lane<T>> lanes;
+    private final Map<String, Lane<T>> lanesByName;
+    private final String laneAttribute;
+    private final int batchSize;
+    private final int totalCapacity;
+    private final ExpressionEvaluator<Boolean> expressionEvaluator;
+    private final String pipelineName;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private int recordsQueued;
+
+    @DataPrepperPluginConstructor
+    public PriorityLanesBuffer(final PriorityLanesBufferConfig priorityLanesBufferConfig,
+                               final PluginSetting pluginSetting,
+                               final ExpressionEvaluator<Boolean> expressionEvaluator) {
+        super(pluginSetting);
+        final List<LaneConfig> laneConfigs = priorityLanesBufferConfig.getLanes();
+        checkArgument(laneConfigs != null && !laneConfigs.isEmpty(), "lanes must not be empty");
+        checkArgument(priorityLanesBufferConfig.getBatchSize() > 0, "batch_size must be greater than 0");
+        this.lanes = new ArrayList<>(laneConfigs.size());
+        this.lanesByName = new HashMap<>();
+        int totalCapacity = 0;
+        for (final LaneConfig laneConfig : laneConfigs) {
+            checkArgument(laneConfig.getName() != null && !laneConfig.getName().isEmpty(), "lane name must not be empty");
+            checkArgument(!lanesByName.containsKey(laneConfig.getName()), "lane %s is defined twice", laneConfig.getName());
+            checkArgument(laneConfig.getBufferSize() > 0, "buffer_size of lane %s must be greater than 0", laneConfig.getName());
+            checkArgument(laneConfig.getWeight() > 0, "weight of lane %s must be greater than 0", laneConfig.getName());
+            final Lane<T> lane = new Lane<>(lanes.size(), laneConfig, pluginMetrics);
+            lanes.add(lane);
+            lanesByName.put(lane.getName(), lane);
+            totalCapacity += laneConfig.getBufferSize();
+        }
+        this.laneAttribute = priorityLanesBufferConfig.getLaneAttribute();
+        this.batchSize = priorityLanesBufferConfig.getBatchSize();
+        this.totalCapacity = totalCapacity;
+        this.expressionEvaluator = expressionEvaluator;
+        this.pipelineName = pluginSetting.getPipelineName();
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        final Lane<T> lane = selectLane(record);
+        try {
+            if (!lane.tryAcquire(1, TimeUnit.MILLISECONDS.toNanos(timeoutInMillis))) {
+                lane.recordWriteTimeout();
+                throw new TimeoutException(format("Pipeline [%s] - Lane %s of the buffer is full, timed out waiting for a slot",
+                        pipelineName, lane.getName()));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Lane {} of the buffer is full, interrupted while waiting to write the record",
+                    pipelineName, lane.getName(), ex);
+            throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+        }
+        enqueue(Collections.singletonMap(lane, Collections.singletonList(record)));
+    }
+
+    /**
+     * Writes the records to their lanes once every lane involved has room for its records. Lanes are acquired in
+     * priority order, and the capacity acquired is released again if a later lane times out.
+     */
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final Map<Lane<T>, List<T>> recordsByLane = new HashMap<>();
+        for (final T record : records) {
+            recordsByLane.computeIfAbsent(selectLane(record), lane -> new ArrayList<>()).add(record);
+        }
+        for (final Map.Entry<Lane<T>, List<T>> laneRecords : recordsByLane.entrySet()) {
+            if (laneRecords.getValue().size() > laneRecords.getKey().getCapacity()) {
+                throw new SizeOverflowException(format("Lane %s capacity too small for the size of records: %d",
+                        laneRecords.getKey().getName(), laneRecords.getValue().size()));
+            }
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        final List<Lane<T>> acquiredLanes = new ArrayList<>(recordsByLane.size());
+        try {
+            for (final Lane<T> lane : lanes) {
+                final List<T> laneRecords = recordsByLane.get(lane);
+                if (laneRecords == null) {
+                    continue;
+                }
+                if (!lane.tryAcquire(laneRecords.size(), deadline - System.nanoTime())) {
+                    lane.recordWriteTimeout();
+                    throw new TimeoutException(format("Pipeline [%s] - Lane %s of the buffer does not have enough capacity " +
+                            "left for the size of records: %d, timed out waiting for slots.", pipelineName, lane.getName(), laneRecords.size()));
+                }
+                acquiredLanes.add(lane);
+            }
+        } catch (final TimeoutException | InterruptedException ex) {
+            acquiredLanes.forEach(lane -> lane.release(recordsByLane.get(lane).size()));
+            if (ex instanceof InterruptedException) {
+                LOG.error("Pipeline [{}] - Interrupted while waiting to write {} records", pipelineName, records.size(), ex);
+                throw new TimeoutException(format("Pipeline [%s] - Interrupted while waiting for buffer capacity", pipelineName));
+            }
+            throw ex;
+        }
+        enqueue(recordsByLane);
+    }
+
+    private void enqueue(final Map<Lane<T>, List<T>> recordsByLane) {
+        int count = 0;
+        lock.lock();
+        try {
+            for (final Map.Entry<Lane<T>, List<T>> laneRecords : recordsByLane.entrySet()) {
+                laneRecords.getKey().enqueue(laneRecords.getValue());
+                count += laneRecords.getValue().size();
+            }
+            recordsQueued += count;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits up to timeoutInMillis for any lane to hold records, then drains a batch of up to batch_size records from
+     * the lanes, see {@link PriorityLanesBuffer}.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return the records of the batch, by lane in priority order
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final int[] recordsPerLane = new int[lanes.size()];
+        final List<T> records = new ArrayList<>(batchSize);
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+            while (recordsQueued == 0) {
+                if (remainingNanos <= 0) {
+                    return new AbstractMap.SimpleEntry<>(records, new LaneCheckpointState(recordsPerLane));
+                }
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+            drainWeighted(records, recordsPerLane);
+            recordsQueued -= records.size();
+        } catch (final InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(ex);
+        } finally {
+            lock.unlock();
+        }
+        for (int i = 0; i < recordsPerLane.length; i++) {
+            lanes.get(i).recordRead(recordsPerLane[i]);
+        }
+        return new AbstractMap.SimpleEntry<>(records, new LaneCheckpointState(recordsPerLane));
+    }
+
+    private void drainWeighted(final List<T> records, final int[] recordsPerLane) {
+        int activeWeight = 0;
+        for (final Lane<T> lane : lanes) {
+            if (lane.getQueuedSize() > 0) {
+                activeWeight += lane.getWeight();
+            }
+        }
+        for (final Lane<T> lane : lanes) {
+            if (records.size() >= batchSize) {
+                break;
+            }
+            if (lane.getQueuedSize() > 0) {
+                final int share = Math.max(1, (int) ((long) batchSize * lane.getWeight() / activeWeight));
+                recordsPerLane[lane.getIndex()] += lane.drainTo(records, Math.min(share, batchSize - records.size()));
+            }
+        }
+        for (final Lane<T> lane : lanes) {
+            if (records.size() >= batchSize) {
+                break;
+            }
+            recordsPerLane[lane.getIndex()] += lane.drainTo(records, batchSize - records.size());
+        }
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        final int[] recordsPerLane = ((LaneCheckpointState) checkpointState).getRecordsPerLane();
+        for (int i = 0; i < recordsPerLane.length; i++) {
+            if (recordsPerLane[i] > 0) {
+                lanes.get(i).release(recordsPerLane[i]);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return recordsQueued == 0 && getRecordsInFlight() == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the fraction of the capacity of all lanes held by records which have not been checkpointed yet
+     */
+    @Override
+    public double getFillRatio() {
+        int availablePermits = 0;
+        for (final Lane<T> lane : lanes) {
+            availablePermits += lane.getAvailablePermits();
+        }
+        return 1.0 - (double) availablePermits / totalCapacity;
+    }
+
+    private Lane<T> selectLane(final T record) {
+        final Object data = record.getData();
+        if (!(data instanceof Event)) {
+            return lanes.get(lanes.size() - 1);
+        }
+        final Event event = (Event) data;
+        if (laneAttribute != null) {
+            final EventMetadata metadata = event.getMetadata();
+            final Object laneName = metadata == null || metadata.getAttributes() == null
+                    ? null : metadata.getAttributes().get(laneAttribute);
+            if (laneName != null && lanesByName.containsKey(laneName.toString())) {
+                return lanesByName.get(laneName.toString());
+            }
+        }
+        for (int i = 0; i < lanes.size() - 1; i++) {
+            final Lane<T> lane = lanes.get(i);
+            if (lane.getCondition() != null && matches(lane.getCondition(), event)) {
+                return lane;
+            }
+        }
+        return lanes.get(lanes.size() - 1);
+    }
+
+    private boolean matches(final String condition, final Event event) {
+        try {
+            return Boolean.TRUE.equals(expressionEvaluator.evaluate(condition, event));
+        } catch (final Exception e) {
+            LOG.debug("Pipeline [{}] - Failed to evaluate lane condition {}", pipelineName, condition, e);
+            return false;
+        }
+    }
+}
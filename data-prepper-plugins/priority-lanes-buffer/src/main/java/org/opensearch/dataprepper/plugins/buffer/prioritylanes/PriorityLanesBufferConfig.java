@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.prioritylanes;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class PriorityLanesBufferConfig {
+    static final int DEFAULT_BATCH_SIZE = 8;
+
+    @JsonProperty("lanes")
+    @NotEmpty
+    @Valid
+    private List<LaneConfig> lanes;
+
+    @JsonProperty("lane_attribute")
+    private String laneAttribute;
+
+    @JsonProperty("batch_size")
+    @Min(1)
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * @return the lanes, from the highest to the lowest priority. The last lane receives the records which match no
+     * other lane.
+     */
+    public List<LaneConfig> getLanes() {
+        return lanes;
+    }
+
+    /**
+     * @return the name of the event metadata attribute whose value names the lane of the event, nullable
+     */
+    public String getLaneAttribute() {
+        return laneAttribute;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.prioritylanes;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluationException;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriorityLanesBufferTest {
+    private static final String CRITICAL_CONDITION = "/severity == \"ERROR\"";
+    private static final int TEST_TIMEOUT = 100;
+
+    @Mock
+    private ExpressionEvaluator<Boolean> expressionEvaluator;
+
+    private List<Map<String, Object>> lanes;
+    private Map<String, Object> configMap;
+    private PluginSetting pluginSetting;
+
+    @BeforeEach
+    void setUp() {
+        lanes = new ArrayList<>();
+        lanes.add(lane("critical", CRITICAL_CONDITION, 4, 3));
+        lanes.add(lane("bulk", null, 4, 1));
+        configMap = new HashMap<>();
+        configMap.put("lanes", lanes);
+        configMap.put("batch_size", 4);
+        pluginSetting = new PluginSetting("priority_lanes", Collections.emptyMap());
+        pluginSetting.setPipelineName(UUID.randomUUID().toString());
+        lenient().when(expressionEvaluator.evaluate(eq(CRITICAL_CONDITION), any(Event.class)))
+                .thenAnswer(invocation -> "ERROR".equals(invocation.<Event>getArgument(1).get("severity", String.class)));
+    }
+
+    private static Map<String, Object> lane(final String name, final String condition, final int bufferSize, final int weight) {
+        final Map<String, Object> lane = new HashMap<>();
+        lane.put("name", name);
+        lane.put("condition", condition);
+        lane.put("buffer_size", bufferSize);
+        lane.put("weight", weight);
+        return lane;
+    }
+
+    private PriorityLanesBuffer<Record<Event>> createObjectUnderTest() {
+        final PriorityLanesBufferConfig config = new ObjectMapper().convertValue(configMap, PriorityLanesBufferConfig.class);
+        return new PriorityLanesBuffer<>(config, pluginSetting, expressionEvaluator);
+    }
+
+    private static Record<Event> record(final String severity) {
+        return new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("severity", severity, "id", UUID.randomUUID().toString()))
+                .build());
+    }
+
+    private static List<String> severities(final Collection<Record<Event>> records) {
+        return records.stream().map(record -> record.getData().get("severity", String.class)).collect(Collectors.toList());
+    }
+
+    @Test
+    void config_defaults() {
+        final PriorityLanesBufferConfig config = new ObjectMapper().convertValue(
+                Map.of("lanes", List.of(Map.of("name", "default"))), PriorityLanesBufferConfig.class);
+
+        assertThat(config.getBatchSize(), equalTo(PriorityLanesBufferConfig.DEFAULT_BATCH_SIZE));
+        assertThat(config.getLaneAttribute(), equalTo(null));
+        assertThat(config.getLanes().get(0).getBufferSize(), equalTo(LaneConfig.DEFAULT_BUFFER_SIZE));
+        assertThat(config.getLanes().get(0).getWeight(), equalTo(LaneConfig.DEFAULT_WEIGHT));
+        assertThat(config.getLanes().get(0).getCondition(), equalTo(null));
+    }
+
+    @Test
+    void constructor_rejects_empty_lanes() {
+        configMap.put("lanes", Collections.emptyList());
+
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+    }
+
+    @Test
+    void constructor_rejects_duplicate_lane_names() {
+        lanes.add(lane("bulk", null, 4, 1));
+
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+    }
+
+    @Test
+    void read_drains_the_lanes_by_weight_in_priority_order() throws Exception {
+        final PriorityLanesBuffer<Record<Event>> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(List.of(record("INFO"), record("INFO"), record("INFO"), record("INFO")), TEST_TIMEOUT);
+        objectUnderTest.writeAll(List.of(record("ERROR"), record("ERROR"), record("ERROR"), record("ERROR")), TEST_TIMEOUT);
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(TEST_TIMEOUT);
+
+        assertThat(severities(readResult.getKey()), equalTo(List.of("ERROR", "ERROR", "ERROR", "INFO")));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), equalTo(4));
+    }
+
+    @Test
+    void read_gives_the_unused_share_of_a_lane_to_the_other_lanes() throws Exception {
+        final PriorityLanesBuffer<Record<Event>> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(List.of(record("INFO"), record("INFO"), record("INFO"), record("ERROR")), TEST_TIMEOUT);
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(TEST_TIMEOUT);
+
+        assertThat(severities(readResult.getKey()), equalTo(List.of("ERROR", "INFO", "INFO", "INFO")));
+    }
+
+    @Test
+    void read_returns_an_empty_batch_when_no_lane_has_records_within_the_timeout() {
+        final PriorityLanesBuffer<Record<Event>> objectUnderTest = createObjectUnderTest();
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(10);
+
+        assertThat(readResult.getKey().isEmpty(), equalTo(true));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), equalTo(0));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void write_times_out_when_the_lane_is_full_without_blocking_other_lanes() throws Exception {
+        final PriorityLanesBuffer<Record<Event>> objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 4; i++) {
+            objectUnderTest.write(record("INFO"), TEST_TIMEOUT);
+        }
+
+        assertThrows(TimeoutException.class, () -> objectUnderTest.write(record("INFO"), 10));
+        objectUnderTest.write(record("ERROR"), 10);
+        assertThat(objectUnderTest.getFillRatio(), equalTo(5.0 / 8));
+    }
+
+    @Test
+    void checkpoint_releases_the_capacity_of_the_lanes_read() throws Exception {
+        final PriorityLanesBuffer<Record<Event>> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(List.of(record("INFO"), record("INFO"), record("INFO"), record("INFO")), TEST_TIMEOUT);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(TEST_TIMEOUT);
+
+        assertThat(objectUnderTest.isEmpty(), equalTo(false));
+        assertThrows(TimeoutException.class, () -> objectUnderTest.write(record("INFO"), 10));
+
+        objectUnderTest.checkpoint(readResult.getValue());
+
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+        assertThat(objectUnderTest.getFillRatio(), equalTo(0.0));
+        objectUnderTest.write(record("INFO"), 10);
+    }
+
+    @Test
+    void writeAll_releases_the_capacity_acquired_when_a_later_lane_times_out() throws Exception {
+        final PriorityLanesBuffer<Record<Event>> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(List.of(record("INFO"), record("INFO"), record("INFO")), TEST_TIMEOUT);
+
+        assertThrows(TimeoutException.class,
+                () -> objectUnderTest.writeAll(List.of(record("ERROR"), record("INFO"), record("INFO")), 10));
+
+        assertThat(objectUnderTest.getFillRatio(), equalTo(3.0 / 8));
+    }
+
+    @Test
+    void writeAll_throws_when_the_records_of_a_lane_exceed_its_capacity() {
+        final PriorityLanesBuffer<Record<Event>> objectUnderTest = createObjectUnderTest();
+
+        assertThrows(SizeOverflowException.class, () -> objectUnderTest.writeAll(
+                List.of(record("ERROR"), record("ERROR"), record("ERROR"), record("ERROR"), record("ERROR")), TEST_TIMEOUT));
+    }
+
+    @Test
+    void write_uses_the_lane_named_by_the_lane_attribute() throws Exception {
+        configMap.put("lane_attribute", "lane");
+        final PriorityLanesBuffer<Record<Event>> objectUnderTest = createObjectUnderTest();
+        final Record<Event> bulkError = new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("severity", "ERROR"))
+                .withEventMetadataAttributes(Map.of("lane", "bulk"))
+                .build());
+        final Record<Event> criticalInfo = new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("severity", "INFO"))
+                .withEventMetadataAttributes(Map.of("lane", "critical"))
+                .build());
+
+        objectUnderTest.write(bulkError, TEST_TIMEOUT);
+        objectUnderTest.write(criticalInfo, TEST_TIMEOUT);
+
+        assertThat(severities(objectUnderTest.read(TEST_TIMEOUT).getKey()), equalTo(List.of("INFO", "ERROR")));
+    }
+
+    @Test
+    void write_falls_back_to_the_conditions_for_an_unknown_lane_attribute() throws Exception {
+        configMap.put("lane_attribute", "lane");
+        final PriorityLanesBuffer<Record<Event>> objectUnderTest = createObjectUnderTest();
+        final Record<Event> unknownLaneError = new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("severity", "ERROR"))
+                .withEventMetadataAttributes(Map.of("lane", "unknown"))
+                .build());
+
+        objectUnderTest.write(record("INFO"), TEST_TIMEOUT);
+        objectUnderTest.write(unknownLaneError, TEST_TIMEOUT);
+
+        assertThat(severities(objectUnderTest.read(TEST_TIMEOUT).getKey()), equalTo(List.of("ERROR", "INFO")));
+    }
+
+    @Test
+    void write_uses_the_last_lane_when_a_condition_fails_to_evaluate() throws Exception {
+        when(expressionEvaluator.evaluate(eq(CRITICAL_CONDITION), any(Event.class)))
+                .thenThrow(new ExpressionEvaluationException("test", new RuntimeException()));
+        final PriorityLanesBuffer<Record<Event>> objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i < 4; i++) {
+            objectUnderTest.write(record("ERROR"), TEST_TIMEOUT);
+        }
+
+        assertThrows(TimeoutException.class, () -> objectUnderTest.write(record("ERROR"), 10));
+    }
+
+    @Test
+    void write_uses_the_last_lane_for_records_which_are_not_events() throws Exception {
+        final PriorityLanesBuffer<Record<String>> objectUnderTest = new PriorityLanesBuffer<>(
+                new ObjectMapper().convertValue(configMap, PriorityLanesBufferConfig.class), pluginSetting, expressionEvaluator);
+
+        objectUnderTest.write(new Record<>("test"), TEST_TIMEOUT);
+
+        assertThat(objectUnderTest.read(TEST_TIMEOUT).getKey().iterator().next().getData(), equalTo("test"));
+    }
+
+    @Test
+    void read_waits_for_a_concurrent_write() throws Exception {
+        final PriorityLanesBuffer<Record<Event>> objectUnderTest = createObjectUnderTest();
+        final Thread writer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+                objectUnderTest.write(record("ERROR"), TEST_TIMEOUT);
+            } catch (final Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        writer.start();
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(5_000);
+        writer.join();
+
+        assertThat(severities(readResult.getKey()), equalTo(List.of("ERROR")));
+    }
+}
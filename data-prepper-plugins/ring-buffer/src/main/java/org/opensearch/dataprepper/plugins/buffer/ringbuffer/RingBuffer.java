@@ -0,0 +1,280 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.buffer.AbstractBuffer;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A RingBuffer is a lock-free implementation of {@link Buffer} backed by a preallocated array which is shared by
+ * multiple producers and multiple consumers. Every slot of the array carries a sequence number; writers claim a
+ * contiguous range of sequences with a single compare-and-set and publish each slot by advancing its sequence, while
+ * readers claim a contiguous range of published slots in the same way. Writes of a whole collection therefore cost one
+ * contended atomic operation regardless of the collection size, and no nodes are allocated per record.
+ * <p>
+ * The buffer is bounded to the provided capacity {@link #ATTRIBUTE_BUFFER_CAPACITY} or
+ * {@link #DEFAULT_BUFFER_CAPACITY}. As with the bounded_blocking buffer, the capacity covers both records waiting in
+ * the buffer and records which have been read but not yet checked by {@link #checkpoint(CheckpointState)}.
+ */
+@DataPrepperPlugin(name = "ring_buffer", pluginType = Buffer.class)
+public class RingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBuffer.class);
+    private static final int DEFAULT_BUFFER_CAPACITY = 512;
+    private static final int DEFAULT_BATCH_SIZE = 8;
+    private static final int MAX_BUFFER_CAPACITY = 1 << 30;
+    private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final int ringSize;
+    private final int indexMask;
+    private final Object[] entries;
+    private final AtomicLongArray sequences;
+    private final AtomicLong claimSequence;
+    private final AtomicLong readSequence;
+    private final AtomicLong checkpointedCount;
+    private final String pipelineName;
+
+    /**
+     * Creates a RingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public RingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        super("RingBuffer", pipelineName);
+        checkArgument(bufferCapacity > 0 && bufferCapacity <= MAX_BUFFER_CAPACITY,
+                "buffer_size must be between 1 and " + MAX_BUFFER_CAPACITY);
+        checkArgument(batchSize > 0, "batch_size must be greater than 0");
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.ringSize = ceilingPowerOfTwo(bufferCapacity);
+        this.indexMask = ringSize - 1;
+        this.entries = new Object[ringSize];
+        this.sequences = new AtomicLongArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            sequences.set(i, i);
+        }
+        this.claimSequence = new AtomicLong();
+        this.readSequence = new AtomicLong();
+        this.checkpointedCount = new AtomicLong();
+        this.pipelineName = pipelineName;
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to
+     * construct an instance of {@link RingBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. Buffer settings `buffer_size` and `batch_size` are
+     * optional, if not present default values will be used to create the buffer.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public RingBuffer(final PluginSetting pluginSetting) {
+        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getPipelineName());
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        final long sequence = claim(1, timeoutInMillis);
+        if (sequence < 0) {
+            throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                    pipelineName));
+        }
+        publish(sequence, record);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", size));
+        }
+        if (size == 0) {
+            return;
+        }
+        // A claimed range must always be published, so nulls are rejected before claiming.
+        for (final T record : records) {
+            checkNotNull(record, "records cannot contain null");
+        }
+        final long firstSequence = claim(size, timeoutInMillis);
+        if (firstSequence < 0) {
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the size of records: %d, " +
+                                    "timed out waiting for slots.",
+                            pipelineName, size));
+        }
+        long sequence = firstSequence;
+        for (final T record : records) {
+            publish(sequence++, record);
+        }
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the ring. The batch size is defined/determined by
+     * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        long parkNanos = MIN_PARK_NANOS;
+        while (true) {
+            if (drain(records) > 0) {
+                parkNanos = MIN_PARK_NANOS;
+            }
+            final long remainingNanos = deadline - System.nanoTime();
+            if (records.size() >= batchSize || remainingNanos <= 0) {
+                break;
+            }
+            LockSupport.parkNanos(this, Math.min(parkNanos, remainingNanos));
+            if (Thread.currentThread().isInterrupted()) {
+                LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+                throw new RuntimeException(new InterruptedException());
+            }
+            parkNanos = Math.min(parkNanos << 1, MAX_PARK_NANOS);
+        }
+        final CheckpointState checkpointState = new CheckpointState(records.size());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        checkpointedCount.addAndGet(checkpointState.getNumRecordsToBeChecked());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readSequence.get() == claimSequence.get() && getRecordsInFlight() == 0;
+    }
+
+    /**
+     * @return the fraction of the capacity held by records which have not been checkpointed yet
+     */
+    @Override
+    public double getFillRatio() {
+        return (double) (claimSequence.get() - checkpointedCount.get()) / bufferCapacity;
+    }
+
+    /**
+     * Claims a contiguous range of sequences, waiting up to the timeout for enough capacity to become available.
+     *
+     * @return the first claimed sequence or -1 if the range could not be claimed within the timeout
+     */
+    private long claim(final int count, final int timeoutInMillis) throws TimeoutException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        long parkNanos = MIN_PARK_NANOS;
+        while (true) {
+            final long sequence = tryClaim(count);
+            if (sequence >= 0) {
+                return sequence;
+            }
+            final long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return -1;
+            }
+            LockSupport.parkNanos(this, Math.min(parkNanos, remainingNanos));
+            if (Thread.currentThread().isInterrupted()) {
+                LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write {} records",
+                        pipelineName, count);
+                throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+            }
+            parkNanos = Math.min(parkNanos << 1, MAX_PARK_NANOS);
+        }
+    }
+
+    private long tryClaim(final int count) {
+        while (true) {
+            final long current = claimSequence.get();
+            // Unchecked records are those claimed by writers and not yet checkpointed by readers.
+            if (current + count - checkpointedCount.get() > bufferCapacity) {
+                return -1;
+            }
+            if (claimSequence.compareAndSet(current, current + count)) {
+                return current;
+            }
+        }
+    }
+
+    private void publish(final long sequence, final T record) {
+        final int index = (int) (sequence & indexMask);
+        // The capacity check guarantees that the previous occupant of this slot has been claimed by a reader,
+        // so this only waits for that reader to finish copying it out.
+        while (sequences.get(index) != sequence) {
+            Thread.onSpinWait();
+        }
+        entries[index] = record;
+        sequences.lazySet(index, sequence + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int drain(final List<T> records) {
+        int drained = 0;
+        while (records.size() < batchSize) {
+            final long current = readSequence.get();
+            final int maxAvailable = batchSize - records.size();
+            int available = 0;
+            while (available < maxAvailable && isPublished(current + available)) {
+                available++;
+            }
+            if (available == 0) {
+                break;
+            }
+            if (!readSequence.compareAndSet(current, current + available)) {
+                continue;
+            }
+            for (int i = 0; i < available; i++) {
+                final long sequence = current + i;
+                final int index = (int) (sequence & indexMask);
+                records.add((T) entries[index]);
+                entries[index] = null;
+                sequences.lazySet(index, sequence + ringSize);
+            }
+            drained += available;
+        }
+        return drained;
+    }
+
+    private boolean isPublished(final long sequence) {
+        return sequences.get((int) (sequence & indexMask)) == sequence + 1;
+    }
+
+    private static int ceilingPowerOfTwo(final int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
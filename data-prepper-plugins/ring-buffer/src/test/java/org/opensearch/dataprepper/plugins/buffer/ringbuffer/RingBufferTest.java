@@ -0,0 +1,305 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.record.Record;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RingBufferTest {
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_BUFFER_SIZE = 13;
+    private static final int TEST_WRITE_TIMEOUT = 1_00;
+    private static final int TEST_BATCH_READ_TIMEOUT = 5_00;
+
+    @Test
+    void testCreationUsingPluginSetting() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+        assertThat(ringBuffer, notNullValue());
+    }
+
+    @Test
+    void testCreationUsingNullPluginSetting() {
+        final NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> new RingBuffer<Record<String>>((PluginSetting) null));
+        assertThat(exception.getMessage(), is(equalTo("PluginSetting cannot be null")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testCreationWithInvalidBufferSize(final int bufferSize) {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(bufferSize, TEST_BATCH_SIZE, TEST_PIPELINE_NAME));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testCreationWithInvalidBatchSize(final int batchSize) {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(TEST_BUFFER_SIZE, batchSize, TEST_PIPELINE_NAME));
+    }
+
+    @Test
+    void testInsertNull() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        assertThrows(NullPointerException.class, () -> ringBuffer.write(null, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testWriteAllWithNullDoesNotConsumeCapacity() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(2, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final List<Record<String>> records = new ArrayList<>();
+        records.add(new Record<>("VALID"));
+        records.add(null);
+        assertThrows(NullPointerException.class, () -> ringBuffer.writeAll(records, TEST_WRITE_TIMEOUT));
+
+        ringBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        assertThat(ringBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().size(), is(2));
+    }
+
+    @Test
+    void testWriteAllSizeOverflow() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(TEST_BUFFER_SIZE + 1);
+        assertThrows(SizeOverflowException.class, () -> ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testNoEmptySpaceWriteOnly() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(1, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testNoAvailSpaceWriteAllOnly() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(2, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testNoEmptySpaceAfterUncheckedRead() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(1, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final Record<String> timeoutRecord = new Record<>("TIMEOUT");
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(timeoutRecord, TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class,
+                () -> ringBuffer.writeAll(Collections.singletonList(timeoutRecord), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testWriteIntoEmptySpaceAfterCheckedRead() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(1, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        ringBuffer.checkpoint(readResult.getValue());
+
+        ringBuffer.write(new Record<>("REFILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readCheckResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readCheckResult.getKey().size(), is(1));
+        assertThat(readCheckResult.getKey().iterator().next().getData(), is(equalTo("REFILL_THE_BUFFER")));
+    }
+
+    @Test
+    void testWriteAllIntoEmptySpaceAfterCheckedRead() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(2, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        ringBuffer.checkpoint(readResult.getValue());
+
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readCheckResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readCheckResult.getKey().size(), is(2));
+    }
+
+    @Test
+    void testFillRatioCoversRecordsUntilCheckpointed() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(4, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        assertThat(ringBuffer.getFillRatio(), is(0.0));
+
+        ringBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        assertThat(ringBuffer.getFillRatio(), is(0.5));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(ringBuffer.getFillRatio(), is(0.5));
+
+        ringBuffer.checkpoint(readResult.getValue());
+        assertThat(ringBuffer.getFillRatio(), is(0.0));
+    }
+
+    @Test
+    void testReadEmptyBuffer() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(0));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(0));
+    }
+
+    @Test
+    void testBatchReadPreservesOrder() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+        final int testSize = 5;
+        for (int i = 0; i < testSize; i++) {
+            ringBuffer.write(new Record<>("TEST" + i), TEST_WRITE_TIMEOUT);
+        }
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> partialReadResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(partialReadResult.getKey().size(), is(TEST_BATCH_SIZE));
+        assertThat(partialReadResult.getValue().getNumRecordsToBeChecked(), is(TEST_BATCH_SIZE));
+        int i = 0;
+        for (final Record<String> record : partialReadResult.getKey()) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> finalReadResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(finalReadResult.getKey().size(), is(testSize - TEST_BATCH_SIZE));
+        assertThat(finalReadResult.getValue().getNumRecordsToBeChecked(), is(testSize - TEST_BATCH_SIZE));
+        for (final Record<String> record : finalReadResult.getKey()) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+    }
+
+    @Test
+    void testWrapsAroundTheRing() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(3, 2, TEST_PIPELINE_NAME);
+        for (int round = 0; round < 10; round++) {
+            final List<Record<String>> records = new ArrayList<>(generateBatchRecords(2));
+            ringBuffer.writeAll(records, TEST_WRITE_TIMEOUT);
+
+            final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+            assertThat(readResult.getKey(), is(equalTo(records)));
+            ringBuffer.checkpoint(readResult.getValue());
+        }
+        assertThat(ringBuffer.isEmpty(), is(true));
+    }
+
+    @Test
+    void testBufferIsEmpty() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+        assertThat(ringBuffer.isEmpty(), is(true));
+    }
+
+    @Test
+    void testBufferIsNotEmpty() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+        ringBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+        assertThat(ringBuffer.isEmpty(), is(false));
+    }
+
+    @Test
+    void testBufferIsNotEmptyWhileRecordsAreInFlight() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+        ringBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(ringBuffer.isEmpty(), is(false));
+
+        ringBuffer.checkpoint(readResult.getValue());
+        assertThat(ringBuffer.isEmpty(), is(true));
+    }
+
+    @Test
+    void testConcurrentProducersAndConsumersDeliverEveryRecordOnce() throws Exception {
+        final int producers = 4;
+        final int consumers = 3;
+        final int recordsPerProducer = 5_000;
+        final int totalRecords = producers * recordsPerProducer;
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(64, 16, TEST_PIPELINE_NAME);
+        final ExecutorService executorService = Executors.newFixedThreadPool(producers + consumers);
+        final Set<String> readData = ConcurrentHashMap.newKeySet();
+        final AtomicInteger readCount = new AtomicInteger();
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                final int producer = p;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < recordsPerProducer; i += 2) {
+                        final List<Record<String>> records = new ArrayList<>();
+                        records.add(new Record<>(producer + "-" + i));
+                        records.add(new Record<>(producer + "-" + (i + 1)));
+                        ringBuffer.writeAll(records, Integer.MAX_VALUE);
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                futures.add(executorService.submit(() -> {
+                    while (readCount.get() < totalRecords) {
+                        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(10);
+                        readResult.getKey().forEach(record -> readData.add(record.getData()));
+                        readCount.addAndGet(readResult.getKey().size());
+                        ringBuffer.checkpoint(readResult.getValue());
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(readCount.get(), is(totalRecords));
+        assertThat(readData.size(), is(totalRecords));
+        assertThat(ringBuffer.isEmpty(), is(true));
+    }
+
+    private PluginSetting completePluginSettingForRingBuffer() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_SIZE, TEST_BUFFER_SIZE);
+        settings.put(ATTRIBUTE_BATCH_SIZE, TEST_BATCH_SIZE);
+        final PluginSetting testSettings = new PluginSetting("ring_buffer", settings);
+        testSettings.setPipelineName(TEST_PIPELINE_NAME);
+        return testSettings;
+    }
+
+    private Collection<Record<String>> generateBatchRecords(final int numRecords) {
+        final Collection<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        return results;
+    }
+}